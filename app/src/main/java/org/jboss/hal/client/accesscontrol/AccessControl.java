@@ -43,6 +43,7 @@ import org.jboss.hal.spi.MessageEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import static org.jboss.hal.config.AccessControlProvider.RBAC;
 import static org.jboss.hal.config.AccessControlProvider.SIMPLE;
@@ -51,6 +52,10 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
 /**
  * Kind of presenter which holds code to read and parse  the RBAC related management model.
  * <p>
+ * The model is read once using {@link #reload(Callback)}. Successful changes of assignments are applied to the model
+ * using the {@code assignmentAdded()}, {@code assignmentRemoved()} and {@code principalRemoved()} methods instead of
+ * reloading the complete model.
+ * <p>
  * TODO Sync roles with environment and header
  */
 public class AccessControl {
@@ -179,20 +184,48 @@ public class AccessControl {
                 }
             });
 
-            // sync with current user
-            String currentUserId = Ids.principal(Principal.Type.USER.name().toLowerCase(), currentUser.getName());
-            Principal currentPrincipal = principals.get(currentUserId);
-            if (currentPrincipal != null) {
-                Set<Role> currentRoles = assignments.byPrincipal(currentPrincipal)
-                        .map(Assignment::getRole)
-                        .collect(toSet());
-                currentUser.refreshRoles(currentRoles);
-            }
-
+            syncCurrentUser();
             callback.execute();
         });
     }
 
+    /** Applies a successfully added assignment to the model without reloading it. */
+    void assignmentAdded(Assignment assignment) {
+        principals.add(assignment.getPrincipal());
+        assignments.add(assignment);
+        syncCurrentUser();
+    }
+
+    /**
+     * Applies a successfully removed assignment to the model without reloading it. Principals are only known by their
+     * assignments, so the principal is removed as well if this was its last assignment.
+     */
+    void assignmentRemoved(Assignment assignment) {
+        assignments.remove(assignment);
+        if (!assignments.isAssigned(assignment.getPrincipal())) {
+            principals.remove(assignment.getPrincipal());
+        }
+        syncCurrentUser();
+    }
+
+    /** Applies the successful removal of all assignments of a principal to the model without reloading it. */
+    void principalRemoved(Principal principal) {
+        assignments.byPrincipal(principal).collect(toList()).forEach(assignments::remove);
+        principals.remove(principal);
+        syncCurrentUser();
+    }
+
+    private void syncCurrentUser() {
+        String currentUserId = Ids.principal(Principal.Type.USER.name().toLowerCase(), currentUser.getName());
+        Principal currentPrincipal = principals.get(currentUserId);
+        if (currentPrincipal != null) {
+            Set<Role> currentRoles = assignments.byPrincipal(currentPrincipal)
+                    .map(Assignment::getRole)
+                    .collect(toSet());
+            currentUser.refreshRoles(currentRoles);
+        }
+    }
+
     private Role scopedRole(Property property, Role.Type type, String scopeAttribute) {
         Role baseRole = roles.get(Ids.role(property.getValue().get(BASE_ROLE).asString()));
         Set<String> scope = property.getValue().get(scopeAttribute).asList().stream()
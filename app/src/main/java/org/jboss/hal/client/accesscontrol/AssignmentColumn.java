@@ -192,12 +192,11 @@ public class AssignmentColumn extends FinderColumn<Assignment> {
                                 MessageEvent.fire(eventBus, Message.success(resources.messages()
                                         .removeResourceSuccess(resources.constants().assignment(),
                                                 itm.getRole().getName())));
-                                accessControl.reload(() -> {
-                                    refresh(RefreshMode.CLEAR_SELECTION);
-                                    if (isCurrentUser()) {
-                                        eventBus.fireEvent(new UserChangedEvent());
-                                    }
-                                });
+                                accessControl.assignmentRemoved(itm);
+                                refresh(RefreshMode.CLEAR_SELECTION);
+                                if (isCurrentUser(itm.getPrincipal())) {
+                                    eventBus.fireEvent(new UserChangedEvent());
+                                }
                             });
                         }));
             }
@@ -213,10 +212,6 @@ public class AssignmentColumn extends FinderColumn<Assignment> {
         return null;
     }
 
-    private boolean isCurrentUser() {
-        return isCurrentUser(findPrincipal(getFinder().getContext().getPath()));
-    }
-
     private boolean isCurrentUser(Principal principal) {
         return principal != null &&
                 principal.getType() == Principal.Type.USER &&
@@ -247,12 +242,11 @@ public class AssignmentColumn extends FinderColumn<Assignment> {
                                         ? resources.messages().assignmentIncludeSuccess(type, role.getName())
                                         : resources.messages().assignmentExcludeSuccess(type, role.getName());
                                 MessageEvent.fire(eventBus, Message.success(message));
-                                accessControl.reload(() -> {
-                                    refresh(RefreshMode.RESTORE_SELECTION);
-                                    if (isCurrentUser(principal)) {
-                                        eventBus.fireEvent(new UserChangedEvent());
-                                    }
-                                });
+                                accessControl.assignmentAdded(new Assignment(principal, role, include));
+                                refresh(RefreshMode.RESTORE_SELECTION);
+                                if (isCurrentUser(principal)) {
+                                    eventBus.fireEvent(new UserChangedEvent());
+                                }
                             }
                         });
             }
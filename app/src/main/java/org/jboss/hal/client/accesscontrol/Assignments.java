@@ -15,14 +15,18 @@
  */
 package org.jboss.hal.client.accesscontrol;
 
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
 
 import org.jboss.hal.config.Role;
 
+/** Contains the assignments stored in the management model indexed by principal and by role. */
 class Assignments implements Iterable<Assignment> {
 
     // @formatter:off
@@ -34,43 +38,75 @@ class Assignments implements Iterable<Assignment> {
     // @formatter:on
 
     private final Set<Assignment> assignments;
+    private final Map<Principal, Set<Assignment>> principalIndex;
+    private final Map<Role, Set<Assignment>> roleIndex;
 
     Assignments() {
         assignments = new HashSet<>();
+        principalIndex = new HashMap<>();
+        roleIndex = new HashMap<>();
     }
 
     boolean add(final Assignment assignment) {
-        return assignments.add(assignment);
+        if (assignments.add(assignment)) {
+            principalIndex.computeIfAbsent(assignment.getPrincipal(), p -> new HashSet<>()).add(assignment);
+            roleIndex.computeIfAbsent(assignment.getRole(), r -> new HashSet<>()).add(assignment);
+            return true;
+        }
+        return false;
+    }
+
+    boolean remove(final Assignment assignment) {
+        if (assignments.remove(assignment)) {
+            unindex(principalIndex, assignment.getPrincipal(), assignment);
+            unindex(roleIndex, assignment.getRole(), assignment);
+            return true;
+        }
+        return false;
+    }
+
+    private <K> void unindex(Map<K, Set<Assignment>> index, K key, Assignment assignment) {
+        Set<Assignment> set = index.get(key);
+        if (set != null) {
+            set.remove(assignment);
+            if (set.isEmpty()) {
+                index.remove(key);
+            }
+        }
     }
 
     void clear() {
         assignments.clear();
+        principalIndex.clear();
+        roleIndex.clear();
+    }
+
+    boolean isAssigned(Principal principal) {
+        return principalIndex.containsKey(principal);
     }
 
     Stream<Assignment> byPrincipal(Principal principal) {
-        return assignments.stream().filter(assignment -> assignment.getPrincipal().equals(principal));
+        return principalIndex.getOrDefault(principal, Collections.emptySet()).stream();
     }
 
     Stream<Assignment> includes(Principal principal) {
-        return assignments.stream()
-                .filter(assignment -> assignment.getPrincipal().equals(principal) && assignment.isInclude());
+        return byPrincipal(principal).filter(Assignment::isInclude);
     }
 
     Stream<Assignment> excludes(Principal principal) {
-        return assignments.stream()
-                .filter(assignment -> assignment.getPrincipal().equals(principal) && !assignment.isInclude());
+        return byPrincipal(principal).filter(assignment -> !assignment.isInclude());
     }
 
     Stream<Assignment> byRole(Role role) {
-        return assignments.stream().filter(assignment -> assignment.getRole().equals(role));
+        return roleIndex.getOrDefault(role, Collections.emptySet()).stream();
     }
 
     Stream<Assignment> includes(Role role) {
-        return assignments.stream().filter(assignment -> assignment.getRole().equals(role) && assignment.isInclude());
+        return byRole(role).filter(Assignment::isInclude);
     }
 
     Stream<Assignment> excludes(Role role) {
-        return assignments.stream().filter(assignment -> assignment.getRole().equals(role) && !assignment.isInclude());
+        return byRole(role).filter(assignment -> !assignment.isInclude());
     }
 
     @Override
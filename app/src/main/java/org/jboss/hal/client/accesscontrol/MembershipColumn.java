@@ -196,12 +196,11 @@ public class MembershipColumn extends FinderColumn<Assignment> {
                                 MessageEvent.fire(eventBus, Message.success(resources.messages()
                                         .removeResourceSuccess(resources.constants().membership(),
                                                 itm.getPrincipal().getName())));
-                                accessControl.reload(() -> {
-                                    refresh(RefreshMode.CLEAR_SELECTION);
-                                    if (isCurrentUser(itm.getPrincipal())) {
-                                        eventBus.fireEvent(new UserChangedEvent());
-                                    }
-                                });
+                                accessControl.assignmentRemoved(itm);
+                                refresh(RefreshMode.CLEAR_SELECTION);
+                                if (isCurrentUser(itm.getPrincipal())) {
+                                    eventBus.fireEvent(new UserChangedEvent());
+                                }
                             });
                         }));
             }
@@ -255,12 +254,11 @@ public class MembershipColumn extends FinderColumn<Assignment> {
                                         ? resources.messages().assignmentIncludeSuccess(type, principal.getName())
                                         : resources.messages().assignmentExcludeSuccess(type, principal.getName());
                                 MessageEvent.fire(eventBus, Message.success(message));
-                                accessControl.reload(() -> {
-                                    refresh(RefreshMode.RESTORE_SELECTION);
-                                    if (isCurrentUser(principal)) {
-                                        eventBus.fireEvent(new UserChangedEvent());
-                                    }
-                                });
+                                accessControl.assignmentAdded(new Assignment(principal, role, include));
+                                refresh(RefreshMode.RESTORE_SELECTION);
+                                if (isCurrentUser(principal)) {
+                                    eventBus.fireEvent(new UserChangedEvent());
+                                }
                             }
                         });
             }
@@ -213,7 +213,8 @@ class PrincipalColumn extends FinderColumn<Principal> {
                                                 dispatcher.execute(new Composite(operations),
                                                         (CompositeResult result) -> {
                                                             MessageEvent.fire(eventBus, Message.success(success));
-                                                            accessControl.reload(() -> refresh(CLEAR_SELECTION));
+                                                            accessControl.principalRemoved(item);
+                                                            refresh(CLEAR_SELECTION);
                                                         });
                                             }
                                         });
@@ -231,8 +232,9 @@ class PrincipalColumn extends FinderColumn<Principal> {
 
     private void addPrincipal(Principal.Type type, String name, ModelNode model) {
         List<Task<FlowContext>> tasks = new ArrayList<>();
-        collectTasks(tasks, type, name, true, model, INCLUDE);
-        collectTasks(tasks, type, name, false, model, EXCLUDE);
+        List<Assignment> assignments = new ArrayList<>();
+        collectTasks(tasks, assignments, type, name, true, model, INCLUDE);
+        collectTasks(tasks, assignments, type, name, false, model, EXCLUDE);
         if (!tasks.isEmpty()) {
             series(new FlowContext(progress.get()), tasks)
                     .subscribe(new SuccessfulOutcome<FlowContext>(eventBus, resources) {
@@ -243,14 +245,15 @@ class PrincipalColumn extends FinderColumn<Principal> {
                                     : resources.constants().group();
                             MessageEvent.fire(eventBus, Message.success(resources.messages()
                                     .addResourceSuccess(typeName, name)));
-                            accessControl.reload(() -> refresh(Ids.principal(type.name().toLowerCase(), name)));
+                            assignments.forEach(accessControl::assignmentAdded);
+                            refresh(Ids.principal(type.name().toLowerCase(), name));
                         }
                     });
         }
     }
 
-    private void collectTasks(List<Task<FlowContext>> tasks, Principal.Type type, String name,
-            boolean include, ModelNode modelNode, String attribute) {
+    private void collectTasks(List<Task<FlowContext>> tasks, List<Assignment> assignments, Principal.Type type,
+            String name, boolean include, ModelNode modelNode, String attribute) {
         String realm = modelNode.hasDefined(REALM) ? modelNode.get(REALM).asString() : null;
         String resourceName = Principal.buildResourceName(type, name, realm);
         Principal principal = new Principal(type, resourceName, name, realm);
@@ -263,6 +266,7 @@ class PrincipalColumn extends FinderColumn<Principal> {
                             tasks.add(new CheckRoleMapping(dispatcher, role));
                             tasks.add(new AddRoleMapping(dispatcher, role, status -> status == 404));
                             tasks.add(new AddAssignment(dispatcher, role, principal, include));
+                            assignments.add(new Assignment(principal, role, include));
                         }
                     });
         }
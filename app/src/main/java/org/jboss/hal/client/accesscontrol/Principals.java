@@ -45,6 +45,13 @@ class Principals implements Iterable<Principal> {
         }
     }
 
+    void remove(Principal principal) {
+        if (principal != null) {
+            principals.get(principal.getType()).remove(principal);
+            lookup.remove(principal.getId(), principal);
+        }
+    }
+
     void clear() {
         principals.get(GROUP).clear();
         principals.get(USER).clear();
@@ -347,10 +347,9 @@ public class RoleColumn extends FinderColumn<Role> {
                             public void onSuccess(FlowContext context) {
                                 MessageEvent.fire(eventBus, Message.success(resources.messages()
                                         .modifyResourceSuccess(resources.constants().role(), role.getName())));
-                                accessControl.reload(() -> {
-                                    refresh(role.getId());
-                                    eventBus.fireEvent(new RolesChangedEvent());
-                                });
+                                role.setIncludeAll(frm.getModel().get(INCLUDE_ALL).asBoolean());
+                                refresh(role.getId());
+                                eventBus.fireEvent(new RolesChangedEvent());
                             }
                         }))
                 .show(modelNode);
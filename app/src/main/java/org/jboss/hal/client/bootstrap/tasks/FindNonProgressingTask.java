@@ -15,36 +15,45 @@
  */
 package org.jboss.hal.client.bootstrap.tasks;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
-
-import javax.inject.Provider;
+import java.util.Map;
+import java.util.Set;
 
 import com.google.web.bindery.event.shared.EventBus;
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.core.runtime.NonProgressingOperationEvent;
+import org.jboss.hal.core.runtime.group.ServerGroupResultEvent;
+import org.jboss.hal.core.runtime.host.HostResultEvent;
+import org.jboss.hal.core.runtime.server.ServerResultEvent;
 import org.jboss.hal.dmr.Composite;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
-import org.jboss.hal.flow.FlowContext;
-import org.jboss.hal.flow.Outcome;
-import org.jboss.hal.flow.Progress;
-import org.jboss.hal.flow.Task;
 import org.jboss.hal.meta.AddressTemplate;
 import org.jboss.hal.meta.StatementContext;
+import rx.Single;
 import rx.SingleEmitter;
 import rx.functions.Action1;
 
-import static java.util.stream.Collectors.toList;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
-import static org.jboss.hal.flow.Flow.series;
 
+/**
+ * Looks for non progressing operations and fires a {@link NonProgressingOperationEvent} with the outcome.
+ * <p>
+ * In domain mode calling {@code find-non-progressing-operation} on every host and running server on each poll doesn't
+ * scale. Instead the task reads the active operations of all hosts using one wildcard operation. Only if a host reports
+ * an operation running longer than {@value #LONG_RUNNING_SECONDS} seconds (the default timeout of {@code
+ * find-non-progressing-operation}), the task calls {@code find-non-progressing-operation} on that host and its running
+ * servers. The running servers are cached and read again after server, host or server group lifecycle events.
+ */
 public class FindNonProgressingTask implements Action1<SingleEmitter<ModelNode>> {
 
-    private static final String EQ = "=";
+    static final long LONG_RUNNING_SECONDS = 15;
+    private static final long LONG_RUNNING_NANOS = LONG_RUNNING_SECONDS * 1000 * 1000 * 1000;
     private static final String WILDCARD = "*";
     private AddressTemplate MGMT_OPERATIONS_TEMPLATE = AddressTemplate.of("/core-service=management/service=management-operations");
 
@@ -52,15 +61,20 @@ public class FindNonProgressingTask implements Action1<SingleEmitter<ModelNode>>
     private final Dispatcher dispatcher;
     private final Environment environment;
     private final StatementContext statementContext;
-    private Provider<Progress> progress;
+    private Map<String, List<String>> runningServers;
 
     public FindNonProgressingTask(EventBus eventBus, Dispatcher dispatcher, Environment environment,
-            StatementContext statementContext, Provider<Progress> progress) {
+            StatementContext statementContext) {
         this.eventBus = eventBus;
         this.dispatcher = dispatcher;
         this.environment = environment;
         this.statementContext = statementContext;
-        this.progress = progress;
+        this.runningServers = null;
+
+        // the running servers are only read again after lifecycle events
+        eventBus.addHandler(ServerResultEvent.getType(), event -> runningServers = null);
+        eventBus.addHandler(HostResultEvent.getType(), event -> runningServers = null);
+        eventBus.addHandler(ServerGroupResultEvent.getType(), event -> runningServers = null);
     }
 
     @Override
@@ -69,107 +83,103 @@ public class FindNonProgressingTask implements Action1<SingleEmitter<ModelNode>>
             ResourceAddress address = MGMT_OPERATIONS_TEMPLATE.resolve(statementContext);
             Operation operation = new Operation.Builder(address, FIND_NON_PROGRESSING_OPERATION).build();
 
-            dispatcher.execute(operation, result -> {
-                boolean hasNonProgressinOp = result != null && result.isDefined();
-                eventBus.fireEvent(new NonProgressingOperationEvent(hasNonProgressinOp));
-                em.onSuccess(result);
-            });
+            dispatcher.execute(operation)
+                    .subscribe(result -> {
+                        boolean hasNonProgressinOp = result != null && result.isDefined();
+                        eventBus.fireEvent(new NonProgressingOperationEvent(hasNonProgressinOp));
+                        em.onSuccess(result);
+                    }, em::onError);
         } else {
+            // /host=*/core-service=management/service=management-operations/active-operation=*:read-resource
+            ResourceAddress address = new ResourceAddress()
+                    .add(HOST, WILDCARD)
+                    .add(CORE_SERVICE, MANAGEMENT)
+                    .add(SERVICE, MANAGEMENT_OPERATIONS)
+                    .add(ACTIVE_OPERATION, WILDCARD);
+            Operation operation = new Operation.Builder(address, READ_RESOURCE_OPERATION)
+                    .param(INCLUDE_RUNTIME, true)
+                    .build();
+            dispatcher.execute(operation)
+                    .flatMap(result -> {
+                        Set<String> busyHosts = busyHosts(result);
+                        if (busyHosts.isEmpty()) {
+                            return Single.just(false);
+                        }
+                        return servers().flatMap(servers -> findNonProgressing(busyHosts, servers));
+                    })
+                    .subscribe(nonProgressingOp -> {
+                        eventBus.fireEvent(new NonProgressingOperationEvent(nonProgressingOp));
+                        em.onSuccess(new ModelNode().set(nonProgressingOp));
+                    }, em::onError);
+        }
+    }
 
-            // return running hosts, to later call a find-non-progressing-operation on each host
-            Task<FlowContext> hostsTask = context -> {
-                ResourceAddress address = new ResourceAddress();
-                Operation operation = new Operation.Builder(address, READ_CHILDREN_NAMES_OPERATION)
-                        .param(CHILD_TYPE, HOST)
-                        .build();
-                return dispatcher.execute(operation)
-                        .doOnSuccess(result -> {
-                            List<String> hosts = result.asList().stream()
-                                    .map(ModelNode::asString)
-                                    .collect(toList());
-                            context.set(HOSTS, hosts);
-                        })
-                        .toCompletable();
-            };
-
-            // return running servers, to later call a find-non-progressing-operation on each runtime server
-            Task<FlowContext> serversTask = context -> {
-                // /host=*/server=*:query(select=[host,name],where={server-state=running})
-                ResourceAddress address = new ResourceAddress()
-                        .add(HOST, WILDCARD)
-                        .add(SERVER, WILDCARD);
-                Operation operation = new Operation.Builder(address, QUERY)
-                        .param(SELECT, new ModelNode().add(HOST).add(NAME))
-                        .param(WHERE, new ModelNode().set(SERVER_STATE, "running"))
-                        .build();
-                return dispatcher.execute(operation)
-                        .doOnSuccess(result -> {
-                            List<String> servers = Collections.emptyList();
-                            if (result != null && result.isDefined()) {
-                                servers = result.asList().stream()
-                                        .map(r -> hostServerAddress(r.get(RESULT)))
-                                        .collect(Collectors.toList());
-                            }
-                            context.set("servers", servers);
-                        })
-                        .toCompletable();
-            };
-
-            // call find-non-progressing-operation on each host and server
-            Task<FlowContext> findNonProgressingTask = context -> {
-
-                List<String> hosts = context.get(HOSTS);
-                List<String> servers = context.get("servers");
-
-                Composite composite = new Composite();
-                for (String host: hosts) {
-                    ResourceAddress address = new ResourceAddress().add(HOST, host)
-                            .add(CORE_SERVICE, MANAGEMENT)
-                            .add(SERVICE, MANAGEMENT_OPERATIONS);
-                    Operation operation = new Operation.Builder(address, FIND_NON_PROGRESSING_OPERATION).build();
-                    composite.add(operation);
+    /** @return the hosts which have at least one operation running longer than {@link #LONG_RUNNING_SECONDS} */
+    private Set<String> busyHosts(ModelNode result) {
+        Set<String> hosts = new LinkedHashSet<>();
+        if (result.isDefined()) {
+            for (ModelNode activeOperation : result.asList()) {
+                ModelNode runningTime = activeOperation.get(RESULT).get(RUNNING_TIME);
+                if (runningTime.isDefined() && runningTime.asLong() >= LONG_RUNNING_NANOS) {
+                    hosts.add(new ResourceAddress(activeOperation.get(ADDRESS)).firstValue());
                 }
-                if (!servers.isEmpty()) {
-                    for (String server : servers) {
-                        ResourceAddress address = AddressTemplate.of(server)
-                                .append(MGMT_OPERATIONS_TEMPLATE)
-                                .resolve(statementContext);
-                        Operation operation = new Operation.Builder(address, FIND_NON_PROGRESSING_OPERATION).build();
-                        composite.add(operation);
-                    }
-                }
-                return dispatcher.execute(composite)
-                        .doOnSuccess(result -> {
-                            boolean nonProgressingOp = false;
-                            for (ModelNode r: result) {
-                                ModelNode findResult = r.get(RESULT);
-                                if (findResult != null && findResult.isDefined()) {
-                                    nonProgressingOp = true;
-                                    break;
-                                }
-                            }
-                            context.set("nonProgressingOp", nonProgressingOp);
-                        })
-                        .toCompletable();
-            };
-
-            series(new FlowContext(progress.get()), hostsTask, serversTask, findNonProgressingTask)
-                    .subscribe(new Outcome<FlowContext>() {
-                        @Override
-                        public void onError(FlowContext context, Throwable error) {
-                            em.onError(error);
-                        }
+            }
+        }
+        return hosts;
+    }
 
-                        @Override
-                        public void onSuccess(FlowContext context) {
-                            boolean nonProgressingOp = context.get("nonProgressingOp");
-                            eventBus.fireEvent(new NonProgressingOperationEvent(nonProgressingOp));
-                        }
-                    });
+    /** @return the running servers by host, read from the server or from the cache */
+    private Single<Map<String, List<String>>> servers() {
+        if (runningServers != null) {
+            return Single.just(runningServers);
         }
+        // /host=*/server=*:query(select=[host,name],where={server-state=running})
+        ResourceAddress address = new ResourceAddress()
+                .add(HOST, WILDCARD)
+                .add(SERVER, WILDCARD);
+        Operation operation = new Operation.Builder(address, QUERY)
+                .param(SELECT, new ModelNode().add(HOST).add(NAME))
+                .param(WHERE, new ModelNode().set(SERVER_STATE, "running"))
+                .build();
+        return dispatcher.execute(operation).map(result -> {
+            Map<String, List<String>> servers = new HashMap<>();
+            if (result != null && result.isDefined()) {
+                for (ModelNode node : result.asList()) {
+                    ModelNode server = node.get(RESULT);
+                    servers.computeIfAbsent(server.get(HOST).asString(), host -> new ArrayList<>())
+                            .add(server.get(NAME).asString());
+                }
+            }
+            runningServers = servers;
+            return servers;
+        });
     }
 
-    private String hostServerAddress(ModelNode model) {
-        return HOST + EQ + model.get(HOST).asString() + "/" + SERVER + EQ + model.get(NAME).asString();
+    private Single<Boolean> findNonProgressing(Set<String> hosts, Map<String, List<String>> servers) {
+        Composite composite = new Composite();
+        for (String host : hosts) {
+            ResourceAddress address = new ResourceAddress().add(HOST, host)
+                    .add(CORE_SERVICE, MANAGEMENT)
+                    .add(SERVICE, MANAGEMENT_OPERATIONS);
+            composite.add(new Operation.Builder(address, FIND_NON_PROGRESSING_OPERATION).build());
+            for (String server : servers.getOrDefault(host, new ArrayList<>())) {
+                ResourceAddress serverAddress = new ResourceAddress().add(HOST, host)
+                        .add(SERVER, server)
+                        .add(CORE_SERVICE, MANAGEMENT)
+                        .add(SERVICE, MANAGEMENT_OPERATIONS);
+                composite.add(new Operation.Builder(serverAddress, FIND_NON_PROGRESSING_OPERATION).build());
+            }
+        }
+        return dispatcher.execute(composite)
+                .map(result -> {
+                    for (ModelNode step : result) {
+                        ModelNode findResult = step.get(RESULT);
+                        if (findResult != null && findResult.isDefined()) {
+                            return true;
+                        }
+                    }
+                    return false;
+                })
+                .doOnError(error -> runningServers = null); // a server might have been stopped in the meantime
     }
 }
@@ -15,29 +15,22 @@
  */
 package org.jboss.hal.client.bootstrap.tasks;
 
-import java.util.List;
-
 import javax.inject.Inject;
-import javax.inject.Provider;
 
 import com.google.web.bindery.event.shared.EventBus;
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.config.Settings;
-import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.core.polling.PollingScheduler;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
-import org.jboss.hal.flow.Progress;
 import org.jboss.hal.meta.StatementContext;
-import org.jboss.hal.spi.Footer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import rx.Observable;
 import rx.Single;
 
-import static java.util.Collections.singletonList;
-import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.jboss.hal.config.Settings.DEFAULT_POLL_TIME;
 import static org.jboss.hal.config.Settings.Key.POLL;
 import static org.jboss.hal.config.Settings.Key.POLL_TIME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.FIND_NON_PROGRESSING_OPERATION;
 
 public class PollingTasks implements InitializedTask {
 
@@ -46,18 +39,18 @@ public class PollingTasks implements InitializedTask {
     private Dispatcher dispatcher;
     private StatementContext statementContext;
     private Settings settings;
-    private Provider<Progress> progress;
     private Environment environment;
+    private PollingScheduler pollingScheduler;
 
     @Inject
     public PollingTasks(EventBus eventBus, Dispatcher dispatcher, StatementContext statementContext, Settings settings,
-            @Footer Provider<Progress> progress, Environment environment) {
+            Environment environment, PollingScheduler pollingScheduler) {
         this.eventBus = eventBus;
         this.dispatcher = dispatcher;
         this.statementContext = statementContext;
         this.settings = settings;
-        this.progress = progress;
         this.environment = environment;
+        this.pollingScheduler = pollingScheduler;
     }
 
     @Override
@@ -66,17 +59,11 @@ public class PollingTasks implements InitializedTask {
         int pollTime = settings.get(POLL_TIME).asInt(DEFAULT_POLL_TIME);
         logger.info("Polling mechanism is: {}", (pollEnabled ? "on" : "off"));
         if (pollEnabled) {
-            // polling implementations should be added in the pollingActions list
-            List<Single<ModelNode>> pollingActions = singletonList(Single.fromEmitter(
-                    new FindNonProgressingTask(eventBus, dispatcher, environment, statementContext, progress))
-            );
-            for (Single<ModelNode> singleAction : pollingActions) {
-                Observable
-                        .interval(pollTime, SECONDS) // execute a operation each INTERVAL millis
-                        .flatMapSingle(n -> singleAction, false, 1)
-                        .toCompletable()
-                        .subscribe();
-            }
+            // polling implementations should be registered at the polling scheduler
+            FindNonProgressingTask findNonProgressingTask = new FindNonProgressingTask(eventBus, dispatcher,
+                    environment, statementContext);
+            pollingScheduler.register(FIND_NON_PROGRESSING_OPERATION, pollTime * 1000L,
+                    () -> Single.fromEmitter(findNonProgressingTask).toCompletable());
         }
     }
 }
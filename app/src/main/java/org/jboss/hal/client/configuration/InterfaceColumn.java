@@ -41,7 +41,7 @@ import static java.util.Collections.singletonList;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.INET_ADDRESS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.INTERFACE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.NAME;
-import static org.jboss.hal.dmr.ModelNodeHelper.asNamedNodes;
+import static org.jboss.hal.dmr.ModelNodeHelper.asSharedNamedNodes;
 
 @Column(Ids.INTERFACE)
 @Requires(InterfacePresenter.ROOT_ADDRESS)
@@ -57,7 +57,7 @@ public class InterfaceColumn extends FinderColumn<NamedNode> {
 
         super(new Builder<NamedNode>(finder, Ids.INTERFACE, Names.INTERFACE)
                 .itemsProvider((context, callback) -> crud.readChildren(ResourceAddress.root(), INTERFACE,
-                        result -> callback.onSuccess(asNamedNodes(result))))
+                        result -> callback.onSuccess(asSharedNamedNodes(result))))
                 .useFirstActionAsBreadcrumbHandler()
                 .onPreview(item -> new InterfacePreview(item, dispatcher, places))
         );
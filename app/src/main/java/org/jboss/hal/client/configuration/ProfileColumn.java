@@ -17,6 +17,7 @@ package org.jboss.hal.client.configuration;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import javax.inject.Inject;
 
@@ -24,15 +25,16 @@ import com.google.web.bindery.event.shared.EventBus;
 import com.gwtplatform.mvp.client.proxy.PlaceManager;
 import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
 import elemental2.dom.HTMLElement;
-import org.jboss.hal.core.CrudOperations;
 import org.jboss.hal.core.configuration.ProfileSelectionEvent;
 import org.jboss.hal.core.finder.ColumnActionFactory;
 import org.jboss.hal.core.finder.Finder;
 import org.jboss.hal.core.finder.FinderColumn;
+import org.jboss.hal.core.finder.FinderPath;
 import org.jboss.hal.core.finder.FinderPathFactory;
 import org.jboss.hal.core.finder.ItemAction;
 import org.jboss.hal.core.finder.ItemActionFactory;
 import org.jboss.hal.core.finder.ItemDisplay;
+import org.jboss.hal.core.finder.ItemsOperation;
 import org.jboss.hal.core.mbui.dialog.AddResourceDialog;
 import org.jboss.hal.core.mbui.dialog.NameItem;
 import org.jboss.hal.core.mbui.form.ModelNodeForm;
@@ -57,11 +59,13 @@ import org.jboss.hal.spi.Requires;
 
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.joining;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.CHILD_TYPE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.CLONE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.INCLUDES;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.PROFILE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_RESOURCES_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.TO_PROFILE;
-import static org.jboss.hal.dmr.ModelNodeHelper.asNamedNodes;
+import static org.jboss.hal.dmr.ModelNodeHelper.asSharedNamedNodes;
 
 @Column(Ids.PROFILE)
 @Requires(value = "/profile=*", recursive = false)
@@ -80,16 +84,25 @@ public class ProfileColumn extends FinderColumn<NamedNode> {
             PlaceManager placeManager,
             Places places,
             FinderPathFactory finderPathFactory,
-            CrudOperations crud,
             ColumnActionFactory columnActionFactory,
             ItemActionFactory itemActionFactory,
             StatementContext statementContext,
             Resources resources) {
 
         super(new Builder<NamedNode>(finder, Ids.PROFILE, Names.PROFILE)
-                .itemsProvider((context, callback) ->
-                        crud.readChildren(ResourceAddress.root(), PROFILE, children ->
-                                callback.onSuccess(asNamedNodes(children))))
+                .itemsOperation(new ItemsOperation<NamedNode>() {
+                    @Override
+                    public Operation operation(FinderPath path, Map<String, Object> selection) {
+                        return new Operation.Builder(ResourceAddress.root(), READ_CHILDREN_RESOURCES_OPERATION)
+                                .param(CHILD_TYPE, PROFILE)
+                                .build();
+                    }
+
+                    @Override
+                    public List<NamedNode> items(ModelNode result) {
+                        return asSharedNamedNodes(result.asPropertyList());
+                    }
+                })
 
                 .onItemSelect(item -> eventBus.fireEvent(new ProfileSelectionEvent(item.getName())))
 
@@ -56,7 +56,7 @@ public class SocketBindingGroupColumn extends FinderColumn<NamedNode> {
 
         super(new FinderColumn.Builder<NamedNode>(finder, Ids.SOCKET_BINDING_GROUP, Names.SOCKET_BINDING_GROUP)
                 .itemsProvider((context, callback) -> crud.readChildren(ResourceAddress.root(), SOCKET_BINDING_GROUP, 1,
-                        result -> callback.onSuccess(ModelNodeHelper.asNamedNodes(result))))
+                        result -> callback.onSuccess(ModelNodeHelper.asSharedNamedNodes(result))))
                 .useFirstActionAsBreadcrumbHandler()
                 .onPreview((socketBinding) -> new SocketBindingGroupPreview(socketBinding, places)));
 
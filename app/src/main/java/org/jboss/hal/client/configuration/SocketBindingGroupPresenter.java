@@ -42,6 +42,7 @@ import org.jboss.hal.core.mbui.dialog.AddResourceDialog;
 import org.jboss.hal.core.mbui.dialog.NameItem;
 import org.jboss.hal.core.mbui.form.ModelNodeForm;
 import org.jboss.hal.core.mvp.SupportsExpertMode;
+import org.jboss.hal.core.runtime.server.ServerUrlResolver;
 import org.jboss.hal.dmr.Composite;
 import org.jboss.hal.dmr.CompositeResult;
 import org.jboss.hal.dmr.ModelNode;
@@ -78,6 +79,7 @@ public class SocketBindingGroupPresenter
     private final Dispatcher dispatcher;
     private final CrudOperations crud;
     private final MetadataRegistry metadataRegistry;
+    private final ServerUrlResolver serverUrlResolver;
     private final StatementContext statementContext;
     private final Resources resources;
     private String socketBindingGroup;
@@ -91,12 +93,14 @@ public class SocketBindingGroupPresenter
             Dispatcher dispatcher,
             CrudOperations crud,
             MetadataRegistry metadataRegistry,
+            ServerUrlResolver serverUrlResolver,
             StatementContext statementContext,
             Resources resources) {
         super(eventBus, view, proxy, finder);
         this.dispatcher = dispatcher;
         this.crud = crud;
         this.metadataRegistry = metadataRegistry;
+        this.serverUrlResolver = serverUrlResolver;
         this.statementContext = new SelectionAwareStatementContext(statementContext, () -> socketBindingGroup);
         this.resources = resources;
     }
@@ -140,13 +144,19 @@ public class SocketBindingGroupPresenter
         crud.readRecursive(SELECTED_TEMPLATE.resolve(statementContext), consumer::accept);
     }
 
+    private void modified() {
+        // the server URLs are based on the http(s) socket bindings
+        serverUrlResolver.invalidate();
+        reload();
+    }
+
 
     // ------------------------------------------------------ socket binding group
 
     void saveSocketBindingGroup(Map<String, Object> changedValues) {
         Metadata metadata = metadataRegistry.lookup(ROOT_TEMPLATE);
         ResourceAddress address = SELECTED_TEMPLATE.resolve(statementContext);
-        crud.saveSingleton(Names.SOCKET_BINDING_GROUP, address, changedValues, metadata, this::reload);
+        crud.saveSingleton(Names.SOCKET_BINDING_GROUP, address, changedValues, metadata, this::modified);
     }
 
     void resetSocketBindingGroup(Form<NamedNode> form) {
@@ -155,7 +165,7 @@ public class SocketBindingGroupPresenter
         crud.resetSingleton(Names.SOCKET_BINDING_GROUP, address, form, metadata, new FinishReset<NamedNode>(form) {
             @Override
             public void afterReset(Form<NamedNode> form) {
-                reload();
+                modified();
             }
         });
     }
@@ -182,7 +192,7 @@ public class SocketBindingGroupPresenter
                     name = nameItem.getValue();
                     ResourceAddress address = SELECTED_TEMPLATE.append(socketBinding.templateSuffix())
                             .resolve(statementContext, name);
-                    crud.add(socketBinding.type, name, address, model, (n, a) -> reload());
+                    crud.add(socketBinding.type, name, address, model, (n, a) -> modified());
                 });
         dialog.show();
     }
@@ -192,7 +202,7 @@ public class SocketBindingGroupPresenter
         Metadata metadata = metadataRegistry.lookup(ROOT_TEMPLATE.append(socketBinding.templateSuffix()));
         ResourceAddress address = SELECTED_TEMPLATE.append(socketBinding.templateSuffix())
                 .resolve(statementContext, name);
-        crud.save(socketBinding.type, name, address, changedValues, metadata, this::reload);
+        crud.save(socketBinding.type, name, address, changedValues, metadata, this::modified);
     }
 
     void resetSocketBinding(SocketBinding socketBinding, Form<NamedNode> form) {
@@ -203,7 +213,7 @@ public class SocketBindingGroupPresenter
         crud.reset(socketBinding.type, name, address, form, metadata, new FinishReset<NamedNode>(form) {
             @Override
             public void afterReset(Form<NamedNode> form) {
-                reload();
+                modified();
             }
         });
     }
@@ -211,7 +221,7 @@ public class SocketBindingGroupPresenter
     void removeSocketBinding(SocketBinding socketBinding, String name) {
         ResourceAddress address = SELECTED_TEMPLATE.append(socketBinding.templateSuffix())
                 .resolve(statementContext, name);
-        crud.remove(socketBinding.type, name, address, this::reload);
+        crud.remove(socketBinding.type, name, address, this::modified);
     }
 
 
@@ -27,6 +27,7 @@ import com.gwtplatform.mvp.client.proxy.ProxyPlace;
 import org.jboss.hal.ballroom.form.Form;
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.core.CrudOperations;
+import org.jboss.hal.core.expression.ExpressionResolver;
 import org.jboss.hal.core.finder.Finder;
 import org.jboss.hal.core.finder.FinderPath;
 import org.jboss.hal.core.mvp.ApplicationFinderPresenter;
@@ -56,6 +57,7 @@ public class SystemPropertiesPresenter
 
     private final Environment environment;
     private final CrudOperations crud;
+    private final ExpressionResolver expressionResolver;
 
     @Inject
     public SystemPropertiesPresenter(EventBus eventBus,
@@ -63,10 +65,12 @@ public class SystemPropertiesPresenter
             SystemPropertiesPresenter.MyProxy proxy,
             Finder finder,
             Environment environment,
-            CrudOperations crud) {
+            CrudOperations crud,
+            ExpressionResolver expressionResolver) {
         super(eventBus, view, proxy, finder);
         this.environment = environment;
         this.crud = crud;
+        this.expressionResolver = expressionResolver;
     }
 
     @Override
@@ -83,6 +87,7 @@ public class SystemPropertiesPresenter
 
     @Override
     protected void reload() {
+        expressionResolver.invalidate();
         crud.readChildren(ResourceAddress.root(), SYSTEM_PROPERTY,
                 children -> getView().update(asNamedNodes(children)));
     }
@@ -17,6 +17,7 @@ package org.jboss.hal.client.configuration.subsystem;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import javax.inject.Inject;
 
@@ -24,11 +25,14 @@ import com.google.gwt.user.client.rpc.AsyncCallback;
 import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
 import elemental2.dom.HTMLElement;
 import org.jboss.hal.ballroom.LabelBuilder;
+import org.jboss.hal.config.Environment;
 import org.jboss.hal.core.finder.Finder;
 import org.jboss.hal.core.finder.FinderColumn;
+import org.jboss.hal.core.finder.FinderPath;
 import org.jboss.hal.core.finder.ItemAction;
 import org.jboss.hal.core.finder.ItemActionFactory;
 import org.jboss.hal.core.finder.ItemDisplay;
+import org.jboss.hal.core.finder.ItemsOperation;
 import org.jboss.hal.core.finder.ItemsProvider;
 import org.jboss.hal.core.finder.PreviewContent;
 import org.jboss.hal.core.finder.ResourceDescriptionPreview;
@@ -36,10 +40,12 @@ import org.jboss.hal.core.mvp.Places;
 import org.jboss.hal.core.subsystem.SubsystemMetadata;
 import org.jboss.hal.core.subsystem.Subsystems;
 import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.NamedNode;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.meta.AddressTemplate;
+import org.jboss.hal.meta.ProfileStatementContext;
 import org.jboss.hal.meta.StatementContext;
 import org.jboss.hal.resources.Ids;
 import org.jboss.hal.resources.Names;
@@ -67,6 +73,7 @@ public class SubsystemColumn extends FinderColumn<SubsystemMetadata> {
     @Inject
     public SubsystemColumn(Finder finder,
             Dispatcher dispatcher,
+            Environment environment,
             Places places,
             StatementContext statementContext,
             ItemActionFactory itemActionFactory,
@@ -139,11 +146,23 @@ public class SubsystemColumn extends FinderColumn<SubsystemMetadata> {
                 .filterDescription(resources.messages().susbsystemFilterDescription())
         );
 
-        ItemsProvider<SubsystemMetadata> itemsProvider = (context, callback) -> {
-            ResourceAddress address = SUBSYSTEM_TEMPLATE.resolve(statementContext).getParent();
-            Operation operation = new Operation.Builder(address, READ_CHILDREN_NAMES_OPERATION)
-                    .param(CHILD_TYPE, SUBSYSTEM).build();
-            dispatcher.execute(operation, result -> {
+        ItemsOperation<SubsystemMetadata> itemsOperation = new ItemsOperation<SubsystemMetadata>() {
+            @Override
+            public Operation operation(FinderPath path, Map<String, Object> selection) {
+                if (environment.isStandalone()) {
+                    return subsystemsOperation(statementContext);
+                }
+                // in domain mode the operation depends on the profile selected in the previous column
+                Object profile = selection.get(Ids.PROFILE);
+                if (profile instanceof NamedNode) {
+                    return subsystemsOperation(
+                            new ProfileStatementContext(statementContext, ((NamedNode) profile).getName()));
+                }
+                return null;
+            }
+
+            @Override
+            public List<SubsystemMetadata> items(ModelNode result) {
                 List<SubsystemMetadata> combined = new ArrayList<>();
                 for (ModelNode modelNode : result.asList()) {
                     String name = modelNode.asString();
@@ -159,9 +178,13 @@ public class SubsystemColumn extends FinderColumn<SubsystemMetadata> {
                     }
                 }
                 combined.sort(comparing(SubsystemMetadata::getTitle));
-                callback.onSuccess(combined);
-            });
+                return combined;
+            }
         };
+        ItemsProvider<SubsystemMetadata> itemsProvider = (context, callback) ->
+                dispatcher.execute(subsystemsOperation(statementContext),
+                        result -> callback.onSuccess(itemsOperation.items(result)));
+        setItemsOperation(itemsOperation);
         setItemsProvider(itemsProvider);
 
         // reuse the items provider to filter breadcrumb items
@@ -182,4 +205,9 @@ public class SubsystemColumn extends FinderColumn<SubsystemMetadata> {
                     }
                 }));
     }
+
+    private Operation subsystemsOperation(StatementContext statementContext) {
+        ResourceAddress address = SUBSYSTEM_TEMPLATE.resolve(statementContext).getParent();
+        return new Operation.Builder(address, READ_CHILDREN_NAMES_OPERATION).param(CHILD_TYPE, SUBSYSTEM).build();
+    }
 }
@@ -18,6 +18,7 @@ package org.jboss.hal.client.configuration.subsystem.datasource;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
@@ -35,12 +36,15 @@ import org.jboss.hal.core.finder.ColumnAction;
 import org.jboss.hal.core.finder.ColumnActionFactory;
 import org.jboss.hal.core.finder.Finder;
 import org.jboss.hal.core.finder.FinderColumn;
+import org.jboss.hal.core.finder.FinderPath;
 import org.jboss.hal.core.finder.ItemAction;
 import org.jboss.hal.core.finder.ItemActionFactory;
 import org.jboss.hal.core.finder.ItemDisplay;
+import org.jboss.hal.core.finder.ItemsOperation;
 import org.jboss.hal.core.mvp.Places;
 import org.jboss.hal.dmr.Composite;
 import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.NamedNode;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.ResourceAddress;
@@ -50,6 +54,7 @@ import org.jboss.hal.flow.Outcome;
 import org.jboss.hal.flow.Progress;
 import org.jboss.hal.flow.Task;
 import org.jboss.hal.meta.MetadataRegistry;
+import org.jboss.hal.meta.ProfileStatementContext;
 import org.jboss.hal.meta.StatementContext;
 import org.jboss.hal.meta.security.Constraint;
 import org.jboss.hal.meta.token.NameTokens;
@@ -132,22 +137,27 @@ public class DataSourceColumn extends FinderColumn<DataSource> {
         addColumnActions(Ids.DATA_SOURCE_ADD_ACTIONS, pfIcon("add-circle-o"), resources.constants().add(), addActions);
         addColumnAction(columnActionFactory.refresh(Ids.DATA_SOURCE_REFRESH));
 
-        setItemsProvider((context, callback) -> {
-            ResourceAddress dataSourceAddress = DATA_SOURCE_SUBSYSTEM_TEMPLATE.resolve(statementContext);
-            Operation dataSourceOperation = new Operation.Builder(dataSourceAddress, READ_CHILDREN_RESOURCES_OPERATION)
-                    .param(CHILD_TYPE, DATA_SOURCE).build();
-            Operation xaDataSourceOperation = new Operation.Builder(dataSourceAddress, READ_CHILDREN_RESOURCES_OPERATION
-            )
-                    .param(CHILD_TYPE, XA_DATA_SOURCE).build();
-            dispatcher.execute(new Composite(dataSourceOperation, xaDataSourceOperation), (CompositeResult result) -> {
-                List<DataSource> combined = new ArrayList<>();
-                combined.addAll(result.step(0).get(RESULT).asPropertyList().stream()
-                        .map(property -> new DataSource(property, false)).collect(toList()));
-                combined.addAll(result.step(1).get(RESULT).asPropertyList().stream()
-                        .map(property -> new DataSource(property, true)).collect(toList()));
-                combined.sort(comparing(NamedNode::getName));
-                callback.onSuccess(combined);
-            });
+        setItemsProvider((context, callback) -> dispatcher.execute(dataSourcesOperation(statementContext),
+                (CompositeResult result) -> callback.onSuccess(dataSources(result))));
+        setItemsOperation(new ItemsOperation<DataSource>() {
+            @Override
+            public Operation operation(FinderPath path, Map<String, Object> selection) {
+                if (environment.isStandalone()) {
+                    return dataSourcesOperation(statementContext);
+                }
+                // in domain mode the operation depends on the profile selected in a previous column
+                Object profile = selection.get(Ids.PROFILE);
+                if (profile instanceof NamedNode) {
+                    return dataSourcesOperation(
+                            new ProfileStatementContext(statementContext, ((NamedNode) profile).getName()));
+                }
+                return null;
+            }
+
+            @Override
+            public List<DataSource> items(ModelNode result) {
+                return dataSources(new CompositeResult(result));
+            }
         });
 
         setItemRenderer(dataSource -> new ItemDisplay<DataSource>() {
@@ -227,6 +237,25 @@ public class DataSourceColumn extends FinderColumn<DataSource> {
         setPreviewCallback(item -> new DataSourcePreview(this, item, resources));
     }
 
+    private Composite dataSourcesOperation(StatementContext statementContext) {
+        ResourceAddress dataSourceAddress = DATA_SOURCE_SUBSYSTEM_TEMPLATE.resolve(statementContext);
+        Operation dataSourceOperation = new Operation.Builder(dataSourceAddress, READ_CHILDREN_RESOURCES_OPERATION)
+                .param(CHILD_TYPE, DATA_SOURCE).build();
+        Operation xaDataSourceOperation = new Operation.Builder(dataSourceAddress, READ_CHILDREN_RESOURCES_OPERATION)
+                .param(CHILD_TYPE, XA_DATA_SOURCE).build();
+        return new Composite(dataSourceOperation, xaDataSourceOperation);
+    }
+
+    private List<DataSource> dataSources(CompositeResult result) {
+        List<DataSource> combined = new ArrayList<>();
+        combined.addAll(result.step(0).get(RESULT).asPropertyList().stream()
+                .map(property -> new DataSource(property, false)).collect(toList()));
+        combined.addAll(result.step(1).get(RESULT).asPropertyList().stream()
+                .map(property -> new DataSource(property, true)).collect(toList()));
+        combined.sort(comparing(NamedNode::getName));
+        return combined;
+    }
+
     private void prepareWizard(boolean xa) {
         Task<FlowContext> readDataSources = context ->
                 crud.readChildren(DATA_SOURCE_SUBSYSTEM_TEMPLATE, xa ? XA_DATA_SOURCE : DATA_SOURCE)
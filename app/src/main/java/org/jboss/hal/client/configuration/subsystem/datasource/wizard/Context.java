@@ -21,12 +21,14 @@ import java.util.Map;
 import org.jboss.hal.client.configuration.subsystem.datasource.DataSourceTemplate;
 import org.jboss.hal.core.datasource.DataSource;
 import org.jboss.hal.core.datasource.JdbcDriver;
+import org.jboss.hal.dmr.ModelNode;
 
 class Context {
 
     private final boolean xa;
     private final Map<String, Object> changedValues;
     private boolean created;
+    private ModelNode createdModel;
     DataSourceTemplate template;
     DataSource dataSource;
     JdbcDriver driver;
@@ -64,6 +66,12 @@ class Context {
 
     void setCreated(final boolean created) {
         this.created = created;
+        this.createdModel = created ? dataSource.clone() : null;
+    }
+
+    /** @return the data source as it was when it was created or {@code null} if it hasn't been created yet */
+    ModelNode createdModel() {
+        return createdModel;
     }
 
     boolean hasChanges() {
@@ -190,9 +190,11 @@ public class DataSourceWizard {
                                 : DATA_SOURCE_TEMPLATE;
                         ResourceAddress address = template.resolve(statementContext, context.dataSource.getName());
                         Metadata metadata = metadataRegistry.lookup(template);
-                        if (context.hasChanges()) {
-                            Composite operations = new OperationFactory().fromChangeSet(address, context.changes(),
-                                    metadata);
+                        Composite operations = context.hasChanges()
+                                ? new OperationFactory().fromChangeSet(address, context.changes(), metadata,
+                                context.createdModel())
+                                : new Composite();
+                        if (!operations.isEmpty()) {
                             dispatcher.execute(operations,
                                     (CompositeResult result) -> success(context.dataSource),
                                     (op, failure) -> wizard.showError(resources.constants().operationFailed(),
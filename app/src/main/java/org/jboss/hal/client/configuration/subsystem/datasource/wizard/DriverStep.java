@@ -71,6 +71,7 @@ class DriverStep extends WizardStep<Context, State> {
 
         metadata.getDescription().remove(ATTRIBUTES);
         metadata.getDescription().get(ATTRIBUTES).set(newAttributes);
+        metadata.getDescription().invalidateIndexes();
         return metadata;
     }
 
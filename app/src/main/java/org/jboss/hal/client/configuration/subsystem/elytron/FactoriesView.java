@@ -18,6 +18,7 @@ package org.jboss.hal.client.configuration.subsystem.elytron;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import javax.inject.Inject;
 
@@ -42,6 +43,7 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.PROVIDER_NAME;
 public class FactoriesView extends HalViewImpl implements FactoriesPresenter.MyView {
 
     private final Map<String, ResourceElement> elements;
+    private final Map<String, List<NamedNode>> data;
     private final VerticalNavigation navigation;
     private final HttpAuthenticationFactoryElement httpAuthenticationFactoryElement;
     private final SaslAuthenticationFactoryElement saslAuthenticationFactoryElement;
@@ -51,6 +53,7 @@ public class FactoriesView extends HalViewImpl implements FactoriesPresenter.MyV
     @SuppressWarnings("HardCodedStringLiteral")
     FactoriesView(MbuiContext mbuiContext) {
         elements = new HashMap<>();
+        data = new HashMap<>();
         navigation = new VerticalNavigation();
         registerAttachable(navigation);
 
@@ -67,7 +70,7 @@ public class FactoriesView extends HalViewImpl implements FactoriesPresenter.MyV
         // ------------------------------------------------------ http factories
 
         addResourceElement(AGGREGATE_HTTP_SERVER_MECHANISM_FACTORY,
-                AGGREGATE_HTTP_SERVER_MECHANISM_FACTORY.resourceElement(mbuiContext,
+                () -> AGGREGATE_HTTP_SERVER_MECHANISM_FACTORY.resourceElement(mbuiContext,
                         () -> presenter.reload(AGGREGATE_HTTP_SERVER_MECHANISM_FACTORY.resource,
                                 nodes -> updateResourceElement(AGGREGATE_HTTP_SERVER_MECHANISM_FACTORY.resource,
                                         nodes))),
@@ -76,7 +79,7 @@ public class FactoriesView extends HalViewImpl implements FactoriesPresenter.MyV
                 "Aggregate HTTP Server Mechanism");
 
         addResourceElement(CONFIGURABLE_HTTP_SERVER_MECHANISM_FACTORY,
-                CONFIGURABLE_HTTP_SERVER_MECHANISM_FACTORY.resourceElementBuilder(mbuiContext,
+                () -> CONFIGURABLE_HTTP_SERVER_MECHANISM_FACTORY.resourceElementBuilder(mbuiContext,
                         () -> presenter.reload(CONFIGURABLE_HTTP_SERVER_MECHANISM_FACTORY.resource,
                                 nodes -> updateResourceElement(CONFIGURABLE_HTTP_SERVER_MECHANISM_FACTORY.resource,
                                         nodes)))
@@ -96,7 +99,7 @@ public class FactoriesView extends HalViewImpl implements FactoriesPresenter.MyV
                 Names.HTTP_AUTHENTICATION_FACTORY, httpAuthenticationFactoryElement.element());
 
         addResourceElement(PROVIDER_HTTP_SERVER_MECHANISM_FACTORY,
-                PROVIDER_HTTP_SERVER_MECHANISM_FACTORY.resourceElement(mbuiContext,
+                () -> PROVIDER_HTTP_SERVER_MECHANISM_FACTORY.resourceElement(mbuiContext,
                         () -> presenter.reload(PROVIDER_HTTP_SERVER_MECHANISM_FACTORY.resource,
                                 nodes -> updateResourceElement(PROVIDER_HTTP_SERVER_MECHANISM_FACTORY.resource,
                                         nodes))),
@@ -105,7 +108,7 @@ public class FactoriesView extends HalViewImpl implements FactoriesPresenter.MyV
                 "Provider HTTP Server Mechanism");
 
         addResourceElement(SERVICE_LOADER_HTTP_SERVER_MECHANISM_FACTORY,
-                SERVICE_LOADER_HTTP_SERVER_MECHANISM_FACTORY.resourceElement(mbuiContext,
+                () -> SERVICE_LOADER_HTTP_SERVER_MECHANISM_FACTORY.resourceElement(mbuiContext,
                         () -> presenter.reload(SERVICE_LOADER_HTTP_SERVER_MECHANISM_FACTORY.resource,
                                 nodes -> updateResourceElement(SERVICE_LOADER_HTTP_SERVER_MECHANISM_FACTORY.resource,
                                         nodes))),
@@ -117,7 +120,7 @@ public class FactoriesView extends HalViewImpl implements FactoriesPresenter.MyV
         // ------------------------------------------------------ sasl factories
 
         addResourceElement(AGGREGATE_SASL_SERVER_FACTORY,
-                AGGREGATE_SASL_SERVER_FACTORY.resourceElement(mbuiContext,
+                () -> AGGREGATE_SASL_SERVER_FACTORY.resourceElement(mbuiContext,
                         () -> presenter.reload(AGGREGATE_SASL_SERVER_FACTORY.resource,
                                 nodes -> updateResourceElement(AGGREGATE_SASL_SERVER_FACTORY.resource, nodes))),
                 primaryIdSaslFactories,
@@ -125,7 +128,7 @@ public class FactoriesView extends HalViewImpl implements FactoriesPresenter.MyV
                 "Aggregate SASL Server");
 
         addResourceElement(CONFIGURABLE_SASL_SERVER_FACTORY,
-                CONFIGURABLE_SASL_SERVER_FACTORY.resourceElementBuilder(mbuiContext,
+                () -> CONFIGURABLE_SASL_SERVER_FACTORY.resourceElementBuilder(mbuiContext,
                         () -> presenter.reload(CONFIGURABLE_SASL_SERVER_FACTORY.resource,
                                 nodes -> updateResourceElement(CONFIGURABLE_SASL_SERVER_FACTORY.resource, nodes)))
                         .setComplexListAttribute(FILTERS, asList(PREDEFINED_FILTER, PATTERN_FILTER),
@@ -137,7 +140,7 @@ public class FactoriesView extends HalViewImpl implements FactoriesPresenter.MyV
                 "Configurable SASL Server");
 
         addResourceElement(MECHANISM_PROVIDER_FILTERING_SASL_SERVER_FACTORY,
-                MECHANISM_PROVIDER_FILTERING_SASL_SERVER_FACTORY.resourceElementBuilder(mbuiContext,
+                () -> MECHANISM_PROVIDER_FILTERING_SASL_SERVER_FACTORY.resourceElementBuilder(mbuiContext,
                         () -> presenter.reload(
                                 MECHANISM_PROVIDER_FILTERING_SASL_SERVER_FACTORY.resource,
                                 nodes -> updateResourceElement(
@@ -150,7 +153,7 @@ public class FactoriesView extends HalViewImpl implements FactoriesPresenter.MyV
                 "Mechanism Provider Filtering SASL Server");
 
         addResourceElement(PROVIDER_SASL_SERVER_FACTORY,
-                PROVIDER_SASL_SERVER_FACTORY.resourceElement(mbuiContext,
+                () -> PROVIDER_SASL_SERVER_FACTORY.resourceElement(mbuiContext,
                         () -> presenter.reload(PROVIDER_SASL_SERVER_FACTORY.resource,
                                 nodes -> updateResourceElement(PROVIDER_SASL_SERVER_FACTORY.resource, nodes))),
                 primaryIdSaslFactories,
@@ -166,7 +169,7 @@ public class FactoriesView extends HalViewImpl implements FactoriesPresenter.MyV
                 Names.SASL_AUTHENTICATION_FACTORY, saslAuthenticationFactoryElement.element());
 
         addResourceElement(SERVICE_LOADER_SASL_SERVER_FACTORY,
-                SERVICE_LOADER_SASL_SERVER_FACTORY.resourceElement(mbuiContext,
+                () -> SERVICE_LOADER_SASL_SERVER_FACTORY.resourceElement(mbuiContext,
                         () -> presenter.reload(SERVICE_LOADER_SASL_SERVER_FACTORY.resource,
                                 nodes -> updateResourceElement(SERVICE_LOADER_SASL_SERVER_FACTORY.resource, nodes))),
                 primaryIdSaslFactories,
@@ -177,7 +180,7 @@ public class FactoriesView extends HalViewImpl implements FactoriesPresenter.MyV
         // ------------------------------------------------------ other factories
 
         addResourceElement(KERBEROS_SECURITY_FACTORY,
-                KERBEROS_SECURITY_FACTORY.resourceElement(mbuiContext,
+                () -> KERBEROS_SECURITY_FACTORY.resourceElement(mbuiContext,
                         () -> presenter.reload(KERBEROS_SECURITY_FACTORY.resource,
                                 nodes -> updateResourceElement(KERBEROS_SECURITY_FACTORY.resource, nodes))),
                 primaryIdOtherFactories,
@@ -185,7 +188,7 @@ public class FactoriesView extends HalViewImpl implements FactoriesPresenter.MyV
                 "Kerberos Security");
 
         addResourceElement(CUSTOM_CREDENTIAL_SECURITY_FACTORY,
-                CUSTOM_CREDENTIAL_SECURITY_FACTORY.resourceElement(mbuiContext,
+                () -> CUSTOM_CREDENTIAL_SECURITY_FACTORY.resourceElement(mbuiContext,
                         () -> presenter.reload(CUSTOM_CREDENTIAL_SECURITY_FACTORY.resource,
                                 nodes -> updateResourceElement(CUSTOM_CREDENTIAL_SECURITY_FACTORY.resource, nodes))),
                 primaryIdOtherFactories,
@@ -196,7 +199,7 @@ public class FactoriesView extends HalViewImpl implements FactoriesPresenter.MyV
         // ------------------------------------------------------ transformers
 
         addResourceElement(AGGREGATE_PRINCIPAL_TRANSFORMER,
-                AGGREGATE_PRINCIPAL_TRANSFORMER.resourceElement(mbuiContext,
+                () -> AGGREGATE_PRINCIPAL_TRANSFORMER.resourceElement(mbuiContext,
                         () -> presenter.reload(AGGREGATE_PRINCIPAL_TRANSFORMER.resource,
                                 nodes -> updateResourceElement(AGGREGATE_PRINCIPAL_TRANSFORMER.resource, nodes))),
                 primaryIdTransformers,
@@ -204,7 +207,7 @@ public class FactoriesView extends HalViewImpl implements FactoriesPresenter.MyV
                 "Aggregate");
 
         addResourceElement(CHAINED_PRINCIPAL_TRANSFORMER,
-                CHAINED_PRINCIPAL_TRANSFORMER.resourceElement(mbuiContext,
+                () -> CHAINED_PRINCIPAL_TRANSFORMER.resourceElement(mbuiContext,
                         () -> presenter.reload(CHAINED_PRINCIPAL_TRANSFORMER.resource,
                                 nodes -> updateResourceElement(CHAINED_PRINCIPAL_TRANSFORMER.resource, nodes))),
                 primaryIdTransformers,
@@ -212,7 +215,7 @@ public class FactoriesView extends HalViewImpl implements FactoriesPresenter.MyV
                 "Chained");
 
         addResourceElement(CONSTANT_PRINCIPAL_TRANSFORMER,
-                CONSTANT_PRINCIPAL_TRANSFORMER.resourceElement(mbuiContext,
+                () -> CONSTANT_PRINCIPAL_TRANSFORMER.resourceElement(mbuiContext,
                         () -> presenter.reload(CONSTANT_PRINCIPAL_TRANSFORMER.resource,
                                 nodes -> updateResourceElement(CONSTANT_PRINCIPAL_TRANSFORMER.resource, nodes))),
                 primaryIdTransformers,
@@ -220,7 +223,7 @@ public class FactoriesView extends HalViewImpl implements FactoriesPresenter.MyV
                 "Constant");
 
         addResourceElement(CUSTOM_PRINCIPAL_TRANSFORMER,
-                CUSTOM_PRINCIPAL_TRANSFORMER.resourceElement(mbuiContext,
+                () -> CUSTOM_PRINCIPAL_TRANSFORMER.resourceElement(mbuiContext,
                         () -> presenter.reload(CUSTOM_PRINCIPAL_TRANSFORMER.resource,
                                 nodes -> updateResourceElement(CUSTOM_PRINCIPAL_TRANSFORMER.resource, nodes))),
                 primaryIdTransformers,
@@ -228,7 +231,7 @@ public class FactoriesView extends HalViewImpl implements FactoriesPresenter.MyV
                 "Custom");
 
         addResourceElement(REGEX_PRINCIPAL_TRANSFORMER,
-                REGEX_PRINCIPAL_TRANSFORMER.resourceElement(mbuiContext,
+                () -> REGEX_PRINCIPAL_TRANSFORMER.resourceElement(mbuiContext,
                         () -> presenter.reload(REGEX_PRINCIPAL_TRANSFORMER.resource,
                                 nodes -> updateResourceElement(REGEX_PRINCIPAL_TRANSFORMER.resource, nodes))),
                 primaryIdTransformers,
@@ -236,7 +239,7 @@ public class FactoriesView extends HalViewImpl implements FactoriesPresenter.MyV
                 "Regex");
 
         addResourceElement(REGEX_VALIDATING_PRINCIPAL_TRANSFORMER,
-                REGEX_VALIDATING_PRINCIPAL_TRANSFORMER.resourceElement(mbuiContext,
+                () -> REGEX_VALIDATING_PRINCIPAL_TRANSFORMER.resourceElement(mbuiContext,
                         () -> presenter.reload(REGEX_VALIDATING_PRINCIPAL_TRANSFORMER.resource,
                                 nodes -> updateResourceElement(REGEX_VALIDATING_PRINCIPAL_TRANSFORMER.resource,
                                         nodes))),
@@ -249,11 +252,15 @@ public class FactoriesView extends HalViewImpl implements FactoriesPresenter.MyV
                         .addAll(navigation.panes())));
     }
 
-    private void addResourceElement(ElytronResource resource, ResourceElement element,
+    private void addResourceElement(ElytronResource resource, Supplier<ResourceElement> element,
             String primaryId, String secondaryId, String text) {
-        elements.put(resource.resource, element);
-        registerAttachable(element);
-        navigation.addSecondary(primaryId, secondaryId, text, element.element());
+        navigation.addLazySecondary(primaryId, secondaryId, text, element, resourceElement -> {
+            elements.put(resource.resource, resourceElement);
+            List<NamedNode> nodes = data.get(resource.resource);
+            if (nodes != null) {
+                resourceElement.update(nodes);
+            }
+        });
     }
 
     public void setPresenter(FactoriesPresenter presenter) {
@@ -264,6 +271,8 @@ public class FactoriesView extends HalViewImpl implements FactoriesPresenter.MyV
 
     @Override
     public void updateResourceElement(String resource, List<NamedNode> nodes) {
+        // resource elements are created when they're shown for the first time
+        data.put(resource, nodes);
         ResourceElement resourceElement = elements.get(resource);
         if (resourceElement != null) {
             resourceElement.update(nodes);
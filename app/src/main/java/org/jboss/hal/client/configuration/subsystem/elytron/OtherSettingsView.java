@@ -19,6 +19,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import javax.inject.Inject;
 
@@ -66,8 +68,8 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
 public class OtherSettingsView extends HalViewImpl implements OtherSettingsPresenter.MyView {
 
     private final Map<String, ResourceElement> elements;
+    private final Map<String, List<NamedNode>> data;
     private LdapKeyStoreElement ldapKeyStoreElement;
-    private ResourceElement securityDomainElement;
     private PolicyElement policyElement;
     private VerticalNavigation navigation;
     private OtherSettingsPresenter presenter;
@@ -76,6 +78,8 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
     OtherSettingsView(MbuiContext mbuiContext) {
 
         elements = new HashMap<>();
+
+        data = new HashMap<>();
         navigation = new VerticalNavigation();
         registerAttachable(navigation);
 
@@ -89,36 +93,43 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
 
         // ===== store
 
-        ResourceElement credentialStoreElement = CREDENTIAL_STORE.resourceElementBuilder(mbuiContext,
-                () -> presenter.reload(CREDENTIAL_STORE.resource,
-                        nodes -> updateResourceElement(CREDENTIAL_STORE.resource, nodes)))
-                .onAdd(() -> presenter.addCredentialStore())
-                .addComplexObjectAttribute(CREDENTIAL_REFERENCE,
-                        new RequireAtLeastOneAttributeValidation<>(asList(STORE, CLEAR_TEXT), mbuiContext.resources()))
-                .build();
-        credentialStoreElement.getForm().getFormItem(RELATIVE_TO).registerSuggestHandler(new PathsAutoComplete());
-        addResourceElement(CREDENTIAL_STORE, credentialStoreElement, Ids.ELYTRON_STORE_ITEM,
+        addResourceElement(CREDENTIAL_STORE, () -> {
+                    ResourceElement credentialStoreElement = CREDENTIAL_STORE.resourceElementBuilder(mbuiContext,
+                            () -> presenter.reload(CREDENTIAL_STORE.resource,
+                                    nodes -> updateResourceElement(CREDENTIAL_STORE.resource, nodes)))
+                            .onAdd(() -> presenter.addCredentialStore())
+                            .addComplexObjectAttribute(CREDENTIAL_REFERENCE,
+                                    new RequireAtLeastOneAttributeValidation<>(asList(STORE, CLEAR_TEXT),
+                                            mbuiContext.resources()))
+                            .build();
+                    credentialStoreElement.getForm().getFormItem(RELATIVE_TO)
+                            .registerSuggestHandler(new PathsAutoComplete());
+                    return credentialStoreElement;
+                }, Ids.ELYTRON_STORE_ITEM,
                 Ids.build(CREDENTIAL_STORE.baseId, Ids.ITEM),
                 labelBuilder.label(CREDENTIAL_STORE.resource));
 
         addResourceElement(FILTERING_KEY_STORE,
-                FILTERING_KEY_STORE.resourceElement(mbuiContext,
+                () -> FILTERING_KEY_STORE.resourceElement(mbuiContext,
                         () -> presenter.reload(FILTERING_KEY_STORE.resource,
                                 nodes -> updateResourceElement(FILTERING_KEY_STORE.resource, nodes))),
                 Ids.ELYTRON_STORE_ITEM,
                 Ids.build(FILTERING_KEY_STORE.baseId, Ids.ITEM),
                 labelBuilder.label(FILTERING_KEY_STORE.resource));
 
-        ResourceElement keyStoreElement = KEY_STORE.resourceElementBuilder(mbuiContext,
-                () -> presenter.reload(KEY_STORE.resource,
-                        nodes -> updateResourceElement(KEY_STORE.resource, nodes)))
-                .onAdd(() -> presenter.addKeyStore())
-                .addComplexObjectAttribute(CREDENTIAL_REFERENCE,
-                        new RequireAtLeastOneAttributeValidation<>(asList(STORE, CLEAR_TEXT), mbuiContext.resources()))
-                .build();
-        keyStoreElement.getForm().getFormItem(RELATIVE_TO).registerSuggestHandler(new PathsAutoComplete());
         addResourceElement(KEY_STORE,
-                keyStoreElement,
+                () -> {
+                    ResourceElement keyStoreElement = KEY_STORE.resourceElementBuilder(mbuiContext,
+                            () -> presenter.reload(KEY_STORE.resource,
+                                    nodes -> updateResourceElement(KEY_STORE.resource, nodes)))
+                            .onAdd(() -> presenter.addKeyStore())
+                            .addComplexObjectAttribute(CREDENTIAL_REFERENCE,
+                                    new RequireAtLeastOneAttributeValidation<>(asList(STORE, CLEAR_TEXT),
+                                            mbuiContext.resources()))
+                            .build();
+                    keyStoreElement.getForm().getFormItem(RELATIVE_TO).registerSuggestHandler(new PathsAutoComplete());
+                    return keyStoreElement;
+                },
                 Ids.ELYTRON_STORE_ITEM,
                 Ids.build(KEY_STORE.baseId, Ids.ITEM),
                 labelBuilder.label(KEY_STORE.resource));
@@ -133,7 +144,7 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
         // ==== SSL elements
 
         addResourceElement(AGGREGATE_PROVIDERS,
-                AGGREGATE_PROVIDERS.resourceElement(mbuiContext,
+                () -> AGGREGATE_PROVIDERS.resourceElement(mbuiContext,
                         () -> presenter.reload(AGGREGATE_PROVIDERS.resource,
                                 nodes -> updateResourceElement(AGGREGATE_PROVIDERS.resource, nodes))),
                 Ids.ELYTRON_SSL_ITEM,
@@ -141,7 +152,7 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
                 labelBuilder.label(AGGREGATE_PROVIDERS.resource));
 
         addResourceElement(CLIENT_SSL_CONTEXT,
-                CLIENT_SSL_CONTEXT.resourceElement(mbuiContext,
+                () -> CLIENT_SSL_CONTEXT.resourceElement(mbuiContext,
                         () -> presenter.reload(CLIENT_SSL_CONTEXT.resource,
                                 nodes -> updateResourceElement(CLIENT_SSL_CONTEXT.resource, nodes))),
                 Ids.ELYTRON_SSL_ITEM,
@@ -149,7 +160,7 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
                 labelBuilder.label(CLIENT_SSL_CONTEXT.resource));
 
         addResourceElement(KEY_MANAGER,
-                KEY_MANAGER.resourceElementBuilder(mbuiContext,
+                () -> KEY_MANAGER.resourceElementBuilder(mbuiContext,
                         () -> presenter.reload(KEY_MANAGER.resource,
                                 nodes -> updateResourceElement(KEY_MANAGER.resource, nodes)))
                         .onAdd(() -> presenter.addKeyManager())
@@ -162,30 +173,33 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
                 labelBuilder.label(KEY_MANAGER.resource));
 
         addResourceElement(PROVIDER_LOADER,
-                PROVIDER_LOADER.resourceElement(mbuiContext,
+                () -> PROVIDER_LOADER.resourceElement(mbuiContext,
                         () -> presenter.reload(PROVIDER_LOADER.resource,
                                 nodes -> updateResourceElement(PROVIDER_LOADER.resource, nodes))),
                 Ids.ELYTRON_SSL_ITEM,
                 Ids.build(PROVIDER_LOADER.baseId, Ids.ITEM),
                 labelBuilder.label(PROVIDER_LOADER.resource));
 
-        securityDomainElement = SECURITY_DOMAIN.resourceElementBuilder(mbuiContext,
-                () -> presenter.reload(SECURITY_DOMAIN.resource,
-                        nodes -> updateResourceElement(SECURITY_DOMAIN.resource, nodes)))
-                .customFormItem(DEFAULT_REALM,
-                        ad -> new SingleSelectBoxItem(DEFAULT_REALM, labelBuilder.label(DEFAULT_REALM),
-                                Collections.emptyList(), false))
-                .onAdd(() -> presenter.addSecurityDomain())
-                .setComplexListAttribute(REALMS, REALM)
-                .build();
-        // user cannot modify realm name of the inner complext object list if it is referenced in default-realm attribute
-        securityDomainElement.getFormComplexList().getFormItem(REALM).setEnabled(false);
-        securityDomainElement.getFormComplexList().getFormItem(REALM).registerSuggestHandler(null);
-        addResourceElement(SECURITY_DOMAIN, securityDomainElement, Ids.ELYTRON_SSL_ITEM,
+        addResourceElement(SECURITY_DOMAIN, () -> {
+                    ResourceElement securityDomainElement = SECURITY_DOMAIN.resourceElementBuilder(mbuiContext,
+                            () -> presenter.reload(SECURITY_DOMAIN.resource,
+                                    nodes -> updateResourceElement(SECURITY_DOMAIN.resource, nodes)))
+                            .customFormItem(DEFAULT_REALM,
+                                    ad -> new SingleSelectBoxItem(DEFAULT_REALM, labelBuilder.label(DEFAULT_REALM),
+                                            Collections.emptyList(), false))
+                            .onAdd(() -> presenter.addSecurityDomain())
+                            .setComplexListAttribute(REALMS, REALM)
+                            .build();
+                    // user cannot modify realm name of the inner complext object list if it is referenced in
+                    // default-realm attribute
+                    securityDomainElement.getFormComplexList().getFormItem(REALM).setEnabled(false);
+                    securityDomainElement.getFormComplexList().getFormItem(REALM).registerSuggestHandler(null);
+                    return securityDomainElement;
+                }, this::bindDefaultRealm, Ids.ELYTRON_SSL_ITEM,
                 Ids.build(SECURITY_DOMAIN.baseId, Ids.ITEM), labelBuilder.label(SECURITY_DOMAIN.resource));
 
         addResourceElement(SERVER_SSL_CONTEXT,
-                SERVER_SSL_CONTEXT.resourceElement(mbuiContext,
+                () -> SERVER_SSL_CONTEXT.resourceElement(mbuiContext,
                         () -> presenter.reload(SERVER_SSL_CONTEXT.resource,
                                 nodes -> updateResourceElement(SERVER_SSL_CONTEXT.resource, nodes))),
                 Ids.ELYTRON_SSL_ITEM,
@@ -193,7 +207,7 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
                 labelBuilder.label(SERVER_SSL_CONTEXT.resource));
 
         addResourceElement(SERVER_SSL_SNI_CONTEXT,
-                SERVER_SSL_SNI_CONTEXT.resourceElementBuilder(mbuiContext,
+                () -> SERVER_SSL_SNI_CONTEXT.resourceElementBuilder(mbuiContext,
                         () -> presenter.reload(SERVER_SSL_SNI_CONTEXT.resource,
                                 nodes -> updateResourceElement(SERVER_SSL_SNI_CONTEXT.resource, nodes)))
                         .onAdd(() -> presenter.addServerSslSniContext())
@@ -203,7 +217,7 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
                 labelBuilder.label(SERVER_SSL_SNI_CONTEXT.resource));
 
         addResourceElement(TRUST_MANAGER,
-                TRUST_MANAGER.resourceElementBuilder(mbuiContext,
+                () -> TRUST_MANAGER.resourceElementBuilder(mbuiContext,
                         () -> presenter.reload(TRUST_MANAGER.resource,
                                 nodes -> updateResourceElement(TRUST_MANAGER.resource, nodes)))
                         .addComplexObjectAttribute("certificate-revocation-list")
@@ -215,7 +229,7 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
         // ===== Authentication
 
         addResourceElement(AUTHENTICATION_CONFIGURATION,
-                AUTHENTICATION_CONFIGURATION.resourceElementBuilder(mbuiContext,
+                () -> AUTHENTICATION_CONFIGURATION.resourceElementBuilder(mbuiContext,
                         () -> presenter.reload(AUTHENTICATION_CONFIGURATION.resource,
                                 nodes -> updateResourceElement(AUTHENTICATION_CONFIGURATION.resource, nodes)))
                         .addComplexObjectAttribute(CREDENTIAL_REFERENCE)
@@ -225,7 +239,7 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
                 labelBuilder.label(AUTHENTICATION_CONFIGURATION.resource));
 
         addResourceElement(AUTHENTICATION_CONTEXT,
-                AUTHENTICATION_CONTEXT.resourceElementBuilder(mbuiContext,
+                () -> AUTHENTICATION_CONTEXT.resourceElementBuilder(mbuiContext,
                         () -> presenter.reload(AUTHENTICATION_CONTEXT.resource,
                                 nodes -> updateResourceElement(AUTHENTICATION_CONTEXT.resource, nodes)))
                         // display all attributes as none of them are required=true
@@ -250,7 +264,7 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
         // ======= Logs
 
         addResourceElement(AGGREGATE_SECURITY_EVENT_LISTENER,
-                AGGREGATE_SECURITY_EVENT_LISTENER.resourceElement(mbuiContext,
+                () -> AGGREGATE_SECURITY_EVENT_LISTENER.resourceElement(mbuiContext,
                         () -> presenter.reload(AGGREGATE_SECURITY_EVENT_LISTENER.resource,
                                 nodes -> updateResourceElement(AGGREGATE_SECURITY_EVENT_LISTENER.resource, nodes))),
                 Ids.ELYTRON_LOGS_ITEM,
@@ -258,7 +272,7 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
                 labelBuilder.label(AGGREGATE_SECURITY_EVENT_LISTENER.resource));
 
         addResourceElement(CUSTOM_SECURITY_EVENT_LISTENER,
-                CUSTOM_SECURITY_EVENT_LISTENER.resourceElement(mbuiContext,
+                () -> CUSTOM_SECURITY_EVENT_LISTENER.resourceElement(mbuiContext,
                         () -> presenter.reload(CUSTOM_SECURITY_EVENT_LISTENER.resource,
                                 nodes -> updateResourceElement(CUSTOM_SECURITY_EVENT_LISTENER.resource, nodes))),
                 Ids.ELYTRON_LOGS_ITEM,
@@ -266,7 +280,7 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
                 labelBuilder.label(CUSTOM_SECURITY_EVENT_LISTENER.resource));
 
         addResourceElement(FILE_AUDIT_LOG,
-                FILE_AUDIT_LOG.resourceElement(mbuiContext,
+                () -> FILE_AUDIT_LOG.resourceElement(mbuiContext,
                         () -> presenter.reload(FILE_AUDIT_LOG.resource,
                                 nodes -> updateResourceElement(FILE_AUDIT_LOG.resource, nodes))),
                 Ids.ELYTRON_LOGS_ITEM,
@@ -274,7 +288,7 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
                 labelBuilder.label(FILE_AUDIT_LOG.resource));
 
         addResourceElement(PERIODIC_ROTATING_FILE_AUDIT_LOG,
-                PERIODIC_ROTATING_FILE_AUDIT_LOG.resourceElement(mbuiContext,
+                () -> PERIODIC_ROTATING_FILE_AUDIT_LOG.resourceElement(mbuiContext,
                         () -> presenter.reload(PERIODIC_ROTATING_FILE_AUDIT_LOG.resource,
                                 nodes -> updateResourceElement(PERIODIC_ROTATING_FILE_AUDIT_LOG.resource, nodes))),
                 Ids.ELYTRON_LOGS_ITEM,
@@ -282,7 +296,7 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
                 labelBuilder.label(PERIODIC_ROTATING_FILE_AUDIT_LOG.resource));
 
         addResourceElement(SIZE_ROTATING_FILE_AUDIT_LOG,
-                SIZE_ROTATING_FILE_AUDIT_LOG.resourceElement(mbuiContext,
+                () -> SIZE_ROTATING_FILE_AUDIT_LOG.resourceElement(mbuiContext,
                         () -> presenter.reload(SIZE_ROTATING_FILE_AUDIT_LOG.resource,
                                 nodes -> updateResourceElement(SIZE_ROTATING_FILE_AUDIT_LOG.resource, nodes))),
                 Ids.ELYTRON_LOGS_ITEM,
@@ -290,7 +304,7 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
                 labelBuilder.label(SIZE_ROTATING_FILE_AUDIT_LOG.resource));
 
         addResourceElement(SYSLOG_AUDIT_LOG,
-                SYSLOG_AUDIT_LOG.resourceElement(mbuiContext,
+                () -> SYSLOG_AUDIT_LOG.resourceElement(mbuiContext,
                         () -> presenter.reload(SYSLOG_AUDIT_LOG.resource,
                                 nodes -> updateResourceElement(SYSLOG_AUDIT_LOG.resource, nodes))),
                 Ids.ELYTRON_LOGS_ITEM,
@@ -300,7 +314,7 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
         // ====== Other settings
 
         addResourceElement(CERTIFICATE_AUTHORITY_ACCOUNT,
-                CERTIFICATE_AUTHORITY_ACCOUNT.resourceElementBuilder(mbuiContext,
+                () -> CERTIFICATE_AUTHORITY_ACCOUNT.resourceElementBuilder(mbuiContext,
                         () -> presenter.reload(CERTIFICATE_AUTHORITY_ACCOUNT.resource,
                                 nodes -> updateResourceElement(CERTIFICATE_AUTHORITY_ACCOUNT.resource, nodes)))
                         .addComplexObjectAttribute(CREDENTIAL_REFERENCE)
@@ -310,7 +324,7 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
                 labelBuilder.label(CERTIFICATE_AUTHORITY_ACCOUNT.resource));
 
         addResourceElement(DIR_CONTEXT,
-                DIR_CONTEXT.resourceElementBuilder(mbuiContext,
+                () -> DIR_CONTEXT.resourceElementBuilder(mbuiContext,
                         () -> presenter.reload(DIR_CONTEXT.resource,
                                 nodes -> updateResourceElement(DIR_CONTEXT.resource, nodes)))
                         .addComplexObjectAttribute(CREDENTIAL_REFERENCE)
@@ -320,7 +334,7 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
                 labelBuilder.label(DIR_CONTEXT.resource));
 
         addResourceElement(ElytronResource.JASPI_CONFIGURATION,
-                ElytronResource.JASPI_CONFIGURATION.resourceElementBuilder(mbuiContext,
+                () -> ElytronResource.JASPI_CONFIGURATION.resourceElementBuilder(mbuiContext,
                         () -> presenter.reload(ElytronResource.JASPI_CONFIGURATION.resource,
                                 nodes -> updateResourceElement(ElytronResource.JASPI_CONFIGURATION.resource, nodes)))
                         .setComplexListAttribute(SERVER_AUTH_MODULES, asList(
@@ -335,7 +349,7 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
                 labelBuilder.label(ElytronResource.JASPI_CONFIGURATION.resource));
 
         addResourceElement(ElytronResource.PERMISSION_SET,
-                ElytronResource.PERMISSION_SET.resourceElementBuilder(mbuiContext,
+                () -> ElytronResource.PERMISSION_SET.resourceElementBuilder(mbuiContext,
                         () -> presenter.reload(ElytronResource.PERMISSION_SET.resource,
                                 nodes -> updateResourceElement(ElytronResource.PERMISSION_SET.resource, nodes)))
                         .setComplexListAttribute(PERMISSIONS, asList(
@@ -360,16 +374,30 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
 
     }
 
-    private void addResourceElement(ElytronResource resource, ResourceElement element,
+    private void addResourceElement(ElytronResource resource, Supplier<ResourceElement> element,
             String primaryId, String secondaryId, String text) {
-        elements.put(resource.resource, element);
-        registerAttachable(element);
-        navigation.addSecondary(primaryId, secondaryId, text, element.element());
+        addResourceElement(resource, element, null, primaryId, secondaryId, text);
+    }
+
+    private void addResourceElement(ElytronResource resource, Supplier<ResourceElement> element,
+            Consumer<ResourceElement> built, String primaryId, String secondaryId, String text) {
+        navigation.addLazySecondary(primaryId, secondaryId, text, element, resourceElement -> {
+            elements.put(resource.resource, resourceElement);
+            if (built != null) {
+                built.accept(resourceElement);
+            }
+            List<NamedNode> nodes = data.get(resource.resource);
+            if (nodes != null) {
+                resourceElement.update(nodes);
+            }
+        });
     }
 
 
     @Override
     public void updateResourceElement(String resource, List<NamedNode> nodes) {
+        // resource elements are created when they're shown for the first time
+        data.put(resource, nodes);
         ResourceElement resourceElement = elements.get(resource);
         if (resourceElement != null) {
             resourceElement.update(nodes);
@@ -379,7 +407,11 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
     @Override
     public void attach() {
         super.attach();
+        ldapKeyStoreElement.attach();
+        policyElement.attach();
+    }
 
+    private void bindDefaultRealm(ResourceElement securityDomainElement) {
         securityDomainElement.getTable().onSelectionChange(table -> {
             // update the list of realms for default-realm attribute
             if (table.hasSelection()) {
@@ -391,9 +423,6 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
                 singleSelectBoxItem.updateAllowedValues(realmList);
             }
         });
-
-        ldapKeyStoreElement.attach();
-        policyElement.attach();
     }
 
     @Override
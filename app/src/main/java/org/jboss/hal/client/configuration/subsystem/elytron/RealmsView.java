@@ -18,6 +18,7 @@ package org.jboss.hal.client.configuration.subsystem.elytron;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import javax.inject.Inject;
 
@@ -39,6 +40,7 @@ import static org.jboss.hal.resources.Ids.ITEM;
 public class RealmsView extends HalViewImpl implements RealmsPresenter.MyView {
 
     private final Map<String, ResourceElement> elements;
+    private final Map<String, List<NamedNode>> data;
     private final JdbcRealmElement jdbcRealmElement;
     private final LdapRealmElement ldapRealmElement;
     private RealmsPresenter presenter;
@@ -49,6 +51,7 @@ public class RealmsView extends HalViewImpl implements RealmsPresenter.MyView {
     public RealmsView(MbuiContext mbuiContext) {
 
         elements = new HashMap<>();
+        data = new HashMap<>();
         navigation = new VerticalNavigation();
         registerAttachable(navigation);
 
@@ -60,7 +63,7 @@ public class RealmsView extends HalViewImpl implements RealmsPresenter.MyView {
         // ========= security realm
 
         addResourceElement(AGGREGATE_REALM,
-                AGGREGATE_REALM.resourceElement(mbuiContext,
+                () -> AGGREGATE_REALM.resourceElement(mbuiContext,
                         () -> presenter.reload(AGGREGATE_REALM.resource,
                                 nodes -> updateResourceElement(AGGREGATE_REALM.resource, nodes))),
                 primaryIdSecurityRealm,
@@ -68,7 +71,7 @@ public class RealmsView extends HalViewImpl implements RealmsPresenter.MyView {
                 "Aggregate Realm");
 
         addResourceElement(CACHING_REALM,
-                CACHING_REALM.resourceElement(mbuiContext,
+                () -> CACHING_REALM.resourceElement(mbuiContext,
                         () -> presenter.reload(CACHING_REALM.resource,
                                 nodes -> updateResourceElement(CACHING_REALM.resource, nodes))),
                 primaryIdSecurityRealm,
@@ -76,7 +79,7 @@ public class RealmsView extends HalViewImpl implements RealmsPresenter.MyView {
                 "Caching Realm");
 
         addResourceElement(CUSTOM_MODIFIABLE_REALM,
-                CUSTOM_MODIFIABLE_REALM.resourceElement(mbuiContext,
+                () -> CUSTOM_MODIFIABLE_REALM.resourceElement(mbuiContext,
                         () -> presenter.reload(CUSTOM_MODIFIABLE_REALM.resource,
                                 nodes -> updateResourceElement(CUSTOM_MODIFIABLE_REALM.resource, nodes))),
                 primaryIdSecurityRealm,
@@ -84,7 +87,7 @@ public class RealmsView extends HalViewImpl implements RealmsPresenter.MyView {
                 "Custom Modifiable Realm");
 
         addResourceElement(CUSTOM_REALM,
-                CUSTOM_REALM.resourceElement(mbuiContext,
+                () -> CUSTOM_REALM.resourceElement(mbuiContext,
                         () -> presenter.reload(CUSTOM_REALM.resource,
                                 nodes -> updateResourceElement(CUSTOM_REALM.resource, nodes))),
                 primaryIdSecurityRealm,
@@ -92,7 +95,7 @@ public class RealmsView extends HalViewImpl implements RealmsPresenter.MyView {
                 "Custom Realm");
 
         addResourceElement(FILESYSTEM_REALM,
-                FILESYSTEM_REALM.resourceElement(mbuiContext,
+                () -> FILESYSTEM_REALM.resourceElement(mbuiContext,
                         () -> presenter.reload(FILESYSTEM_REALM.resource,
                                 nodes -> updateResourceElement(FILESYSTEM_REALM.resource, nodes))),
                 primaryIdSecurityRealm,
@@ -100,7 +103,7 @@ public class RealmsView extends HalViewImpl implements RealmsPresenter.MyView {
                 "Filesystem Realm");
 
         addResourceElement(IDENTITY_REALM,
-                IDENTITY_REALM.resourceElement(mbuiContext,
+                () -> IDENTITY_REALM.resourceElement(mbuiContext,
                         () -> presenter.reload(IDENTITY_REALM.resource,
                                 nodes -> updateResourceElement(IDENTITY_REALM.resource, nodes))),
                 primaryIdSecurityRealm,
@@ -114,7 +117,7 @@ public class RealmsView extends HalViewImpl implements RealmsPresenter.MyView {
                 jdbcRealmElement.element());
 
         addResourceElement(KEY_STORE_REALM,
-                KEY_STORE_REALM.resourceElement(mbuiContext,
+                () -> KEY_STORE_REALM.resourceElement(mbuiContext,
                         () -> presenter.reload(KEY_STORE_REALM.resource,
                                 nodes -> updateResourceElement(KEY_STORE_REALM.resource, nodes))),
                 primaryIdSecurityRealm,
@@ -128,7 +131,7 @@ public class RealmsView extends HalViewImpl implements RealmsPresenter.MyView {
                 ldapRealmElement.element());
 
         addResourceElement(PROPERTIES_REALM,
-                PROPERTIES_REALM.resourceElementBuilder(mbuiContext,
+                () -> PROPERTIES_REALM.resourceElementBuilder(mbuiContext,
                         () -> presenter.reload(PROPERTIES_REALM.resource,
                                 nodes -> updateResourceElement(PROPERTIES_REALM.resource, nodes)))
                         .onAdd(() -> presenter.addPropertiesRealm())
@@ -140,7 +143,7 @@ public class RealmsView extends HalViewImpl implements RealmsPresenter.MyView {
                 Names.PROPERTIES_REALM);
 
         addResourceElement(TOKEN_REALM,
-                TOKEN_REALM.resourceElementBuilder(mbuiContext,
+                () -> TOKEN_REALM.resourceElementBuilder(mbuiContext,
                         () -> presenter.reload(TOKEN_REALM.resource,
                                 nodes -> updateResourceElement(TOKEN_REALM.resource, nodes)))
                         .addComplexObjectAttribute("jwt")
@@ -153,7 +156,7 @@ public class RealmsView extends HalViewImpl implements RealmsPresenter.MyView {
         // =========== realm mapper
 
         addResourceElement(CONSTANT_REALM_MAPPER,
-                CONSTANT_REALM_MAPPER.resourceElement(mbuiContext,
+                () -> CONSTANT_REALM_MAPPER.resourceElement(mbuiContext,
                         () -> presenter.reload(CONSTANT_REALM_MAPPER.resource,
                                 nodes -> updateResourceElement(CONSTANT_REALM_MAPPER.resource, nodes))),
                 primaryIdRealmMapper,
@@ -161,7 +164,7 @@ public class RealmsView extends HalViewImpl implements RealmsPresenter.MyView {
                 "Constant Realm Mapper");
 
         addResourceElement(CUSTOM_REALM_MAPPER,
-                CUSTOM_REALM_MAPPER.resourceElement(mbuiContext,
+                () -> CUSTOM_REALM_MAPPER.resourceElement(mbuiContext,
                         () -> presenter.reload(CUSTOM_REALM_MAPPER.resource,
                                 nodes -> updateResourceElement(CUSTOM_REALM_MAPPER.resource, nodes))),
                 primaryIdRealmMapper,
@@ -169,7 +172,7 @@ public class RealmsView extends HalViewImpl implements RealmsPresenter.MyView {
                 "Custom Realm Mapper");
 
         addResourceElement(MAPPED_REGEX_REALM_MAPPER,
-                MAPPED_REGEX_REALM_MAPPER.resourceElement(mbuiContext,
+                () -> MAPPED_REGEX_REALM_MAPPER.resourceElement(mbuiContext,
                         () -> presenter.reload(MAPPED_REGEX_REALM_MAPPER.resource,
                                 nodes -> updateResourceElement(MAPPED_REGEX_REALM_MAPPER.resource, nodes))),
                 primaryIdRealmMapper,
@@ -177,7 +180,7 @@ public class RealmsView extends HalViewImpl implements RealmsPresenter.MyView {
                 "Mapped Regex Realm Mapper");
 
         addResourceElement(SIMPLE_REGEX_REALM_MAPPER,
-                SIMPLE_REGEX_REALM_MAPPER.resourceElement(mbuiContext,
+                () -> SIMPLE_REGEX_REALM_MAPPER.resourceElement(mbuiContext,
                         () -> presenter.reload(SIMPLE_REGEX_REALM_MAPPER.resource,
                                 nodes -> updateResourceElement(SIMPLE_REGEX_REALM_MAPPER.resource, nodes))),
                 primaryIdRealmMapper,
@@ -190,15 +193,21 @@ public class RealmsView extends HalViewImpl implements RealmsPresenter.MyView {
 
     }
 
-    private void addResourceElement(ElytronResource resource, ResourceElement element,
+    private void addResourceElement(ElytronResource resource, Supplier<ResourceElement> element,
             String primaryId, String secondaryId, String text) {
-        elements.put(resource.resource, element);
-        registerAttachable(element);
-        navigation.addSecondary(primaryId, secondaryId, text, element.element());
+        navigation.addLazySecondary(primaryId, secondaryId, text, element, resourceElement -> {
+            elements.put(resource.resource, resourceElement);
+            List<NamedNode> nodes = data.get(resource.resource);
+            if (nodes != null) {
+                resourceElement.update(nodes);
+            }
+        });
     }
 
     @Override
     public void updateResourceElement(String resource, List<NamedNode> nodes) {
+        // resource elements are created when they're shown for the first time
+        data.put(resource, nodes);
         ResourceElement resourceElement = elements.get(resource);
         if (resourceElement != null) {
             resourceElement.update(nodes);
@@ -262,6 +262,7 @@ public class JcaView extends HalViewImpl implements JcaPresenter.MyView {
         ModelNode addOpDwm = dwmMetadata.getDescription().get(OPERATIONS).get(ADD).get(REQUEST_PROPERTIES);
         addOpDwm.get(MAX_THREADS).set(maxThreadsDesc.getValue());
         addOpDwm.get(QUEUE_LENGTH).set(queueLengthDesc.getValue());
+        dwmMetadata.getDescription().invalidateIndexes();
         dwmMetadata.makeWritable(MAX_THREADS);
         dwmMetadata.makeWritable(QUEUE_LENGTH);
 
@@ -23,12 +23,14 @@ import com.gwtplatform.mvp.client.annotations.ProxyCodeSplit;
 import com.gwtplatform.mvp.client.proxy.ProxyPlace;
 import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
 import org.jboss.hal.core.CrudOperations;
+import org.jboss.hal.core.RecursiveResult;
 import org.jboss.hal.core.finder.Finder;
 import org.jboss.hal.core.finder.FinderPath;
 import org.jboss.hal.core.finder.FinderPathFactory;
 import org.jboss.hal.core.mbui.MbuiPresenter;
 import org.jboss.hal.core.mbui.MbuiView;
 import org.jboss.hal.core.mvp.SupportsExpertMode;
+import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.meta.SelectionAwareStatementContext;
 import org.jboss.hal.meta.StatementContext;
@@ -38,6 +40,8 @@ import org.jboss.hal.spi.Requires;
 
 import static org.jboss.hal.client.configuration.subsystem.resourceadapter.AddressTemplates.RESOURCE_ADAPTER_ADDRESS;
 import static org.jboss.hal.client.configuration.subsystem.resourceadapter.AddressTemplates.SELECTED_RESOURCE_ADAPTER_TEMPLATE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ADMIN_OBJECTS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.CONNECTION_DEFINITIONS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.NAME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RESOURCE_ADAPTERS;
 import static org.jboss.hal.meta.token.NameTokens.RESOURCE_ADAPTER;
@@ -50,6 +54,7 @@ public class ResourceAdapterPresenter
     private final FinderPathFactory finderPathFactory;
     private final StatementContext statementContext;
     private String resourceAdapter;
+    private RecursiveResult resourceAdapterResult;
 
     @Inject
     public ResourceAdapterPresenter(EventBus eventBus,
@@ -96,7 +101,32 @@ public class ResourceAdapterPresenter
     @Override
     protected void reload() {
         ResourceAddress address = SELECTED_RESOURCE_ADAPTER_TEMPLATE.resolve(statementContext);
-        crud.readRecursive(address, result -> getView().update(new ResourceAdapter(resourceAdapter, result)));
+        crud.readRecursive(address, result -> {
+            resourceAdapterResult = new RecursiveResult(address);
+            resourceAdapterResult.set(result);
+            getView().update(new ResourceAdapter(resourceAdapter, result));
+        });
+    }
+
+    /** Reads the specified resource and updates the part of the view which shows the resource. */
+    void refresh(ResourceAddress address) {
+        crud.readRecursive(address, result -> refresh(address, result));
+    }
+
+    /**
+     * Patches the added, modified or removed resource into the cached resource adapter and updates the part of the
+     * view which shows the resource.
+     */
+    void refresh(ResourceAddress address, ModelNode resource) {
+        String childType = resourceAdapterResult.patch(address, resource);
+        ResourceAdapter adapter = new ResourceAdapter(resourceAdapter, resourceAdapterResult.get());
+        if (childType == null) {
+            getView().updateConfiguration(adapter);
+        } else if (CONNECTION_DEFINITIONS.equals(childType)) {
+            getView().updateConnectionDefinitions(adapter);
+        } else if (ADMIN_OBJECTS.equals(childType)) {
+            getView().updateAdminObjects(adapter);
+        }
     }
 
 
@@ -109,6 +139,12 @@ public class ResourceAdapterPresenter
 
     public interface MyView extends MbuiView<ResourceAdapterPresenter> {
         void update(ResourceAdapter resourceAdapter);
+
+        void updateConfiguration(ResourceAdapter resourceAdapter);
+
+        void updateConnectionDefinitions(ResourceAdapter resourceAdapter);
+
+        void updateAdminObjects(ResourceAdapter resourceAdapter);
     }
     // @formatter:on
 }
@@ -20,7 +20,6 @@ import java.util.Map;
 
 import org.jboss.hal.ballroom.VerticalNavigation;
 import org.jboss.hal.ballroom.form.Form;
-import org.jboss.hal.ballroom.form.Form.FinishReset;
 import org.jboss.hal.ballroom.form.FormItem;
 import org.jboss.hal.ballroom.table.Table;
 import org.jboss.hal.core.OperationFactory;
@@ -99,18 +98,18 @@ public abstract class ResourceAdapterView extends MbuiViewImpl<ResourceAdapterPr
         FormItem<Map<String, String>> formItem = form.getFormItem(CONFIG_PROPERTIES);
         Map<String, String> configProperties = formItem != null ? formItem.getValue() : Collections.emptyMap();
         mbuiContext.po().saveWithProperties(Names.RESOURCE_ADAPTER, presenter.getResourceAdapter(), address,
-                operations, CONFIG_PROPERTIES, configProperties, () -> presenter.reload());
+                operations, CONFIG_PROPERTIES, configProperties, () -> presenter.refresh(address));
     }
 
     void resetConfiguration(Form<ModelNode> form) {
+        String name = presenter.getResourceAdapter();
         Metadata metadata = mbuiContext.metadataRegistry().lookup(RESOURCE_ADAPTER_TEMPLATE);
         ResourceAddress address = SELECTED_RESOURCE_ADAPTER_TEMPLATE.resolve(selectionAwareStatementContext);
-        mbuiContext.crud().reset(Names.RESOURCE_ADAPTER, presenter.getResourceAdapter(), address, form, metadata,
-                new FinishReset<ModelNode>(form) {
-                    @Override
-                    public void afterReset(Form<ModelNode> form) {
-                        presenter.reload();
-                    }
+        mbuiContext.crud().resetAndRefresh(Names.RESOURCE_ADAPTER, name, address, form, metadata,
+                mbuiContext.resources().messages().resetResourceSuccess(Names.RESOURCE_ADAPTER, name),
+                (a, resource) -> {
+                    form.reset();
+                    presenter.refresh(a, resource);
                 });
     }
 
@@ -145,7 +144,9 @@ public abstract class ResourceAdapterView extends MbuiViewImpl<ResourceAdapterPr
                 Names.CONNECTION_DEFINITION, metadata, (name, modelNode) -> {
             ResourceAddress address = SELECTED_CONNECTION_DEFINITIONS_TEMPLATE
                     .resolve(selectionAwareStatementContext, name);
-            mbuiContext.crud().add(Names.CONNECTION_DEFINITION, name, address, modelNode, (n, a) -> presenter.reload());
+            mbuiContext.crud().addAndRefresh(name, address, modelNode,
+                    mbuiContext.resources().messages().addResourceSuccess(Names.CONNECTION_DEFINITION, name),
+                    presenter::refresh);
         });
         dialog.show();
     }
@@ -159,7 +160,7 @@ public abstract class ResourceAdapterView extends MbuiViewImpl<ResourceAdapterPr
                 ? form.<Map<String, String>>getFormItem(CONFIG_PROPERTIES).getValue()
                 : Collections.emptyMap();
         mbuiContext.po().saveWithProperties(Names.CONNECTION_DEFINITION, name, address, changedValues, metadata,
-                CONFIG_PROPERTIES, properties, () -> presenter.reload());
+                CONFIG_PROPERTIES, properties, () -> presenter.refresh(address));
     }
 
     void resetConnectionDefinition(Form<NamedNode> form) {
@@ -167,21 +168,20 @@ public abstract class ResourceAdapterView extends MbuiViewImpl<ResourceAdapterPr
         ResourceAddress address = SELECTED_CONNECTION_DEFINITIONS_TEMPLATE.resolve(selectionAwareStatementContext,
                 name);
         Metadata metadata = mbuiContext.metadataRegistry().lookup(CONNECTION_DEFINITIONS_TEMPLATE);
-        mbuiContext.crud().reset(Names.CONNECTION_DEFINITION, name, address, form, metadata,
-                new FinishReset<NamedNode>(form) {
-                    @Override
-                    public void afterReset(Form<NamedNode> form) {
-                        presenter.reload();
-                    }
+        mbuiContext.crud().resetAndRefresh(Names.CONNECTION_DEFINITION, name, address, form, metadata,
+                mbuiContext.resources().messages().resetResourceSuccess(Names.CONNECTION_DEFINITION, name),
+                (a, resource) -> {
+                    form.reset();
+                    presenter.refresh(a, resource);
                 });
     }
 
     void removeConnectionDefinition(Table<NamedNode> table) {
         //noinspection ConstantConditions
         String name = table.selectedRow().getName();
-        mbuiContext.crud().remove(Names.CONNECTION_DEFINITION, name,
+        mbuiContext.crud().removeAndRefresh(Names.CONNECTION_DEFINITION, name,
                 SELECTED_CONNECTION_DEFINITIONS_TEMPLATE.resolve(selectionAwareStatementContext, name),
-                () -> presenter.reload());
+                presenter::refresh);
     }
 
     void addAdminObject() {
@@ -189,7 +189,9 @@ public abstract class ResourceAdapterView extends MbuiViewImpl<ResourceAdapterPr
         AddResourceDialog dialog = new AddResourceDialog(Ids.RESOURCE_ADAPTER_ADMIN_OBJECT_ADD,
                 Names.ADMIN_OBJECT, metadata, (name, modelNode) -> {
             ResourceAddress address = SELECTED_ADMIN_OBJECTS_TEMPLATE.resolve(selectionAwareStatementContext, name);
-            mbuiContext.crud().add(Names.ADMIN_OBJECT, name, address, modelNode, (n, a) -> presenter.reload());
+            mbuiContext.crud().addAndRefresh(name, address, modelNode,
+                    mbuiContext.resources().messages().addResourceSuccess(Names.ADMIN_OBJECT, name),
+                    presenter::refresh);
         });
         dialog.show();
     }
@@ -200,45 +202,57 @@ public abstract class ResourceAdapterView extends MbuiViewImpl<ResourceAdapterPr
         Metadata metadata = mbuiContext.metadataRegistry().lookup(ADMIN_OBJECTS_TEMPLATE);
         mbuiContext.po().saveWithProperties(Names.ADMIN_OBJECT, name, address, changedValues, metadata,
                 CONFIG_PROPERTIES, form.<Map<String, String>>getFormItem(CONFIG_PROPERTIES).getValue(),
-                () -> presenter.reload());
+                () -> presenter.refresh(address));
     }
 
     void resetAdminObject(Form<NamedNode> form) {
         String name = form.getModel().getName();
         ResourceAddress address = SELECTED_ADMIN_OBJECTS_TEMPLATE.resolve(selectionAwareStatementContext, name);
         Metadata metadata = mbuiContext.metadataRegistry().lookup(ADMIN_OBJECTS_TEMPLATE);
-        mbuiContext.crud().reset(Names.ADMIN_OBJECT, name, address, form, metadata,
-                new FinishReset<NamedNode>(form) {
-                    @Override
-                    public void afterReset(Form<NamedNode> form) {
-                        presenter.reload();
-                    }
+        mbuiContext.crud().resetAndRefresh(Names.ADMIN_OBJECT, name, address, form, metadata,
+                mbuiContext.resources().messages().resetResourceSuccess(Names.ADMIN_OBJECT, name),
+                (a, resource) -> {
+                    form.reset();
+                    presenter.refresh(a, resource);
                 });
     }
 
     void removeAdminObject(Table<NamedNode> table) {
         //noinspection ConstantConditions
         String name = table.selectedRow().getName();
-        mbuiContext.crud().remove(Names.ADMIN_OBJECT, name,
+        mbuiContext.crud().removeAndRefresh(Names.ADMIN_OBJECT, name,
                 SELECTED_ADMIN_OBJECTS_TEMPLATE.resolve(selectionAwareStatementContext, name),
-                () -> presenter.reload());
+                presenter::refresh);
     }
 
     @Override
     public void update(ResourceAdapter resourceAdapter) {
+        updateConfiguration(resourceAdapter);
+        updateConnectionDefinitions(resourceAdapter);
+        updateAdminObjects(resourceAdapter);
+    }
+
+    @Override
+    public void updateConfiguration(ResourceAdapter resourceAdapter) {
         configurationForm.view(resourceAdapter);
         Map<String, String> p = failSafePropertyList(resourceAdapter, CONFIG_PROPERTIES).stream()
                 .collect(toMap(Property::getName, property -> property.getValue().get(VALUE).asString()));
         configurationForm.getFormItem(CONFIG_PROPERTIES).setValue(p);
         updateMappings(resourceAdapter, WM_SECURITY_MAPPING_GROUPS);
         updateMappings(resourceAdapter, WM_SECURITY_MAPPING_USERS);
+    }
 
+    @Override
+    public void updateConnectionDefinitions(ResourceAdapter resourceAdapter) {
         connectionDefinitionsForm.clear();
         connectionDefinitionsForm.getFormItem(CONFIG_PROPERTIES).clearValue();
+        connectionDefinitionsTable.update(asNamedNodes(failSafePropertyList(resourceAdapter, CONNECTION_DEFINITIONS)));
+    }
+
+    @Override
+    public void updateAdminObjects(ResourceAdapter resourceAdapter) {
         adminObjectsForm.clear();
         adminObjectsForm.getFormItem(CONFIG_PROPERTIES).clearValue();
-
-        connectionDefinitionsTable.update(asNamedNodes(failSafePropertyList(resourceAdapter, CONNECTION_DEFINITIONS)));
         adminObjectsTable.update(asNamedNodes(failSafePropertyList(resourceAdapter, ADMIN_OBJECTS)));
     }
 
@@ -27,9 +27,9 @@ import com.gwtplatform.mvp.client.annotations.NameToken;
 import com.gwtplatform.mvp.client.annotations.ProxyCodeSplit;
 import com.gwtplatform.mvp.client.proxy.ProxyPlace;
 import org.jboss.hal.ballroom.autocomplete.StaticAutoComplete;
-import org.jboss.hal.ballroom.dialog.DialogFactory;
 import org.jboss.hal.ballroom.form.Form;
 import org.jboss.hal.core.CrudOperations;
+import org.jboss.hal.core.RecursiveResult;
 import org.jboss.hal.core.finder.Finder;
 import org.jboss.hal.core.finder.FinderPath;
 import org.jboss.hal.core.finder.FinderPathFactory;
@@ -41,9 +41,7 @@ import org.jboss.hal.core.mbui.form.ModelNodeForm;
 import org.jboss.hal.core.mvp.SupportsExpertMode;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.NamedNode;
-import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.ResourceAddress;
-import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.dmr.dispatch.ResponseHeader;
 import org.jboss.hal.meta.Metadata;
 import org.jboss.hal.meta.MetadataRegistry;
@@ -52,8 +50,6 @@ import org.jboss.hal.meta.token.NameTokens;
 import org.jboss.hal.resources.Ids;
 import org.jboss.hal.resources.Names;
 import org.jboss.hal.resources.Resources;
-import org.jboss.hal.spi.Message;
-import org.jboss.hal.spi.MessageEvent;
 import org.jboss.hal.spi.Requires;
 
 import static java.util.stream.Collectors.toList;
@@ -61,7 +57,6 @@ import static org.jboss.hal.client.configuration.subsystem.undertow.AddressTempl
 import static org.jboss.hal.client.configuration.subsystem.undertow.AddressTemplates.FILTER_TEMPLATE;
 import static org.jboss.hal.client.configuration.subsystem.undertow.AddressTemplates.RESPONSE_HEADER_TEMPLATE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.HEADER_NAME;
-import static org.jboss.hal.dmr.ModelDescriptionConstants.REMOVE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.UNDERTOW;
 
 public class FilterPresenter
@@ -69,11 +64,11 @@ public class FilterPresenter
         implements SupportsExpertMode {
 
     private final CrudOperations crud;
-    private final Dispatcher dispatcher;
     private final FinderPathFactory finderPathFactory;
     private final MetadataRegistry metadataRegistry;
     private final StatementContext statementContext;
     private final Resources resources;
+    private RecursiveResult filters;
 
     @Inject
     public FilterPresenter(EventBus eventBus,
@@ -81,14 +76,12 @@ public class FilterPresenter
             FilterPresenter.MyProxy proxy,
             Finder finder,
             CrudOperations crud,
-            Dispatcher dispatcher,
             FinderPathFactory finderPathFactory,
             MetadataRegistry metadataRegistry,
             StatementContext statementContext,
             Resources resources) {
         super(eventBus, view, proxy, finder);
         this.crud = crud;
-        this.dispatcher = dispatcher;
         this.finderPathFactory = finderPathFactory;
         this.metadataRegistry = metadataRegistry;
         this.statementContext = statementContext;
@@ -115,7 +108,12 @@ public class FilterPresenter
 
     @Override
     protected void reload() {
-        crud.readRecursive(FILTER_TEMPLATE, result -> getView().update(result));
+        ResourceAddress address = FILTER_TEMPLATE.resolve(statementContext);
+        crud.readRecursive(address, result -> {
+            filters = new RecursiveResult(address);
+            filters.set(result);
+            getView().update(result);
+        });
     }
 
     void addResponseHeader() {
@@ -136,45 +134,41 @@ public class FilterPresenter
                     //noinspection ConstantConditions
                     SafeHtml successMessage = resources.messages()
                             .addResourceSuccess(Names.RESPONSE_HEADER, model.get(HEADER_NAME).asString());
-                    crud.add(name, RESPONSE_HEADER_TEMPLATE, model, successMessage, (n, a) -> reload());
+                    crud.addAndRefresh(name, RESPONSE_HEADER_TEMPLATE.resolve(statementContext, name), model,
+                            successMessage, this::refreshResponseHeader);
                 });
         dialog.show();
     }
 
     void saveResponseHeader(Form<NamedNode> form, Map<String, Object> changedValues) {
+        Metadata metadata = metadataRegistry.lookup(RESPONSE_HEADER_TEMPLATE);
+        ResourceAddress address = RESPONSE_HEADER_TEMPLATE.resolve(statementContext, form.getModel().getName());
         SafeHtml successMessage = resources.messages()
                 .modifyResourceSuccess(Names.RESPONSE_HEADER, form.getModel().get(HEADER_NAME).asString());
-        crud.save(form.getModel().getName(), RESPONSE_HEADER_TEMPLATE, changedValues, successMessage, this::reload);
+        crud.saveAndRefresh(address, changedValues, metadata, successMessage, this::refreshResponseHeader);
     }
 
     void resetResponseHeader(Form<NamedNode> form) {
         Metadata metadata = metadataRegistry.lookup(RESPONSE_HEADER_TEMPLATE);
+        ResourceAddress address = RESPONSE_HEADER_TEMPLATE.resolve(statementContext, form.getModel().getName());
         SafeHtml successMessage = resources.messages()
                 .resetResourceSuccess(Names.RESPONSE_HEADER, form.getModel().get(HEADER_NAME).asString());
-        crud.reset(Names.RESPONSE_HEADER, form.getModel().getName(), RESPONSE_HEADER_TEMPLATE, form, metadata,
-                successMessage, new Form.FinishReset<NamedNode>(form) {
-                    @Override
-                    public void afterReset(Form<NamedNode> form) {
-                        reload();
-                    }
+        crud.resetAndRefresh(Names.RESPONSE_HEADER, form.getModel().getName(), address, form, metadata,
+                successMessage, (a, resource) -> {
+                    form.reset();
+                    refreshResponseHeader(a, resource);
                 });
     }
 
     void removeResponseHeader(NamedNode responseHeader) {
         ResourceAddress address = RESPONSE_HEADER_TEMPLATE.resolve(statementContext, responseHeader.getName());
         String name = responseHeader.get(HEADER_NAME).asString();
+        crud.removeAndRefresh(Names.RESPONSE_HEADER, name, address, this::refreshResponseHeader);
+    }
 
-        DialogFactory.showConfirmation(
-                resources.messages().removeConfirmationTitle(Names.RESPONSE_HEADER),
-                resources.messages().removeConfirmationQuestion(name),
-                () -> {
-                    Operation operation = new Operation.Builder(address, REMOVE).build();
-                    dispatcher.execute(operation, result -> {
-                        MessageEvent.fire(getEventBus(), Message.success(
-                                resources.messages().removeResourceSuccess(Names.RESPONSE_HEADER, name)));
-                        reload();
-                    });
-                });
+    private void refreshResponseHeader(ResourceAddress address, ModelNode resource) {
+        filters.patch(address, resource);
+        getView().updateResponseHeader(filters.get());
     }
 
 
@@ -187,6 +181,8 @@ public class FilterPresenter
 
     public interface MyView extends MbuiView<FilterPresenter> {
         void update(ModelNode payload);
+
+        void updateResponseHeader(ModelNode payload);
     }
     // @formatter:on
 }
@@ -174,6 +174,12 @@ public abstract class FilterView extends MbuiViewImpl<FilterPresenter>
         rewriteTable.update(asNamedNodes(failSafePropertyList(modelNode, "rewrite")));
     }
 
+    @Override
+    public void updateResponseHeader(final ModelNode modelNode) {
+        responseHeaderForm.clear();
+        responseHeaderTable.update(asNamedNodes(failSafePropertyList(modelNode, "response-header")));
+    }
+
     void noop() {
         // noop
     }
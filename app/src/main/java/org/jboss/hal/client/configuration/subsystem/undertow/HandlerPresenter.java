@@ -15,21 +15,30 @@
  */
 package org.jboss.hal.client.configuration.subsystem.undertow;
 
+import java.util.Map;
+
 import javax.inject.Inject;
 
 import com.google.web.bindery.event.shared.EventBus;
 import com.gwtplatform.mvp.client.annotations.NameToken;
 import com.gwtplatform.mvp.client.annotations.ProxyCodeSplit;
 import com.gwtplatform.mvp.client.proxy.ProxyPlace;
+import org.jboss.hal.ballroom.form.Form;
 import org.jboss.hal.core.CrudOperations;
+import org.jboss.hal.core.RecursiveResult;
 import org.jboss.hal.core.finder.Finder;
 import org.jboss.hal.core.finder.FinderPath;
 import org.jboss.hal.core.finder.FinderPathFactory;
 import org.jboss.hal.core.mbui.MbuiPresenter;
 import org.jboss.hal.core.mbui.MbuiView;
+import org.jboss.hal.core.mbui.dialog.AddResourceDialog;
 import org.jboss.hal.core.mvp.SupportsExpertMode;
 import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.NamedNode;
 import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.meta.AddressTemplate;
+import org.jboss.hal.meta.Metadata;
+import org.jboss.hal.meta.MetadataRegistry;
 import org.jboss.hal.meta.StatementContext;
 import org.jboss.hal.meta.token.NameTokens;
 import org.jboss.hal.resources.Ids;
@@ -47,8 +56,10 @@ public class HandlerPresenter
 
     private final CrudOperations crud;
     private final FinderPathFactory finderPathFactory;
+    private final MetadataRegistry metadataRegistry;
     private final StatementContext statementContext;
     private final Resources resources;
+    private RecursiveResult handlers;
 
     @Inject
     public HandlerPresenter(EventBus eventBus,
@@ -57,11 +68,13 @@ public class HandlerPresenter
             Finder finder,
             CrudOperations crud,
             FinderPathFactory finderPathFactory,
+            MetadataRegistry metadataRegistry,
             StatementContext statementContext,
             Resources resources) {
         super(eventBus, view, proxy, finder);
         this.crud = crud;
         this.finderPathFactory = finderPathFactory;
+        this.metadataRegistry = metadataRegistry;
         this.statementContext = statementContext;
         this.resources = resources;
     }
@@ -86,7 +99,56 @@ public class HandlerPresenter
 
     @Override
     protected void reload() {
-        crud.readRecursive(HANDLER_TEMPLATE, result -> getView().update(result));
+        ResourceAddress address = HANDLER_TEMPLATE.resolve(statementContext);
+        crud.readRecursive(address, result -> {
+            handlers = new RecursiveResult(address);
+            handlers.set(result);
+            getView().update(result);
+        });
+    }
+
+    /**
+     * @param type  the handler resource type ({@code file} or {@code reverse-proxy})
+     * @param title the human readable handler type
+     */
+    void addHandler(String type, String title) {
+        Metadata metadata = metadataRegistry.lookup(handlerTemplate(type));
+        AddResourceDialog dialog = new AddResourceDialog(Ids.build(UNDERTOW, type, Ids.ADD),
+                resources.messages().addResourceTitle(title), metadata,
+                (name, model) -> crud.addAndRefresh(name, handlerTemplate(type).resolve(statementContext, name),
+                        model, resources.messages().addResourceSuccess(title, name), this::refresh));
+        dialog.show();
+    }
+
+    void saveHandler(String type, String title, Form<NamedNode> form, Map<String, Object> changedValues) {
+        String name = form.getModel().getName();
+        Metadata metadata = metadataRegistry.lookup(handlerTemplate(type));
+        crud.saveAndRefresh(handlerTemplate(type).resolve(statementContext, name), changedValues, metadata,
+                resources.messages().modifyResourceSuccess(title, name), this::refresh);
+    }
+
+    void resetHandler(String type, String title, Form<NamedNode> form) {
+        String name = form.getModel().getName();
+        Metadata metadata = metadataRegistry.lookup(handlerTemplate(type));
+        crud.resetAndRefresh(title, name, handlerTemplate(type).resolve(statementContext, name), form, metadata,
+                resources.messages().resetResourceSuccess(title, name), (address, resource) -> {
+                    form.reset();
+                    refresh(address, resource);
+                });
+    }
+
+    void removeHandler(String type, String title, NamedNode handler) {
+        String name = handler.getName();
+        crud.removeAndRefresh(title, name, handlerTemplate(type).resolve(statementContext, name), this::refresh);
+    }
+
+    private AddressTemplate handlerTemplate(String type) {
+        return HANDLER_TEMPLATE.append(type + "=*");
+    }
+
+    private void refresh(ResourceAddress address, ModelNode resource) {
+        String type = handlers.patch(address, resource);
+        getView().updateHandler(type, handlers.get());
     }
 
 
@@ -99,6 +161,8 @@ public class HandlerPresenter
 
     public interface MyView extends MbuiView<HandlerPresenter> {
         void update(ModelNode payload);
+
+        void updateHandler(String type, ModelNode payload);
     }
     // @formatter:on
 }
@@ -106,11 +106,20 @@ public abstract class HandlerView extends MbuiViewImpl<HandlerPresenter>
 
     @Override
     public void update(final ModelNode modelNode) {
+        updateHandler("file", modelNode);
+        updateHandler("reverse-proxy", modelNode);
+    }
+
+    @Override
+    public void updateHandler(final String type, final ModelNode modelNode) {
         clearHostFields();
 
-        fileHandlerForm.clear();
-        fileHandlerTable.update(asNamedNodes(failSafePropertyList(modelNode, "file")));
-        reverseProxyForm.clear();
-        reverseProxyTable.update(asNamedNodes(failSafePropertyList(modelNode, "reverse-proxy")));
+        if ("file".equals(type)) {
+            fileHandlerForm.clear();
+            fileHandlerTable.update(asNamedNodes(failSafePropertyList(modelNode, "file")));
+        } else if ("reverse-proxy".equals(type)) {
+            reverseProxyForm.clear();
+            reverseProxyTable.update(asNamedNodes(failSafePropertyList(modelNode, "reverse-proxy")));
+        }
     }
 }
@@ -19,7 +19,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -37,13 +36,12 @@ import org.jboss.hal.ballroom.LabelBuilder;
 import org.jboss.hal.ballroom.autocomplete.ReadChildrenAutoComplete;
 import org.jboss.hal.ballroom.dialog.Dialog;
 import org.jboss.hal.ballroom.form.Form;
-import org.jboss.hal.ballroom.form.Form.FinishRemove;
-import org.jboss.hal.ballroom.form.Form.FinishReset;
 import org.jboss.hal.ballroom.form.TextBoxItem;
 import org.jboss.hal.client.shared.sslwizard.EnableSSLPresenter;
 import org.jboss.hal.client.shared.sslwizard.EnableSSLWizard;
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.core.CrudOperations;
+import org.jboss.hal.core.RecursiveResult;
 import org.jboss.hal.core.SuccessfulOutcome;
 import org.jboss.hal.core.finder.Finder;
 import org.jboss.hal.core.finder.FinderPath;
@@ -109,6 +107,7 @@ public class ServerPresenter
     private String serverName;
     private String hostName;
     private String locationName;
+    private RecursiveResult server;
 
     @Inject
     public ServerPresenter(
@@ -178,27 +177,45 @@ public class ServerPresenter
 
     @Override
     protected void reload() {
-        reload(result -> getView().update(result));
+        ResourceAddress address = SELECTED_SERVER_TEMPLATE.resolve(statementContext);
+        crud.readRecursive(address, result -> {
+            server = new RecursiveResult(address);
+            server.set(result);
+            getView().update(result);
+        });
     }
 
-    private void reload(Consumer<ModelNode> payload) {
-        crud.readRecursive(SELECTED_SERVER_TEMPLATE.resolve(statementContext), payload::accept);
+    /**
+     * Patches the added, modified or removed resource into the cached server and updates the part of the view which
+     * shows the resource.
+     */
+    private void refresh(ResourceAddress address, ModelNode resource) {
+        String childType = server.patch(address, resource);
+        if (childType == null) {
+            getView().updateConfiguration(server.get());
+        } else if (HOST.equals(childType)) {
+            getView().updateHost(server.get());
+        } else {
+            for (Listener listener : Listener.values()) {
+                if (listener.resource.equals(childType)) {
+                    getView().updateListener(listener, server.get());
+                }
+            }
+        }
     }
 
     void saveServer(Map<String, Object> changedValues) {
         Metadata metadata = metadataRegistry.lookup(SERVER_TEMPLATE);
-        crud.save(Names.SERVER, serverName, SELECTED_SERVER_TEMPLATE.resolve(statementContext), changedValues,
-                metadata, this::reload);
+        crud.saveAndRefresh(SELECTED_SERVER_TEMPLATE.resolve(statementContext), changedValues, metadata,
+                resources.messages().modifyResourceSuccess(Names.SERVER, serverName), this::refresh);
     }
 
     void resetServer(Form<ModelNode> form) {
         Metadata metadata = metadataRegistry.lookup(SERVER_TEMPLATE);
-        crud.reset(Names.SERVER, serverName, SELECTED_SERVER_TEMPLATE.resolve(statementContext), form, metadata,
-                new FinishReset<ModelNode>(form) {
-                    @Override
-                    public void afterReset(Form<ModelNode> form) {
-                        reload();
-                    }
+        crud.resetAndRefresh(Names.SERVER, serverName, SELECTED_SERVER_TEMPLATE.resolve(statementContext), form,
+                metadata, resources.messages().resetResourceSuccess(Names.SERVER, serverName), (address, resource) -> {
+                    form.reset();
+                    refresh(address, resource);
                 });
     }
 
@@ -212,7 +229,8 @@ public class ServerPresenter
                 (name, model) -> {
                     ResourceAddress address = SELECTED_SERVER_TEMPLATE.append(HOST + EQUALS + name)
                             .resolve(statementContext);
-                    crud.add(Names.HOST, name, address, model, (n, a) -> reload());
+                    crud.addAndRefresh(name, address, model,
+                            resources.messages().addResourceSuccess(Names.HOST, name), this::refresh);
                 });
         dialog.show();
 
@@ -221,23 +239,23 @@ public class ServerPresenter
     void saveHost(String name, Map<String, Object> changedValues) {
         ResourceAddress address = SELECTED_SERVER_TEMPLATE.append(HOST + EQUALS + name).resolve(statementContext);
         Metadata metadata = metadataRegistry.lookup(HOST_TEMPLATE);
-        crud.save(Names.HOST, name, address, changedValues, metadata, this::reload);
+        crud.saveAndRefresh(address, changedValues, metadata,
+                resources.messages().modifyResourceSuccess(Names.HOST, name), this::refresh);
     }
 
     void resetHost(String name, Form<NamedNode> form) {
         ResourceAddress address = SELECTED_SERVER_TEMPLATE.append(HOST + EQUALS + name).resolve(statementContext);
         Metadata metadata = metadataRegistry.lookup(HOST_TEMPLATE);
-        crud.reset(Names.HOST, name, address, form, metadata, new FinishReset<NamedNode>(form) {
-            @Override
-            public void afterReset(Form<NamedNode> form) {
-                reload();
-            }
-        });
+        crud.resetAndRefresh(Names.HOST, name, address, form, metadata,
+                resources.messages().resetResourceSuccess(Names.HOST, name), (a, resource) -> {
+                    form.reset();
+                    refresh(a, resource);
+                });
     }
 
     void removeHost(String name) {
         ResourceAddress address = SELECTED_SERVER_TEMPLATE.append(HOST + EQUALS + name).resolve(statementContext);
-        crud.remove(Names.HOST, name, address, this::reload);
+        crud.removeAndRefresh(Names.HOST, name, address, this::refresh);
     }
 
     void selectHost(String hostName) {
@@ -255,33 +273,32 @@ public class ServerPresenter
 
     void addHostSetting(HostSetting hostSetting) {
         ResourceAddress address = SELECTED_HOST_TEMPLATE.append(hostSetting.templateSuffix()).resolve(statementContext);
-        crud.addSingleton(hostSetting.type, address, null, a -> reload());
+        crud.addAndRefresh(null, address, null, resources.messages().addSingleResourceSuccess(hostSetting.type),
+                this::refresh);
     }
 
     void saveHostSetting(HostSetting hostSetting, Map<String, Object> changedValues) {
         ResourceAddress address = SELECTED_HOST_TEMPLATE.append(hostSetting.templateSuffix()).resolve(statementContext);
         Metadata metadata = metadataRegistry.lookup(HOST_TEMPLATE.append(hostSetting.templateSuffix()));
-        crud.saveSingleton(hostSetting.type, address, changedValues, metadata, this::reload);
+        crud.saveAndRefresh(address, changedValues, metadata,
+                resources.messages().modifySingleResourceSuccess(hostSetting.type), this::refresh);
     }
 
     void resetHostSetting(HostSetting hostSetting, Form<ModelNode> form) {
         ResourceAddress address = SELECTED_HOST_TEMPLATE.append(hostSetting.templateSuffix()).resolve(statementContext);
         Metadata metadata = metadataRegistry.lookup(HOST_TEMPLATE.append(hostSetting.templateSuffix()));
-        crud.resetSingleton(hostSetting.type, address, form, metadata, new FinishReset<ModelNode>(form) {
-            @Override
-            public void afterReset(Form<ModelNode> form) {
-                reload();
-            }
-        });
+        crud.resetAndRefresh(hostSetting.type, null, address, form, metadata,
+                resources.messages().resetSingletonSuccess(hostSetting.type), (a, resource) -> {
+                    form.reset();
+                    refresh(a, resource);
+                });
     }
 
     void removeHostSetting(HostSetting hostSetting, Form<ModelNode> form) {
         ResourceAddress address = SELECTED_HOST_TEMPLATE.append(hostSetting.templateSuffix()).resolve(statementContext);
-        crud.removeSingleton(hostSetting.type, address, new FinishRemove<ModelNode>(form) {
-            @Override
-            public void afterRemove(Form<ModelNode> form) {
-                reload();
-            }
+        crud.removeAndRefresh(hostSetting.type, null, address, (a, resource) -> {
+            form.remove();
+            refresh(a, resource);
         });
     }
 
@@ -305,7 +322,8 @@ public class ServerPresenter
                 (name, model) -> {
                     ResourceAddress address = SELECTED_HOST_TEMPLATE.append(FILTER_REF + EQUALS + name)
                             .resolve(statementContext);
-                    crud.add(Names.FILTER, name, address, model, (n, a) -> reloadFilterRef());
+                    crud.addAndRefresh(name, address, model,
+                            resources.messages().addResourceSuccess(Names.FILTER, name), this::refreshFilterRef);
                 });
         dialog.show();
     }
@@ -314,32 +332,30 @@ public class ServerPresenter
         String name = form.getModel().getName();
         ResourceAddress address = SELECTED_HOST_TEMPLATE.append(FILTER_REF + EQUALS + name).resolve(statementContext);
         Metadata metadata = metadataRegistry.lookup(FILTER_REF_TEMPLATE);
-        crud.save(Names.FILTER, name, address, changedValues, metadata, this::reloadFilterRef);
+        crud.saveAndRefresh(address, changedValues, metadata,
+                resources.messages().modifyResourceSuccess(Names.FILTER, name), this::refreshFilterRef);
     }
 
     void resetFilterRef(Form<NamedNode> form) {
         String name = form.getModel().getName();
         ResourceAddress address = SELECTED_HOST_TEMPLATE.append(FILTER_REF + EQUALS + name).resolve(statementContext);
         Metadata metadata = metadataRegistry.lookup(FILTER_REF_TEMPLATE);
-        crud.reset(Names.FILTER, name, address, form, metadata, new FinishReset<NamedNode>(form) {
-            @Override
-            public void afterReset(Form<NamedNode> form) {
-                reloadFilterRef();
-            }
-        });
+        crud.resetAndRefresh(Names.FILTER, name, address, form, metadata,
+                resources.messages().resetResourceSuccess(Names.FILTER, name), (a, resource) -> {
+                    form.reset();
+                    refreshFilterRef(a, resource);
+                });
     }
 
     void removeFilterRef(String name) {
         ResourceAddress address = SELECTED_HOST_TEMPLATE.append(FILTER_REF + EQUALS + name).resolve(statementContext);
-        crud.remove(Names.FILTER, name, address, this::reloadFilterRef);
+        crud.removeAndRefresh(Names.FILTER, name, address, this::refreshFilterRef);
     }
 
-    private void reloadFilterRef() {
-        reload(modelNode -> {
-            getView().update(modelNode);
-            getView().updateFilterRef(
-                    asNamedNodes(failSafePropertyList(modelNode, String.join("/", HOST, hostName, FILTER_REF))));
-        });
+    private void refreshFilterRef(ResourceAddress address, ModelNode resource) {
+        refresh(address, resource);
+        getView().updateFilterRef(
+                asNamedNodes(failSafePropertyList(server.get(), String.join("/", HOST, hostName, FILTER_REF))));
     }
 
     // ------------------------------------------------------ host location
@@ -363,7 +379,8 @@ public class ServerPresenter
                     ResourceAddress address = SELECTED_HOST_TEMPLATE
                             .append(LOCATION + EQUALS + encodeValue(name))
                             .resolve(statementContext);
-                    crud.add(Names.LOCATION, name, address, model, (n, a) -> reloadLocation());
+                    crud.addAndRefresh(name, address, model,
+                            resources.messages().addResourceSuccess(Names.LOCATION, name), this::refreshLocation);
                 });
         dialog.show();
     }
@@ -374,7 +391,8 @@ public class ServerPresenter
                 .append(LOCATION + EQUALS + encodeValue(name))
                 .resolve(statementContext);
         Metadata metadata = metadataRegistry.lookup(LOCATION_TEMPLATE);
-        crud.save(Names.LOCATION, name, address, changedValues, metadata, this::reloadLocation);
+        crud.saveAndRefresh(address, changedValues, metadata,
+                resources.messages().modifyResourceSuccess(Names.LOCATION, name), this::refreshLocation);
     }
 
     void resetLocation(Form<NamedNode> form) {
@@ -383,27 +401,24 @@ public class ServerPresenter
                 .append(LOCATION + EQUALS + encodeValue(name))
                 .resolve(statementContext);
         Metadata metadata = metadataRegistry.lookup(LOCATION_TEMPLATE);
-        crud.reset(Names.LOCATION, name, address, form, metadata, new FinishReset<NamedNode>(form) {
-            @Override
-            public void afterReset(Form<NamedNode> form) {
-                reloadLocation();
-            }
-        });
+        crud.resetAndRefresh(Names.LOCATION, name, address, form, metadata,
+                resources.messages().resetResourceSuccess(Names.LOCATION, name), (a, resource) -> {
+                    form.reset();
+                    refreshLocation(a, resource);
+                });
     }
 
     void removeLocation(String name) {
         ResourceAddress address = SELECTED_HOST_TEMPLATE
                 .append(LOCATION + EQUALS + encodeValue(name))
                 .resolve(statementContext);
-        crud.remove(Names.FILTER, name, address, this::reloadLocation);
+        crud.removeAndRefresh(Names.FILTER, name, address, this::refreshLocation);
     }
 
-    private void reloadLocation() {
-        reload(modelNode -> {
-            getView().update(modelNode);
-            getView().updateLocation(asNamedNodes(failSafePropertyList(modelNode,
-                    String.join("/", HOST, hostName, LOCATION))));
-        });
+    private void refreshLocation(ResourceAddress address, ModelNode resource) {
+        refresh(address, resource);
+        getView().updateLocation(asNamedNodes(failSafePropertyList(server.get(),
+                String.join("/", HOST, hostName, LOCATION))));
     }
 
     private void selectLocation(String locationName) {
@@ -437,7 +452,9 @@ public class ServerPresenter
                             .append(LOCATION + EQUALS + encodeValue(locationName))
                             .append(FILTER_REF + EQUALS + name)
                             .resolve(statementContext);
-                    crud.add(Names.FILTER, name, address, model, (n, a) -> reloadLocationFilterRef());
+                    crud.addAndRefresh(name, address, model,
+                            resources.messages().addResourceSuccess(Names.FILTER, name),
+                            this::refreshLocationFilterRef);
                 });
         dialog.show();
     }
@@ -449,7 +466,8 @@ public class ServerPresenter
                 .append(FILTER_REF + EQUALS + name)
                 .resolve(statementContext);
         Metadata metadata = metadataRegistry.lookup(LOCATION_FILTER_REF_TEMPLATE);
-        crud.save(Names.FILTER, name, address, changedValues, metadata, this::reloadLocationFilterRef);
+        crud.saveAndRefresh(address, changedValues, metadata,
+                resources.messages().modifyResourceSuccess(Names.FILTER, name), this::refreshLocationFilterRef);
 
     }
 
@@ -460,12 +478,11 @@ public class ServerPresenter
                 .append(FILTER_REF + EQUALS + name)
                 .resolve(statementContext);
         Metadata metadata = metadataRegistry.lookup(LOCATION_FILTER_REF_TEMPLATE);
-        crud.reset(Names.FILTER, name, address, form, metadata, new FinishReset<NamedNode>(form) {
-            @Override
-            public void afterReset(Form<NamedNode> form) {
-                reloadLocationFilterRef();
-            }
-        });
+        crud.resetAndRefresh(Names.FILTER, name, address, form, metadata,
+                resources.messages().resetResourceSuccess(Names.FILTER, name), (a, resource) -> {
+                    form.reset();
+                    refreshLocationFilterRef(a, resource);
+                });
 
     }
 
@@ -474,15 +491,13 @@ public class ServerPresenter
                 .append(LOCATION + EQUALS + encodeValue(locationName))
                 .append(FILTER_REF + EQUALS + name)
                 .resolve(statementContext);
-        crud.remove(Names.FILTER, name, address, this::reloadLocationFilterRef);
+        crud.removeAndRefresh(Names.FILTER, name, address, this::refreshLocationFilterRef);
     }
 
-    private void reloadLocationFilterRef() {
-        reload(modelNode -> {
-            getView().update(modelNode);
-            getView().updateLocationFilterRef(asNamedNodes(failSafePropertyList(modelNode,
-                    String.join("/", HOST, hostName, LOCATION, encodeValue(locationName), FILTER_REF))));
-        });
+    private void refreshLocationFilterRef(ResourceAddress address, ModelNode resource) {
+        refresh(address, resource);
+        getView().updateLocationFilterRef(asNamedNodes(failSafePropertyList(server.get(),
+                String.join("/", HOST, hostName, LOCATION, encodeValue(locationName), FILTER_REF))));
     }
 
     // ------------------------------------------------------ listener
@@ -494,7 +509,8 @@ public class ServerPresenter
                 (name, model) -> {
                     ResourceAddress address = SELECTED_SERVER_TEMPLATE.append(listenerType.resource + EQUALS + name)
                             .resolve(statementContext);
-                    crud.add(listenerType.type, name, address, model, (n, a) -> reload());
+                    crud.addAndRefresh(name, address, model,
+                            resources.messages().addResourceSuccess(listenerType.type, name), this::refresh);
                 });
         dialog.show();
     }
@@ -503,25 +519,25 @@ public class ServerPresenter
         ResourceAddress address = SELECTED_SERVER_TEMPLATE.append(listenerType.resource + EQUALS + name)
                 .resolve(statementContext);
         Metadata metadata = metadataRegistry.lookup(SERVER_TEMPLATE.append(listenerType.resource + EQ_WILDCARD));
-        crud.save(listenerType.type, name, address, changedValues, metadata, this::reload);
+        crud.saveAndRefresh(address, changedValues, metadata,
+                resources.messages().modifyResourceSuccess(listenerType.type, name), this::refresh);
     }
 
     void resetListener(Listener listenerType, String name, Form<NamedNode> form) {
         ResourceAddress address = SELECTED_SERVER_TEMPLATE.append(listenerType.resource + EQUALS + name)
                 .resolve(statementContext);
         Metadata metadata = metadataRegistry.lookup(SERVER_TEMPLATE.append(listenerType.resource + EQ_WILDCARD));
-        crud.reset(listenerType.type, name, address, form, metadata, new FinishReset<NamedNode>(form) {
-            @Override
-            public void afterReset(Form<NamedNode> form) {
-                reload();
-            }
-        });
+        crud.resetAndRefresh(listenerType.type, name, address, form, metadata,
+                resources.messages().resetResourceSuccess(listenerType.type, name), (a, resource) -> {
+                    form.reset();
+                    refresh(a, resource);
+                });
     }
 
     void removeListener(Listener listenerType, String name) {
         ResourceAddress address = SELECTED_SERVER_TEMPLATE.append(listenerType.resource + EQUALS + name)
                 .resolve(statementContext);
-        crud.remove(listenerType.type, name, address, this::reload);
+        crud.removeAndRefresh(listenerType.type, name, address, this::refresh);
     }
 
     // ------------------------------------------------------ enable / disable ssl context
@@ -598,7 +614,7 @@ public class ServerPresenter
                         dispatcher.execute(composite, (CompositeResult result) -> {
                             MessageEvent.fire(getEventBus(),
                                     Message.success(resources.messages().disableSSLUndertowSuccess(httpsListener)));
-                            reload();
+                            crud.readRecursive(httpsAddress, resource -> refresh(httpsAddress, resource));
                         }, (operation, failure) -> {
                             MessageEvent.fire(getEventBus(),
                                     Message.error(
@@ -663,6 +679,9 @@ public class ServerPresenter
 
     public interface MyView extends HalView, HasPresenter<ServerPresenter> {
         void update(ModelNode payload);
+        void updateConfiguration(ModelNode payload);
+        void updateHost(ModelNode payload);
+        void updateListener(Listener listener, ModelNode payload);
         void updateFilterRef(List<NamedNode> filters);
         void updateLocation(List<NamedNode> locations);
         void updateLocationFilterRef(List<NamedNode> filters);
@@ -297,16 +297,27 @@ public class ServerView extends HalViewImpl implements ServerPresenter.MyView {
 
     @Override
     public void update(ModelNode payload) {
+        updateConfiguration(payload);
+        updateHost(payload);
+        listener.keySet().forEach(l -> updateListener(l, payload));
+    }
+
+    @Override
+    public void updateConfiguration(ModelNode payload) {
         configurationForm.view(payload);
+    }
 
+    @Override
+    public void updateHost(ModelNode payload) {
         hostForm.clear();
         hostTable.update(asNamedNodes(failSafePropertyList(payload, HOST)));
+    }
 
-        listener.forEach((l, e) -> {
-            List<NamedNode> items = asNamedNodes(failSafePropertyList(payload, l.resource));
-            e.update(items);
-            navigation.updateBadge(Ids.build(l.baseId, Ids.ITEM), items.size());
-        });
+    @Override
+    public void updateListener(Listener l, ModelNode payload) {
+        List<NamedNode> items = asNamedNodes(failSafePropertyList(payload, l.resource));
+        listener.get(l).update(items);
+        navigation.updateBadge(Ids.build(l.baseId, Ids.ITEM), items.size());
     }
 
     @Override
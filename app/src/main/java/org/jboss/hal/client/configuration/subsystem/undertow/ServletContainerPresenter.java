@@ -25,10 +25,10 @@ import com.gwtplatform.mvp.client.annotations.ProxyCodeSplit;
 import com.gwtplatform.mvp.client.proxy.ProxyPlace;
 import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
 import org.jboss.hal.ballroom.form.Form;
-import org.jboss.hal.ballroom.form.Form.FinishRemove;
 import org.jboss.hal.ballroom.form.Form.FinishReset;
 import org.jboss.hal.core.CrudOperations;
 import org.jboss.hal.core.PropertiesOperations;
+import org.jboss.hal.core.RecursiveResult;
 import org.jboss.hal.core.finder.Finder;
 import org.jboss.hal.core.finder.FinderPath;
 import org.jboss.hal.core.finder.FinderPathFactory;
@@ -66,6 +66,7 @@ public class ServletContainerPresenter
     private final StatementContext statementContext;
     private final Resources resources;
     private String servletContainerName;
+    private RecursiveResult servletContainer;
 
     @Inject
     public ServletContainerPresenter(
@@ -116,28 +117,37 @@ public class ServletContainerPresenter
 
     @Override
     protected void reload() {
-        crud.readRecursive(SELECTED_SERVLET_CONTAINER_TEMPLATE.resolve(statementContext),
-                result -> getView().update(result));
+        ResourceAddress address = SELECTED_SERVLET_CONTAINER_TEMPLATE.resolve(statementContext);
+        crud.readRecursive(address, result -> {
+            servletContainer = new RecursiveResult(address);
+            servletContainer.set(result);
+            getView().update(result);
+        });
     }
 
     void saveServletContainer(Map<String, Object> changedValues) {
         Metadata metadata = metadataRegistry.lookup(SERVLET_CONTAINER_TEMPLATE);
-        crud.save(Names.SERVLET_CONTAINER, servletContainerName,
-                SELECTED_SERVLET_CONTAINER_TEMPLATE.resolve(statementContext), changedValues, metadata, this::reload);
+        crud.saveAndRefresh(SELECTED_SERVLET_CONTAINER_TEMPLATE.resolve(statementContext), changedValues, metadata,
+                resources.messages().modifyResourceSuccess(Names.SERVLET_CONTAINER, servletContainerName),
+                this::refreshServletContainer);
     }
 
     void resetServletContainer(Form<ModelNode> form) {
         Metadata metadata = metadataRegistry.lookup(SERVLET_CONTAINER_TEMPLATE);
-        crud.reset(Names.SERVLET_CONTAINER, servletContainerName,
+        crud.resetAndRefresh(Names.SERVLET_CONTAINER, servletContainerName,
                 SELECTED_SERVLET_CONTAINER_TEMPLATE.resolve(statementContext), form, metadata,
-                new FinishReset<ModelNode>(form) {
-                    @Override
-                    public void afterReset(Form<ModelNode> form) {
-                        reload();
-                    }
+                resources.messages().resetResourceSuccess(Names.SERVLET_CONTAINER, servletContainerName),
+                (address, resource) -> {
+                    form.reset();
+                    refreshServletContainer(address, resource);
                 });
     }
 
+    private void refreshServletContainer(ResourceAddress address, ModelNode resource) {
+        servletContainer.patch(address, resource);
+        getView().updateConfiguration(resource);
+    }
+
     void saveMimeMapping(Map<String, String> properties) {
         ResourceAddress address = SELECTED_SERVLET_CONTAINER_TEMPLATE.resolve(statementContext);
         Metadata metadata = metadataRegistry.lookup(SERVLET_CONTAINER_TEMPLATE);
@@ -178,32 +188,36 @@ public class ServletContainerPresenter
         ResourceAddress address = SELECTED_SERVLET_CONTAINER_TEMPLATE.append(settingType.templateSuffix())
                 .resolve(statementContext);
         Metadata metadata = metadataRegistry.lookup(SERVLET_CONTAINER_TEMPLATE.append(settingType.templateSuffix()));
-        crud.saveSingleton(settingType.type, address, changedValues, metadata, this::reload);
+        crud.saveAndRefresh(address, changedValues, metadata,
+                resources.messages().modifySingleResourceSuccess(settingType.type),
+                (a, resource) -> refreshSettings(settingType, a, resource));
     }
 
     void resetSettings(ServletContainerSetting settingType, Form<ModelNode> form) {
         ResourceAddress address = SELECTED_SERVLET_CONTAINER_TEMPLATE.append(settingType.templateSuffix())
                 .resolve(statementContext);
         Metadata metadata = metadataRegistry.lookup(SERVLET_CONTAINER_TEMPLATE.append(settingType.templateSuffix()));
-        crud.resetSingleton(settingType.type, address, form, metadata, new FinishReset<ModelNode>(form) {
-            @Override
-            public void afterReset(Form<ModelNode> form) {
-                reload();
-            }
-        });
+        crud.resetAndRefresh(settingType.type, null, address, form, metadata,
+                resources.messages().resetSingletonSuccess(settingType.type), (a, resource) -> {
+                    form.reset();
+                    refreshSettings(settingType, a, resource);
+                });
     }
 
     void removeSettings(ServletContainerSetting settingType, Form<ModelNode> form) {
         ResourceAddress address = SELECTED_SERVLET_CONTAINER_TEMPLATE.append(settingType.templateSuffix())
                 .resolve(statementContext);
-        crud.removeSingleton(settingType.type, address, new FinishRemove<ModelNode>(form) {
-            @Override
-            public void afterRemove(Form<ModelNode> form) {
-                reload();
-            }
+        crud.removeAndRefresh(settingType.type, null, address, (a, resource) -> {
+            form.remove();
+            servletContainer.patch(a, resource);
         });
     }
 
+    private void refreshSettings(ServletContainerSetting settingType, ResourceAddress address, ModelNode resource) {
+        servletContainer.patch(address, resource);
+        getView().updateSettings(settingType, resource);
+    }
+
     Operation pingSettings(ServletContainerSetting settingType) {
         ResourceAddress address = SELECTED_SERVLET_CONTAINER_TEMPLATE.append(settingType.templateSuffix())
                 .resolve(statementContext);
@@ -213,7 +227,8 @@ public class ServletContainerPresenter
     void addSettingsSingleton(ServletContainerSetting settingType) {
         ResourceAddress address = SELECTED_SERVLET_CONTAINER_TEMPLATE.append(settingType.templateSuffix())
                 .resolve(statementContext);
-        crud.addSingleton(settingType.type, address, null, a -> reload());
+        crud.addAndRefresh(null, address, null, resources.messages().addSingleResourceSuccess(settingType.type),
+                (a, resource) -> refreshSettings(settingType, a, resource));
     }
 
     // ------------------------------------------------------ getter
@@ -232,6 +247,10 @@ public class ServletContainerPresenter
 
     public interface MyView extends HalView, HasPresenter<ServletContainerPresenter> {
         void update(ModelNode payload);
+
+        void updateConfiguration(ModelNode payload);
+
+        void updateSettings(ServletContainerSetting settingType, ModelNode payload);
     }
     // @formatter:on
 }
@@ -187,4 +187,14 @@ public class ServletContainerView extends HalViewImpl implements ServletContaine
                 .collect(toList()));
         settings.forEach((settingType, form) -> form.view(failSafeGet(payload, settingType.path())));
     }
+
+    @Override
+    public void updateConfiguration(ModelNode payload) {
+        configurationForm.view(payload);
+    }
+
+    @Override
+    public void updateSettings(ServletContainerSetting settingType, ModelNode payload) {
+        settings.get(settingType).view(payload);
+    }
 }
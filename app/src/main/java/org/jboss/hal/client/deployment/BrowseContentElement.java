@@ -15,6 +15,8 @@
  */
 package org.jboss.hal.client.deployment;
 
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -22,7 +24,6 @@ import java.util.function.Consumer;
 import com.google.common.collect.Sets;
 import com.google.gwt.safehtml.shared.SafeHtmlUtils;
 import com.google.web.bindery.event.shared.EventBus;
-import elemental2.core.JsArray;
 import elemental2.dom.File;
 import elemental2.dom.File.ConstructorContentsArrayUnionType;
 import elemental2.dom.HTMLButtonElement;
@@ -33,6 +34,7 @@ import org.jboss.gwt.elemento.core.IsElement;
 import org.jboss.hal.ballroom.Attachable;
 import org.jboss.hal.ballroom.EmptyState;
 import org.jboss.hal.ballroom.Format;
+import org.jboss.hal.ballroom.JsCallback;
 import org.jboss.hal.ballroom.LabelBuilder;
 import org.jboss.hal.ballroom.Search;
 import org.jboss.hal.ballroom.dialog.Dialog;
@@ -43,6 +45,7 @@ import org.jboss.hal.ballroom.form.FileItem;
 import org.jboss.hal.ballroom.form.Form;
 import org.jboss.hal.ballroom.form.TextBoxItem;
 import org.jboss.hal.ballroom.form.ValidationResult;
+import org.jboss.hal.ballroom.tree.DataFunction.ResultCallback;
 import org.jboss.hal.ballroom.tree.Node;
 import org.jboss.hal.ballroom.tree.SelectionContext;
 import org.jboss.hal.ballroom.tree.Tree;
@@ -75,6 +78,7 @@ import static com.google.common.base.Strings.nullToEmpty;
 import static elemental2.dom.DomGlobal.window;
 import static java.lang.Math.max;
 import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
 import static org.jboss.gwt.elemento.core.Elements.i;
 import static org.jboss.gwt.elemento.core.Elements.*;
 import static org.jboss.gwt.elemento.core.EventType.click;
@@ -155,6 +159,7 @@ class BrowseContentElement implements IsElement, Attachable {
     private final HTMLElement root;
     private final Search treeSearch;
     private Tree<ContentEntry> tree;
+    private ContentParser parser;
     private final EmptyState pleaseSelect;
     private final EmptyState deploymentPreview;
     private final EmptyState explodedPreview;
@@ -189,7 +194,7 @@ class BrowseContentElement implements IsElement, Attachable {
         this.resources = resources;
         this.surroundingHeight = 0;
 
-        treeSearch = new Search.Builder(Ids.CONTENT_TREE_SEARCH, query -> tree.search(query))
+        treeSearch = new Search.Builder(Ids.CONTENT_TREE_SEARCH, this::search)
                 .onClear(() -> tree.clearSearch())
                 .build();
         treeSearch.element().classList.add(marginLeftSmall);
@@ -388,15 +393,37 @@ class BrowseContentElement implements IsElement, Attachable {
 
     private void refresh() {
         String selectedId = selectedId();
+        String selectedPath = selectedId != null && !selectedId.equals(Ids.CONTENT_TREE_ROOT)
+                ? tree.getSelected().data.path
+                : null;
         browseContent()
                 .andThen(awaitTreeReady())
                 .subscribe(() -> {
-                    if (selectedId != null) {
-                        tree.selectNode(selectedId);
+                    if (selectedPath != null) {
+                        reveal(selectedPath);
                     }
                 });
     }
 
+    private void search(String query) {
+        if (tree != null && parser != null) {
+            if (parser.isIndexed()) {
+                // open the directories containing the matches, so that the tree search can highlight them
+                open(parser.search(query).iterator(), () -> tree.search(query));
+            } else {
+                ResourceAddress address = new ResourceAddress().add(DEPLOYMENT, content.getName());
+                Operation operation = new Operation.Builder(address, BROWSE_CONTENT).build();
+                ContentParser p = parser;
+                dispatcher.execute(operation, result -> {
+                    p.index(result.isDefined() ? result.asList() : emptyList());
+                    if (p == parser) {
+                        search(query);
+                    }
+                });
+            }
+        }
+    }
+
 
     // ------------------------------------------------------ CRUD content methods
 
@@ -435,7 +462,7 @@ class BrowseContentElement implements IsElement, Attachable {
                     .subscribe(() -> {
                         MessageEvent.fire(eventBus,
                                 Message.success(resources.messages().newContentSuccess(content.getName(), path)));
-                        tree.selectNode(NODE_ID.apply(path));
+                        reveal(path);
                     });
         });
         targetPathItem.setValue(selectedPath());
@@ -490,7 +517,7 @@ class BrowseContentElement implements IsElement, Attachable {
                     .subscribe(() -> {
                         MessageEvent.fire(eventBus,
                                 Message.success(resources.messages().newContentSuccess(content.getName(), path)));
-                        tree.selectNode(NODE_ID.apply(path));
+                        reveal(path);
                     });
         });
 
@@ -508,35 +535,60 @@ class BrowseContentElement implements IsElement, Attachable {
     }
 
     private Completable browseContent() {
-        ResourceAddress address = new ResourceAddress().add(DEPLOYMENT, content.getName());
-        Operation operation = new Operation.Builder(address, BROWSE_CONTENT).build();
-        return dispatcher.execute(operation)
-                .doOnSuccess(result -> {
-                    String contentName = SafeHtmlUtils.htmlEscapeAllowEntities(content.getName());
-                    Node<ContentEntry> root = new Node.Builder<>(Ids.CONTENT_TREE_ROOT, contentName,
-                            new ContentEntry())
-                            .root()
-                            .folder()
-                            .open()
-                            .build();
-                    JsArray<Node<ContentEntry>> nodes = new JsArray<>();
-                    new ContentParser().parse(root, nodes, result.isDefined() ? result.asList() : emptyList());
-
-                    if (tree != null) {
-                        tree.destroy();
-                        tree = null;
-                    }
-                    tree = new Tree<>(Ids.CONTENT_TREE, nodes);
-                    Elements.removeChildrenFrom(treeContainer);
-                    treeContainer.appendChild(tree.element());
-                    tree.attach();
-                    tree.onSelectionChange((event, selectionContext) -> {
-                        if (!"ready".equals(selectionContext.action)) { //NON-NLS
-                            onNodeSelected(selectionContext);
-                        }
+        return Completable.fromAction(() -> {
+            String contentName = SafeHtmlUtils.htmlEscapeAllowEntities(content.getName());
+            Node<ContentEntry> root = new Node.Builder<>(Ids.CONTENT_TREE_ROOT, contentName, new ContentEntry())
+                    .root()
+                    .asyncFolder()
+                    .open()
+                    .build();
+            parser = new ContentParser();
+
+            if (tree != null) {
+                tree.destroy();
+                tree = null;
+            }
+            tree = new Tree<>(Ids.CONTENT_TREE, root, this::readDirectory);
+            Elements.removeChildrenFrom(treeContainer);
+            treeContainer.appendChild(tree.element());
+            tree.attach();
+            tree.onSelectionChange((event, selectionContext) -> {
+                if (!"ready".equals(selectionContext.action)) { //NON-NLS
+                    onNodeSelected(selectionContext);
+                }
+            });
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readDirectory(Node<ContentEntry> node, ResultCallback<ContentEntry> callback) {
+        ContentParser p = parser;
+        String path = Ids.CONTENT_TREE_ROOT.equals(node.id) ? "" : node.data.path;
+        if (p.contains(path)) {
+            callback.result(p.children(node.id, path));
+
+        } else {
+            ResourceAddress address = new ResourceAddress().add(DEPLOYMENT, content.getName());
+            Operation.Builder builder = new Operation.Builder(address, BROWSE_CONTENT);
+            if (!path.isEmpty()) {
+                builder.param(PATH, path);
+            }
+            Operation operation = builder.param(DEPTH, 1).build();
+            dispatcher.execute(operation,
+                    result -> {
+                        p.add(path, result.isDefined() ? result.asList() : emptyList());
+                        callback.result(p.children(node.id, path));
+                    },
+                    (op, failure) -> {
+                        callback.result(new Node[0]);
+                        MessageEvent.fire(eventBus, Message.error(resources.messages().lastOperationFailed(), failure));
+                    },
+                    (op, exception) -> {
+                        callback.result(new Node[0]);
+                        MessageEvent.fire(eventBus, Message.error(resources.messages().lastOperationFailed(),
+                                exception.getMessage()));
                     });
-                })
-                .toCompletable();
+        }
     }
 
     private void loadContent(ContentEntry contentEntry, Consumer<String> successCallback) {
@@ -573,7 +625,7 @@ class BrowseContentElement implements IsElement, Attachable {
                     .subscribe(() -> {
                         MessageEvent.fire(eventBus,
                                 Message.success(resources.messages().saveContentSuccess(content.getName(), filename)));
-                        tree.selectNode(selection.id);
+                        reveal(selection.data.path);
                     });
         }
     }
@@ -801,6 +853,32 @@ class BrowseContentElement implements IsElement, Attachable {
         return new File(new ConstructorContentsArrayUnionType[]{contents}, name);
     }
 
+    /** Opens the directories containing the specified path and selects the node of the path. */
+    private void reveal(String path) {
+        String normalized = path.startsWith("/") ? path.substring(1) : path;
+        List<String> ids = ContentParser.parentPaths(normalized).stream().map(NODE_ID).collect(toList());
+        open(ids.iterator(), () -> {
+            String id = NODE_ID.apply(normalized);
+            if (tree.getNode(id) == null && !normalized.endsWith("/")) {
+                id = NODE_ID.apply(normalized + "/");
+            }
+            tree.selectNode(id);
+        });
+    }
+
+    private void open(Iterator<String> ids, JsCallback callback) {
+        if (ids.hasNext()) {
+            String id = ids.next();
+            if (tree.getNode(id) != null) {
+                tree.openNode(id, () -> open(ids, callback));
+            } else {
+                open(ids, callback);
+            }
+        } else {
+            callback.execute();
+        }
+    }
+
     private Completable awaitTreeReady() {
         return Completable.fromEmitter(emitter -> tree.onReady((event, any) -> emitter.onCompleted()));
     }
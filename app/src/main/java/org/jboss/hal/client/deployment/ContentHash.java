@@ -0,0 +1,95 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.client.deployment;
+
+import elemental2.dom.File;
+import jsinterop.annotations.JsFunction;
+import rx.Single;
+
+/**
+ * Computes the SHA-1 hash of a file selected in the browser. The hash uses the same algorithm as the content repository
+ * of WildFly and can be compared with the {@code hash} of an existing deployment.
+ * <p>
+ * The file is read using a {@code FileReader} and hashed using {@code crypto.subtle.digest()}. Both APIs are
+ * asynchronous: reading and hashing happen off the main thread and don't block the UI even for large files. If the
+ * browser does not support the web crypto API (e.g. when the console is not served from a secure context), the hash is
+ * {@code null}.
+ * <p>
+ * {@code crypto.subtle.digest()} does not support incremental hashing, so the whole file is read into memory before
+ * it is hashed. To keep the memory footprint reasonable, files larger than {@value #MAX_SIZE} bytes are not hashed
+ * and the hash is {@code null}.
+ */
+final class ContentHash {
+
+    static final long MAX_SIZE = 100 * 1024 * 1024;
+
+    /**
+     * Returns the SHA-1 hash of the file as lowercase hex string or {@code null} if the hash cannot be computed or the
+     * file is larger than {@value #MAX_SIZE} bytes.
+     */
+    static Single<String> sha1(File file) {
+        if (file.size > MAX_SIZE) {
+            return Single.just(null);
+        }
+        return Single.fromEmitter(emitter -> digest(file, emitter::onSuccess));
+    }
+
+    /** Returns the lowercase hex representation of the specified bytes. */
+    static String hex(byte[] bytes) {
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            builder.append(Integer.toHexString((b & 0xff) | 0x100).substring(1));
+        }
+        return builder.toString();
+    }
+
+    private static native void digest(File file, HashCallback callback) /*-{
+        var crypto = $wnd.crypto || $wnd.msCrypto;
+        var subtle = crypto ? (crypto.subtle || crypto.webkitSubtle) : null;
+        if (!subtle || !$wnd.FileReader) {
+            callback(null);
+            return;
+        }
+        var reader = new $wnd.FileReader();
+        reader.onload = function () {
+            subtle.digest("SHA-1", reader.result).then(function (buffer) {
+                var bytes = new $wnd.Uint8Array(buffer);
+                var hex = "";
+                for (var i = 0; i < bytes.length; i++) {
+                    hex += ("0" + bytes[i].toString(16)).slice(-2);
+                }
+                callback(hex);
+            }, function () {
+                callback(null);
+            });
+        };
+        reader.onerror = function () {
+            callback(null);
+        };
+        reader.readAsArrayBuffer(file);
+    }-*/;
+
+    private ContentHash() {
+    }
+
+
+    @JsFunction
+    @FunctionalInterface
+    private interface HashCallback {
+
+        void onHash(String hash);
+    }
+}
@@ -15,66 +15,165 @@
  */
 package org.jboss.hal.client.deployment;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 
 import com.google.common.base.Splitter;
+import com.google.common.base.Strings;
 import com.google.common.collect.Iterables;
-import elemental2.core.JsArray;
 import org.jboss.hal.ballroom.tree.Node;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.resources.Ids;
 
+import static java.util.stream.Collectors.toList;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.PATH;
 import static org.jboss.hal.resources.CSS.fontAwesome;
 
+/**
+ * Turns the result of the {@code browse-content} operation into tree nodes. The content is read one directory at a
+ * time (using {@code depth=1}) when a directory is expanded. The parser keeps the content of the directories which
+ * have already been read, so that collapsing and expanding a directory doesn't read its content again.
+ * <p>
+ * For searching, the parser builds an index with the paths of all files and directories. The index is built from the
+ * complete content of the deployment, which is read only once when the content is searched for the first time. The
+ * index contains only strings and doesn't create any tree nodes. The IDs of the tree nodes are derived from the paths,
+ * so the index knows the IDs of the nodes which need to be opened to reveal a match.
+ */
 class ContentParser {
 
+    static final Function<String, String> NODE_ID = path -> Ids.build("bct", path, "node");
+
+    private static final int MAX_MATCHES = 100;
     private static final Comparator<ContentEntry> BY_NAME = Comparator.comparing(c -> c.name);
-    private static final Comparator<ContentEntry> BY_DEPTH = Comparator.comparingInt(c -> c.depth);
+    private static final Comparator<ContentEntry> DIRECTORIES_FIRST = Comparator.comparing(c -> !c.directory);
 
     private static final String DIRECTORY = "directory";
     private static final String FILE_SIZE = "file-size";
 
-    static final Function<String, String> NODE_ID = path -> Ids.build("bct", path, "node");
+    /** Returns the paths of the directories containing the specified path. Parents come before their children. */
+    static List<String> parentPaths(String path) {
+        List<String> parents = new ArrayList<>();
+        String parent = parentPath(path);
+        while (parent != null) {
+            parents.add(0, parent);
+            parent = parentPath(parent);
+        }
+        return parents;
+    }
+
+    /** Returns the path of the directory containing the specified path or {@code null} for top level entries. */
+    static String parentPath(String path) {
+        String p = path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+        int index = p.lastIndexOf('/');
+        if (index != -1) {
+            return p.substring(0, index + 1);
+        }
+        return null;
+    }
+
+    private final Map<String, List<ContentEntry>> directories;
+    private final List<String> index;
+    private boolean indexed;
+
+    ContentParser() {
+        directories = new HashMap<>();
+        index = new ArrayList<>();
+    }
+
+    /**
+     * Adds the content of a directory.
+     *
+     * @param path    the path of the directory or an empty string for the root directory
+     * @param content the result of {@code browse-content(path=<path>, depth=1)}. The paths of the entries are relative
+     *                to the directory.
+     */
+    void add(String path, List<ModelNode> content) {
+        directories.put(path, content.stream().map(node -> contentEntry(path, node)).collect(toList()));
+    }
 
+    /** Indexes the complete content of the deployment as returned by {@code browse-content}. */
+    void index(List<ModelNode> content) {
+        index.clear();
+        Map<String, List<ContentEntry>> entries = new HashMap<>();
+        entries.put("", new ArrayList<>());
+        for (ModelNode node : content) {
+            ContentEntry contentEntry = contentEntry("", node);
+            String parentPath = Strings.nullToEmpty(parentPath(contentEntry.path));
+            entries.computeIfAbsent(parentPath, p -> new ArrayList<>()).add(contentEntry);
+            if (contentEntry.directory) {
+                // empty directories are part of the content as well
+                entries.computeIfAbsent(contentEntry.path, p -> new ArrayList<>());
+            }
+            index.add(contentEntry.path);
+        }
+        directories.putAll(entries);
+        indexed = true;
+    }
+
+    boolean isIndexed() {
+        return indexed;
+    }
+
+    /** @return whether the content of the specified directory has already been read */
+    boolean contains(String path) {
+        return directories.containsKey(path);
+    }
+
+    /** Creates the tree nodes of the direct children of the specified directory. Directories come before files. */
     @SuppressWarnings("unchecked")
-    void parse(Node<ContentEntry> root, JsArray<Node<ContentEntry>> nodes, List<ModelNode> content) {
-        nodes.push(root);
-
-        Map<String, Node<ContentEntry>> nodesByPath = new HashMap<>();
-        content.stream()
-                .map(this::contentEntry)
-                .filter(contentEntry -> contentEntry.directory)
-                .sorted(BY_DEPTH.thenComparing(BY_NAME))
-                .forEach(directory -> {
-                    String parentPath = parentPath(directory);
-                    Node<ContentEntry> parent = parentPath == null ? root : nodesByPath.get(parentPath);
-
-                    if (parent != null) {
-                        Node<ContentEntry> node = pushFolder(nodes, parent, directory);
-                        nodesByPath.put(directory.path, node);
-                    }
-                });
-
-        content.stream()
-                .map(this::contentEntry)
-                .filter(contentEntry -> !contentEntry.directory)
-                .sorted(BY_NAME)
-                .forEach(file -> {
-                    String parentPath = parentPath(file);
-                    Node<ContentEntry> parent = parentPath == null ? root : nodesByPath.get(parentPath);
-                    if (parent != null) {
-                        pushEntry(nodes, parent, file);
+    Node<ContentEntry>[] children(String parentId, String path) {
+        List<ContentEntry> entries = directories.getOrDefault(path, Collections.emptyList()).stream()
+                .sorted(DIRECTORIES_FIRST.thenComparing(BY_NAME))
+                .collect(toList());
+        Node<ContentEntry>[] nodes = new Node[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            ContentEntry contentEntry = entries.get(i);
+            Node.Builder<ContentEntry> builder = new Node.Builder<>(NODE_ID.apply(contentEntry.path),
+                    contentEntry.name, contentEntry)
+                    .parent(parentId);
+            if (contentEntry.directory) {
+                builder.asyncFolder();
+            } else {
+                builder.icon(fontAwesome("file-text-o"));
+            }
+            nodes[i] = builder.build();
+        }
+        return nodes;
+    }
+
+    /**
+     * Searches the index for files and directories whose path contains the specified query (case insensitive).
+     *
+     * @return the paths of the directories which need to be opened in order to reveal the first {@value #MAX_MATCHES}
+     * matches. Parents come before their children.
+     */
+    List<String> search(String query) {
+        Set<String> paths = new LinkedHashSet<>();
+        if (!Strings.isNullOrEmpty(query)) {
+            String q = query.toLowerCase();
+            int matches = 0;
+            for (String path : index) {
+                if (path.toLowerCase().contains(q)) {
+                    paths.addAll(parentPaths(path));
+                    matches++;
+                    if (matches == MAX_MATCHES) {
+                        break;
                     }
-                });
+                }
+            }
+        }
+        return new ArrayList<>(paths);
     }
 
-    private ContentEntry contentEntry(ModelNode node) {
-        String path = node.get(PATH).asString();
+    private ContentEntry contentEntry(String parentPath, ModelNode node) {
+        String path = parentPath + node.get(PATH).asString();
         Iterable<String> segments = Splitter.on('/').omitEmptyStrings().split(path);
 
         ContentEntry contentEntry = new ContentEntry();
@@ -85,37 +184,4 @@ class ContentParser {
         contentEntry.fileSize = node.hasDefined(FILE_SIZE) ? node.get(FILE_SIZE).asLong() : 0;
         return contentEntry;
     }
-
-    @SuppressWarnings("unchecked")
-    private Node<ContentEntry> pushFolder(JsArray<Node<ContentEntry>> nodes, Node<ContentEntry> parent,
-            ContentEntry contentEntry) {
-        Node<ContentEntry> node = new Node.Builder<>(NODE_ID.apply(contentEntry.path), contentEntry.name, contentEntry)
-                .parent(parent.id)
-                .folder()
-                .build();
-        nodes.push(node);
-        return node;
-    }
-
-    @SuppressWarnings("unchecked")
-    private Node<ContentEntry> pushEntry(JsArray<Node<ContentEntry>> nodes, Node<ContentEntry> parent,
-            ContentEntry contentEntry) {
-        Node<ContentEntry> node = new Node.Builder<>(NODE_ID.apply(contentEntry.path), contentEntry.name, contentEntry)
-                .parent(parent.id)
-                .icon(fontAwesome("file-text-o"))
-                .build();
-        nodes.push(node);
-        return node;
-    }
-
-    private String parentPath(ContentEntry contentEntry) {
-        String path = contentEntry.path.endsWith("/")
-                ? contentEntry.path.substring(0, contentEntry.path.length() - 1)
-                : contentEntry.path;
-        int index = path.lastIndexOf('/');
-        if (index != -1) {
-            return path.substring(0, index + 1);
-        }
-        return null;
-    }
 }
@@ -20,7 +20,6 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import javax.inject.Provider;
 
@@ -41,6 +40,7 @@ import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.Property;
 import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.DispatchFailure;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.flow.FlowContext;
 import org.jboss.hal.flow.Outcome;
@@ -52,11 +52,11 @@ import org.jboss.hal.spi.MessageEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import rx.Completable;
+import rx.Single;
 
 import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
-import static java.util.stream.Collectors.toSet;
 import static org.jboss.hal.core.finder.FinderColumn.RefreshMode.RESTORE_SELECTION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
 import static org.jboss.hal.flow.Flow.series;
@@ -65,7 +65,10 @@ import static org.jboss.hal.flow.Flow.series;
 class DeploymentTasks {
 
     static final String SERVER_GROUP_DEPLOYMENTS = "deploymentFunctions.serverGroupDeployments";
+    static final String EXISTING_HASH = "deploymentFunctions.existingHash";
     private static final String UPLOAD_STATISTICS = "deploymentsFunctions.uploadStatistics";
+    /** Failure code of WildFly if a management resource was not found. */
+    private static final String WFLYCTL_0216 = "WFLYCTL0216";
     private static final Logger logger = LoggerFactory.getLogger(DeploymentTasks.class);
 
     /** Uploads or updates one or multiple deployment in standalone mode resp. content in domain mode. */
@@ -328,7 +331,9 @@ class DeploymentTasks {
 
     /**
      * Checks whether a deployment with the given name exists and pushes {@code 200} to the context stack if it exists,
-     * {@code 404} otherwise.
+     * {@code 404} otherwise. If the deployment exists and is managed, the hash of its content is stored in the context
+     * under the key {@link DeploymentTasks#EXISTING_HASH} (or {@code null} if there's no such hash). Other failures
+     * than a missing deployment (e.g. insufficient permissions) are reported as errors.
      */
     static class CheckDeployment implements Task<FlowContext> {
 
@@ -342,19 +347,33 @@ class DeploymentTasks {
 
         @Override
         public Completable call(FlowContext context) {
-            Operation operation = new Operation.Builder(ResourceAddress.root(), READ_CHILDREN_NAMES_OPERATION)
-                    .param(CHILD_TYPE, DEPLOYMENT)
-                    .build();
-            return dispatcher.execute(operation)
-                    .doOnSuccess(result -> {
-                        Set<String> names = result.asList().stream().map(ModelNode::asString).collect(toSet());
-                        if (names.contains(name)) {
-                            context.push(200);
-                        } else {
+            // read only the deployment in question instead of all deployments
+            ResourceAddress address = new ResourceAddress().add(DEPLOYMENT, name);
+            Operation operation = new Operation.Builder(address, READ_RESOURCE_OPERATION).build();
+            return Completable.fromEmitter(emitter -> dispatcher.execute(operation,
+                    deployment -> {
+                        byte[] hash = null;
+                        if (deployment.hasDefined(CONTENT) && !deployment.get(CONTENT).asList().isEmpty()) {
+                            ModelNode content = deployment.get(CONTENT).asList().get(0);
+                            if (content.hasDefined(HASH)) {
+                                hash = content.get(HASH).asBytes();
+                            }
+                        }
+                        context.push(200);
+                        context.set(EXISTING_HASH, hash);
+                        emitter.onCompleted();
+                    },
+                    (op, failure) -> {
+                        if (failure.contains(WFLYCTL_0216)) {
+                            // the deployment does not exist
                             context.push(404);
+                            context.set(EXISTING_HASH, null);
+                            emitter.onCompleted();
+                        } else {
+                            emitter.onError(new DispatchFailure(failure, op));
                         }
-                    })
-                    .toCompletable();
+                    },
+                    (op, exception) -> emitter.onError(exception)));
         }
     }
 
@@ -364,6 +383,10 @@ class DeploymentTasks {
      * If no status context or {@code 404} is found, a new deployment is created, if {@code 200} is found the deployment
      * is replaced.
      * <p>
+     * When replacing a deployment whose content hash was stored under {@link DeploymentTasks#EXISTING_HASH}, the
+     * SHA-1 of the file is computed in the browser first. If both hashes match, the deployment is replaced by
+     * referencing the existing content by its hash and the file is not uploaded at all.
+     * <p>
      * The function puts an {@link UploadStatistics} under the key {@link DeploymentTasks#UPLOAD_STATISTICS} into the
      * context.
      */
@@ -389,7 +412,6 @@ class DeploymentTasks {
         @Override
         public Completable call(FlowContext context) {
             boolean replace;
-            Operation.Builder builder;
 
             if (context.emptyStack()) {
                 replace = false;
@@ -398,11 +420,25 @@ class DeploymentTasks {
                 replace = status == 200;
             }
 
+            byte[] existingHash = context.get(EXISTING_HASH);
+            if (replace && existingHash != null) {
+                return ContentHash.sha1(file).flatMapCompletable(hash -> {
+                    if (ContentHash.hex(existingHash).equals(hash)) {
+                        logger.debug("Content of {} is unchanged (sha1 {}). Skip upload and replace by hash.",
+                                name, hash);
+                        return replaceByHash(context, existingHash);
+                    } else {
+                        return uploadOrReplace(context, true);
+                    }
+                });
+            }
+            return uploadOrReplace(context, replace);
+        }
+
+        private Completable uploadOrReplace(FlowContext context, boolean replace) {
+            Operation.Builder builder;
             if (replace) {
-                builder = new Operation.Builder(ResourceAddress.root(), FULL_REPLACE_DEPLOYMENT) //NON-NLS
-                        .param(NAME, name)
-                        .param(RUNTIME_NAME, runtimeName);
-                // leave "enabled" as undefined to indicate that the state of the existing deployment should be retained
+                builder = replaceBuilder();
             } else {
                 builder = new Operation.Builder(new ResourceAddress().add(DEPLOYMENT, name), ADD)
                         .param(RUNTIME_NAME, runtimeName)
@@ -412,14 +448,31 @@ class DeploymentTasks {
             Operation operation = builder.build();
             operation.get(CONTENT).add().get(INPUT_STREAM_INDEX).set(0); //NON-NLS
 
-            return dispatcher.upload(file, operation)
+            return record(context, dispatcher.upload(file, operation), ADD.equals(operation.getName()));
+        }
+
+        private Completable replaceByHash(FlowContext context, byte[] hash) {
+            Operation operation = replaceBuilder().build();
+            operation.get(CONTENT).add().get(HASH).set(hash);
+            return record(context, dispatcher.execute(operation), false);
+        }
+
+        private Operation.Builder replaceBuilder() {
+            // leave "enabled" as undefined to indicate that the state of the existing deployment should be retained
+            return new Operation.Builder(ResourceAddress.root(), FULL_REPLACE_DEPLOYMENT) //NON-NLS
+                    .param(NAME, name)
+                    .param(RUNTIME_NAME, runtimeName);
+        }
+
+        private Completable record(FlowContext context, Single<ModelNode> execution, boolean added) {
+            return execution
                     .doOnSuccess(result -> {
                         UploadStatistics statistics = context.get(UPLOAD_STATISTICS);
                         if (statistics == null) {
                             statistics = new UploadStatistics(environment);
                             context.set(UPLOAD_STATISTICS, statistics);
                         }
-                        if (ADD.equals(operation.getName())) {
+                        if (added) {
                             statistics.recordAdded(name);
                         } else {
                             statistics.recordReplaced(name);
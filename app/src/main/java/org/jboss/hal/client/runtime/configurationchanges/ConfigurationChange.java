@@ -35,9 +35,12 @@ class ConfigurationChange extends NamedNode {
     private final String operationNames;
     private final String addressSegments;
 
-    ConfigurationChange(ModelNode model) {
-        super(model.hasDefined(DOMAIN_UUID) ? model.get(DOMAIN_UUID).asString() : model.get(OPERATION_DATE).asString(),
-                model);
+    /**
+     * @param name  a key which identifies the change within the history of its host or server
+     * @param model an entry of {@code list-changes}
+     */
+    ConfigurationChange(String name, ModelNode model) {
+        super(name, model);
         this.date = failSafeDate(model, OPERATION_DATE);
 
         Set<String> operationNames = new HashSet<>();
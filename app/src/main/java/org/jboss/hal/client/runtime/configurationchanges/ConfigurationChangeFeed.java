@@ -0,0 +1,256 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.client.runtime.configurationchanges;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toList;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
+import static org.jboss.hal.dmr.ModelNodeHelper.failSafeDate;
+import static org.jboss.hal.meta.token.NameTokens.CONFIGURATION_CHANGES;
+
+/**
+ * Incremental feed of the configuration changes of one or several hosts and / or servers.
+ * <p>
+ * The feed remembers the newest operation date of each source and turns only newer entries of {@code list-changes}
+ * into {@link ConfigurationChange}s. Once a source is known to have the configuration changes service, the feed skips
+ * the check for the service and reads the changes of all sources using one composite operation. The changes are kept
+ * in an index ordered by operation date, newest first. If nothing changed since the last refresh, the feed returns the
+ * same list instance as before, so callers can skip the update of the view.
+ * <p>
+ * Changes are identified by their domain UUID. Changes without a domain UUID (standalone servers and changes made on
+ * a host or server directly) are identified by their operation date, the hash of their operations and the number of
+ * older entries with the same date and operations. So distinct changes with the same timestamp are kept.
+ * <p>
+ * Please note that {@code list-changes} has neither a parameter to return only newer changes nor is there an attribute
+ * to check for new changes up front. Every refresh transfers the complete history (at most {@code max-history}
+ * entries). The feed saves the parsing and rendering of known changes, not the bandwidth.
+ */
+class ConfigurationChangeFeed {
+
+    private final Dispatcher dispatcher;
+    private final Map<String, Source> sources;
+    private List<String> lastKeys;
+    private List<ConfigurationChange> lastChanges;
+
+    ConfigurationChangeFeed(Dispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+        this.sources = new HashMap<>();
+    }
+
+    /**
+     * Reads the changes of the specified sources.
+     *
+     * @param addresses  the addresses of the {@code core-management} subsystems
+     * @param changes    called with the changes of all sources which have the configuration changes service
+     * @param notEnabled called if none of the sources has the configuration changes service
+     */
+    void refresh(List<ResourceAddress> addresses, Consumer<List<ConfigurationChange>> changes, Runnable notEnabled) {
+        List<ResourceAddress> unknown = addresses.stream()
+                .filter(address -> !sources.containsKey(address.toString()))
+                .collect(toList());
+        if (unknown.isEmpty()) {
+            listChanges(addresses, changes, notEnabled, true);
+        } else {
+            List<Operation> operations = unknown.stream()
+                    .map(address -> new Operation.Builder(address, READ_CHILDREN_NAMES_OPERATION)
+                            .param(CHILD_TYPE, SERVICE)
+                            .build())
+                    .collect(toList());
+            execute(operations, results -> {
+                for (int i = 0; i < results.size(); i++) {
+                    boolean enabled = results.get(i).asList().stream()
+                            .anyMatch(service -> CONFIGURATION_CHANGES.equals(service.asString()));
+                    if (enabled) {
+                        sources.put(unknown.get(i).toString(), new Source());
+                    }
+                }
+                listChanges(addresses, changes, notEnabled, false);
+            }, null);
+        }
+    }
+
+    /** Forgets the changes of the specified source. */
+    void reset(ResourceAddress address) {
+        sources.remove(address.toString());
+        lastKeys = null;
+        lastChanges = null;
+    }
+
+    private void listChanges(List<ResourceAddress> addresses, Consumer<List<ConfigurationChange>> changes,
+            Runnable notEnabled, boolean retry) {
+        List<ResourceAddress> enabled = addresses.stream()
+                .filter(address -> sources.containsKey(address.toString()))
+                .collect(toList());
+        if (enabled.isEmpty()) {
+            notEnabled.run();
+            return;
+        }
+
+        List<String> keys = enabled.stream().map(ResourceAddress::toString).collect(toList());
+        List<Operation> operations = enabled.stream()
+                .map(address -> new Operation.Builder(
+                        new ResourceAddress(address).add(SERVICE, CONFIGURATION_CHANGES),
+                        LIST_CHANGES_OPERATION).build())
+                .collect(toList());
+        execute(operations, results -> {
+            boolean modified = !keys.equals(lastKeys);
+            for (int i = 0; i < results.size(); i++) {
+                modified |= sources.get(keys.get(i)).merge(results.get(i).asList());
+            }
+            if (modified) {
+                lastKeys = keys;
+                lastChanges = aggregate(keys);
+            }
+            changes.accept(lastChanges);
+        }, retry ? () -> {
+            // the service might have been removed in the meantime
+            keys.forEach(sources::remove);
+            lastKeys = null;
+            lastChanges = null;
+            refresh(addresses, changes, notEnabled);
+        } : null);
+    }
+
+    private List<ConfigurationChange> aggregate(List<String> keys) {
+        if (keys.size() == 1) {
+            return new ArrayList<>(sources.get(keys.get(0)).changes);
+        }
+        // changes of domain wide operations share the same domain UUID and are listed only once
+        Set<String> names = new HashSet<>();
+        List<ConfigurationChange> aggregated = new ArrayList<>();
+        for (String key : keys) {
+            for (ConfigurationChange change : sources.get(key).changes) {
+                if (!change.hasDefined(DOMAIN_UUID) || names.add(change.getName())) {
+                    aggregated.add(change);
+                }
+            }
+        }
+        aggregated.sort(comparing(Source::time).reversed());
+        return aggregated;
+    }
+
+    private void execute(List<Operation> operations, Consumer<List<ModelNode>> results, Runnable failed) {
+        if (operations.size() == 1) {
+            Consumer<ModelNode> success = result -> {
+                List<ModelNode> list = new ArrayList<>();
+                list.add(result);
+                results.accept(list);
+            };
+            if (failed != null) {
+                dispatcher.execute(operations.get(0), success, (operation, failure) -> failed.run());
+            } else {
+                dispatcher.execute(operations.get(0), success);
+            }
+        } else {
+            Consumer<CompositeResult> success = result -> results.accept(result.stream()
+                    .map(step -> step.get(RESULT))
+                    .collect(toList()));
+            if (failed != null) {
+                dispatcher.execute(new Composite(operations), success, (operation, failure) -> failed.run());
+            } else {
+                dispatcher.execute(new Composite(operations), success);
+            }
+        }
+    }
+
+
+    /** The changes of one host or server ordered by operation date, newest first. */
+    private static class Source {
+
+        private static long time(ConfigurationChange change) {
+            Date date = change.getOperationDate();
+            return date != null ? date.getTime() : 0;
+        }
+
+        private final List<ConfigurationChange> changes = new ArrayList<>();
+        private final Set<String> newestNames = new HashSet<>();
+        private long newest = -1;
+
+        /**
+         * Merges the entries of {@code list-changes} which are newer than the changes seen so far. Changes which are
+         * no longer part of the history on the server (due to {@code max-history}) are dropped.
+         *
+         * @return {@code true} if the changes were modified
+         */
+        private boolean merge(List<ModelNode> entries) {
+            List<ConfigurationChange> added = new ArrayList<>();
+            String[] names = names(entries);
+            for (int i = 0; i < entries.size(); i++) {
+                ModelNode entry = entries.get(i);
+                Date date = failSafeDate(entry, OPERATION_DATE);
+                long time = date != null ? date.getTime() : 0;
+                if (time > newest || (time == newest && !newestNames.contains(names[i]))) {
+                    added.add(new ConfigurationChange(names[i], entry));
+                }
+            }
+
+            boolean modified = !added.isEmpty();
+            if (modified) {
+                added.sort(comparing(Source::time).reversed());
+                changes.addAll(0, added);
+                long time = time(added.get(0));
+                if (time > newest) {
+                    newest = time;
+                    newestNames.clear();
+                }
+                for (ConfigurationChange change : added) {
+                    if (time(change) == newest) {
+                        newestNames.add(change.getName());
+                    }
+                }
+            }
+            if (changes.size() > entries.size()) {
+                changes.subList(entries.size(), changes.size()).clear();
+                modified = true;
+            }
+            return modified;
+        }
+
+        private String[] names(List<ModelNode> entries) {
+            String[] names = new String[entries.size()];
+            Map<String, Integer> occurrences = new HashMap<>();
+            // start with the oldest entry, so that the names of known changes stay the same when new changes are added
+            for (int i = entries.size() - 1; i >= 0; i--) {
+                ModelNode entry = entries.get(i);
+                if (entry.hasDefined(DOMAIN_UUID)) {
+                    names[i] = entry.get(DOMAIN_UUID).asString();
+                } else {
+                    String name = entry.get(OPERATION_DATE).asString() + "-" +
+                            Integer.toHexString(entry.get(OPERATIONS).toString().hashCode());
+                    int occurrence = occurrences.merge(name, 1, Integer::sum);
+                    names[i] = occurrence == 1 ? name : name + "-" + occurrence;
+                }
+            }
+            return names;
+        }
+    }
+}
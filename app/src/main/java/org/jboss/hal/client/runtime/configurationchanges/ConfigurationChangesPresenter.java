@@ -15,7 +15,7 @@
  */
 package org.jboss.hal.client.runtime.configurationchanges;
 
-import java.util.Optional;
+import java.util.List;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
@@ -57,6 +57,7 @@ import org.jboss.hal.resources.Resources;
 import org.jboss.hal.spi.Footer;
 import org.jboss.hal.spi.Requires;
 
+import static java.util.Collections.singletonList;
 import static org.jboss.gwt.elemento.core.Elements.div;
 import static org.jboss.gwt.elemento.core.Elements.pre;
 import static org.jboss.hal.ballroom.Skeleton.MARGIN_BIG;
@@ -87,6 +88,7 @@ public class ConfigurationChangesPresenter extends
 
     private final FinderPathFactory finderPathFactory;
     private final Dispatcher dispatcher;
+    private final ConfigurationChangeFeed feed;
     private Provider<Progress> progress;
     private MetadataProcessor metadataProcessor;
     private final StatementContext statementContext;
@@ -95,6 +97,7 @@ public class ConfigurationChangesPresenter extends
     private CrudOperations crud;
     private boolean hostOnly;
     private String profile;
+    private List<ConfigurationChange> changes;
 
     @Inject
     public ConfigurationChangesPresenter(EventBus eventBus,
@@ -113,6 +116,7 @@ public class ConfigurationChangesPresenter extends
         this.environment = environment;
         this.finderPathFactory = finderPathFactory;
         this.dispatcher = dispatcher;
+        this.feed = new ConfigurationChangeFeed(dispatcher);
         this.progress = progress;
         this.metadataProcessor = metadataProcessor;
         this.statementContext = statementContext;
@@ -140,6 +144,18 @@ public class ConfigurationChangesPresenter extends
 
     @Override
     protected void reload() {
+        feed.refresh(singletonList(coreManagementAddress()), result -> {
+            if (result != changes) {
+                changes = result;
+                getView().update(changes);
+            }
+        }, () -> {
+            changes = null;
+            getView().notEnabled();
+        });
+    }
+
+    private ResourceAddress coreManagementAddress() {
         AddressTemplate template;
         if (environment.isStandalone()) {
             template = CORE_MANAGEMENT_TEMPLATE;
@@ -150,26 +166,7 @@ public class ConfigurationChangesPresenter extends
                 template = AddressTemplate.of("/{selected.host}/{selected.server}/subsystem=core-management");
             }
         }
-        ResourceAddress coreAddress = template.resolve(statementContext);
-        Operation operation = new Operation.Builder(coreAddress, READ_CHILDREN_NAMES_OPERATION)
-                .param(CHILD_TYPE, SERVICE)
-                .build();
-        dispatcher.execute(operation, coreResult -> {
-            if (coreResult.asList().size() > 0) {
-                Optional<ModelNode> configurationChangesResult = coreResult.asList().stream()
-                        .filter(service -> service.asString().equals(CONFIGURATION_CHANGES)).findFirst();
-                if (configurationChangesResult.isPresent()) {
-                    ResourceAddress ccAddress = template.append("service=configuration-changes").resolve(statementContext);
-                    Operation ccOperation = new Operation.Builder(ccAddress, LIST_CHANGES_OPERATION)
-                            .build();
-                    dispatcher.execute(ccOperation, ccResult -> getView().update(ccResult));
-                } else {
-                    getView().update(new ModelNode());
-                }
-            } else {
-                getView().update(new ModelNode());
-            }
-        });
+        return template.resolve(statementContext);
     }
 
     void launchAdd() {
@@ -240,7 +237,11 @@ public class ConfigurationChangesPresenter extends
                     ResourceAddress address = template.resolve(statementContext);
                     Operation operation = new Operation.Builder(address, REMOVE)
                             .build();
-                    dispatcher.execute(operation, result -> getView().update(result));
+                    dispatcher.execute(operation, result -> {
+                        feed.reset(coreManagementAddress());
+                        changes = null;
+                        getView().notEnabled();
+                    });
                 });
     }
 
@@ -288,7 +289,9 @@ public class ConfigurationChangesPresenter extends
     }
 
     public interface MyView extends HalView, HasPresenter<ConfigurationChangesPresenter> {
-        void update(ModelNode model);
+        void update(List<ConfigurationChange> changes);
+
+        void notEnabled();
     }
     // @formatter:on
 }
@@ -24,7 +24,6 @@ import org.jboss.hal.ballroom.Toolbar;
 import org.jboss.hal.ballroom.dataprovider.DataProvider;
 import org.jboss.hal.core.mbui.listview.ModelNodeListView;
 import org.jboss.hal.core.mvp.HalViewImpl;
-import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.meta.Metadata;
 import org.jboss.hal.meta.MetadataRegistry;
 import org.jboss.hal.resources.Constants;
@@ -35,7 +34,6 @@ import org.jboss.hal.resources.Resources;
 
 import static java.util.Collections.emptyList;
 import static java.util.Comparator.comparing;
-import static java.util.stream.Collectors.toList;
 import static org.jboss.hal.client.runtime.configurationchanges.ConfigurationChangesPresenter.HOST_CONFIGURATION_CHANGES_TEMPLATE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
 import static org.jboss.hal.resources.Ids.CONFIGURATION_CHANGES;
@@ -110,16 +108,16 @@ public class ConfigurationChangesView extends HalViewImpl implements Configurati
     }
 
     @Override
-    public void update(ModelNode model) {
-        if (model.isDefined()) {
-            List<ConfigurationChange> changes = model.asList().stream().map(ConfigurationChange::new).collect(toList());
-            dataProvider.update(changes);
-            if (changes.isEmpty()) {
-                listView.showEmptyState(empty);
-            }
-        } else {
-            dataProvider.update(emptyList());
-            listView.showEmptyState(notEnabled);
+    public void update(List<ConfigurationChange> changes) {
+        dataProvider.update(changes);
+        if (changes.isEmpty()) {
+            listView.showEmptyState(empty);
         }
     }
+
+    @Override
+    public void notEnabled() {
+        dataProvider.update(emptyList());
+        listView.showEmptyState(notEnabled);
+    }
 }
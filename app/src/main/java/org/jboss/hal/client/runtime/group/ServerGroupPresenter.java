@@ -23,6 +23,7 @@ import com.google.web.bindery.event.shared.EventBus;
 import com.gwtplatform.mvp.client.annotations.NameToken;
 import com.gwtplatform.mvp.client.annotations.ProxyCodeSplit;
 import com.gwtplatform.mvp.client.proxy.ProxyPlace;
+import org.jboss.hal.core.expression.ExpressionResolver;
 import org.jboss.hal.core.finder.Finder;
 import org.jboss.hal.core.finder.FinderPath;
 import org.jboss.hal.core.finder.FinderPathFactory;
@@ -56,6 +57,7 @@ public class ServerGroupPresenter
     private final FinderPathFactory finderPathFactory;
     private final StatementContext statementContext;
     private final Dispatcher dispatcher;
+    private final ExpressionResolver expressionResolver;
 
     @Inject
     public ServerGroupPresenter(EventBus eventBus,
@@ -64,11 +66,13 @@ public class ServerGroupPresenter
             Finder finder,
             FinderPathFactory finderPathFactory,
             StatementContext statementContext,
-            Dispatcher dispatcher) {
+            Dispatcher dispatcher,
+            ExpressionResolver expressionResolver) {
         super(eventBus, view, proxy, finder);
         this.finderPathFactory = finderPathFactory;
         this.statementContext = statementContext;
         this.dispatcher = dispatcher;
+        this.expressionResolver = expressionResolver;
     }
 
     @Override
@@ -89,6 +93,7 @@ public class ServerGroupPresenter
 
     @Override
     protected void reload() {
+        expressionResolver.invalidate();
         ResourceAddress serverGroupAddress = AddressTemplate.of(SERVER_GROUP_ADDRESS).resolve(statementContext);
         Operation serverGroupOp = new Operation.Builder(serverGroupAddress, READ_RESOURCE_OPERATION)
                 .param(INCLUDE_RUNTIME, true)
@@ -38,6 +38,7 @@ import org.jboss.hal.client.shared.sslwizard.EnableSSLWizard;
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.core.CrudOperations;
 import org.jboss.hal.core.SuccessfulOutcome;
+import org.jboss.hal.core.expression.ExpressionResolver;
 import org.jboss.hal.core.finder.Finder;
 import org.jboss.hal.core.finder.FinderPath;
 import org.jboss.hal.core.finder.FinderPathFactory;
@@ -89,6 +90,7 @@ public class HostPresenter
     private final Provider<Progress> progress;
     private final Environment environment;
     private final Resources resources;
+    private final ExpressionResolver expressionResolver;
 
     @Inject
     public HostPresenter(EventBus eventBus,
@@ -101,7 +103,8 @@ public class HostPresenter
             CrudOperations crud,
             @Footer Provider<Progress> progress,
             Environment environment,
-            Resources resources) {
+            Resources resources,
+            ExpressionResolver expressionResolver) {
         super(eventBus, view, proxy, finder);
         this.finderPathFactory = finderPathFactory;
         this.statementContext = statementContext;
@@ -110,6 +113,7 @@ public class HostPresenter
         this.progress = progress;
         this.environment = environment;
         this.resources = resources;
+        this.expressionResolver = expressionResolver;
     }
 
     @Override
@@ -130,6 +134,7 @@ public class HostPresenter
 
     @Override
     protected void reload() {
+        expressionResolver.invalidate();
         ResourceAddress hostAddress = new ResourceAddress().add(HOST, statementContext.selectedHost());
         Operation hostOp = new Operation.Builder(hostAddress, READ_RESOURCE_OPERATION)
                 .param(INCLUDE_RUNTIME, true)
@@ -235,6 +235,8 @@ public class ServerColumn extends FinderColumn<Server> implements ServerActionHa
                             }
                             callback.onSuccess(servers.stream().sorted(comparing(Server::getName))
                                     .collect(toList()));
+                            // resolve the URLs of all started servers at once for the previews
+                            serverActions.readUrls(servers);
 
                             // Restore pending servers visualization
                             servers.stream()
@@ -23,6 +23,7 @@ import com.google.web.bindery.event.shared.EventBus;
 import com.gwtplatform.mvp.client.annotations.NameToken;
 import com.gwtplatform.mvp.client.annotations.ProxyCodeSplit;
 import com.gwtplatform.mvp.client.proxy.ProxyPlace;
+import org.jboss.hal.core.expression.ExpressionResolver;
 import org.jboss.hal.core.finder.Finder;
 import org.jboss.hal.core.finder.FinderPath;
 import org.jboss.hal.core.finder.FinderPathFactory;
@@ -57,6 +58,7 @@ public class ServerPresenter
     private final FinderPathFactory finderPathFactory;
     private final StatementContext statementContext;
     private final Dispatcher dispatcher;
+    private final ExpressionResolver expressionResolver;
 
     @Inject
     public ServerPresenter(EventBus eventBus,
@@ -65,11 +67,13 @@ public class ServerPresenter
             Finder finder,
             FinderPathFactory finderPathFactory,
             StatementContext statementContext,
-            Dispatcher dispatcher) {
+            Dispatcher dispatcher,
+            ExpressionResolver expressionResolver) {
         super(eventBus, view, proxy, finder);
         this.finderPathFactory = finderPathFactory;
         this.statementContext = statementContext;
         this.dispatcher = dispatcher;
+        this.expressionResolver = expressionResolver;
     }
 
     @Override
@@ -90,6 +94,7 @@ public class ServerPresenter
 
     @Override
     protected void reload() {
+        expressionResolver.invalidate();
         ResourceAddress serverAddress = AddressTemplate.of(SERVER_CONFIG_ADDRESS).resolve(statementContext);
         Operation serverOp = new Operation.Builder(serverAddress, READ_RESOURCE_OPERATION)
                 .param(INCLUDE_RUNTIME, true)
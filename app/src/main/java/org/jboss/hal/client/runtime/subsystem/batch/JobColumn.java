@@ -42,6 +42,7 @@ import org.jboss.hal.core.finder.ItemDisplay;
 import org.jboss.hal.core.finder.ItemMonitor;
 import org.jboss.hal.core.mbui.form.ModelNodeForm;
 import org.jboss.hal.core.mvp.Places;
+import org.jboss.hal.core.polling.PollingScheduler;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
@@ -58,8 +59,6 @@ import org.jboss.hal.spi.Message;
 import org.jboss.hal.spi.MessageEvent;
 import org.jboss.hal.spi.Requires;
 
-import static elemental2.dom.DomGlobal.clearInterval;
-import static elemental2.dom.DomGlobal.setInterval;
 import static java.util.Arrays.asList;
 import static org.jboss.hal.client.runtime.subsystem.batch.AddressTemplates.BATCH_DEPLOYMENT_ADDRESS;
 import static org.jboss.hal.client.runtime.subsystem.batch.AddressTemplates.BATCH_DEPLOYMENT_TEMPLATE;
@@ -75,7 +74,8 @@ public class JobColumn extends FinderColumn<JobNode> {
     private final Dispatcher dispatcher;
     private final MetadataRegistry metadataRegistry;
     private final Resources resources;
-    private final Map<String, Double> intervalHandles;
+    private final PollingScheduler pollingScheduler;
+    private final Map<String, PollingScheduler.Poll> polls;
 
     @Inject
     public JobColumn(Finder finder,
@@ -86,6 +86,7 @@ public class JobColumn extends FinderColumn<JobNode> {
             Places places,
             EventBus eventBus,
             Dispatcher dispatcher,
+            PollingScheduler pollingScheduler,
             MetadataRegistry metadataRegistry,
             Resources resources) {
 
@@ -100,19 +101,20 @@ public class JobColumn extends FinderColumn<JobNode> {
         this.dispatcher = dispatcher;
         this.metadataRegistry = metadataRegistry;
         this.resources = resources;
-        this.intervalHandles = new HashMap<>();
+        this.pollingScheduler = pollingScheduler;
+        this.polls = new HashMap<>();
 
         setItemsProvider(
                 (context, callback) -> deploymentResources.readChildren(BATCH_JBERET, JOB, JobNode::new, jobs -> {
                     callback.onSuccess(jobs);
 
                     // turn progress animation on/off
-                    clearIntervals();
+                    cancelPolls();
                     for (JobNode job : jobs) {
                         String jobId = Ids.job(job.getDeployment(), job.getSubdeployment(), job.getName());
                         if (job.getRunningExecutions() > 0) {
                             ItemMonitor.startProgress(jobId);
-                            intervalHandles.put(jobId, setInterval(o -> pollJob(job), POLLING_INTERVAL));
+                            polls.put(jobId, pollJob(jobId, job));
                         } else {
                             ItemMonitor.stopProgress(jobId);
                         }
@@ -195,24 +197,22 @@ public class JobColumn extends FinderColumn<JobNode> {
         setPreviewCallback(itm -> new JobPreview(this, itm, finderPathFactory, places, resources));
     }
 
-    private void pollJob(JobNode job) {
+    private PollingScheduler.Poll pollJob(String jobId, JobNode job) {
         Operation operation = new Operation.Builder(job.getAddress(), READ_ATTRIBUTE_OPERATION)
                 .param(NAME, RUNNING_EXECUTIONS)
                 .build();
-        String jobId = Ids.job(job.getDeployment(), job.getSubdeployment(), job.getName());
-        dispatcher.execute(operation,
+        return pollingScheduler.register(job.getName(), (long) POLLING_INTERVAL, () -> operation,
                 result -> {
                     if (result.asInt() == 0) {
                         ItemMonitor.stopProgress(jobId);
-                        if (intervalHandles.containsKey(jobId)) {
-                            double handle = intervalHandles.remove(jobId);
-                            clearInterval(handle);
+                        PollingScheduler.Poll poll = polls.remove(jobId);
+                        if (poll != null) {
+                            poll.cancel();
                         }
                         JobColumn.this.refresh(RESTORE_SELECTION);
                     }
                 },
-                (o, failure) -> ItemMonitor.stopProgress(jobId),
-                (o, exception) -> ItemMonitor.stopProgress(jobId));
+                failure -> ItemMonitor.stopProgress(jobId));
     }
 
     private void startJob(JobNode job) {
@@ -269,13 +269,13 @@ public class JobColumn extends FinderColumn<JobNode> {
     @Override
     public void detach() {
         super.detach();
-        clearIntervals();
+        cancelPolls();
     }
 
-    private void clearIntervals() {
-        for (Double handle : intervalHandles.values()) {
-            clearInterval(handle);
+    private void cancelPolls() {
+        for (PollingScheduler.Poll poll : polls.values()) {
+            poll.cancel();
         }
-        intervalHandles.clear();
+        polls.clear();
     }
 }
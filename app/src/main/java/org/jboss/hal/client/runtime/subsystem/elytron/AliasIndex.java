@@ -0,0 +1,82 @@
+/*
+ * Copyright 2015-2018 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.client.runtime.subsystem.elytron;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.hal.dmr.ModelNode;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Sorted client side index of the aliases of a key store or credential store. The index is filled once using the
+ * result of {@code read-aliases}. Adding, removing and renaming aliases is applied to the index as delta, so the
+ * aliases don't have to be read again after each change.
+ * <p>
+ * The index also keeps the details of the aliases which have been read using {@code read-alias}.
+ */
+class AliasIndex {
+
+    private final List<String> aliases;
+    private final Map<String, String> details;
+
+    AliasIndex(List<ModelNode> aliases) {
+        this.aliases = aliases.stream().map(ModelNode::asString).sorted().collect(toList());
+        this.details = new HashMap<>();
+    }
+
+    void add(String alias) {
+        int index = Collections.binarySearch(aliases, alias);
+        if (index < 0) {
+            aliases.add(-index - 1, alias);
+        }
+    }
+
+    void remove(String alias) {
+        int index = Collections.binarySearch(aliases, alias);
+        if (index >= 0) {
+            aliases.remove(index);
+        }
+        details.remove(alias);
+    }
+
+    void rename(String alias, String newAlias) {
+        remove(alias);
+        add(newAlias);
+    }
+
+    /** @return the details of the alias or {@code null} if the details have not been read yet */
+    String getDetails(String alias) {
+        return details.get(alias);
+    }
+
+    void setDetails(String alias, String value) {
+        details.put(alias, value);
+    }
+
+    /** @return the aliases as model nodes in alphabetical order */
+    List<ModelNode> asModelNodes() {
+        List<ModelNode> nodes = new ArrayList<>(aliases.size());
+        for (String alias : aliases) {
+            nodes.add(new ModelNode().set(alias));
+        }
+        return nodes;
+    }
+}
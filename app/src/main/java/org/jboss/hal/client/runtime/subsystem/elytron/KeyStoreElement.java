@@ -18,6 +18,7 @@ package org.jboss.hal.client.runtime.subsystem.elytron;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import elemental2.dom.HTMLElement;
 import org.jboss.gwt.elemento.core.IsElement;
@@ -28,6 +29,7 @@ import org.jboss.hal.ballroom.form.Form;
 import org.jboss.hal.ballroom.form.PreTextItem;
 import org.jboss.hal.ballroom.table.Button;
 import org.jboss.hal.ballroom.table.InlineAction;
+import org.jboss.hal.ballroom.table.RefreshMode;
 import org.jboss.hal.ballroom.table.Table;
 import org.jboss.hal.core.mbui.form.ModelNodeForm;
 import org.jboss.hal.core.mbui.table.ModelNodeTable;
@@ -62,7 +64,7 @@ public class KeyStoreElement implements IsElement<HTMLElement>, Attachable {
     private HTMLElement root;
     private String selectedKeystore;
     private PreTextItem aliasDetails;
-    private Map<String, String> aliasDetailsMapping = new HashMap<>();
+    private Map<String, AliasIndex> aliasIndices = new HashMap<>();
 
     KeyStoreElement(Resources resources, Metadata metadata) {
 
@@ -74,13 +76,13 @@ public class KeyStoreElement implements IsElement<HTMLElement>, Attachable {
                 .button(new Button<>(cons.store(), table -> presenter.storeKeyStore(table.selectedRow().getName()),
                         Constraint.executable(KEY_STORE_TEMPLATE, STORE)))
                 .button(new Button<>(cons.generateKeyPair(),
-                        table -> presenter.generateKeyPair(metadata, table.selectedRow().getName()),
+                        table -> generateKeyPair(metadata, table.selectedRow().getName()),
                         Constraint.executable(KEY_STORE_TEMPLATE, GENERATE_KEY_PAIR)))
                 .button(new Button<>(cons.importCertificate(),
-                        table -> presenter.importCertificate(metadata, table.selectedRow().getName()),
+                        table -> importCertificate(metadata, table.selectedRow().getName()),
                         Constraint.executable(KEY_STORE_TEMPLATE, IMPORT_CERTIFICATE)))
                 .button(new Button<>(cons.obtain(), cons.obtainCertificate(),
-                        table -> presenter.obtainCertificate(metadata, table.selectedRow().getName()),
+                        table -> obtainCertificate(metadata, table.selectedRow().getName()),
                         Constraint.executable(KEY_STORE_TEMPLATE, OBTAIN_CERTIFICATE)))
                 .column(NAME, (cell, type, row, meta) -> row.getName())
                 .column(new InlineAction<>(cons.aliases(),
@@ -122,6 +124,7 @@ public class KeyStoreElement implements IsElement<HTMLElement>, Attachable {
                 .button(new Button<>(cons.verifyRenew(), cons.verifyRenewCertificate(),
                         table -> verifyRenewCertificate(metadata, table.selectedRow().asString()),
                         Constraint.executable(KEY_STORE_TEMPLATE, SHOULD_RENEW_CERTIFICATE)))
+                .deferRender(true)
                 .column(ALIAS, (cell, t, row, meta) -> row.asString())
                 .build();
 
@@ -196,9 +199,10 @@ public class KeyStoreElement implements IsElement<HTMLElement>, Attachable {
             table1.enableButton(4, table1.hasSelection());
             table1.enableButton(5, table1.hasSelection());
             table1.enableButton(6, table1.hasSelection());
-            if (table1.hasSelection()) {
+            AliasIndex aliasIndex = aliasIndices.get(selectedKeystore);
+            if (table1.hasSelection() && aliasIndex != null) {
                 String alias = table1.selectedRow().asString();
-                String value = aliasDetailsMapping.get(alias);
+                String value = aliasIndex.getDetails(alias);
                 if (value != null) {
                     aliasDetails.setValue(value);
                 } else  {
@@ -227,31 +231,68 @@ public class KeyStoreElement implements IsElement<HTMLElement>, Attachable {
     public void update(List<NamedNode> items) {
         form.clear();
         table.update(items);
-        aliasDetailsMapping.clear();
+        aliasIndices.clear();
         toggleKeyStoreButtons();
     }
 
     // -------------- aliases operations
 
     private void showAliases(AddressTemplate template, String resource) {
-        presenter.readAliases(template, resource, aliasesTable::update);
+        AliasIndex aliasIndex = aliasIndices.get(resource);
+        if (aliasIndex != null) {
+            aliasesTable.update(aliasIndex.asModelNodes());
+            formAlias.clear();
+        } else {
+            presenter.readAliases(template, resource, aliases -> {
+                AliasIndex newIndex = new AliasIndex(aliases);
+                aliasIndices.put(resource, newIndex);
+                aliasesTable.update(newIndex.asModelNodes());
+                formAlias.clear();
+            });
+        }
         pages.showPage(id(ALIAS, PAGE));
         toggleAliasesButtons();
     }
 
-    private void updateAliases(List<ModelNode> items) {
-        aliasesTable.update(items);
-        formAlias.clear();
+    private void updateAliases(String keystore, Consumer<AliasIndex> delta) {
+        AliasIndex aliasIndex = aliasIndices.get(keystore);
+        if (aliasIndex != null) {
+            delta.accept(aliasIndex);
+            if (keystore.equals(selectedKeystore)) {
+                aliasesTable.update(aliasIndex.asModelNodes(), RefreshMode.HOLD);
+                formAlias.clear();
+            }
+        }
     }
 
     private void updateAliasDetails(ModelNode details) {
         String value = details.toString();
         aliasDetails.setValue(value);
-        aliasDetailsMapping.put(details.get(ALIAS).asString(), value);
+        AliasIndex aliasIndex = aliasIndices.get(selectedKeystore);
+        if (aliasIndex != null) {
+            aliasIndex.setDetails(details.get(ALIAS).asString(), value);
+        }
+    }
+
+    private void generateKeyPair(Metadata metadata, String keystore) {
+        presenter.generateKeyPair(metadata, keystore,
+                alias -> updateAliases(keystore, aliasIndex -> aliasIndex.add(alias)));
+    }
+
+    private void importCertificate(Metadata metadata, String keystore) {
+        presenter.importCertificate(metadata, keystore,
+                alias -> updateAliases(keystore, aliasIndex -> aliasIndex.add(alias)));
+    }
+
+    private void obtainCertificate(Metadata metadata, String keystore) {
+        presenter.obtainCertificate(metadata, keystore,
+                alias -> updateAliases(keystore, aliasIndex -> aliasIndex.add(alias)));
     }
 
     private void removeKeyStoreAlias(Metadata metadata, String alias) {
-        presenter.removeAlias(metadata, selectedKeystore, alias, this::updateAliases);
+        String keystore = selectedKeystore;
+        presenter.removeAlias(metadata, keystore, alias,
+                removed -> updateAliases(keystore, aliasIndex -> aliasIndex.remove(removed)));
     }
 
     private void readKeystoreAlias(Metadata metadata, String alias) {
@@ -259,7 +300,9 @@ public class KeyStoreElement implements IsElement<HTMLElement>, Attachable {
     }
 
     private void changeAlias(Metadata metadata, String alias) {
-        presenter.changeAlias(metadata, selectedKeystore, alias, this::updateAliases);
+        String keystore = selectedKeystore;
+        presenter.changeAlias(metadata, keystore, alias,
+                newAlias -> updateAliases(keystore, aliasIndex -> aliasIndex.rename(alias, newAlias)));
     }
 
     private void exportCertificate(Metadata metadata, String alias) {
@@ -271,7 +314,10 @@ public class KeyStoreElement implements IsElement<HTMLElement>, Attachable {
     }
 
     private void revokeCertificate(Metadata metadata, String alias) {
-        presenter.revokeCertificate(metadata, selectedKeystore, alias);
+        // revoke-certificate removes the alias from the key store
+        String keystore = selectedKeystore;
+        presenter.revokeCertificate(metadata, keystore, alias,
+                revoked -> updateAliases(keystore, aliasIndex -> aliasIndex.remove(revoked)));
     }
 
     private void verifyRenewCertificate(Metadata metadata, String alias) {
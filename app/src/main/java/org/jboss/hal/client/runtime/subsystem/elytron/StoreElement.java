@@ -28,6 +28,7 @@ import org.jboss.hal.ballroom.form.Form;
 import org.jboss.hal.ballroom.form.PreTextItem;
 import org.jboss.hal.ballroom.table.Button;
 import org.jboss.hal.ballroom.table.InlineAction;
+import org.jboss.hal.ballroom.table.RefreshMode;
 import org.jboss.hal.ballroom.table.Table;
 import org.jboss.hal.core.mbui.form.ModelNodeForm;
 import org.jboss.hal.core.mbui.table.ModelNodeTable;
@@ -61,7 +62,7 @@ public class StoreElement implements IsElement<HTMLElement>, Attachable {
     private Builder builder;
     private String selectedResource;
     private PreTextItem aliasDetails;
-    private Map<String, String> aliasDetailsMapping = new HashMap<>();
+    private Map<String, AliasIndex> aliasIndices = new HashMap<>();
 
     private StoreElement(Builder builder) {
         this.builder = builder;
@@ -94,6 +95,7 @@ public class StoreElement implements IsElement<HTMLElement>, Attachable {
         builder.aliasButtonsHandler.forEach(aliasTableBuilder::button);
 
         aliasesTable = aliasTableBuilder
+                .deferRender(true)
                 .column(ALIAS, (cell, t, row, meta) -> row.asString())
                 .build();
 
@@ -143,9 +145,10 @@ public class StoreElement implements IsElement<HTMLElement>, Attachable {
             for (int i = 0; i < builder.aliasButtonsHandler.size(); i++) {
                 table1.enableButton(i, table1.hasSelection());
             }
-            if (table1.hasSelection()) {
+            AliasIndex aliasIndex = aliasIndices.get(selectedResource);
+            if (table1.hasSelection() && aliasIndex != null) {
                 String alias = table1.selectedRow().asString();
-                String value = aliasDetailsMapping.get(alias);
+                String value = aliasIndex.getDetails(alias);
                 if (value != null) {
                     aliasDetails.setValue(value);
                 } else  {
@@ -178,19 +181,42 @@ public class StoreElement implements IsElement<HTMLElement>, Attachable {
     public void update(List<NamedNode> items) {
         form.clear();
         table.update(items);
-        aliasDetailsMapping.clear();
+        aliasIndices.clear();
     }
 
     // -------------- aliases operations
 
     private void showAliases(AddressTemplate template, String resource) {
-        presenter.readAliases(template, resource, aliases -> aliasesTable.update(aliases));
+        AliasIndex aliasIndex = aliasIndices.get(resource);
+        if (aliasIndex != null) {
+            aliasesTable.update(aliasIndex.asModelNodes());
+            formAlias.clear();
+        } else {
+            presenter.readAliases(template, resource, aliases -> {
+                AliasIndex newIndex = new AliasIndex(aliases);
+                aliasIndices.put(resource, newIndex);
+                aliasesTable.update(newIndex.asModelNodes());
+                formAlias.clear();
+            });
+        }
         pages.showPage(id(ALIAS, PAGE));
     }
 
-    public void updateAliases(List<ModelNode> items) {
-        aliasesTable.update(items);
-        formAlias.clear();
+    void aliasAdded(String alias) {
+        AliasIndex aliasIndex = aliasIndices.get(selectedResource);
+        if (aliasIndex != null) {
+            aliasIndex.add(alias);
+            aliasesTable.update(aliasIndex.asModelNodes(), RefreshMode.HOLD);
+        }
+    }
+
+    void aliasRemoved(String alias) {
+        AliasIndex aliasIndex = aliasIndices.get(selectedResource);
+        if (aliasIndex != null) {
+            aliasIndex.remove(alias);
+            aliasesTable.update(aliasIndex.asModelNodes(), RefreshMode.HOLD);
+            formAlias.clear();
+        }
     }
 
     public Table<ModelNode> getAliasesTable() {
@@ -200,7 +226,10 @@ public class StoreElement implements IsElement<HTMLElement>, Attachable {
     void updateAliasDetails(ModelNode details) {
         String value = details.toString();
         aliasDetails.setValue(value);
-        aliasDetailsMapping.put(details.get(ALIAS).asString(), value);
+        AliasIndex aliasIndex = aliasIndices.get(selectedResource);
+        if (aliasIndex != null) {
+            aliasIndex.setDetails(details.get(ALIAS).asString(), value);
+        }
     }
 
     private void disableTableButtons() {
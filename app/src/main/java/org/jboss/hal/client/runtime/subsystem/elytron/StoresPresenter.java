@@ -169,7 +169,7 @@ public class StoresPresenter extends ApplicationFinderPresenter<StoresPresenter.
                         Message.error(resources.messages().reloadError(resource, exception.getMessage()))));
     }
 
-    void addAlias(Metadata metadata, String name, Consumer<List<ModelNode>> callback) {
+    void addAlias(Metadata metadata, String name, Consumer<String> callback) {
         AddressTemplate template = metadata.getTemplate();
         Metadata opMetadata = metadata.forOperation(ADD_ALIAS);
         Form<ModelNode> form = new ModelNodeForm.Builder<>(Ids.build(template.lastName(), ADD_ALIAS), opMetadata)
@@ -177,25 +177,15 @@ public class StoresPresenter extends ApplicationFinderPresenter<StoresPresenter.
         form.attach();
         AddResourceDialog dialog = new AddResourceDialog(resources.constants().addAlias(), form, (name1, model) -> {
             ResourceAddress address = template.resolve(statementContext, name);
-            Composite composite = new Composite();
-            Operation addOp = new Operation.Builder(address, ADD_ALIAS)
+            Operation operation = new Operation.Builder(address, ADD_ALIAS)
                     .payload(model)
                     .build();
-            composite.add(addOp);
-            Operation operation = new Operation.Builder(address, READ_ALIASES_OPERATION)
-                    .build();
-            composite.add(operation);
             String alias = model.get(ALIAS).asString();
             String resource = Names.CREDENTIAL_STORE + SPACE + name;
-            dispatcher.execute(composite, (CompositeResult result) -> {
+            dispatcher.execute(operation, result -> {
                         MessageEvent.fire(getEventBus(),
                                 Message.success(resources.messages().addSuccess(ALIAS, alias, resource)));
-                        ModelNode aliases = result.step(1).get(RESULT);
-                        if (aliases.isDefined()) {
-                            callback.accept(aliases.asList());
-                        } else {
-                            callback.accept(Collections.emptyList());
-                        }
+                        callback.accept(alias);
                     },
                     (op, failure) -> MessageEvent.fire(getEventBus(),
                             Message.error(resources.messages().addError(ALIAS, alias, resource, failure))),
@@ -265,7 +255,7 @@ public class StoresPresenter extends ApplicationFinderPresenter<StoresPresenter.
                         Message.error(resources.messages().storeError(name, exception.getMessage()))));
     }
 
-    void changeAlias(Metadata metadata, String name, String alias, Consumer<List<ModelNode>> callback) {
+    void changeAlias(Metadata metadata, String name, String alias, Consumer<String> callback) {
         AddressTemplate template = metadata.getTemplate();
         String resource = Names.KEY_STORE + SPACE + name;
         metadata = metadata.forOperation(CHANGE_ALIAS);
@@ -291,14 +281,6 @@ public class StoresPresenter extends ApplicationFinderPresenter<StoresPresenter.
                 return dispatcher.execute(operation)
                         .toCompletable();
             });
-            tasks.add(flowContext -> {
-                Operation operation = new Operation.Builder(address, READ_ALIASES_OPERATION)
-                        .build();
-
-                return dispatcher.execute(operation)
-                        .doOnSuccess(flowContext::push)
-                        .toCompletable();
-            });
 
             series(new FlowContext(progress.get()), tasks)
                     .subscribe(new SuccessfulOutcome<FlowContext>(getEventBus(), resources) {
@@ -307,12 +289,7 @@ public class StoresPresenter extends ApplicationFinderPresenter<StoresPresenter.
                             MessageEvent.fire(getEventBus(),
                                     Message.success(
                                             resources.messages().changeAliasSuccess(alias, newAlias, resource)));
-                            ModelNode aliases = flowContext.pop();
-                            if (aliases.isDefined()) {
-                                callback.accept(aliases.asList());
-                            } else {
-                                callback.accept(Collections.emptyList());
-                            }
+                            callback.accept(newAlias);
                         }
 
                         @Override
@@ -414,7 +391,7 @@ public class StoresPresenter extends ApplicationFinderPresenter<StoresPresenter.
 
     }
 
-    void generateKeyPair(Metadata metadata, String name) {
+    void generateKeyPair(Metadata metadata, String name, Consumer<String> callback) {
         AddressTemplate template = metadata.getTemplate();
         String resource = Names.KEY_STORE + SPACE + name;
         metadata = metadata.forOperation(GENERATE_KEY_PAIR);
@@ -439,13 +416,6 @@ public class StoresPresenter extends ApplicationFinderPresenter<StoresPresenter.
                 return dispatcher.execute(operation)
                         .toCompletable();
             });
-            tasks.add(flowContext -> {
-                Operation operation = new Operation.Builder(address, READ_ALIASES_OPERATION)
-                        .build();
-
-                return dispatcher.execute(operation)
-                        .toCompletable();
-            });
 
             series(new FlowContext(progress.get()), tasks)
                     .subscribe(new SuccessfulOutcome<FlowContext>(getEventBus(), resources) {
@@ -453,6 +423,7 @@ public class StoresPresenter extends ApplicationFinderPresenter<StoresPresenter.
                         public void onSuccess(FlowContext flowContext) {
                             MessageEvent.fire(getEventBus(),
                                     Message.success(resources.messages().generateKeyPairSuccess(alias, resource)));
+                            callback.accept(alias);
                         }
 
                         @Override
@@ -478,7 +449,7 @@ public class StoresPresenter extends ApplicationFinderPresenter<StoresPresenter.
         form.edit(new ModelNode());
     }
 
-    void importCertificate(Metadata metadata, String name) {
+    void importCertificate(Metadata metadata, String name, Consumer<String> callback) {
         AddressTemplate template = metadata.getTemplate();
         String resource = Names.KEY_STORE + SPACE + name;
         metadata = metadata.forOperation(IMPORT_CERTIFICATE);
@@ -513,15 +484,6 @@ public class StoresPresenter extends ApplicationFinderPresenter<StoresPresenter.
                                 Message.error(resources.messages().storeError(resource, ex.getMessage()))))
                         .toCompletable();
             });
-            tasks.add(flowContext -> {
-                Operation operation = new Operation.Builder(address, READ_ALIASES_OPERATION)
-                        .build();
-
-                return dispatcher.execute(operation)
-                        .doOnError(ex -> MessageEvent.fire(getEventBus(),
-                                Message.error(resources.messages().readAliasesError(resource, ex.getMessage()))))
-                        .toCompletable();
-            });
 
             series(new FlowContext(progress.get()), tasks)
                     .subscribe(new SuccessfulOutcome<FlowContext>(getEventBus(), resources) {
@@ -530,6 +492,7 @@ public class StoresPresenter extends ApplicationFinderPresenter<StoresPresenter.
                             MessageEvent.fire(getEventBus(),
                                     Message.success(
                                             resources.messages().importCertificateSuccess(alias, path, resource)));
+                            callback.accept(alias);
                         }
 
                         @Override
@@ -554,7 +517,7 @@ public class StoresPresenter extends ApplicationFinderPresenter<StoresPresenter.
         form.edit(new ModelNode());
     }
 
-    void obtainCertificate(Metadata metadata, String name) {
+    void obtainCertificate(Metadata metadata, String name, Consumer<String> callback) {
         metadata = metadata.forOperation(OBTAIN_CERTIFICATE);
         String id = Ids.build(KEY_STORE, OBTAIN_CERTIFICATE, FORM);
         String title = new LabelBuilder().label(OBTAIN_CERTIFICATE);
@@ -566,8 +529,11 @@ public class StoresPresenter extends ApplicationFinderPresenter<StoresPresenter.
                     .payload(form.getModel())
                     .build();
             String alias = form.getModel().get(ALIAS).asString();
-            dispatcher.execute(operation, result -> MessageEvent.fire(getEventBus(),
-                    Message.success(resources.messages().obtainCertificateSuccess(alias, name))),
+            dispatcher.execute(operation, result -> {
+                        MessageEvent.fire(getEventBus(),
+                                Message.success(resources.messages().obtainCertificateSuccess(alias, name)));
+                        callback.accept(alias);
+                    },
                     (operation1, failure) -> MessageEvent.fire(getEventBus(),
                             Message.error(resources.messages().obtainCertificateError(alias, name, failure))),
                     (operation1, ex) -> MessageEvent.fire(getEventBus(),
@@ -599,7 +565,7 @@ public class StoresPresenter extends ApplicationFinderPresenter<StoresPresenter.
         form.edit(new ModelNode());
     }
 
-    void revokeCertificate(Metadata metadata, String name, String alias) {
+    void revokeCertificate(Metadata metadata, String name, String alias, Consumer<String> callback) {
         metadata = metadata.forOperation(REVOKE_CERTIFICATE);
         String id = Ids.build(KEY_STORE, REVOKE_CERTIFICATE, FORM);
         String title = new LabelBuilder().label(CERTIFICATE_AUTHORITY_ACCOUNT);
@@ -610,8 +576,11 @@ public class StoresPresenter extends ApplicationFinderPresenter<StoresPresenter.
             Operation operation = new Operation.Builder(address, REVOKE_CERTIFICATE)
                     .payload(form.getModel())
                     .build();
-            dispatcher.execute(operation, result -> MessageEvent.fire(getEventBus(),
-                    Message.success(resources.messages().revokeCertificateSuccess(alias, name))),
+            dispatcher.execute(operation, result -> {
+                        MessageEvent.fire(getEventBus(),
+                                Message.success(resources.messages().revokeCertificateSuccess(alias, name)));
+                        callback.accept(alias);
+                    },
                     (operation1, failure) -> MessageEvent.fire(getEventBus(),
                             Message.error(resources.messages().revokeCertificateError(alias, name, failure))),
                     (operation1, ex) -> MessageEvent.fire(getEventBus(),
@@ -724,7 +693,7 @@ public class StoresPresenter extends ApplicationFinderPresenter<StoresPresenter.
 
     }
 
-    void removeAlias(Metadata metadata, String name, String alias, Consumer<List<ModelNode>> callback) {
+    void removeAlias(Metadata metadata, String name, String alias, Consumer<String> callback) {
         AddressTemplate template = metadata.getTemplate();
         LabelBuilder labelBuilder = new LabelBuilder();
         String resource = labelBuilder.label(template.lastName()) + SPACE + name;
@@ -752,16 +721,6 @@ public class StoresPresenter extends ApplicationFinderPresenter<StoresPresenter.
                                 Message.error(resources.messages().storeError(resource, ex.getMessage()))))
                         .toCompletable();
             });
-            tasks.add(flowContext -> {
-                Operation operation = new Operation.Builder(address, READ_ALIASES_OPERATION)
-                        .build();
-
-                return dispatcher.execute(operation)
-                        .doOnSuccess(flowContext::push)
-                        .doOnError(ex -> MessageEvent.fire(getEventBus(),
-                                Message.error(resources.messages().readAliasesError(resource, ex.getMessage()))))
-                        .toCompletable();
-            });
 
             series(new FlowContext(progress.get()), tasks)
                     .subscribe(new SuccessfulOutcome<FlowContext>(getEventBus(), resources) {
@@ -769,12 +728,7 @@ public class StoresPresenter extends ApplicationFinderPresenter<StoresPresenter.
                         public void onSuccess(FlowContext flowContext) {
                             MessageEvent.fire(getEventBus(),
                                     Message.success(resources.messages().removeAliasSuccess(alias, resource)));
-                            ModelNode aliases = flowContext.pop();
-                            if (aliases.isDefined()) {
-                                callback.accept(aliases.asList());
-                            } else {
-                                callback.accept(Collections.emptyList());
-                            }
+                            callback.accept(alias);
                         }
 
                         @Override
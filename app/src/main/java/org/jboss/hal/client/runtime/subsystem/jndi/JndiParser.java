@@ -15,62 +15,159 @@
  */
 package org.jboss.hal.client.runtime.subsystem.jndi;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import com.google.common.base.Strings;
-import elemental2.core.JsArray;
 import org.jboss.hal.ballroom.tree.Node;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.ModelType;
 import org.jboss.hal.dmr.Property;
 import org.jboss.hal.resources.Ids;
 
+import static java.util.stream.Collectors.toList;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.CHILDREN;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.CLASS_NAME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.VALUE;
 import static org.jboss.hal.resources.CSS.fontAwesome;
 
+/**
+ * Turns the result of the {@code jndi-view} operation into tree nodes. Nodes are created on demand when a context is
+ * expanded: The parser keeps the model nodes of contexts which have not been expanded yet and creates the tree nodes
+ * for the direct children of a context in {@link #children(Node)}.
+ * <p>
+ * For searching, the parser builds an index with the names and URIs of all contexts and bindings when a root is
+ * registered. The index contains only strings and doesn't create any tree nodes. The IDs of the tree nodes are derived
+ * from the position of the child in its parent, so the index knows the IDs of the nodes which need to be opened to
+ * reveal a match.
+ */
 class JndiParser {
 
+    private static final int MAX_MATCHES = 100;
+
+    private final Map<String, List<Property>> pending;
+    private final List<IndexEntry> index;
+
+    JndiParser() {
+        pending = new HashMap<>();
+        index = new ArrayList<>();
+    }
+
+    /** Creates a root node and indexes all contexts and bindings below it. */
+    Node<JndiContext> root(String id, String text, List<Property> children) {
+        Node<JndiContext> root = new Node.Builder<>(id, text, new JndiContext())
+                .root()
+                .asyncFolder()
+                .open()
+                .build();
+        pending.put(id, children);
+        indexChildren(id, root.data.uri, Collections.emptyList(), children);
+        return root;
+    }
+
+    /** Creates the tree nodes of the direct children of the specified node. */
     @SuppressWarnings("unchecked")
-    void parse(JsArray<Node<JndiContext>> nodes, Node<JndiContext> root, List<Property> children) {
-        nodes.push(root);
-        readChildren(nodes, root, children);
+    Node<JndiContext>[] children(Node<JndiContext> parent) {
+        List<Property> children = definedChildren(pending.getOrDefault(parent.id, Collections.emptyList()));
+        Node<JndiContext>[] nodes = new Node[children.size()];
+        for (int i = 0; i < children.size(); i++) {
+            Property child = children.get(i);
+            ModelNode modelNode = child.getValue();
+            String id = childId(parent.id, i);
+            JndiContext jndiContext = jndiContext(parent.id, parent.data.uri, child.getName(), modelNode);
+
+            Node.Builder<JndiContext> builder = new Node.Builder<>(id, child.getName(), jndiContext)
+                    .parent(parent.id);
+            if (modelNode.hasDefined(VALUE)) {
+                builder.icon(fontAwesome("file-text-o"));
+            } else {
+                List<Property> grandChildren = definedChildren(childrenOf(modelNode));
+                if (grandChildren.isEmpty()) {
+                    builder.folder();
+                } else {
+                    pending.put(id, grandChildren);
+                    builder.asyncFolder();
+                }
+            }
+            nodes[i] = builder.build();
+        }
+        return nodes;
     }
 
-    private void readChildren(JsArray<Node<JndiContext>> nodes, Node<JndiContext> parent, List<Property> children) {
+    /**
+     * Searches the index for contexts and bindings whose name or URI contains the specified query (case insensitive).
+     *
+     * @return the IDs of the nodes which need to be opened in order to reveal the first {@value #MAX_MATCHES} matches.
+     * Parents come before their children.
+     */
+    List<String> search(String query) {
+        Set<String> ids = new LinkedHashSet<>();
+        if (!Strings.isNullOrEmpty(query)) {
+            String q = query.toLowerCase();
+            int matches = 0;
+            for (IndexEntry entry : index) {
+                if (entry.name.contains(q) || entry.uri.contains(q)) {
+                    ids.addAll(entry.parents);
+                    matches++;
+                    if (matches == MAX_MATCHES) {
+                        break;
+                    }
+                }
+            }
+        }
+        return new ArrayList<>(ids);
+    }
 
-        children.stream()
-                .filter(child -> child.getValue().isDefined())
-                .forEach(child -> {
+    private void indexChildren(String parentId, String parentUri, List<String> parents, List<Property> children) {
+        List<String> path = new ArrayList<>(parents);
+        path.add(parentId);
+        List<Property> definedChildren = definedChildren(children);
+        for (int i = 0; i < definedChildren.size(); i++) {
+            Property child = definedChildren.get(i);
+            String id = childId(parentId, i);
+            String uri = uri(parentId, parentUri, child.getName());
+            index.add(new IndexEntry(child.getName(), uri, path));
+            if (!child.getValue().hasDefined(VALUE)) {
+                indexChildren(id, uri, path, childrenOf(child.getValue()));
+            }
+        }
+    }
 
-                    ModelNode modelNode = child.getValue();
-                    JndiContext jndiContext = jndiContext(parent, child.getName(), modelNode);
-                    if (modelNode.hasDefined(VALUE)) {
-                        pushEntry(nodes, parent, child.getName(), jndiContext);
+    private List<Property> definedChildren(List<Property> children) {
+        return children.stream().filter(child -> child.getValue().isDefined()).collect(toList());
+    }
 
-                    } else {
-                        Node<JndiContext> node = pushFolder(nodes, parent, child.getName(), jndiContext);
-                        if (modelNode.hasDefined(CHILDREN)) {
-                            readChildren(nodes, node, modelNode.get(CHILDREN).asPropertyList());
+    private List<Property> childrenOf(ModelNode modelNode) {
+        if (modelNode.hasDefined(CHILDREN)) {
+            return modelNode.get(CHILDREN).asPropertyList();
+        } else if (modelNode.getType() == ModelType.OBJECT) {
+            return modelNode.asPropertyList();
+        }
+        return Collections.emptyList();
+    }
 
-                        } else if (child.getValue().getType() == ModelType.OBJECT) {
-                            readChildren(nodes, node, child.getValue().asPropertyList());
-                        }
-                    }
-                });
+    private String childId(String parentId, int index) {
+        return Ids.build(parentId, String.valueOf(index));
     }
 
-    private JndiContext jndiContext(Node<JndiContext> parent, String name, ModelNode modelNode) {
-        JndiContext jndiContext = new JndiContext();
-        if (parent.id.equals(Ids.JNDI_TREE_APPLICATIONS_ROOT)) {
-            jndiContext.uri = "";
-        } else if (parent.id.equals(Ids.JNDI_TREE_JAVA_CONTEXTS_ROOT)) {
-            jndiContext.uri = name;
+    private String uri(String parentId, String parentUri, String name) {
+        if (parentId.equals(Ids.JNDI_TREE_APPLICATIONS_ROOT)) {
+            return "";
+        } else if (parentId.equals(Ids.JNDI_TREE_JAVA_CONTEXTS_ROOT)) {
+            return name;
         } else {
-            jndiContext.uri = parent.data.uri.length() == 0 ? name : parent.data.uri + "/" + name;
+            return Strings.isNullOrEmpty(parentUri) ? name : parentUri + "/" + name;
         }
+    }
 
+    private JndiContext jndiContext(String parentId, String parentUri, String name, ModelNode modelNode) {
+        JndiContext jndiContext = new JndiContext();
+        jndiContext.uri = uri(parentId, parentUri, name);
         if (modelNode.hasDefined(CLASS_NAME)) {
             jndiContext.className = modelNode.get(CLASS_NAME).asString();
         }
@@ -83,25 +180,17 @@ class JndiParser {
         return jndiContext;
     }
 
-    @SuppressWarnings("unchecked")
-    private Node<JndiContext> pushFolder(JsArray<Node<JndiContext>> nodes, Node<JndiContext> parent, String name,
-            JndiContext jndiContext) {
-        Node<JndiContext> node = new Node.Builder<>(Ids.build(parent.id, Ids.uniqueId()), name, jndiContext)
-                .parent(parent.id)
-                .folder()
-                .build();
-        nodes.push(node);
-        return node;
-    }
 
-    @SuppressWarnings("unchecked")
-    private Node<JndiContext> pushEntry(JsArray<Node<JndiContext>> nodes, Node<JndiContext> parent, String name,
-            JndiContext jndiContext) {
-        Node<JndiContext> node = new Node.Builder<>(Ids.build(parent.id, Ids.uniqueId()), name, jndiContext)
-                .parent(parent.id)
-                .icon(fontAwesome("file-text-o"))
-                .build();
-        nodes.push(node);
-        return node;
+    private static class IndexEntry {
+
+        private final String name;
+        private final String uri;
+        private final List<String> parents;
+
+        private IndexEntry(String name, String uri, List<String> parents) {
+            this.name = name.toLowerCase();
+            this.uri = uri.toLowerCase();
+            this.parents = parents;
+        }
     }
 }
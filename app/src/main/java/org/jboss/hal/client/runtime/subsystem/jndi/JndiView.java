@@ -15,11 +15,15 @@
  */
 package org.jboss.hal.client.runtime.subsystem.jndi;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
 import javax.inject.Inject;
 
-import elemental2.core.JsArray;
 import elemental2.dom.HTMLElement;
 import org.jboss.gwt.elemento.core.Elements;
+import org.jboss.hal.ballroom.JsCallback;
 import org.jboss.hal.ballroom.Search;
 import org.jboss.hal.ballroom.form.Form;
 import org.jboss.hal.ballroom.tree.Node;
@@ -52,6 +56,7 @@ public class JndiView extends HalViewImpl implements JndiPresenter.MyView {
     private HTMLElement header;
     private HTMLElement treeContainer;
     private Tree<JndiContext> tree;
+    private JndiParser parser;
     private HTMLElement hint;
     private Search search;
     private Form<ModelNode> details;
@@ -60,7 +65,7 @@ public class JndiView extends HalViewImpl implements JndiPresenter.MyView {
     @Inject
     public JndiView(JndiResources jndiResources, Resources resources) {
 
-        search = new Search.Builder(Ids.JNDI_SEARCH, query -> tree.search(query))
+        search = new Search.Builder(Ids.JNDI_SEARCH, this::search)
                 .onClear(() -> tree.clearSearch())
                 .build();
 
@@ -115,33 +120,42 @@ public class JndiView extends HalViewImpl implements JndiPresenter.MyView {
         treeContainer.style.height = vh(offset);
     }
 
+    private void search(String query) {
+        if (tree != null && parser != null) {
+            // open the contexts containing the matches, so that the tree search can highlight them
+            open(parser.search(query).iterator(), () -> tree.search(query));
+        }
+    }
+
+    private void open(Iterator<String> ids, JsCallback callback) {
+        if (ids.hasNext()) {
+            String id = ids.next();
+            if (tree.getNode(id) != null) {
+                tree.openNode(id, () -> open(ids, callback));
+            } else {
+                open(ids, callback);
+            }
+        } else {
+            callback.execute();
+        }
+    }
+
     @Override
-    @SuppressWarnings("HardCodedStringLiteral")
+    @SuppressWarnings({"HardCodedStringLiteral", "unchecked"})
     public void update(ModelNode jndi) {
-        JndiParser jndiParser = new JndiParser();
-        JsArray<Node<JndiContext>> nodes = new JsArray<>();
-
+        parser = new JndiParser();
+        List<Node<JndiContext>> roots = new ArrayList<>();
         if (jndi.hasDefined(JAVA_CONTEXTS)) {
-            JndiContext jndiContext = new JndiContext();
-            Node<JndiContext> root = new Node.Builder<>(Ids.JNDI_TREE_JAVA_CONTEXTS_ROOT, "Java Contexts", jndiContext)
-                    .root()
-                    .folder()
-                    .open()
-                    .build();
-            jndiParser.parse(nodes, root, jndi.get(JAVA_CONTEXTS).asPropertyList());
+            roots.add(parser.root(Ids.JNDI_TREE_JAVA_CONTEXTS_ROOT, "Java Contexts",
+                    jndi.get(JAVA_CONTEXTS).asPropertyList()));
         }
-
         if (jndi.hasDefined(APPLICATIONS)) {
-            JndiContext jndiContext = new JndiContext();
-            Node<JndiContext> root = new Node.Builder<>(Ids.JNDI_TREE_APPLICATIONS_ROOT, "Applications", jndiContext)
-                    .root()
-                    .folder()
-                    .open()
-                    .build();
-            jndiParser.parse(nodes, root, jndi.get(APPLICATIONS).asPropertyList());
+            roots.add(parser.root(Ids.JNDI_TREE_APPLICATIONS_ROOT, "Applications",
+                    jndi.get(APPLICATIONS).asPropertyList()));
         }
 
-        tree = new Tree<>(Ids.JNDI_TREE, nodes);
+        tree = new Tree<>(Ids.JNDI_TREE, roots.toArray(new Node[roots.size()]),
+                (node, callback) -> callback.result(parser.children(node)));
         Elements.removeChildrenFrom(treeContainer);
         treeContainer.appendChild(tree.element());
 
@@ -30,6 +30,7 @@ import org.jboss.hal.core.finder.FinderPathFactory;
 import org.jboss.hal.core.mvp.ApplicationFinderPresenter;
 import org.jboss.hal.core.mvp.HalView;
 import org.jboss.hal.core.mvp.HasPresenter;
+import org.jboss.hal.core.polling.PollingScheduler;
 import org.jboss.hal.dmr.Composite;
 import org.jboss.hal.dmr.CompositeResult;
 import org.jboss.hal.dmr.ModelNode;
@@ -44,9 +45,7 @@ import org.jboss.hal.spi.Message;
 import org.jboss.hal.spi.MessageEvent;
 import org.jboss.hal.spi.Requires;
 
-import static elemental2.dom.DomGlobal.clearInterval;
 import static elemental2.dom.DomGlobal.clearTimeout;
-import static elemental2.dom.DomGlobal.setInterval;
 import static elemental2.dom.DomGlobal.setTimeout;
 import static java.util.stream.Collectors.joining;
 import static org.jboss.hal.client.runtime.subsystem.logging.AddressTemplates.LOG_FILE_ADDRESS;
@@ -57,16 +56,17 @@ import static org.jboss.hal.meta.token.NameTokens.LOG_FILE;
 
 public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresenter.MyView, LogFilePresenter.MyProxy> {
 
-    private static final int REFRESH_INTERVAL = 1000;
+    private static final long REFRESH_INTERVAL = 1000;
 
     private final FinderPathFactory finderPathFactory;
     private final Dispatcher dispatcher;
+    private final PollingScheduler pollingScheduler;
     private final StatementContext statementContext;
     private final Resources resources;
     private String logFileName;
     private String loggingProfile;
     private LogFile logFile;
-    private double intervalHandle;
+    private PollingScheduler.Poll tailPoll;
 
     @Inject
     public LogFilePresenter(EventBus eventBus,
@@ -75,18 +75,20 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
             Finder finder,
             FinderPathFactory finderPathFactory,
             Dispatcher dispatcher,
+            PollingScheduler pollingScheduler,
             StatementContext statementContext,
             Resources resources) {
         super(eventBus, view, myProxy, finder);
         this.finderPathFactory = finderPathFactory;
         this.dispatcher = dispatcher;
+        this.pollingScheduler = pollingScheduler;
         this.statementContext = statementContext;
         this.resources = resources;
 
         this.logFileName = null;
         this.loggingProfile = null;
         this.logFile = null;
-        this.intervalHandle = -1;
+        this.tailPoll = null;
     }
 
     @Override
@@ -160,32 +162,17 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
         if (logFile != null) {
             int linesToRead = inTailMode() ? getView().visibleLines() : LogFiles.LINES;
             double handle = setTimeout((o) -> getView().loading(), UIConstants.MEDIUM_TIMEOUT);
-            ResourceAddress address;
-            if (loggingProfile == null) {
-                address = LOG_FILE_TEMPLATE.resolve(statementContext, logFileName);
-            } else {
-                address = PROFILE_LOG_FILE_TEMPLATE.resolve(statementContext, loggingProfile, logFileName);
-            }
-            //noinspection HardCodedStringLiteral
-            Operation operation = new Operation.Builder(address, READ_LOG_FILE)
-                    .param(LINES, linesToRead)
-                    .param(TAIL, true)
-                    .build();
-            dispatcher.execute(operation, result -> {
+            dispatcher.execute(readLogFile(linesToRead), result -> {
                         clearTimeout(handle);
-                        List<ModelNode> linesRead = result.asList();
-                        String content = linesRead.stream().map(ModelNode::asString).collect(joining("\n"));
-                        getView().refresh(linesRead.size(), content);
+                        refreshFile(result);
                     },
                     (op, failure) -> {
                         clearTimeout(handle);
-                        MessageEvent.fire(getEventBus(),
-                                Message.error(resources.messages().logFileError(logFileName), failure));
+                        logFileError(failure);
                     },
                     (op, exception) -> {
                         clearTimeout(handle);
-                        MessageEvent.fire(getEventBus(),
-                                Message.error(resources.messages().logFileError(logFileName), exception.getMessage()));
+                        logFileError(exception.getMessage());
                     });
         } else {
             MessageEvent.fire(getEventBus(), Message.error(resources.messages().noLogFile()));
@@ -196,11 +183,14 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
         if (logFile != null) {
             if (on) {
                 if (!inTailMode()) {
-                    intervalHandle = setInterval((o) -> reloadFile(), REFRESH_INTERVAL);
+                    tailPoll = pollingScheduler.register(logFileName, REFRESH_INTERVAL,
+                            () -> readLogFile(getView().visibleLines()), this::refreshFile, this::logFileError);
                 }
             } else {
-                clearInterval(intervalHandle);
-                intervalHandle = -1;
+                if (inTailMode()) {
+                    tailPoll.cancel();
+                    tailPoll = null;
+                }
                 reloadFile();
             }
         } else {
@@ -209,7 +199,31 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
     }
 
     private boolean inTailMode() {
-        return intervalHandle != -1;
+        return tailPoll != null;
+    }
+
+    private Operation readLogFile(int lines) {
+        ResourceAddress address;
+        if (loggingProfile == null) {
+            address = LOG_FILE_TEMPLATE.resolve(statementContext, logFileName);
+        } else {
+            address = PROFILE_LOG_FILE_TEMPLATE.resolve(statementContext, loggingProfile, logFileName);
+        }
+        //noinspection HardCodedStringLiteral
+        return new Operation.Builder(address, READ_LOG_FILE)
+                .param(LINES, lines)
+                .param(TAIL, true)
+                .build();
+    }
+
+    private void refreshFile(ModelNode result) {
+        List<ModelNode> linesRead = result.asList();
+        String content = linesRead.stream().map(ModelNode::asString).collect(joining("\n"));
+        getView().refresh(linesRead.size(), content);
+    }
+
+    private void logFileError(String failure) {
+        MessageEvent.fire(getEventBus(), Message.error(resources.messages().logFileError(logFileName), failure));
     }
 
 
@@ -36,6 +36,7 @@ import org.jboss.hal.core.expression.ExpressionDialog;
 import org.jboss.hal.core.expression.ExpressionResolver;
 import org.jboss.hal.core.mvp.HalView;
 import org.jboss.hal.core.mvp.HasPresenter;
+import org.jboss.hal.core.polling.PollingScheduler;
 import org.jboss.hal.dmr.macro.MacroFinishedEvent;
 import org.jboss.hal.dmr.macro.MacroFinishedEvent.MacroFinishedHandler;
 import org.jboss.hal.dmr.macro.MacroOperationEvent;
@@ -55,6 +56,7 @@ public class FooterPresenter extends PresenterWidget<FooterPresenter.MyView>
     private final Settings settings;
     private final Macros macros;
     private final ExpressionResolver expressionResolver;
+    private final PollingScheduler pollingScheduler;
     private final Resources resources;
     private final AboutDialog aboutDialog;
     private boolean recording;
@@ -69,6 +71,7 @@ public class FooterPresenter extends PresenterWidget<FooterPresenter.MyView>
             Settings settings,
             Macros macros,
             ExpressionResolver expressionResolver,
+            PollingScheduler pollingScheduler,
             Resources resources) {
         super(eventBus, view);
         this.environment = environment;
@@ -76,6 +79,7 @@ public class FooterPresenter extends PresenterWidget<FooterPresenter.MyView>
         this.settings = settings;
         this.macros = macros;
         this.expressionResolver = expressionResolver;
+        this.pollingScheduler = pollingScheduler;
         this.resources = resources;
         this.aboutDialog = new AboutDialog(environment, endpoints, resources);
     }
@@ -160,7 +164,7 @@ public class FooterPresenter extends PresenterWidget<FooterPresenter.MyView>
     }
 
     void onSettings() {
-        new SettingsDialog(environment, settings, resources).show();
+        new SettingsDialog(environment, settings, pollingScheduler, resources).show();
     }
 
     // @formatter:off
@@ -15,6 +15,8 @@
  */
 package org.jboss.hal.client.skeleton;
 
+import java.util.List;
+
 import javax.inject.Inject;
 
 import com.google.web.bindery.event.shared.EventBus;
@@ -60,6 +62,8 @@ import org.jboss.hal.core.runtime.server.ServerActionEvent.ServerActionHandler;
 import org.jboss.hal.core.runtime.server.ServerActions;
 import org.jboss.hal.core.runtime.server.ServerResultEvent;
 import org.jboss.hal.core.runtime.server.ServerResultEvent.ServerResultHandler;
+import org.jboss.hal.core.search.GlobalSearch;
+import org.jboss.hal.core.search.SearchResult;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.dmr.dispatch.ProcessStateEvent;
 import org.jboss.hal.dmr.dispatch.ProcessStateEvent.ProcessStateHandler;
@@ -132,6 +136,7 @@ public class HeaderPresenter extends PresenterWidget<HeaderPresenter.MyView> imp
     private final ServerActions serverActions;
     private final Resources resources;
     private KeycloakHolder keycloakHolder;
+    private final GlobalSearch globalSearch;
 
     private PresenterType presenterType;
     private PlaceRequest normalMode;
@@ -150,7 +155,8 @@ public class HeaderPresenter extends PresenterWidget<HeaderPresenter.MyView> imp
             Settings settings,
             User user,
             ServerActions serverActions,
-            Resources resources, KeycloakHolder keycloakHolder) {
+            Resources resources, KeycloakHolder keycloakHolder,
+            GlobalSearch globalSearch) {
         super(eventBus, view);
         this.placeManager = placeManager;
         this.places = places;
@@ -161,6 +167,7 @@ public class HeaderPresenter extends PresenterWidget<HeaderPresenter.MyView> imp
         this.serverActions = serverActions;
         this.resources = resources;
         this.keycloakHolder = keycloakHolder;
+        this.globalSearch = globalSearch;
     }
 
     @Override
@@ -394,6 +401,13 @@ public class HeaderPresenter extends PresenterWidget<HeaderPresenter.MyView> imp
     }
 
 
+    // ------------------------------------------------------ global search
+
+    void search(String query) {
+        getView().showSearchResults(globalSearch.search(query));
+    }
+
+
     // ------------------------------------------------------ place management
 
     void switchToExpertMode(ResourceAddress address) {
@@ -455,6 +469,8 @@ public class HeaderPresenter extends PresenterWidget<HeaderPresenter.MyView> imp
 
         void showExternal(PlaceRequest placeRequest);
         void hideExternal();
+
+        void showSearchResults(List<SearchResult> results);
     }
     // @formatter:on
 }
@@ -30,6 +30,7 @@ import com.google.web.bindery.event.shared.HandlerRegistration;
 import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
 import elemental2.dom.Element;
 import elemental2.dom.HTMLElement;
+import elemental2.dom.HTMLInputElement;
 import elemental2.dom.HTMLLIElement;
 import org.jboss.gwt.elemento.core.Elements;
 import org.jboss.gwt.elemento.core.builder.HtmlContentBuilder;
@@ -50,6 +51,7 @@ import org.jboss.hal.core.modelbrowser.ModelBrowserPath;
 import org.jboss.hal.core.modelbrowser.ModelBrowserPath.Segment;
 import org.jboss.hal.core.mvp.HalViewImpl;
 import org.jboss.hal.core.mvp.Places;
+import org.jboss.hal.core.search.SearchResult;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.meta.token.NameTokens;
 import org.jboss.hal.resources.CSS;
@@ -69,6 +71,8 @@ import static org.jboss.gwt.elemento.core.Elements.nav;
 import static org.jboss.gwt.elemento.core.Elements.*;
 import static org.jboss.gwt.elemento.core.EventType.bind;
 import static org.jboss.gwt.elemento.core.EventType.click;
+import static org.jboss.gwt.elemento.core.EventType.keyup;
+import static org.jboss.gwt.elemento.core.InputType.text;
 import static org.jboss.hal.client.skeleton.HeaderPresenter.MAX_BREADCRUMB_VALUE_LENGTH;
 import static org.jboss.hal.config.AccessControlProvider.RBAC;
 import static org.jboss.hal.config.Settings.Key.RUN_AS;
@@ -107,6 +111,9 @@ public class HeaderView extends HalViewImpl implements HeaderPresenter.MyView {
     private final HTMLElement switchModeLink;
     private final HTMLElement switchModeIcon;
     private final HTMLElement externalLink;
+    private final HTMLElement searchContainer;
+    private final HTMLInputElement searchInput;
+    private final HTMLElement searchResults;
 
     private PlaceRequest backPlaceRequest;
     private Map<String, PlaceRequest> tlcPlaceRequests;
@@ -117,6 +124,7 @@ public class HeaderView extends HalViewImpl implements HeaderPresenter.MyView {
     private HandlerRegistration switchModeHandler;
     private List<HandlerRegistration> handlers;
     private List<HandlerRegistration> breadcrumbHandlers;
+    private List<HandlerRegistration> searchHandlers;
 
     @Inject
     public HeaderView(Places places, AccessControl ac, Resources resources) {
@@ -149,6 +157,16 @@ public class HeaderView extends HalViewImpl implements HeaderPresenter.MyView {
                                 .element()))
                 .add(div().css(collapse, navbarCollapse, halHeaderCollapse)
                         .add(ul().css(nav, navbarNav, navbarUtility)
+                                .add(searchContainer = li().css(dropdown, halGlobalSearch)
+                                        .add(searchInput = input(text)
+                                                .id(Ids.HEADER_SEARCH)
+                                                .css(formControl)
+                                                .attr(UIConstants.PLACEHOLDER, resources.constants().globalSearch())
+                                                .element())
+                                        .add(searchResults = ul().css(dropdownMenu)
+                                                .id(Ids.HEADER_SEARCH_RESULTS)
+                                                .element())
+                                        .element())
                                 .add(nonProgressingOperationContainer = li()
                                         .add(nonProgressingOperationLink = a().css(clickable)
                                                 .data(TOGGLE, TOOLTIP)
@@ -306,6 +324,7 @@ public class HeaderView extends HalViewImpl implements HeaderPresenter.MyView {
 
         handlers = new ArrayList<>();
         breadcrumbHandlers = new ArrayList<>();
+        searchHandlers = new ArrayList<>();
         for (Map.Entry<String, HTMLElement> entry : tlc.entrySet()) {
             handlers.add(bind(entry.getValue(), click, event -> {
                 if (tlcPlaceRequests.containsKey(entry.getKey())) {
@@ -320,7 +339,19 @@ public class HeaderView extends HalViewImpl implements HeaderPresenter.MyView {
                 bind(reloadLink, click, event -> presenter.reload()),
                 bind(messages, click, event -> notificationDrawer.toggle()),
                 bind(logout, click, event -> presenter.logout()),
-                bind(reconnect, click, event -> presenter.reconnect())));
+                bind(reconnect, click, event -> presenter.reconnect()),
+                bind(searchInput, keyup, event -> {
+                    if ("Escape".equals(event.key)) { //NON-NLS
+                        closeSearchResults();
+                    } else if ("Enter".equals(event.key)) { //NON-NLS
+                        HTMLElement first = (HTMLElement) searchResults.querySelector("a"); //NON-NLS
+                        if (first != null) {
+                            first.click();
+                        }
+                    } else {
+                        presenter.search(searchInput.value);
+                    }
+                })));
     }
 
     private void initTlc(HTMLElement root, String[] tokens, String[] ids) {
@@ -339,6 +370,10 @@ public class HeaderView extends HalViewImpl implements HeaderPresenter.MyView {
             handler.removeHandler();
         }
         breadcrumbHandlers.clear();
+        for (HandlerRegistration handler : searchHandlers) {
+            handler.removeHandler();
+        }
+        searchHandlers.clear();
         for (HandlerRegistration handler : handlers) {
             handler.removeHandler();
         }
@@ -744,4 +779,49 @@ public class HeaderView extends HalViewImpl implements HeaderPresenter.MyView {
     public void hideExternal() {
         setVisible(externalLink, false);
     }
+
+
+    // ------------------------------------------------------ global search
+
+    @Override
+    public void showSearchResults(List<SearchResult> results) {
+        for (HandlerRegistration handler : searchHandlers) {
+            handler.removeHandler();
+        }
+        searchHandlers.clear();
+        Elements.removeChildrenFrom(searchResults);
+
+        if (Strings.isNullOrEmpty(searchInput.value)) {
+            closeSearchResults();
+            return;
+        }
+        if (results.isEmpty()) {
+            searchResults.appendChild(li().css(empty)
+                    .textContent(resources.constants().noMatchingItems())
+                    .element());
+        } else {
+            for (SearchResult result : results) {
+                HTMLElement link;
+                searchResults.appendChild(li()
+                        .add(link = a().css(clickable)
+                                .add(span().css(result.getType() == SearchResult.Type.PLACE
+                                        ? fontAwesome("map-marker")
+                                        : fontAwesome("sitemap")))
+                                .add(" " + result.getTitle())
+                                .add(span().css(subtitle).textContent(result.getDescription()))
+                                .element())
+                        .element());
+                searchHandlers.add(bind(link, click, event -> {
+                    searchInput.value = "";
+                    closeSearchResults();
+                    presenter.goTo(result.getPlaceRequest());
+                }));
+            }
+        }
+        searchContainer.classList.add(open);
+    }
+
+    private void closeSearchResults() {
+        searchContainer.classList.remove(open);
+    }
 }
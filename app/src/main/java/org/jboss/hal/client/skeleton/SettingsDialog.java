@@ -20,7 +20,9 @@ import java.util.List;
 
 import com.google.common.base.Strings;
 import com.google.gwt.core.client.GWT;
+import elemental2.dom.HTMLUListElement;
 import org.jboss.gwt.elemento.core.Elements;
+import org.jboss.gwt.elemento.core.builder.HtmlContentBuilder;
 import org.jboss.hal.ballroom.dialog.DialogFactory;
 import org.jboss.hal.ballroom.form.Form;
 import org.jboss.hal.ballroom.form.FormItem;
@@ -30,6 +32,7 @@ import org.jboss.hal.config.Settings;
 import org.jboss.hal.config.Settings.Key;
 import org.jboss.hal.core.mbui.dialog.ModifyResourceDialog;
 import org.jboss.hal.core.mbui.form.ModelNodeForm;
+import org.jboss.hal.core.polling.PollingScheduler;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Property;
 import org.jboss.hal.meta.Metadata;
@@ -38,6 +41,10 @@ import org.jboss.hal.resources.Resources;
 
 import static elemental2.dom.DomGlobal.window;
 import static java.util.Comparator.naturalOrder;
+import static org.jboss.gwt.elemento.core.Elements.div;
+import static org.jboss.gwt.elemento.core.Elements.h;
+import static org.jboss.gwt.elemento.core.Elements.li;
+import static org.jboss.gwt.elemento.core.Elements.ul;
 import static org.jboss.hal.config.Settings.Key.*;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.ALLOWED;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.ATTRIBUTES;
@@ -54,7 +61,8 @@ class SettingsDialog {
     private FormItem<Long> pollTimeFormItem;
     private int defaultPollTime;
 
-    SettingsDialog(Environment environment, Settings settings, Resources resources) {
+    SettingsDialog(Environment environment, Settings settings, PollingScheduler pollingScheduler,
+            Resources resources) {
         this.settings = settings;
         this.changes = false;
 
@@ -91,6 +99,18 @@ class SettingsDialog {
         form.<Boolean>getFormItem(POLL.key()).addValueChangeHandler(ev -> togglePollTime(ev.getValue()));
         pollTimeFormItem = form.getFormItem(POLL_TIME.key());
 
+        List<PollingScheduler.Poll> polls = pollingScheduler.getPolls();
+        if (!polls.isEmpty()) {
+            HtmlContentBuilder<HTMLUListElement> ul = ul();
+            for (PollingScheduler.Poll poll : polls) {
+                ul.add(li().textContent(resources.messages().activePoll(poll.getName(), poll.getInterval() / 1000)));
+            }
+            form.element().appendChild(div()
+                    .add(h(4, resources.constants().activePolls()))
+                    .add(ul)
+                    .element());
+        }
+
         dialog = new ModifyResourceDialog(resources.constants().settings(), form,
                 (f, changedValues) -> {
                     changedValues.forEach((key, value) -> settings.set(Key.from(key), value));
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.client.tools;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableSet;
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.flow.FlowContext;
+import org.jboss.hal.flow.Task;
+import rx.Completable;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
+
+/**
+ * Executes a batch of macro operations as one composite operation. Steps of a composite are executed in order by the
+ * server, so operations which depend on the result of a previous operation can be part of the same batch.
+ * <p>
+ * Operations which change the lifecycle of a host or server (reload, restart, suspend, ...) and operations which are
+ * already composites are never batched, but executed on their own. Batches are meant to be executed in series: The
+ * domain controller serializes write operations anyway, so executing batches in parallel would not speed up the
+ * playback, but break the order of the recorded operations.
+ * <p>
+ * The task records the number of operations and the execution time of each batch in an instance of {@link Statistics}
+ * stored in the context. If a batch is not rolled back on failure, single steps of a successful composite might still
+ * have failed. The task records these steps and their failure description as well.
+ */
+class MacroBatchTask implements Task<FlowContext> {
+
+    static final String STATISTICS = "macroBatchTask.statistics";
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final Set<String> STANDALONE_OPERATIONS = ImmutableSet.of(
+            DESTROY, DESTROY_SERVERS, KILL, KILL_SERVERS, RELOAD, RELOAD_HOST, RELOAD_SERVERS, RESTART,
+            RESTART_SERVERS, RESUME, RESUME_SERVERS, SHUTDOWN, START, START_SERVERS, STOP, STOP_SERVERS, SUSPEND,
+            SUSPEND_SERVERS);
+
+    /**
+     * Splits the operations into batches.
+     *
+     * @param rollbackOnRuntimeFailure whether the operations of a batch should be rolled back if one of them fails in
+     *                                 the runtime stage
+     */
+    static List<MacroBatchTask> batches(Dispatcher dispatcher, List<Operation> operations,
+            boolean rollbackOnRuntimeFailure) {
+        List<MacroBatchTask> tasks = new ArrayList<>();
+        List<Operation> batch = new ArrayList<>();
+        for (Operation operation : operations) {
+            if (standalone(operation)) {
+                if (!batch.isEmpty()) {
+                    tasks.add(new MacroBatchTask(dispatcher, batch, rollbackOnRuntimeFailure));
+                    batch = new ArrayList<>();
+                }
+                tasks.add(new MacroBatchTask(dispatcher, operation));
+            } else {
+                batch.add(operation);
+                if (batch.size() == MAX_BATCH_SIZE) {
+                    tasks.add(new MacroBatchTask(dispatcher, batch, rollbackOnRuntimeFailure));
+                    batch = new ArrayList<>();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            tasks.add(new MacroBatchTask(dispatcher, batch, rollbackOnRuntimeFailure));
+        }
+        return tasks;
+    }
+
+    private static boolean standalone(Operation operation) {
+        return operation instanceof Composite || STANDALONE_OPERATIONS.contains(operation.getName());
+    }
+
+
+    private final Dispatcher dispatcher;
+    private final Operation operation;
+    private final int size;
+
+    private MacroBatchTask(Dispatcher dispatcher, Operation operation) {
+        this.dispatcher = dispatcher;
+        this.operation = operation;
+        this.size = operation instanceof Composite ? ((Composite) operation).size() : 1;
+    }
+
+    private MacroBatchTask(Dispatcher dispatcher, List<Operation> operations, boolean rollbackOnRuntimeFailure) {
+        this.dispatcher = dispatcher;
+        this.size = operations.size();
+        if (operations.size() == 1) {
+            this.operation = operations.get(0);
+        } else {
+            Composite composite = new Composite(operations);
+            // always send the header: the server rolls back by default
+            composite.addHeader(ROLLBACK_ON_RUNTIME_FAILURE, rollbackOnRuntimeFailure);
+            this.operation = composite;
+        }
+    }
+
+    @Override
+    public Completable call(FlowContext context) {
+        Statistics statistics = context.get(STATISTICS);
+        if (statistics == null) {
+            statistics = new Statistics();
+            context.set(STATISTICS, statistics);
+        }
+        Statistics s = statistics;
+        long start = System.currentTimeMillis();
+        Completable completable = operation instanceof Composite
+                ? dispatcher.execute((Composite) operation)
+                .doOnSuccess(result -> s.recordFailedSteps((Composite) operation, result))
+                .toCompletable()
+                : dispatcher.execute(operation).toCompletable();
+        return completable.doOnCompleted(() -> s.record(size, System.currentTimeMillis() - start));
+    }
+
+
+    /** Number of operations and execution time of the executed batches. */
+    static class Statistics {
+
+        private final List<int[]> batches = new ArrayList<>();
+        private final List<String> failedSteps = new ArrayList<>();
+        private int operations;
+        private long millis;
+
+        private void recordFailedSteps(Composite composite, CompositeResult result) {
+            int index = 0;
+            for (Operation step : composite) {
+                ModelNode stepResult = result.step(index);
+                if (stepResult.hasDefined(OUTCOME) && FAILED.equals(stepResult.get(OUTCOME).asString())) {
+                    String failure = stepResult.hasDefined(FAILURE_DESCRIPTION)
+                            ? stepResult.get(FAILURE_DESCRIPTION).asString()
+                            : FAILED;
+                    failedSteps.add("#" + (batches.size() + 1) + " step " + (index + 1) + ": " + step.asCli() +
+                            " => " + failure);
+                }
+                index++;
+            }
+        }
+
+        private void record(int operations, long millis) {
+            this.batches.add(new int[]{operations, (int) millis});
+            this.operations += operations;
+            this.millis += millis;
+        }
+
+        int getOperations() {
+            return operations;
+        }
+
+        int getBatches() {
+            return batches.size();
+        }
+
+        long getMillis() {
+            return millis;
+        }
+
+        int getFailedSteps() {
+            return failedSteps.size();
+        }
+
+        /**
+         * @return one line per batch with the number of operations and the execution time followed by one line per
+         * failed step
+         */
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < batches.size(); i++) {
+                int[] batch = batches.get(i);
+                builder.append("#").append(i + 1).append(": ")
+                        .append(batch[0]).append(" operation(s), ")
+                        .append(batch[1]).append(" ms\n");
+            }
+            for (String failedStep : failedSteps) {
+                builder.append(failedStep).append("\n");
+            }
+            return builder.toString();
+        }
+    }
+}
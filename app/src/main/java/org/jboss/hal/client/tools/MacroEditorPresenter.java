@@ -131,6 +131,51 @@ public class MacroEditorPresenter
                 });
     }
 
+    /**
+     * Plays the macro by executing its operations in batches of composite operations. Compared to {@link
+     * #play(Macro)} this reduces the number of round trips to the server. If {@code rollbackOnRuntimeFailure} is
+     * {@code true}, the operations of a batch are rolled back if one of them fails. Otherwise the failed operations
+     * are reported together with the playback statistics.
+     */
+    void playAsBatch(Macro macro, boolean rollbackOnRuntimeFailure) {
+        List<MacroBatchTask> tasks = MacroBatchTask.batches(dispatcher, macro.getOperations(),
+                rollbackOnRuntimeFailure);
+        getView().disableMacro(macro);
+        series(new FlowContext(progress.get()), tasks)
+                .subscribe(new Outcome<FlowContext>() {
+                    @Override
+                    public void onError(FlowContext context, Throwable error) {
+                        getView().enableMacro(macro);
+                        MacroBatchTask.Statistics statistics = context.get(MacroBatchTask.STATISTICS);
+                        String details = statistics != null
+                                ? statistics.toString() + error.getMessage()
+                                : error.getMessage();
+                        MessageEvent.fire(getEventBus(),
+                                Message.error(resources.messages().macroPlaybackError(), details));
+                    }
+
+                    @Override
+                    public void onSuccess(FlowContext context) {
+                        getView().enableMacro(macro);
+                        MacroBatchTask.Statistics statistics = context.get(MacroBatchTask.STATISTICS);
+                        if (statistics != null && statistics.getFailedSteps() > 0) {
+                            MessageEvent.fire(getEventBus(), Message.warning(
+                                    resources.messages().macroBatchPlaybackFailedSteps(statistics.getFailedSteps(),
+                                            statistics.getOperations()),
+                                    statistics.toString()));
+                        } else if (statistics != null) {
+                            MessageEvent.fire(getEventBus(), Message.success(
+                                    resources.messages().macroBatchPlaybackSuccessful(statistics.getOperations(),
+                                            statistics.getBatches(), statistics.getMillis()),
+                                    statistics.toString()));
+                        } else {
+                            MessageEvent.fire(getEventBus(),
+                                    Message.success(resources.messages().macroPlaybackSuccessful()));
+                        }
+                    }
+                });
+    }
+
     void rename(Macro macro) {
         alert(Names.NYI);
     }
@@ -21,6 +21,7 @@ import javax.inject.Inject;
 
 import elemental2.dom.HTMLButtonElement;
 import elemental2.dom.HTMLElement;
+import elemental2.dom.HTMLInputElement;
 import org.jboss.gwt.elemento.core.Elements;
 import org.jboss.hal.ballroom.Clipboard;
 import org.jboss.hal.ballroom.EmptyState;
@@ -48,7 +49,10 @@ import static java.util.Arrays.asList;
 import static org.jboss.gwt.elemento.core.Elements.button;
 import static org.jboss.gwt.elemento.core.Elements.collect;
 import static org.jboss.gwt.elemento.core.Elements.div;
+import static org.jboss.gwt.elemento.core.Elements.input;
+import static org.jboss.gwt.elemento.core.Elements.label;
 import static org.jboss.gwt.elemento.core.Elements.span;
+import static org.jboss.gwt.elemento.core.InputType.checkbox;
 import static org.jboss.hal.ballroom.LayoutBuilder.column;
 import static org.jboss.hal.ballroom.LayoutBuilder.row;
 import static org.jboss.hal.ballroom.Skeleton.MARGIN_BIG;
@@ -57,6 +61,7 @@ import static org.jboss.hal.resources.CSS.*;
 public class MacroEditorView extends HalViewImpl implements MacroEditorPresenter.MyView {
 
     private static final String PLAY_ACTION = "play";
+    private static final String PLAY_AS_BATCH_ACTION = "play-as-batch";
     private static final String RENAME_ACTION = "rename";
     private static final String REMOVE_ACTION = "remove";
     private static final int MIN_HEIGHT = 70;
@@ -107,6 +112,8 @@ public class MacroEditorView extends HalViewImpl implements MacroEditorPresenter
                 return asList(
                         new ItemAction<>(PLAY_ACTION, resources.constants().play(),
                                 macro -> presenter.play(macro)),
+                        new ItemAction<>(PLAY_AS_BATCH_ACTION, resources.constants().playAsBatch(),
+                                macro -> playAsBatch(macro)),
                         // new ItemAction<Macro>(RENAME_ACTION, resources.constants().rename(),
                         //         macro -> presenter.rename(macro)),
                         new ItemAction<>(REMOVE_ACTION, resources.constants().remove(),
@@ -147,6 +154,19 @@ public class MacroEditorView extends HalViewImpl implements MacroEditorPresenter
         initElements(asList(empty.element(), row));
     }
 
+    private void playAsBatch(Macro macro) {
+        HTMLInputElement rollback = input(checkbox).id(Ids.MACRO_ROLLBACK).element();
+        rollback.checked = true;
+        HTMLElement element = div()
+                .add(rollback)
+                .add(label().css(marginLeft5)
+                        .apply(l -> l.htmlFor = Ids.MACRO_ROLLBACK)
+                        .textContent(resources.constants().rollbackOnFailure())).element();
+        DialogFactory.showConfirmation(resources.constants().playAsBatch(),
+                resources.messages().macroBatchPlaybackQuestion(macro.getName()), element,
+                () -> presenter.playAsBatch(macro, rollback.checked));
+    }
+
     @Override
     public void attach() {
         super.attach();
@@ -201,6 +221,7 @@ public class MacroEditorView extends HalViewImpl implements MacroEditorPresenter
     @Override
     public void enableMacro(Macro macro) {
         macroList.enableAction(macro, PLAY_ACTION);
+        macroList.enableAction(macro, PLAY_AS_BATCH_ACTION);
         macroList.enableAction(macro, RENAME_ACTION);
         macroList.enableAction(macro, REMOVE_ACTION);
     }
@@ -208,6 +229,7 @@ public class MacroEditorView extends HalViewImpl implements MacroEditorPresenter
     @Override
     public void disableMacro(Macro macro) {
         macroList.disableAction(macro, PLAY_ACTION);
+        macroList.disableAction(macro, PLAY_AS_BATCH_ACTION);
         macroList.disableAction(macro, RENAME_ACTION);
         macroList.disableAction(macro, REMOVE_ACTION);
     }
@@ -52,6 +52,12 @@ public class FormTest extends MbuiViewProcessorTest {
         assertSourceEquals(compilation, "Mbui_FormItemProviderView");
     }
 
+    @Test
+    public void groupedFormItemProvider() {
+        Compilation compilation = compile("GroupedFormItemProviderView");
+        assertSourceEquals(compilation, "Mbui_GroupedFormItemProviderView");
+    }
+
     @Test
     public void unboundFormItem() {
         Compilation compilation = compile("UnboundFormItemView");
@@ -16,6 +16,7 @@ import org.jboss.hal.ballroom.ExpressionUtil;
 import org.jboss.hal.ballroom.LayoutBuilder;
 import org.jboss.hal.ballroom.autocomplete.ReadChildrenAutoComplete;
 import org.jboss.hal.core.mbui.dialog.AddResourceDialog;
+import org.jboss.hal.core.mbui.form.FormLayout;
 import org.jboss.hal.core.mbui.form.GroupedForm;
 import org.jboss.hal.core.mbui.form.ModelNodeForm;
 import org.jboss.hal.core.mbui.table.ModelNodeTable;
@@ -42,6 +43,8 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATIO
 @Generated("org.jboss.hal.processor.mbui.MbuiViewProcessor")
 public final class Mbui_AttributeGroupsView extends AttributeGroupsView {
 
+    private static final FormLayout formLayout0 = new FormLayout("foo", "bar");
+    private static final FormLayout formLayout1 = new FormLayout("baz", "qux");
     private final Metadata metadata0;
     private final Map<String, HTMLElement> expressionElements;
 
@@ -56,10 +59,10 @@ public final class Mbui_AttributeGroupsView extends AttributeGroupsView {
 
         form = new GroupedForm.Builder<org.jboss.hal.dmr.ModelNode>("form", metadata0)
                 .customGroup("group-1", "Group 1")
-                .include("foo", "bar")
+                .layout(formLayout0)
                 .end()
                 .customGroup("group-2", "Group 2")
-                .include("baz", "qux")
+                .layout(formLayout1)
                 .end()
                 .onSave((form, changedValues) -> saveSingletonForm("Form",
                         metadata0Template.resolve(statementContext()), changedValues, metadata0))
@@ -16,6 +16,7 @@ import org.jboss.hal.ballroom.ExpressionUtil;
 import org.jboss.hal.ballroom.LayoutBuilder;
 import org.jboss.hal.ballroom.autocomplete.ReadChildrenAutoComplete;
 import org.jboss.hal.core.mbui.dialog.AddResourceDialog;
+import org.jboss.hal.core.mbui.form.FormLayout;
 import org.jboss.hal.core.mbui.form.GroupedForm;
 import org.jboss.hal.core.mbui.form.ModelNodeForm;
 import org.jboss.hal.core.mbui.table.ModelNodeTable;
@@ -42,6 +43,7 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATIO
 @Generated("org.jboss.hal.processor.mbui.MbuiViewProcessor")
 public final class Mbui_FormItemProviderView extends FormItemProviderView {
 
+    private static final FormLayout formLayout = new FormLayout("foo", "bar");
     private final Metadata metadata0;
     private final Map<String, HTMLElement> expressionElements;
 
@@ -55,7 +57,7 @@ public final class Mbui_FormItemProviderView extends FormItemProviderView {
         this.expressionElements = new HashMap<>();
 
         form = new ModelNodeForm.Builder<org.jboss.hal.dmr.ModelNode>("form", metadata0)
-                .include("foo")
+                .layout(formLayout)
                 .customFormItem("bar", (attributeDescription) -> new org.jboss.hal.ballroom.form.TextBoxItem("bar", "Bar"))
                 .unsorted()
                 .onSave((form, changedValues) -> saveSingletonForm("Form",
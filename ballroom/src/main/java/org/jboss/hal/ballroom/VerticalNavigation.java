@@ -15,10 +15,14 @@
  */
 package org.jboss.hal.ballroom;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import elemental2.dom.Element;
 import elemental2.dom.HTMLAnchorElement;
@@ -62,6 +66,10 @@ import static org.jboss.hal.resources.CSS.*;
  * <li>{@code insert*()}: Use these methods to add panes <strong>after</strong> the panes were added to the DOM</li>
  * </ul>
  *
+ * <p>Panes which are expensive to create can be added using the {@code addLazy*()} methods. Lazy panes are created
+ * when their item is shown for the first time. If the created element implements {@link Attachable}, the navigation
+ * attaches it as soon as it's part of the DOM and attaches / detaches it together with the navigation.</p>
+ *
  * @see <a href="https://www.patternfly.org/patterns/vertical-with-persistent-secondary/">https://www.patternfly.org/patterns/vertical-with-persistent-secondary/</a>
  */
 // TODO Simplify: Replace linked collections. The order of items and panes should not matter, only the order
@@ -90,11 +98,13 @@ public class VerticalNavigation implements Attachable {
     private LinkedHashMap<String, Item> items;
     private LinkedHashMap<String, Pane> panes;
     private Map<String, Callback> callbacks;
+    private List<Attachable> lazyAttachables;
 
     public VerticalNavigation() {
         this.items = new LinkedHashMap<>();
         this.panes = new LinkedHashMap<>();
         this.callbacks = new HashMap<>();
+        this.lazyAttachables = new ArrayList<>();
     }
 
     @Override
@@ -115,11 +125,13 @@ public class VerticalNavigation implements Attachable {
         Elements.setVisible(root, true);
 
         Api.select().setupVerticalNavigation(true);
+        lazyAttachables.forEach(Attachable::attach);
         showInitial();
     }
 
     @Override
     public void detach() {
+        lazyAttachables.forEach(Attachable::detach);
         Elements.removeChildrenFrom(ul);
         root.classList.remove(navPfPersistentSecondary);
         root.classList.remove(navPfVerticalWithSubMenus);
@@ -170,6 +182,18 @@ public class VerticalNavigation implements Attachable {
         return addPrimary(items, panes, id, text, iconClass, new Pane(id, element));
     }
 
+    /**
+     * Adds a primary navigation item whose pane is created when the item is shown for the first time.
+     *
+     * @param pane  creates the pane
+     * @param built called with the created pane after it has been added to the DOM (and attached), e.g. to replay the
+     *              latest data. May be {@code null}.
+     */
+    public <T extends IsElement<HTMLElement>> VerticalNavigation addLazyPrimary(String id, String text,
+            String iconClass, Supplier<T> pane, Consumer<T> built) {
+        return addPrimary(items, panes, id, text, iconClass, lazyPane(id, pane, built));
+    }
+
     /**
      * Inserts a primary navigation item <em>before</em> the specified item. If {@code beforeId} is {@code null}, the
      * item is inserted as last item. If there's not item with id {@code beforeId}, an error message is logged and no
@@ -292,6 +316,18 @@ public class VerticalNavigation implements Attachable {
         return addSecondary(items, panes, primaryId, id, text, new Pane(id, element));
     }
 
+    /**
+     * Adds a secondary navigation item whose pane is created when the item is shown for the first time.
+     *
+     * @param pane  creates the pane
+     * @param built called with the created pane after it has been added to the DOM (and attached), e.g. to replay the
+     *              latest data. May be {@code null}.
+     */
+    public <T extends IsElement<HTMLElement>> VerticalNavigation addLazySecondary(String primaryId, String id,
+            String text, Supplier<T> pane, Consumer<T> built) {
+        return addSecondary(items, panes, primaryId, id, text, lazyPane(id, pane, built));
+    }
+
     /**
      * Inserts a secondary navigation item <em>before</em> the specified item. If {@code beforeId} is {@code null}, the
      * item is inserted as last item. If there's not item with id {@code beforeId}, an error message is logged and no
@@ -376,6 +412,23 @@ public class VerticalNavigation implements Attachable {
 
     // ------------------------------------------------------ misc
 
+    private <T extends IsElement<HTMLElement>> Pane lazyPane(String id, Supplier<T> supplier, Consumer<T> built) {
+        Pane pane = new Pane(id, div().element());
+        pane.materializer = () -> {
+            T element = supplier.get();
+            pane.element().appendChild(element.element());
+            if (element instanceof Attachable) {
+                Attachable attachable = (Attachable) element;
+                lazyAttachables.add(attachable);
+                attachable.attach();
+            }
+            if (built != null) {
+                built.accept(element);
+            }
+        };
+        return pane;
+    }
+
     private void showInitial() {
         if (!items.isEmpty()) {
             String id;
@@ -395,6 +448,10 @@ public class VerticalNavigation implements Attachable {
             if (show.parentId != null) {
                 show(show.parentId);
             }
+            Pane showPane = panes.get(id);
+            if (showPane != null) {
+                showPane.materialize();
+            }
             for (Pane pane : panes.values()) {
                 if (pane != null) {
                     Elements.setVisible(pane.element(), pane.id.equals(id));
@@ -520,6 +577,7 @@ public class VerticalNavigation implements Attachable {
 
         private final String id;
         private final HTMLElement element;
+        private Callback materializer;
 
         private Pane(String id, HTMLElement element) {
             this.id = id;
@@ -533,6 +591,15 @@ public class VerticalNavigation implements Attachable {
             this.element.dataset.set("vnItemFor", id);
         }
 
+        /** Creates the content of a lazy pane. Does nothing if the pane is not lazy or has been created already. */
+        private void materialize() {
+            if (materializer != null) {
+                Callback callback = materializer;
+                materializer = null;
+                callback.execute();
+            }
+        }
+
         @Override
         public HTMLElement element() {
             return element;
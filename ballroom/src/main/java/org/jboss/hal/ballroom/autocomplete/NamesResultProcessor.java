@@ -36,7 +36,8 @@ public class NamesResultProcessor extends ReadChildrenProcessor implements Resul
                 .map(node -> new ReadChildrenResult(node.asString()))
                 .filter(result -> !isNullOrEmpty(query) &&
                         (SuggestHandler.SHOW_ALL_VALUE.equals(query) || result.name.contains(query)))
-                .sorted(Comparator.comparing(result -> result.name))
+                .sorted(Comparator.comparing((ReadChildrenResult result) -> result.name,
+                        SuggestionIndex.ranking(query)))
                 .collect(toList());
     }
 
@@ -75,28 +75,19 @@ public class ReadChildrenAutoComplete extends AutoComplete {
                             .map(address -> operation(address, numberOfTemplates))
                             .collect(toList());
                     if (operations.size() == 1) {
-                        dispatcher.execute(operations.get(0),
+                        SuggestionIndex.execute(dispatcher, operations.get(0),
                                 result -> response.response(resultProcessor.process(query, result)),
-                                (operation, failure) -> {
-                                    logger.error(ERROR_MESSAGE, templates, failure);
-                                    response.response(new JsonObject[0]);
-
-                                },
-                                (operation, exception) -> {
-                                    logger.error(ERROR_MESSAGE, templates, exception.getMessage());
+                                error -> {
+                                    logger.error(ERROR_MESSAGE, templates, error.getMessage());
                                     response.response(new JsonObject[0]);
                                 });
 
                     } else {
-                        dispatcher.execute(new Composite(operations),
-                                (CompositeResult result) -> response.response(resultProcessor.process(query, result)),
-                                (operation, failure) -> {
-                                    logger.error(ERROR_MESSAGE, templates, failure);
-                                    response.response(new JsonObject[0]);
-
-                                },
-                                (operation, exception) -> {
-                                    logger.error(ERROR_MESSAGE, templates, exception.getMessage());
+                        SuggestionIndex.execute(dispatcher, new Composite(operations),
+                                result -> response.response(
+                                        resultProcessor.process(query, new CompositeResult(result))),
+                                error -> {
+                                    logger.error(ERROR_MESSAGE, templates, error.getMessage());
                                     response.response(new JsonObject[0]);
                                 });
                     }
@@ -41,26 +41,22 @@ public class SuggestCapabilitiesAutoComplete extends AutoComplete {
                 .build();
 
         Options options = new OptionsBuilder<String>(
-                (query, response) -> dispatcher.execute(operation,
+                (query, response) -> SuggestionIndex.execute(dispatcher, operation,
                         result -> {
                             if (result.isDefined()) {
                                 String[] items = result.asList().stream()
                                         .map(ModelNode::asString)
                                         .filter(value -> SHOW_ALL_VALUE.equals(query) ||
                                                 value.toLowerCase().contains(query.toLowerCase()))
-                                        .sorted()
+                                        .sorted(SuggestionIndex.ranking(query))
                                         .toArray(String[]::new);
                                 response.response(items);
                             } else {
                                 response.response(new String[0]);
                             }
                         },
-                        (op, failure) -> {
-                            logger.error(ERROR_MESSAGE, capability, template, failure);
-                            response.response(new String[0]);
-                        },
-                        (op, exception) -> {
-                            logger.error(ERROR_MESSAGE, capability, template, exception.getMessage());
+                        error -> {
+                            logger.error(ERROR_MESSAGE, capability, template, error.getMessage());
                             response.response(new String[0]);
                         }))
                 .build();
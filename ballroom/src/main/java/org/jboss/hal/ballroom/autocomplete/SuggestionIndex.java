@@ -0,0 +1,140 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.ballroom.autocomplete;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+
+import static org.jboss.hal.ballroom.form.SuggestHandler.SHOW_ALL_VALUE;
+
+/**
+ * Session wide index of the results of the operations used by {@link ReadChildrenAutoComplete} and {@link
+ * SuggestCapabilitiesAutoComplete}.
+ * <p>
+ * Auto complete queries are triggered on every keystroke, but the operations behind them only depend on the
+ * (resolved) address and not on the query. The index executes an operation only once and serves subsequent queries
+ * from the stored result. Queries which arrive while the operation is still pending, wait for the pending operation.
+ * The filtering and ranking of the suggestions happens client side.
+ * <p>
+ * Results are kept for {@value #TIMEOUT} ms. The index is invalidated whenever the dispatcher executes an operation
+ * which adds or removes resources (see {@link org.jboss.hal.dmr.dispatch.ResourcesChangedEvent}).
+ */
+public final class SuggestionIndex {
+
+    static final long TIMEOUT = 60000;
+    private static final Map<String, Entry> entries = new HashMap<>();
+
+    /** Removes all results from the index. Pending operations are executed, but their results are not stored. */
+    public static void invalidate() {
+        entries.values().removeIf(entry -> {
+            entry.stale = true;
+            return !entry.pending();
+        });
+    }
+
+    /**
+     * Returns a comparator which ranks suggestions starting with the query before suggestions which only contain the
+     * query. Suggestions with the same rank are sorted alphabetically.
+     */
+    static Comparator<String> ranking(String query) {
+        String q = query == null || SHOW_ALL_VALUE.equals(query) ? "" : query.toLowerCase();
+        return Comparator.<String, Boolean>comparing(value -> !value.toLowerCase().startsWith(q))
+                .thenComparing(Comparator.naturalOrder());
+    }
+
+    /**
+     * Executes the operation unless there's a valid result in the index. Composite operations are supported as well: In
+     * that case the result contains the steps of the composite.
+     */
+    static void execute(Dispatcher dispatcher, Operation operation, Consumer<ModelNode> success,
+            Consumer<Throwable> failure) {
+        String key = operation.asCli();
+        Entry entry = entries.get(key);
+        if (entry != null && !entry.pending() && System.currentTimeMillis() - entry.timestamp > TIMEOUT) {
+            entries.remove(key);
+            entry = null;
+        }
+
+        if (entry == null) {
+            Entry newEntry = new Entry();
+            newEntry.add(success, failure);
+            entries.put(key, newEntry);
+            dispatcher.execute(operation).subscribe(
+                    result -> {
+                        newEntry.result = result;
+                        newEntry.timestamp = System.currentTimeMillis();
+                        if (newEntry.stale) {
+                            entries.remove(key, newEntry);
+                        }
+                        newEntry.succeed(result);
+                    },
+                    error -> {
+                        entries.remove(key, newEntry);
+                        newEntry.fail(error);
+                    });
+
+        } else if (entry.pending()) {
+            entry.add(success, failure);
+
+        } else {
+            success.accept(entry.result);
+        }
+    }
+
+    private SuggestionIndex() {
+    }
+
+
+    private static class Entry {
+
+        private ModelNode result;
+        private long timestamp;
+        private boolean stale;
+        private List<Consumer<ModelNode>> successCallbacks = new ArrayList<>();
+        private List<Consumer<Throwable>> failureCallbacks = new ArrayList<>();
+
+        private boolean pending() {
+            return successCallbacks != null;
+        }
+
+        private void add(Consumer<ModelNode> success, Consumer<Throwable> failure) {
+            successCallbacks.add(success);
+            failureCallbacks.add(failure);
+        }
+
+        private void succeed(ModelNode result) {
+            List<Consumer<ModelNode>> callbacks = successCallbacks;
+            successCallbacks = null;
+            failureCallbacks = null;
+            callbacks.forEach(callback -> callback.accept(result));
+        }
+
+        private void fail(Throwable error) {
+            List<Consumer<Throwable>> callbacks = failureCallbacks;
+            successCallbacks = null;
+            failureCallbacks = null;
+            callbacks.forEach(callback -> callback.accept(error));
+        }
+    }
+}
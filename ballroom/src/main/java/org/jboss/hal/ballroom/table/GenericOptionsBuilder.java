@@ -50,6 +50,7 @@ public abstract class GenericOptionsBuilder<B extends GenericOptionsBuilder<B, T
     protected boolean searching;
     protected Api.Select select;
     private Map<String, InlineActionHandler<T>> columnActionHandler;
+    private boolean deferRender;
     private int pageLength;
     private boolean paging;
     private Options<T> options;
@@ -202,6 +203,17 @@ public abstract class GenericOptionsBuilder<B extends GenericOptionsBuilder<B, T
         return that();
     }
 
+    /**
+     * Creates the rows of the table only when they're displayed. Use this for paged tables with many rows, which are
+     * updated often.
+     */
+    public B deferRender(boolean deferRender) {
+        assertNoOptions();
+
+        this.deferRender = deferRender;
+        return that();
+    }
+
     public B keys(boolean keys) {
         assertNoOptions();
 
@@ -254,6 +266,7 @@ public abstract class GenericOptionsBuilder<B extends GenericOptionsBuilder<B, T
             }
         }
         options.columns = columns.toArray(new Column[0]);
+        options.deferRender = deferRender;
         options.keys = keys;
         options.paging = paging;
         options.pageLength = pageLength;
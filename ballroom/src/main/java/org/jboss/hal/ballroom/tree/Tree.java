@@ -41,13 +41,20 @@ public class Tree<T> implements IsElement, Attachable {
      */
     @SuppressWarnings("unchecked")
     public Tree(String id, Node<T> root, DataFunction<T> data) {
+        this(id, new Node[]{root}, data);
+    }
+
+    /**
+     * Creates a tree with the specified root nodes. All other nodes are loaded on demand using the provided callback.
+     */
+    @SuppressWarnings("unchecked")
+    public Tree(String id, Node<T>[] roots, DataFunction<T> data) {
         this.id = id;
         this.div = div().id(id).element();
         this.options = initOptions();
         this.options.core.data = (DataFunction<T>) (node, callback) -> {
             if (ROOT_NODE.equals(node.id)) {
-                Node<T>[] rootNodes = new Node[]{root};
-                callback.result(rootNodes);
+                callback.result(roots);
             } else {
                 data.load(node, callback);
             }
@@ -78,6 +78,14 @@ public class NamesResultProcessorTest {
         assertEquals("public", results.get(1).name);
     }
 
+    @Test
+    public void prefixMatchesFirst() throws Exception {
+        List<ReadChildrenResult> results = resultProcessor.processToModel("u", nodes);
+        assertEquals(2, results.size());
+        assertEquals("unsecure", results.get(0).name);
+        assertEquals("public", results.get(1).name);
+    }
+
     @Test
     public void noMatches() throws Exception {
         List<ReadChildrenResult> results = resultProcessor.processToModel("foo", nodes);
@@ -24,9 +24,11 @@ import jsinterop.annotations.JsIgnore;
 import jsinterop.annotations.JsMethod;
 import jsinterop.annotations.JsProperty;
 import jsinterop.annotations.JsType;
+import org.jboss.hal.ballroom.autocomplete.SuggestionIndex;
 import org.jboss.hal.ballroom.dialog.Dialog;
 import org.jboss.hal.config.Endpoints;
 import org.jboss.hal.config.Environment;
+import org.jboss.hal.core.expression.ExpressionResolver;
 import org.jboss.hal.core.extension.ExtensionRegistry;
 import org.jboss.hal.core.mbui.form.ModelNodeForm;
 import org.jboss.hal.core.mbui.table.ModelNodeTable;
@@ -36,6 +38,7 @@ import org.jboss.hal.dmr.NamedNode;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.dmr.dispatch.ResourcesChangedEvent;
 import org.jboss.hal.meta.AddressTemplate;
 import org.jboss.hal.meta.Metadata;
 import org.jboss.hal.meta.MetadataRegistry;
@@ -68,6 +71,7 @@ public class Core {
     private final Endpoints endpoints;
     private final Environment environment;
     private final EventBus eventBus;
+    private final ExpressionResolver expressionResolver;
     private final ExtensionRegistry extensionRegistry;
     private final MetadataProcessor metadataProcessor;
     private final MetadataRegistry metadataRegistry;
@@ -81,6 +85,7 @@ public class Core {
             Endpoints endpoints,
             Environment environment,
             EventBus eventBus,
+            ExpressionResolver expressionResolver,
             ExtensionRegistry extensionRegistry,
             MetadataProcessor metadataProcessor,
             MetadataRegistry metadataRegistry,
@@ -91,11 +96,15 @@ public class Core {
         this.endpoints = endpoints;
         this.environment = environment;
         this.eventBus = eventBus;
+        this.expressionResolver = expressionResolver;
         this.extensionRegistry = extensionRegistry;
         this.metadataProcessor = metadataProcessor;
         this.metadataRegistry = metadataRegistry;
         this.statementContext = statementContext;
         this.tableButtonFactory = tableButtonFactory;
+
+        // suggestions might contain the names of added or removed resources
+        eventBus.addHandler(ResourcesChangedEvent.getType(), event -> SuggestionIndex.invalidate());
     }
 
     /**
@@ -135,6 +144,11 @@ public class Core {
         return eventBus;
     }
 
+    @JsIgnore
+    public ExpressionResolver expressionResolver() {
+        return expressionResolver;
+    }
+
     /**
      * @return extension registry
      */
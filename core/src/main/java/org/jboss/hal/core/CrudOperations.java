@@ -1328,6 +1328,137 @@ public class CrudOperations {
     }
 
 
+    // ------------------------------------------------------ write and refresh
+
+    /**
+     * Executes an add operation and reads the new resource in one composite operation. After the resource has been
+     * added the specified success message is fired and the specified callback is executed with the address and the
+     * recursive {@code read-resource} result of the new resource. Use this method together with {@link
+     * RecursiveResult} to refresh only the affected part of a view.
+     *
+     * @param name           the resource name used in the error message (may be null for singletons)
+     * @param address        the fq address for the add operation
+     * @param payload        the optional payload of the add operation (may be null or undefined)
+     * @param successMessage the success message fired after adding the resource
+     * @param callback       the callback executed with the address and the fresh result of the new resource
+     */
+    @JsIgnore
+    public void addAndRefresh(@Nullable String name, ResourceAddress address, @Nullable ModelNode payload,
+            SafeHtml successMessage, RefreshCallback callback) {
+        Operation.Builder builder = new Operation.Builder(address, ADD);
+        if (payload != null && payload.isDefined()) {
+            builder.payload(payload);
+        }
+        String errorName = name != null ? name : address.lastValue();
+        dispatcher.execute(new Composite(builder.build(), refreshOperation(address)), (CompositeResult result) -> {
+                    MessageEvent.fire(eventBus, Message.success(successMessage));
+                    callback.execute(address, refreshed(result));
+                }, (operation, failure) -> MessageEvent.fire(eventBus,
+                Message.error(resources.messages().addResourceError(errorName, failure))),
+                (operation, exception) -> MessageEvent.fire(eventBus,
+                        Message.error(resources.messages().addResourceError(errorName, exception.getMessage()))));
+    }
+
+    /**
+     * Writes the changed values to the specified (singleton) resource and reads the resource in one composite
+     * operation. After the resource has been saved the specified success message is fired and the specified callback
+     * is executed with the address and the recursive {@code read-resource} result of the resource.
+     * <p>
+     * If the change set is empty, a warning message is fired and the callback is executed with a fresh read of the
+     * resource.
+     *
+     * @param address        the fq address for the operation
+     * @param changedValues  the changed values / payload for the operation
+     * @param metadata       the metadata of the attributes in the change set
+     * @param successMessage the success message fired after saving the resource
+     * @param callback       the callback executed with the address and the fresh result of the resource
+     */
+    @JsIgnore
+    public void saveAndRefresh(ResourceAddress address, Map<String, Object> changedValues, Metadata metadata,
+            SafeHtml successMessage, RefreshCallback callback) {
+        Composite operations = operationFactory.fromChangeSet(address, changedValues, metadata);
+        if (operations.isEmpty()) {
+            MessageEvent.fire(eventBus, Message.warning(resources.messages().noChanges()));
+        }
+        executeAndRefresh(operations, address, operations.isEmpty() ? null : successMessage, callback);
+    }
+
+    /**
+     * Undefines all non required attributes in the specified form and reads the resource in one composite operation.
+     * The user has to confirm the reset. After the resource has been reset the specified success message is fired and
+     * the specified callback is executed with the address and the recursive {@code read-resource} result of the
+     * resource.
+     * <p>
+     * If the form contains only required attributes, a warning message is fired and the callback is executed with a
+     * fresh read of the resource.
+     *
+     * @param type           the human readable resource type used in the confirmation dialog
+     * @param name           the resource name (null for singletons)
+     * @param address        the fq address for the operation
+     * @param form           the form which should be reset
+     * @param metadata       the metadata of the attributes
+     * @param successMessage the success message fired after resetting the resource
+     * @param callback       the callback executed with the address and the fresh result of the resource
+     */
+    @JsIgnore
+    public <T> void resetAndRefresh(String type, @Nullable String name, ResourceAddress address, Form<T> form,
+            Metadata metadata, SafeHtml successMessage, RefreshCallback callback) {
+        Set<String> attributes = stream(form.getBoundFormItems().spliterator(), false)
+                .map(FormItem::getName)
+                .collect(toSet());
+        Composite composite = operationFactory.resetResource(address, attributes, metadata);
+        if (composite.isEmpty()) {
+            MessageEvent.fire(eventBus, Message.warning(resources.messages().noReset()));
+            executeAndRefresh(composite, address, null, callback);
+        } else {
+            SafeHtml question = name == null
+                    ? resources.messages().resetSingletonConfirmationQuestion()
+                    : resources.messages().resetConfirmationQuestion(name);
+            DialogFactory.showConfirmation(resources.messages().resetConfirmationTitle(type), question,
+                    () -> executeAndRefresh(composite, address, successMessage, callback));
+        }
+    }
+
+    /**
+     * Shows a confirmation dialog and removes the (singleton) resource if confirmed by the user. After the resource has
+     * been removed a success message is fired and the specified callback is executed with the address and an undefined
+     * model node. Passing the undefined node to {@link RecursiveResult#patch(ResourceAddress, ModelNode)} removes the
+     * resource from the cached result.
+     *
+     * @param type     the human readable resource type used in the success message
+     * @param name     the resource name (null for singletons)
+     * @param address  the fq address for the {@code remove} operation
+     * @param callback the callback executed after the resource has been removed
+     */
+    @JsIgnore
+    public void removeAndRefresh(String type, @Nullable String name, ResourceAddress address,
+            RefreshCallback callback) {
+        remove(type, name, address, () -> callback.execute(address, new ModelNode()));
+    }
+
+    private void executeAndRefresh(Composite operations, ResourceAddress address, @Nullable SafeHtml successMessage,
+            RefreshCallback callback) {
+        operations.add(refreshOperation(address));
+        dispatcher.execute(operations, (CompositeResult result) -> {
+            if (successMessage != null) {
+                MessageEvent.fire(eventBus, Message.success(successMessage));
+            }
+            callback.execute(address, refreshed(result));
+        });
+    }
+
+    private Operation refreshOperation(ResourceAddress address) {
+        return new Operation.Builder(address, READ_RESOURCE_OPERATION)
+                .param(INCLUDE_ALIASES, true)
+                .param(RECURSIVE, true)
+                .build();
+    }
+
+    private ModelNode refreshed(CompositeResult result) {
+        return result.step(result.size() - 1).get(RESULT);
+    }
+
+
     // ------------------------------------------------------ JS methods
 
     /**
@@ -1715,5 +1846,22 @@ public class CrudOperations {
 
         void execute(CompositeResult result);
     }
+
+
+    /**
+     * Callback used in the {@code *AndRefresh} methods
+     */
+    @FunctionalInterface
+    public interface RefreshCallback {
+
+        /**
+         * Called after the resource has been added, modified or removed.
+         *
+         * @param address  the address of the resource
+         * @param resource the recursive {@code read-resource} result of the resource or an undefined node if the
+         *                 resource has been removed
+         */
+        void execute(ResourceAddress address, ModelNode resource);
+    }
 }
 
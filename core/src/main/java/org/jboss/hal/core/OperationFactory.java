@@ -180,6 +180,37 @@ public class OperationFactory {
         return new Composite(operations.values().stream().filter(Objects::nonNull).collect(toList()));
     }
 
+    /**
+     * Turns a change-set into a composite operation like {@link #fromChangeSet(ResourceAddress, Map, Metadata)}, but
+     * skips attributes whose value is equal to the value in the specified model node. Use this method if the change-set
+     * might contain values which didn't change compared to the persisted resource (e.g. expressions or lists which have
+     * been re-serialized).
+     *
+     * @param address   the fq address used for the operations
+     * @param changeSet the changed values
+     * @param metadata  the metadata which should contain the attribute definitions of the change-set
+     * @param model     the persisted resource the change-set is compared to
+     */
+    public Composite fromChangeSet(ResourceAddress address, Map<String, Object> changeSet, Metadata metadata,
+            ModelNode model) {
+        ResourceDescription resourceDescription = metadata.getDescription();
+        Map<String, Object> modified = new HashMap<>(changeSet);
+        modified.entrySet().removeIf(entry -> unchanged(entry.getKey(), entry.getValue(), model,
+                resourceDescription));
+        return fromChangeSet(address, modified, metadata);
+    }
+
+    private boolean unchanged(String name, Object value, ModelNode model, ResourceDescription resourceDescription) {
+        boolean defined = model != null && model.isDefined() && model.hasDefined(name);
+        if (isNullOrEmpty(value)) {
+            return !defined;
+        } else if (defined) {
+            ModelNode valueNode = asValueNode(name, value, resourceDescription);
+            return valueNode != null && valueNode.equals(model.get(name));
+        }
+        return false;
+    }
+
     /**
      * Creates a composite operation which resets the attributes of the specified resource. Only attributes which are
      * nillable, w/o alternatives and not read-only will be reset. The composite contains {@linkplain
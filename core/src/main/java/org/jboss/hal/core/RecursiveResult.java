@@ -0,0 +1,109 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.core;
+
+import java.util.List;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Property;
+import org.jboss.hal.dmr.ResourceAddress;
+
+/**
+ * Client side copy of a recursive {@code read-resource} result.
+ * <p>
+ * Presenters which show a resource including its children keep the result of the initial recursive read in an
+ * instance of this class. After a resource below the root address has been added, modified or removed, the fresh
+ * (recursive) result of just that resource is {@linkplain #patch(ResourceAddress, ModelNode) patched} into the copy
+ * instead of reading the whole tree again. The returned child type tells the presenter which part of the view to
+ * update. Use the {@code *AndRefresh()} methods of {@link CrudOperations} to get the fresh result together with the
+ * write operation.
+ */
+public class RecursiveResult {
+
+    private final ResourceAddress root;
+    private ModelNode model;
+
+    public RecursiveResult(ResourceAddress root) {
+        this.root = root;
+        this.model = new ModelNode();
+    }
+
+    /** Replaces the copy with the result of a recursive {@code read-resource} on the root address. */
+    public void set(ModelNode model) {
+        this.model = model;
+    }
+
+    public ModelNode get() {
+        return model;
+    }
+
+    public ResourceAddress getRoot() {
+        return root;
+    }
+
+    /**
+     * Patches the specified resource into the copy. An undefined resource removes the resource from the copy.
+     *
+     * @param address  the address of the added, modified or removed resource
+     * @param resource the recursive {@code read-resource} result of the resource or an undefined node if the resource
+     *                 has been removed
+     *
+     * @return the child type of the root resource which contains the resource or {@code null} if the address is the
+     * root address itself
+     *
+     * @throws IllegalArgumentException if the address is not the root address or below it
+     */
+    public String patch(ResourceAddress address, ModelNode resource) {
+        List<Property> segments = address.asPropertyList();
+        List<Property> rootSegments = root.asPropertyList();
+        if (!below(segments, rootSegments)) {
+            throw new IllegalArgumentException("Address " + address + " is not below " + root);
+        }
+
+        if (segments.size() == rootSegments.size()) {
+            model = resource;
+            return null;
+        }
+        ModelNode node = model;
+        for (Property segment : segments.subList(rootSegments.size(), segments.size() - 1)) {
+            node = node.get(segment.getName()).get(segment.getValue().asString());
+        }
+        Property last = segments.get(segments.size() - 1);
+        ModelNode children = node.get(last.getName());
+        String name = last.getValue().asString();
+        if (resource.isDefined()) {
+            children.get(name).set(resource);
+        } else if (children.hasDefined(name)) {
+            children.remove(name);
+        }
+        return segments.get(rootSegments.size()).getName();
+    }
+
+    private boolean below(List<Property> segments, List<Property> rootSegments) {
+        if (segments.size() < rootSegments.size()) {
+            return false;
+        }
+        for (int i = 0; i < rootSegments.size(); i++) {
+            Property segment = segments.get(i);
+            Property rootSegment = rootSegments.get(i);
+            if (!segment.getName().equals(rootSegment.getName()) ||
+                    !segment.getValue().asString().equals(rootSegment.getValue().asString())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
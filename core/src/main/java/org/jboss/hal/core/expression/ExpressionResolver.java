@@ -15,39 +15,58 @@
  */
 package org.jboss.hal.core.expression;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 
 import javax.inject.Inject;
 
-import com.google.common.collect.ImmutableMap;
 import com.google.gwt.user.client.rpc.AsyncCallback;
 import com.google.web.bindery.event.shared.EventBus;
 import org.jboss.hal.ballroom.form.ResolveExpressionEvent;
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.core.runtime.server.Server;
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.Property;
 import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.DispatchFailure;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.resources.Resources;
 import org.jboss.hal.spi.Message;
 import org.jboss.hal.spi.MessageEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import rx.Single;
 
+import static java.util.Collections.singletonList;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
 
+/**
+ * Resolves expressions using {@code resolve-expression} in standalone mode and {@code resolve-expression-on-domain}
+ * in domain mode.
+ * <p>
+ * Resolved values are cached for {@value #CACHE_TIMEOUT} ms. Presenters which modify system properties should call
+ * {@link #invalidate()} to make sure expressions are resolved against the latest values. Use {@link
+ * #resolve(Collection)} to resolve several expressions using one composite operation. Forms created by {@link
+ * org.jboss.hal.core.mbui.form.ModelNodeForm} use it to resolve all their expressions as soon as one of them is
+ * resolved.
+ */
 public class ExpressionResolver implements ResolveExpressionEvent.ResolveExpressionHandler {
 
+    static final long CACHE_TIMEOUT = 30000;
     private static final Logger logger = LoggerFactory.getLogger(ExpressionResolver.class);
 
     private final Dispatcher dispatcher;
     private final EventBus eventBus;
     private final Environment environment;
     private final Resources resources;
+    private final Map<Expression, ResolvedExpression> cache;
 
     @Inject
     public ExpressionResolver(final EventBus eventBus,
@@ -58,6 +77,7 @@ public class ExpressionResolver implements ResolveExpressionEvent.ResolveExpress
         this.environment = environment;
         this.dispatcher = dispatcher;
         this.resources = resources;
+        this.cache = new HashMap<>();
 
         eventBus.addHandler(ResolveExpressionEvent.getType(), this);
     }
@@ -67,29 +87,84 @@ public class ExpressionResolver implements ResolveExpressionEvent.ResolveExpress
         new ExpressionDialog(this, environment, resources).showAndResolve(event.getExpression());
     }
 
+    /** Removes all resolved values from the cache. */
+    public void invalidate() {
+        cache.clear();
+    }
+
     void resolve(final Expression expression, final AsyncCallback<Map<String, String>> callback) {
-        logger.debug("Resolving {}", expression);
-        if (environment.isStandalone()) {
-            Operation operation = new Operation.Builder(ResourceAddress.root(), RESOLVE_EXPRESSION)
-                    .param(EXPRESSION, expression.toString())
-                    .build();
-            dispatcher.execute(operation,
-                    (result) -> callback.onSuccess(ImmutableMap.of(Server.STANDALONE.getName(), result.asString())),
-                    (op1, failure) -> callback.onFailure(new RuntimeException(failure)),
-                    (op2, exception) -> callback.onFailure(exception));
-        } else {
-            Operation operation = new Operation.Builder(ResourceAddress.root(), RESOLVE_EXPRESSION_ON_DOMAIN)
+        resolve(singletonList(expression)).subscribe(
+                values -> callback.onSuccess(values.get(expression)),
+                error -> callback.onFailure(error instanceof DispatchFailure
+                        ? new RuntimeException(error.getMessage())
+                        : error));
+    }
+
+    /**
+     * Resolves the specified expressions. Expressions which are not in the cache are resolved using one composite
+     * operation. If one of the expressions cannot be resolved, the returned single fails.
+     *
+     * @return a map with the resolved values of each expression. The values are a map with the server name as key and
+     * the resolved value as value. In standalone mode this map contains the key {@code Server.STANDALONE.getName()}.
+     */
+    public Single<Map<Expression, Map<String, String>>> resolve(Collection<Expression> expressions) {
+        long now = System.currentTimeMillis();
+        Map<Expression, Map<String, String>> values = new HashMap<>();
+        List<Expression> unresolved = new ArrayList<>();
+        for (Expression expression : new LinkedHashSet<>(expressions)) {
+            ResolvedExpression resolved = cache.get(expression);
+            if (resolved != null && now - resolved.timestamp < CACHE_TIMEOUT) {
+                values.put(expression, resolved.values);
+            } else {
+                unresolved.add(expression);
+            }
+        }
+        if (unresolved.isEmpty()) {
+            return Single.just(values);
+        }
+
+        logger.debug("Resolving {}", unresolved);
+        String name = environment.isStandalone() ? RESOLVE_EXPRESSION : RESOLVE_EXPRESSION_ON_DOMAIN;
+        List<Operation> operations = new ArrayList<>();
+        for (Expression expression : unresolved) {
+            operations.add(new Operation.Builder(ResourceAddress.root(), name)
                     .param(EXPRESSION, expression.toString())
-                    .build();
-            dispatcher.executeDMR(operation,
-                    (res) -> callback.onSuccess(parseServerGroups(res.get(SERVER_GROUPS))),
-                    (op1, failure) -> callback.onFailure(new RuntimeException(failure)),
-                    (op2, exception) -> callback.onFailure(exception));
+                    .build());
+        }
+        Operation operation = operations.size() == 1 ? operations.get(0) : new Composite(operations);
+        return Single.<ModelNode>fromEmitter(emitter -> dispatcher.executeDMR(operation, emitter::onSuccess,
+                (op, failure) -> emitter.onError(new DispatchFailure(failure, op)),
+                (op, exception) -> emitter.onError(exception)))
+                .map(payload -> {
+                    List<Map<String, String>> resolved = environment.isStandalone()
+                            ? parseStandalone(payload.get(RESULT), unresolved.size())
+                            : parseServerGroups(payload.get(SERVER_GROUPS), unresolved.size());
+                    long timestamp = System.currentTimeMillis();
+                    for (int i = 0; i < unresolved.size(); i++) {
+                        Expression expression = unresolved.get(i);
+                        cache.put(expression, new ResolvedExpression(resolved.get(i), timestamp));
+                        values.put(expression, resolved.get(i));
+                    }
+                    return values;
+                });
+    }
+
+    private List<Map<String, String>> parseStandalone(ModelNode result, int size) {
+        List<Map<String, String>> values = new ArrayList<>();
+        CompositeResult steps = size == 1 ? null : new CompositeResult(result);
+        for (int i = 0; i < size; i++) {
+            Map<String, String> map = new HashMap<>();
+            map.put(Server.STANDALONE.getName(), step(result, steps, i).asString());
+            values.add(map);
         }
+        return values;
     }
 
-    private Map<String, String> parseServerGroups(ModelNode serverGroups) {
-        Map<String, String> values = new HashMap<>();
+    private List<Map<String, String>> parseServerGroups(ModelNode serverGroups, int size) {
+        List<Map<String, String>> values = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            values.add(new HashMap<>());
+        }
         if (serverGroups.isDefined()) {
             List<Property> groups = serverGroups.asPropertyList();
             for (Property serverGroup : groups) {
@@ -97,9 +172,11 @@ public class ExpressionResolver implements ResolveExpressionEvent.ResolveExpress
                 for (Property host : hosts) {
                     List<Property> servers = host.getValue().asPropertyList();
                     for (Property server : servers) {
-                        values.put(server.getName(),
-                                server.getValue().get(RESPONSE).get(RESULT).asString()
-                        );
+                        ModelNode result = server.getValue().get(RESPONSE).get(RESULT);
+                        CompositeResult steps = size == 1 ? null : new CompositeResult(result);
+                        for (int i = 0; i < size; i++) {
+                            values.get(i).put(server.getName(), step(result, steps, i).asString());
+                        }
                     }
                 }
             }
@@ -107,9 +184,26 @@ public class ExpressionResolver implements ResolveExpressionEvent.ResolveExpress
         return values;
     }
 
+    /** Returns the result of the specified step if several expressions were resolved using a composite. */
+    private ModelNode step(ModelNode result, CompositeResult steps, int index) {
+        return steps == null ? result : steps.step(index).get(RESULT);
+    }
+
     private void unableToResolve(Expression expression, String error) {
         logger.error("Unable to resolve {}: {}", expression, error);
         MessageEvent.fire(eventBus,
                 Message.error(resources.messages().expressionError(expression.toString()), error));
     }
+
+
+    private static class ResolvedExpression {
+
+        private final Map<String, String> values;
+        private final long timestamp;
+
+        private ResolvedExpression(Map<String, String> values, long timestamp) {
+            this.values = values;
+            this.timestamp = timestamp;
+        }
+    }
 }
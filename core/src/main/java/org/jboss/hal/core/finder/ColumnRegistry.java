@@ -15,7 +15,9 @@
  */
 package org.jboss.hal.core.finder;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.inject.Inject;
@@ -30,7 +32,12 @@ import org.jboss.hal.spi.Footer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** Registry for finder columns. Manages both sync and async columns behind a split point. */
+/**
+ * Registry for finder columns. Manages both sync and async columns behind a split point.
+ * <p>
+ * A column is resolved only once: Lookups which arrive while the same column is being resolved (e.g. a click on an
+ * item while the column is prefetched) wait for the pending lookup and receive the same column instance.
+ */
 @SuppressWarnings("rawtypes")
 public class ColumnRegistry {
 
@@ -45,6 +52,7 @@ public class ColumnRegistry {
     private final Map<String, Provider<?>> columns;
     private final Map<String, AsyncProvider> asyncColumns;
     private final Map<String, FinderColumn> resolvedColumns;
+    private final Map<String, List<LookupCallback>> pendingLookups;
 
     @Inject
     public ColumnRegistry(MetadataProcessor metadataProcessor, RequiredResources requiredResources,
@@ -55,6 +63,7 @@ public class ColumnRegistry {
         this.columns = new HashMap<>();
         this.asyncColumns = new HashMap<>();
         this.resolvedColumns = new HashMap<>();
+        this.pendingLookups = new HashMap<>();
     }
 
     public <C extends FinderColumn<T>, T> void registerColumn(String id, Provider<C> column) {
@@ -66,16 +75,62 @@ public class ColumnRegistry {
     }
 
     void lookup(String id, LookupCallback callback) {
+        lookup(id, progress.get(), callback);
+    }
+
+    /**
+     * Resolves the column in the background: Processes its required resources and loads the code if the column sits
+     * behind a split point. Does nothing if the column is unknown or has already been resolved.
+     */
+    void prefetch(String id, Runnable done) {
+        if (resolvedColumns.containsKey(id) || !(columns.containsKey(id) || asyncColumns.containsKey(id))) {
+            done.run();
+        } else {
+            lookup(id, Progress.NOOP, new LookupCallback() {
+                @Override
+                public void found(FinderColumn column) {
+                    done.run();
+                }
+
+                @Override
+                public void error(String failure) {
+                    logger.debug("Unable to prefetch column '{}': {}", id, failure);
+                    done.run();
+                }
+            });
+        }
+    }
+
+    private void lookup(String id, Progress progress, LookupCallback lookupCallback) {
         if (resolvedColumns.containsKey(id)) {
-            callback.found(resolvedColumns.get(id));
+            lookupCallback.found(resolvedColumns.get(id));
+
+        } else if (pendingLookups.containsKey(id)) {
+            logger.debug("Lookup of column '{}' already in progress", id);
+            pendingLookups.get(id).add(lookupCallback);
 
         } else {
+            List<LookupCallback> callbacks = new ArrayList<>();
+            callbacks.add(lookupCallback);
+            pendingLookups.put(id, callbacks);
+            LookupCallback callback = new LookupCallback() {
+                @Override
+                public void found(FinderColumn column) {
+                    pendingLookups.remove(id).forEach(c -> c.found(column));
+                }
+
+                @Override
+                public void error(String failure) {
+                    pendingLookups.remove(id).forEach(c -> c.error(failure));
+                }
+            };
+
             logger.debug("Try to lookup column '{}'", id);
             if (!requiredResources.getResources(id).isEmpty()) {
                 // first of all process the required resources attached to this column
                 logger.debug("Column '{}' has the following required resources attached to it: {}", id,
                         requiredResources.getResources(id));
-                metadataProcessor.process(id, progress.get(), new AsyncCallback<Void>() {
+                metadataProcessor.process(id, progress, new AsyncCallback<Void>() {
                     @Override
                     public void onFailure(final Throwable throwable) {
                         //noinspection HardCodedStringLiteral
@@ -98,7 +153,10 @@ public class ColumnRegistry {
 
     @SuppressWarnings("unchecked")
     private void lookupInternal(String id, LookupCallback callback) {
-        if (columns.containsKey(id)) {
+        if (resolvedColumns.containsKey(id)) {
+            callback.found(resolvedColumns.get(id));
+
+        } else if (columns.containsKey(id)) {
             // this is a regular column: we're ready to go
             FinderColumn column = (FinderColumn) columns.get(id).get();
             resolve(id, column);
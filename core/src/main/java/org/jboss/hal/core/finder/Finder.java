@@ -39,6 +39,11 @@ import org.jboss.hal.ballroom.Attachable;
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.core.finder.ColumnRegistry.LookupCallback;
 import org.jboss.hal.core.finder.FinderColumn.RefreshMode;
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.flow.FlowContext;
 import org.jboss.hal.flow.Outcome;
 import org.jboss.hal.flow.Progress;
@@ -56,6 +61,9 @@ import static java.util.stream.Collectors.toList;
 import static java.util.stream.StreamSupport.stream;
 import static org.jboss.gwt.elemento.core.Elements.div;
 import static org.jboss.hal.ballroom.Skeleton.applicationOffset;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SUCCESS;
 import static org.jboss.hal.flow.Flow.series;
 import static org.jboss.hal.resources.CSS.*;
 import static org.jboss.hal.resources.Ids.FINDER;
@@ -64,6 +72,10 @@ import static org.jboss.hal.resources.Ids.FINDER;
  * The one and only finder which is shared across all different top level categories in HAL. The very same finder
  * instance gets injected into the different top level presenters. Only the columns will change when navigating between
  * the different places
+ * <p>
+ * When a known path is selected or refreshed, the finder reads the items of the leading columns which describe their
+ * items as an {@link ItemsOperation} using as few composite operations as possible. The remaining columns are loaded
+ * one after the other using their {@link ItemsProvider}.
  */
 @SuppressWarnings("rawtypes")
 public class Finder implements IsElement<HTMLDivElement>, Attachable {
@@ -77,12 +89,15 @@ public class Finder implements IsElement<HTMLDivElement>, Attachable {
     private static final int MAX_VISIBLE_COLUMNS = 4;
 
     private static final int MAX_COLUMNS = 12;
+    private static final String PRELOADED = "finder.preloaded";
     private static final Logger logger = LoggerFactory.getLogger(Finder.class);
 
     private final Environment environment;
     private final EventBus eventBus;
     private final PlaceManager placeManager;
     private final ColumnRegistry columnRegistry;
+    private final Dispatcher dispatcher;
+    private final Prefetcher prefetcher;
     private final SecurityContextRegistry securityContextRegistry;
     private final Provider<Progress> progress;
     private final FinderContext context;
@@ -101,6 +116,8 @@ public class Finder implements IsElement<HTMLDivElement>, Attachable {
             EventBus eventBus,
             PlaceManager placeManager,
             ColumnRegistry columnRegistry,
+            Dispatcher dispatcher,
+            Prefetcher prefetcher,
             SecurityContextRegistry securityContextRegistry,
             @Footer Provider<Progress> progress) {
 
@@ -108,6 +125,8 @@ public class Finder implements IsElement<HTMLDivElement>, Attachable {
         this.eventBus = eventBus;
         this.placeManager = placeManager;
         this.columnRegistry = columnRegistry;
+        this.dispatcher = dispatcher;
+        this.prefetcher = prefetcher;
         this.securityContextRegistry = securityContextRegistry;
         this.progress = progress;
 
@@ -172,6 +191,12 @@ public class Finder implements IsElement<HTMLDivElement>, Attachable {
     }
 
     private void appendColumn(FinderColumn<?> column, AsyncCallback<FinderColumn> callback) {
+        appendColumn(column, null, callback);
+    }
+
+    /** Appends the column. If {@code items} is {@code null}, the column loads its items on its own. */
+    @SuppressWarnings("unchecked")
+    private void appendColumn(FinderColumn column, List items, AsyncCallback<FinderColumn> callback) {
         column.resetSelection();
         column.markHiddenColumns(false);
         Elements.setVisible(column.element(), true);
@@ -196,7 +221,11 @@ public class Finder implements IsElement<HTMLDivElement>, Attachable {
 
         root.insertBefore(column.element(), previewColumn);
         column.attach();
-        column.setItems(callback);
+        if (items != null) {
+            column.setItems(items, callback);
+        } else {
+            column.setItems(callback);
+        }
         resizePreview();
     }
 
@@ -355,6 +384,14 @@ public class Finder implements IsElement<HTMLDivElement>, Attachable {
         return securityContextRegistry;
     }
 
+    Dispatcher dispatcher() {
+        return dispatcher;
+    }
+
+    Prefetcher prefetcher() {
+        return prefetcher;
+    }
+
 
     // ------------------------------------------------------ public API
 
@@ -395,14 +432,18 @@ public class Finder implements IsElement<HTMLDivElement>, Attachable {
      * Refreshes the specified path.
      * <p>
      * Please note that this might be a complex and long running operation since each segment in the path is turned into
-     * a function which reloads and re-selects the items.
+     * a function which reloads and re-selects the items. The items of the leading columns which support an {@link
+     * ItemsOperation} are read using as few composite operations as possible.
      */
     public void refresh(FinderPath path) {
         if (!path.isEmpty()) {
 
-            List<RefreshTask> tasks = stream(path.spliterator(), false)
-                    .map(segment -> new RefreshTask(new FinderSegment(segment.getColumnId(), segment.getItemId())))
-                    .collect(toList());
+            List<FinderSegment> segments = segments(path);
+            List<Task<FlowContext>> tasks = new ArrayList<>();
+            tasks.add(new PreloadTask(segments, true));
+            for (int i = 0; i < segments.size(); i++) {
+                tasks.add(new RefreshTask(i, segments.get(i)));
+            }
             series(new FlowContext(progress.get()), tasks)
                     .subscribe(new Outcome<FlowContext>() {
                         @Override
@@ -429,6 +470,8 @@ public class Finder implements IsElement<HTMLDivElement>, Attachable {
      * <p>
      * Please note that this might be a complex and long running operation since each segment in the path is turned into
      * a function. The function will load and initialize the column and select the item as specified in the segment.
+     * The items of the leading columns which support an {@link ItemsOperation} are read using as few composite
+     * operations as possible.
      * <p>
      * If the path is empty, the fallback operation is executed.
      */
@@ -467,9 +510,12 @@ public class Finder implements IsElement<HTMLDivElement>, Attachable {
                 }
             }
 
-            List<SelectTask> tasks = stream(path.spliterator(), false)
-                    .map(segment -> new SelectTask(new FinderSegment(segment.getColumnId(), segment.getItemId())))
-                    .collect(toList());
+            List<FinderSegment> segments = segments(path);
+            List<Task<FlowContext>> tasks = new ArrayList<>();
+            tasks.add(new PreloadTask(segments, false));
+            for (int i = 0; i < segments.size(); i++) {
+                tasks.add(new SelectTask(i, segments.get(i)));
+            }
             series(new FlowContext(progress.get()), tasks)
                     .subscribe(new Outcome<FlowContext>() {
                         @Override
@@ -503,21 +549,222 @@ public class Finder implements IsElement<HTMLDivElement>, Attachable {
         return columns.get(columnId);
     }
 
+    /** Returns the items selected in the visible columns keyed by column id. */
+    Map<String, Object> selectedItems() {
+        Map<String, Object> items = new HashMap<>();
+        for (FinderColumn column : columns.values()) {
+            if (column.selectedRow() != null) {
+                items.put(column.getId(), column.selectedRow().getItem());
+            }
+        }
+        return items;
+    }
+
     public FinderContext getContext() {
         return context;
     }
 
+    private List<FinderSegment> segments(FinderPath path) {
+        return stream(path.spliterator(), false)
+                .map(segment -> new FinderSegment(segment.getColumnId(), segment.getItemId()))
+                .collect(toList());
+    }
+
+    /** Whether the segment with the specified index was already handled by the {@link PreloadTask}. */
+    private boolean preloaded(FlowContext context, int index) {
+        Integer preloaded = context.get(PRELOADED);
+        return preloaded != null && index < preloaded;
+    }
+
+    private void select(FinderColumn column, FinderSegment segment, FlowContext context) {
+        if (column.contains(segment.getItemId())) {
+            column.markSelected(segment.getItemId());
+            column.row(segment.getItemId()).element().scrollIntoView(false);
+            updateContext();
+            context.push(column);
+        } else {
+            // Ignore items which cannot be selected. If a deployment was disabled
+            // runtime items might no longer be available.
+            logger.warn("Unable to select item '{} in column '{}'", segment.getItemId(), segment.getColumnId());
+        }
+    }
+
+    private boolean reselect(FinderColumn column, FinderSegment segment, FlowContext context) {
+        if (column.contains(segment.getItemId())) {
+            column.markSelected(segment.getItemId());
+            context.push(column);
+            return true;
+        }
+        return false;
+    }
+
+    private RuntimeException reselectError(FinderSegment segment) {
+        //noinspection HardCodedStringLiteral
+        return new RuntimeException("Error in Finder.RefreshTask: Unable to select item '" +
+                segment.getItemId() + "' in column '" + segment.getColumnId() + "'");
+    }
+
+
+    /**
+     * Reads the items of the leading columns of a path using composite operations. The task works in rounds: Each
+     * round collects the columns until it finds a column which neither has initial items nor an {@link ItemsOperation}
+     * for the path and the items selected so far. The operations are executed as one composite and the columns are
+     * shown and selected. If the next column has an {@link ItemsOperation} which depends on an item selected in this
+     * round, the task starts another round. The number of columns handled by this task is stored in the context, so
+     * that the {@link SelectTask}s and {@link RefreshTask}s can skip them. If something goes wrong, the task completes
+     * and the remaining columns are loaded one after the other.
+     */
+    private class PreloadTask implements Task<FlowContext> {
+
+        private final List<FinderSegment> segments;
+        private final boolean refresh;
+        private final Map<String, Object> selection;
+        private final List<FinderColumn> pendingColumns;
+        private final List<Operation> operations;
+        private int handled;
+
+        private PreloadTask(List<FinderSegment> segments, boolean refresh) {
+            this.segments = segments;
+            this.refresh = refresh;
+            this.selection = new HashMap<>();
+            this.pendingColumns = new ArrayList<>();
+            this.operations = new ArrayList<>();
+        }
+
+        @Override
+        public Completable call(FlowContext context) {
+            selection.clear();
+            pendingColumns.clear();
+            operations.clear();
+            handled = 0;
+            return Completable.fromEmitter(emitter -> collect(context, emitter));
+        }
+
+        private void collect(FlowContext context, CompletableEmitter emitter) {
+            int index = handled + pendingColumns.size();
+            if (index == segments.size()) {
+                execute(context, emitter, false);
+            } else {
+                String columnId = segments.get(index).getColumnId();
+                columnRegistry.lookup(columnId, new LookupCallback() {
+                    @Override
+                    public void found(FinderColumn column) {
+                        ItemsOperation<?> itemsOperation = column.getItemsOperation();
+                        if (!column.getInitialItems().isEmpty()) {
+                            pendingColumns.add(column);
+                            collect(context, emitter);
+                        } else if (itemsOperation != null) {
+                            Operation operation = itemsOperation.operation(
+                                    new FinderPath(segments.subList(0, index)), selection);
+                            if (operation != null) {
+                                pendingColumns.add(column);
+                                operations.add(operation);
+                                collect(context, emitter);
+                            } else {
+                                // the operation might depend on an item selected in this round
+                                execute(context, emitter, !pendingColumns.isEmpty());
+                            }
+                        } else {
+                            execute(context, emitter, false);
+                        }
+                    }
+
+                    @Override
+                    public void error(String failure) {
+                        execute(context, emitter, false);
+                    }
+                });
+            }
+        }
+
+        private void execute(FlowContext context, CompletableEmitter emitter, boolean proceed) {
+            if (pendingColumns.isEmpty()) {
+                emitter.onCompleted();
+            } else if (operations.isEmpty()) {
+                show(context, emitter, null, proceed);
+            } else {
+                dispatcher.execute(new Composite(operations),
+                        result -> {
+                            if (result.stream().allMatch(step -> SUCCESS.equals(step.get(OUTCOME).asString()))) {
+                                show(context, emitter, result, proceed);
+                            } else {
+                                logger.debug("Unable to preload columns {}. Load columns one after the other.",
+                                        segments);
+                                emitter.onCompleted();
+                            }
+                        },
+                        (operation, failure) -> {
+                            logger.debug("Unable to preload columns {}: {}", segments, failure);
+                            emitter.onCompleted();
+                        },
+                        (operation, exception) -> {
+                            logger.debug("Unable to preload columns {}: {}", segments, exception.getMessage());
+                            emitter.onCompleted();
+                        });
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void show(FlowContext context, CompletableEmitter emitter, CompositeResult result, boolean proceed) {
+            int step = 0;
+            for (FinderColumn column : pendingColumns) {
+                FinderSegment segment = segments.get(handled);
+                List items = column.getInitialItems();
+                if (items.isEmpty()) {
+                    ModelNode node = result.step(step).get(RESULT);
+                    items = column.getItemsOperation().items(node);
+                    step++;
+                }
+                context.set(PRELOADED, handled + 1);
+
+                if (refresh) {
+                    if (columns.containsKey(column.getId())) {
+                        // refresh the existing column
+                        column.setItems(items, null);
+                        updateContext();
+                    } else {
+                        appendColumn(column, items, null);
+                    }
+                    if (!reselect(column, segment, context)) {
+                        emitter.onError(reselectError(segment));
+                        return;
+                    }
+                } else {
+                    appendColumn(column, items, null);
+                    select(column, segment, context);
+                }
+                if (column.selectedRow() != null) {
+                    selection.put(column.getId(), column.selectedRow().getItem());
+                }
+                handled++;
+            }
+            pendingColumns.clear();
+            operations.clear();
+
+            if (proceed) {
+                collect(context, emitter);
+            } else {
+                emitter.onCompleted();
+            }
+        }
+    }
+
 
     private class SelectTask implements Task<FlowContext> {
 
+        private final int index;
         private final FinderSegment segment;
 
-        private SelectTask(FinderSegment segment) {
+        private SelectTask(int index, FinderSegment segment) {
+            this.index = index;
             this.segment = segment;
         }
 
         @Override
         public Completable call(FlowContext context) {
+            if (preloaded(context, index)) {
+                return Completable.complete();
+            }
             return Completable.fromEmitter(emitter -> appendColumn(segment.getColumnId(),
                     new AsyncCallback<FinderColumn>() {
                         @Override
@@ -529,19 +776,8 @@ public class Finder implements IsElement<HTMLDivElement>, Attachable {
 
                         @Override
                         public void onSuccess(FinderColumn column) {
-                            if (column.contains(segment.getItemId())) {
-                                column.markSelected(segment.getItemId());
-                                column.row(segment.getItemId()).element().scrollIntoView(false);
-                                updateContext();
-                                context.push(column);
-                                emitter.onCompleted();
-                            } else {
-                                // Ignore items which cannot be selected. If a deployment was disabled
-                                // runtime items might no longer be available.
-                                logger.warn("Unable to select item '{} in column '{}'", segment.getItemId(),
-                                        segment.getColumnId());
-                                emitter.onCompleted();
-                            }
+                            select(column, segment, context);
+                            emitter.onCompleted();
                         }
                     }));
         }
@@ -550,14 +786,19 @@ public class Finder implements IsElement<HTMLDivElement>, Attachable {
 
     private class RefreshTask implements Task<FlowContext> {
 
+        private final int index;
         private final FinderSegment segment;
 
-        private RefreshTask(FinderSegment segment) {
+        private RefreshTask(int index, FinderSegment segment) {
+            this.index = index;
             this.segment = segment;
         }
 
         @Override
         public Completable call(FlowContext context) {
+            if (preloaded(context, index)) {
+                return Completable.complete();
+            }
             return Completable.fromEmitter(emitter -> {
                 FinderColumn column = getColumn(segment.getColumnId());
                 if (column != null) {
@@ -581,14 +822,10 @@ public class Finder implements IsElement<HTMLDivElement>, Attachable {
         }
 
         private void selectItem(FinderColumn column, FlowContext context, CompletableEmitter emitter) {
-            if (column.contains(segment.getItemId())) {
-                column.markSelected(segment.getItemId());
-                context.push(column);
+            if (reselect(column, segment, context)) {
                 emitter.onCompleted();
             } else {
-                //noinspection HardCodedStringLiteral
-                emitter.onError(new RuntimeException("Error in Finder.RefreshTask: Unable to select item '" +
-                        segment.getItemId() + "' in column '" + segment.getColumnId() + "'"));
+                emitter.onError(reselectError(segment));
             }
         }
     }
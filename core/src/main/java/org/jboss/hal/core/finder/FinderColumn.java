@@ -45,6 +45,7 @@ import org.jboss.hal.ballroom.Attachable;
 import org.jboss.hal.ballroom.Tooltip;
 import org.jboss.hal.ballroom.form.FormItemValidation;
 import org.jboss.hal.ballroom.form.UniqueNameValidation;
+import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.js.JsHelper;
 import org.jboss.hal.meta.security.AuthorisationDecision;
 import org.jboss.hal.meta.security.Constraint;
@@ -121,6 +122,7 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     private boolean asElement;
     private final boolean firstActionAsBreadcrumbHandler;
     private ItemsProvider<T> itemsProvider;
+    private ItemsOperation<T> itemsOperation;
     private List<T> currentItems;
     private ItemRenderer<T> itemRenderer;
     private PreviewCallback<T> previewCallback;
@@ -139,6 +141,7 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
         this.initialItems = builder.items;
         this.currentItems = builder.items;
         this.itemsProvider = builder.itemsProvider;
+        this.itemsOperation = builder.itemsOperation;
         this.itemRenderer = builder.itemRenderer;
         this.selectionHandler = builder.selectionHandler;
         this.previewCallback = builder.previewCallback;
@@ -625,11 +628,12 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     }
 
     void setItems(AsyncCallback<FinderColumn> callback) {
+        ItemsProvider<T> provider = getItemsProvider();
         if (!initialItems.isEmpty()) {
             setItems(initialItems, callback);
 
-        } else if (itemsProvider != null) {
-            itemsProvider.get(finder.getContext(), new AsyncCallback<List<T>>() {
+        } else if (provider != null) {
+            provider.get(finder.getContext(), new AsyncCallback<List<T>>() {
                 @Override
                 public void onFailure(Throwable throwable) {
                     if (callback != null) {
@@ -648,7 +652,7 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
         }
     }
 
-    private void setItems(List<T> items, AsyncCallback<FinderColumn> callback) {
+    void setItems(List<T> items, AsyncCallback<FinderColumn> callback) {
         rows.clear();
         currentItems = items;
         Elements.removeChildrenFrom(ulElement);
@@ -767,10 +771,39 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
         this.itemsProvider = itemsProvider;
     }
 
+    /** @return the items provider or - if there's only an items operation - a provider which executes the operation */
     ItemsProvider<T> getItemsProvider() {
+        if (itemsProvider == null && itemsOperation != null) {
+            return this::executeItemsOperation;
+        }
         return itemsProvider;
     }
 
+    private void executeItemsOperation(FinderContext context, AsyncCallback<List<T>> callback) {
+        Operation operation = itemsOperation.operation(context.getPath(), finder.selectedItems());
+        if (operation != null) {
+            finder.dispatcher().execute(operation,
+                    result -> callback.onSuccess(itemsOperation.items(result)),
+                    (op, failure) -> callback.onFailure(new RuntimeException(failure)),
+                    (op, exception) -> callback.onFailure(exception));
+        } else {
+            callback.onSuccess(Collections.emptyList());
+        }
+    }
+
+    /**
+     * Sets the items operation after the call to {@code super()}. Make sure to call the setter <strong>before</strong>
+     * the column is used {@link #element()} and gets attached to the DOM!
+     */
+    protected void setItemsOperation(ItemsOperation<T> itemsOperation) {
+        assertNotAsElement("setItemsOperation()");
+        this.itemsOperation = itemsOperation;
+    }
+
+    ItemsOperation<T> getItemsOperation() {
+        return itemsOperation;
+    }
+
     List<T> getInitialItems() {
         return initialItems;
     }
@@ -988,6 +1021,7 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
         private boolean firstActionAsBreadcrumbHandler;
         private final List<T> items;
         private ItemsProvider<T> itemsProvider;
+        private ItemsOperation<T> itemsOperation;
         private BreadcrumbItemsProvider<T> breadcrumbItemsProvider;
         private ItemSelectionHandler<T> selectionHandler;
         private String filterDescription;
@@ -1049,6 +1083,16 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
             return this;
         }
 
+        /**
+         * Describes the items as an operation. Lets the finder read the items of several columns using one composite
+         * operation when a known path is selected. If no items provider is specified, the column executes the
+         * operation on its own.
+         */
+        public Builder<T> itemsOperation(ItemsOperation<T> itemsOperation) {
+            this.itemsOperation = itemsOperation;
+            return this;
+        }
+
         public Builder<T> breadcrumbItemsProvider(BreadcrumbItemsProvider<T> breadcrumbItemsProvider) {
             this.breadcrumbItemsProvider = breadcrumbItemsProvider;
             return this;
@@ -38,6 +38,8 @@ import static java.util.stream.Collectors.toList;
 import static org.jboss.gwt.elemento.core.Elements.*;
 import static org.jboss.gwt.elemento.core.EventType.bind;
 import static org.jboss.gwt.elemento.core.EventType.click;
+import static org.jboss.gwt.elemento.core.EventType.mouseout;
+import static org.jboss.gwt.elemento.core.EventType.mouseover;
 import static org.jboss.hal.core.finder.Finder.DATA_BREADCRUMB;
 import static org.jboss.hal.core.finder.Finder.DATA_FILTER;
 import static org.jboss.hal.resources.CSS.*;
@@ -57,6 +59,7 @@ class FinderRow<T> implements IsElement<HTMLLIElement> {
     private final ItemDisplay<T> display;
     private final List<ItemAction<T>> actions;
     private final String nextColumn;
+    private final String nameToken;
     private ItemActionHandler<T> primaryAction;
     private final PreviewContent<T> previewContent;
     private String id;
@@ -79,6 +82,9 @@ class FinderRow<T> implements IsElement<HTMLLIElement> {
         this.nextColumn = display.nextColumn();
         this.id = Strings.sanitize(display.getId());
         this.primaryAction = actions.isEmpty() ? null : actions.get(0).handler;
+        this.nameToken = actions.isEmpty() || actions.get(0).placeRequest == null
+                ? null
+                : actions.get(0).placeRequest.getNameToken();
         this.previewContent = previewCallback != null ? previewCallback.onPreview(item) : new PreviewContent<>(
                 display.getTitle());
 
@@ -91,6 +97,10 @@ class FinderRow<T> implements IsElement<HTMLLIElement> {
         updateItem(item);
         drawItem();
         bind(root, click, event -> onClick(((HTMLElement) event.target)));
+        if (nextColumn != null || nameToken != null) {
+            bind(root, mouseover, event -> finder.prefetcher().hover(id, nextColumn, nameToken));
+            bind(root, mouseout, event -> finder.prefetcher().cancelHover());
+        }
     }
 
     private List<ItemAction<T>> allowedActions(List<ItemAction<T>> actions) {
@@ -254,6 +264,7 @@ class FinderRow<T> implements IsElement<HTMLLIElement> {
         }
         // </keep>
         updatePreview();
+        finder.prefetcher().prefetchPlace(nameToken);
     }
 
     void markSelected(boolean select) {
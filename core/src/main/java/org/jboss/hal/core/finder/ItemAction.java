@@ -18,6 +18,7 @@ package org.jboss.hal.core.finder;
 import java.util.HashMap;
 import java.util.Map;
 
+import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
 import org.jboss.hal.meta.security.Constraint;
 import org.jboss.hal.meta.security.Constraints;
 
@@ -35,12 +36,14 @@ public class ItemAction<T> {
     final String href;
     final Map<String, String> attributes;
     final Constraints constraints;
+    final PlaceRequest placeRequest;
 
     private ItemAction(Builder<T> builder) {
         this.title = builder.title;
         this.handler = builder.handler;
         this.href = builder.href;
         this.attributes = builder.attributes;
+        this.placeRequest = builder.placeRequest;
         if (builder.constraints != null) {
             this.constraints = builder.constraints;
         } else if (builder.constraint != null) {
@@ -67,6 +70,7 @@ public class ItemAction<T> {
         private final Map<String, String> attributes;
         private Constraint constraint;
         private Constraints constraints;
+        private PlaceRequest placeRequest;
 
         public Builder() {
             this.title = null;
@@ -108,6 +112,12 @@ public class ItemAction<T> {
             return this;
         }
 
+        /** The place revealed by this action. Used to prefetch the metadata of the place. */
+        public Builder<T> placeRequest(PlaceRequest placeRequest) {
+            this.placeRequest = placeRequest;
+            return this;
+        }
+
         public ItemAction<T> build() {
             return new ItemAction<>(this);
         }
@@ -77,7 +77,8 @@ public class ItemActionFactory {
     public <T> ItemAction<T> placeRequest(String title, PlaceRequest placeRequest, Constraint constraint) {
         ItemAction.Builder<T> builder = new ItemAction.Builder<T>()
                 .title(title)
-                .handler(item -> placeManager.revealPlace(placeRequest));
+                .handler(item -> placeManager.revealPlace(placeRequest))
+                .placeRequest(placeRequest);
         if (constraint != null) {
             builder.constraint(constraint);
         }
@@ -88,6 +89,7 @@ public class ItemActionFactory {
         return new ItemAction.Builder<T>().title(resources.constants().view())
                 .handler(itemMonitor.monitorPlaceRequest(itemId, placeRequest.getNameToken(),
                         () -> placeManager.revealPlace(placeRequest)))
+                .placeRequest(placeRequest)
                 .build();
     }
 
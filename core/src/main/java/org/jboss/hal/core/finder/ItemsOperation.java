@@ -0,0 +1,51 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.core.finder;
+
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+
+/**
+ * Describes how to load the items of the <em>current</em> column as a single operation. When a known path is
+ * selected, the finder collects the operations of the columns on that path and reads the items of as many columns as
+ * possible using one composite operation.
+ * <p>
+ * Columns which depend on an item selected in a previous column get the selected items as a map. If an item is not
+ * yet known, because the previous column is read in the same composite, the operation should return {@code null}. The
+ * finder then reads the previous columns first and asks again with the selected items.
+ * <p>
+ * Columns which use an items operation don't need an {@link ItemsProvider}: If there's no provider, the column
+ * executes the operation on its own.
+ */
+public interface ItemsOperation<T> {
+
+    /**
+     * Returns the operation to read the items.
+     *
+     * @param path      the path of the items selected in <em>previous</em> columns
+     * @param selection the items selected in <em>previous</em> columns keyed by column id. Contains only the items
+     *                  which are already loaded.
+     *
+     * @return the operation or {@code null} if the operation cannot be created for the specified path and selection.
+     */
+    Operation operation(FinderPath path, Map<String, Object> selection);
+
+    /** Turns the result of the operation into the items of the column. */
+    List<T> items(ModelNode result);
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.core.finder;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+
+import javax.inject.Inject;
+
+import com.google.gwt.user.client.rpc.AsyncCallback;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.flow.Progress;
+import org.jboss.hal.meta.processing.MetadataProcessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static elemental2.dom.DomGlobal.clearTimeout;
+import static elemental2.dom.DomGlobal.setTimeout;
+
+/**
+ * Speculatively loads what the finder needs for the next navigation step.
+ * <p>
+ * When the mouse rests on a finder item for {@value #DWELL} ms, the prefetcher loads its next column including the
+ * column's required resources. If the column sits behind a split point, this also downloads the code of the column.
+ * When an item is hovered or selected, the prefetcher processes the required resources of the place which is revealed
+ * by the primary action of the item. The code of the presenter itself is not loaded: GWTP loads the code of a presenter
+ * only together with creating and binding it.
+ * <p>
+ * Prefetching must not compete with the requests of the user. It runs {@value #IDLE_DELAY} ms after the last request
+ * to prefetch and only if the dispatcher has no requests in flight, executes only one prefetch at a time, keeps only
+ * the latest {@value #MAX_QUEUE} requests (newest first) and executes at most {@value #BUDGET} prefetches per minute.
+ * Requests beyond the budget are dropped. Prefetches use {@link Progress#NOOP}, so they don't show up in the footer.
+ */
+public class Prefetcher {
+
+    static final long DWELL = 300;
+    static final long IDLE_DELAY = 500;
+    static final int MAX_QUEUE = 3;
+    static final int BUDGET = 10;
+    private static final long MINUTE = 60 * 1000;
+    private static final Logger logger = LoggerFactory.getLogger(Prefetcher.class);
+
+    private final ColumnRegistry columnRegistry;
+    private final MetadataProcessor metadataProcessor;
+    private final Set<String> prefetched;
+    private final LinkedList<Request> queue;
+    private final List<Long> timestamps;
+    private String hovered;
+    private double hoverHandle;
+    private double idleHandle;
+    private boolean running;
+
+    @Inject
+    public Prefetcher(ColumnRegistry columnRegistry, MetadataProcessor metadataProcessor) {
+        this.columnRegistry = columnRegistry;
+        this.metadataProcessor = metadataProcessor;
+        this.prefetched = new HashSet<>();
+        this.queue = new LinkedList<>();
+        this.timestamps = new ArrayList<>();
+        this.hovered = null;
+        this.hoverHandle = -1;
+        this.idleHandle = -1;
+        this.running = false;
+    }
+
+    /** Prefetches the next column and the place of an item after the mouse rested on the item. */
+    void hover(String itemId, String nextColumn, String nameToken) {
+        if (itemId.equals(hovered)) {
+            return;
+        }
+        cancelHover();
+        hovered = itemId;
+        hoverHandle = setTimeout(o -> {
+            hoverHandle = -1;
+            if (nameToken != null) {
+                enqueue(new Request(false, nameToken));
+            }
+            if (nextColumn != null) {
+                enqueue(new Request(true, nextColumn));
+            }
+        }, DWELL);
+    }
+
+    void cancelHover() {
+        if (hoverHandle != -1) {
+            clearTimeout(hoverHandle);
+            hoverHandle = -1;
+        }
+        hovered = null;
+    }
+
+    /** Prefetches the place revealed by the primary action of a selected item. */
+    void prefetchPlace(String nameToken) {
+        if (nameToken != null) {
+            enqueue(new Request(false, nameToken));
+        }
+    }
+
+    private void enqueue(Request request) {
+        if (!prefetched.contains(request.key)) {
+            queue.remove(request);
+            queue.addLast(request);
+            while (queue.size() > MAX_QUEUE) {
+                queue.removeFirst();
+            }
+            waitForIdle();
+        }
+    }
+
+    private void waitForIdle() {
+        if (idleHandle != -1) {
+            clearTimeout(idleHandle);
+        }
+        idleHandle = setTimeout(o -> {
+            idleHandle = -1;
+            next();
+        }, IDLE_DELAY);
+    }
+
+    private void next() {
+        if (running || queue.isEmpty() || idleHandle != -1) {
+            return;
+        }
+        if (!Dispatcher.isIdle()) {
+            // foreground requests are in flight: try again later
+            waitForIdle();
+            return;
+        }
+        long now = System.currentTimeMillis();
+        timestamps.removeIf(timestamp -> now - timestamp > MINUTE);
+        if (timestamps.size() >= BUDGET) {
+            logger.debug("Prefetch budget exhausted. Drop {} request(s)", queue.size());
+            queue.clear();
+            return;
+        }
+
+        Request request = queue.removeLast();
+        if (!prefetched.add(request.key)) {
+            next();
+            return;
+        }
+        running = true;
+        timestamps.add(now);
+        logger.debug("Prefetch {}", request.key);
+        if (request.column) {
+            columnRegistry.prefetch(request.id, this::finished);
+        } else {
+            metadataProcessor.process(request.id, Progress.NOOP, new AsyncCallback<Void>() {
+                @Override
+                public void onFailure(Throwable caught) {
+                    finished();
+                }
+
+                @Override
+                public void onSuccess(Void result) {
+                    finished();
+                }
+            });
+        }
+    }
+
+    private void finished() {
+        running = false;
+        next();
+    }
+
+
+    private static class Request {
+
+        private final boolean column;
+        private final String id;
+        private final String key;
+
+        private Request(boolean column, String id) {
+            this.column = column;
+            this.id = id;
+            this.key = (column ? "column:" : "place:") + id; //NON-NLS
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Request)) {
+                return false;
+            }
+            return key.equals(((Request) o).key);
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode();
+        }
+    }
+}
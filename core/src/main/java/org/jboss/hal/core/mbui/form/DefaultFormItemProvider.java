@@ -224,10 +224,6 @@ class DefaultFormItemProvider implements FormItemProvider {
                 formItem.setDeprecated(deprecation);
                 if (formItem.supportsExpressions()) {
                     formItem.setExpressionAllowed(expressionAllowed);
-                    formItem.addResolveExpressionHandler(event -> {
-                        // resend as application event
-                        Core.INSTANCE.eventBus().fireEvent(event);
-                    });
                 }
                 if (readOnly) {
                     formItem.setEnabled(false);
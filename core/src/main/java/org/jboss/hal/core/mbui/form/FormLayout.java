@@ -0,0 +1,71 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.core.mbui.form;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.jboss.hal.dmr.Property;
+import org.jboss.hal.meta.description.ResourceDescription;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * The ordered attributes of a form as computed at build time by the MBUI processor.
+ * <p>
+ * Generated MBUI views keep one layout per form (or per group of a grouped form) in a static field and pass it to
+ * {@link ModelNodeForm.Builder#layout(FormLayout)}. Instead of walking, filtering and re-ordering all attributes of the
+ * resource description, the form looks up the attributes of the layout one by one. If the resource description at
+ * runtime does not contain all attributes of the layout, the form falls back to the regular processing of the
+ * resource description.
+ * <p>
+ * The types of the form items are not part of the layout. They depend on the resource description, which is only known
+ * at runtime.
+ */
+public class FormLayout {
+
+    private final List<String> attributes;
+
+    public FormLayout(String... attributes) {
+        this.attributes = unmodifiableList(asList(attributes));
+    }
+
+    public List<String> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Looks up the attributes of this layout in the specified resource description.
+     *
+     * @return the attributes in the order of this layout which match the filter or {@code null} if the resource
+     * description does not contain all attributes of this layout
+     */
+    List<Property> resolve(ResourceDescription description, String path, Predicate<Property> filter) {
+        List<Property> properties = new ArrayList<>(attributes.size());
+        for (String attribute : attributes) {
+            Property property = description.findAttribute(path, attribute);
+            if (property == null) {
+                return null;
+            }
+            if (filter.test(property)) {
+                properties.add(property);
+            }
+        }
+        return properties;
+    }
+}
@@ -70,6 +70,9 @@ public class GroupedForm<T extends ModelNode> implements Form<T> {
                 if (!group.excludes.isEmpty()) {
                     fb.exclude(group.excludes);
                 }
+                if (group.layout != null) {
+                    fb.layout(group.layout);
+                }
                 if (!group.includes.isEmpty()) {
                     fb.include(group.includes);
                     fb.unsorted();
@@ -277,6 +280,7 @@ public class GroupedForm<T extends ModelNode> implements Form<T> {
         final Map<String, FormItemProvider> providers;
         final List<UnboundFormItem> unboundFormItems;
         final List<HTMLElement> elements;
+        FormLayout layout;
 
         private Group(String id, String title) {
             this.id = id;
@@ -370,6 +374,14 @@ public class GroupedForm<T extends ModelNode> implements Form<T> {
             return this;
         }
 
+        /** Includes the attributes of the specified layout in the current group. */
+        public Builder<T> layout(FormLayout layout) {
+            assertCurrentGroup();
+            currentGroup.layout = layout;
+            currentGroup.includes.addAll(layout.getAttributes());
+            return this;
+        }
+
         public Builder<T> exclude(Iterable<String> attributes) {
             assertCurrentGroup();
             Iterables.addAll(currentGroup.excludes, attributes);
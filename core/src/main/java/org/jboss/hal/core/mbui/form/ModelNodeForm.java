@@ -52,9 +52,11 @@ import org.jboss.hal.ballroom.form.Form;
 import org.jboss.hal.ballroom.form.FormItem;
 import org.jboss.hal.ballroom.form.FormItemProvider;
 import org.jboss.hal.ballroom.form.ReadOnlyStateMachine;
+import org.jboss.hal.ballroom.form.ResolveExpressionEvent;
 import org.jboss.hal.ballroom.form.SingletonStateMachine;
 import org.jboss.hal.ballroom.form.StateMachine;
 import org.jboss.hal.core.Core;
+import org.jboss.hal.core.expression.Expression;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.ModelType;
 import org.jboss.hal.dmr.Property;
@@ -114,32 +116,47 @@ public class ModelNodeForm<T extends ModelNode> extends AbstractForm<T> {
         this.attributePath = builder.attributePath;
         this.metadata = builder.metadata;
 
-        List<Property> properties = new ArrayList<>();
-        List<Property> filteredProperties = resourceDescription.getAttributes(attributePath)
-                .stream()
-                .filter(new PropertyFilter(builder))
-                .collect(toList());
-        LinkedHashMap<String, Property> filteredByName = new LinkedHashMap<>();
-        for (Property property : filteredProperties) {
-            filteredByName.put(property.getName(), property);
-        }
-
-        if (builder.unsorted && !builder.includes.isEmpty()) {
-            // re-shuffle the properties:
-            // 1. the ones specified in 'builder.includes'
-            // 2. the remaining from 'filteredProperties'
-            for (String include : builder.includes) {
-                Property removed = filteredByName.remove(include);
-                if (removed != null) {
-                    properties.add(removed);
+        PropertyFilter propertyFilter = new PropertyFilter(builder);
+        List<Property> properties = null;
+        if (builder.layout != null && builder.unsorted && !builder.addOnly && builder.excludes.isEmpty()
+                && builder.includes.size() == builder.layout.getAttributes().size()
+                && !propertyFilter.emptyIncludes()) {
+            // only the attributes of the layout pass the filter, so there's no need to walk all attributes
+            properties = builder.layout.resolve(resourceDescription, attributePath, propertyFilter);
+            if (properties == null) {
+                logger.debug("Resource description does not match the layout of form {}. Fall back to all attributes",
+                        builder.id);
+            }
+        }
+
+        if (properties == null) {
+            properties = new ArrayList<>();
+            List<Property> filteredProperties = resourceDescription.getAttributes(attributePath)
+                    .stream()
+                    .filter(propertyFilter)
+                    .collect(toList());
+            LinkedHashMap<String, Property> filteredByName = new LinkedHashMap<>();
+            for (Property property : filteredProperties) {
+                filteredByName.put(property.getName(), property);
+            }
+
+            if (builder.unsorted && !builder.includes.isEmpty()) {
+                // re-shuffle the properties:
+                // 1. the ones specified in 'builder.includes'
+                // 2. the remaining from 'filteredProperties'
+                for (String include : builder.includes) {
+                    Property removed = filteredByName.remove(include);
+                    if (removed != null) {
+                        properties.add(removed);
+                    }
                 }
+                properties.addAll(filteredByName.values());
+            } else if (builder.unsorted) {
+                properties.addAll(filteredByName.values());
+            } else {
+                properties.addAll(filteredProperties);
+                properties.sort(Comparator.comparing(Property::getName));
             }
-            properties.addAll(filteredByName.values());
-        } else if (builder.unsorted) {
-            properties.addAll(filteredByName.values());
-        } else {
-            properties.addAll(filteredProperties);
-            properties.sort(Comparator.comparing(Property::getName));
         }
         this.attributeDescriptions = properties.stream().collect(toMap(Property::getName, Property::getValue));
 
@@ -170,6 +187,9 @@ public class ModelNodeForm<T extends ModelNode> extends AbstractForm<T> {
                 formItem = builder.providers.get(name).createFrom(property);
             } else {
                 formItem = builder.defaultFormItemProvider.createFrom(property);
+                if (formItem != null && formItem.supportsExpressions()) {
+                    formItem.addResolveExpressionHandler(this::resolveExpression);
+                }
             }
             if (formItem != null) {
                 addFormItem(formItem);
@@ -364,6 +384,32 @@ public class ModelNodeForm<T extends ModelNode> extends AbstractForm<T> {
         return emptyOrDefault;
     }
 
+    /**
+     * Resolves the expressions of all form items using one composite operation before the resolve expression event
+     * is fired. The dialog which is opened for the event then finds the resolved value in the cache of the expression
+     * resolver. So do subsequent requests to resolve another expression of this form.
+     */
+    private void resolveExpression(ResolveExpressionEvent event) {
+        List<Expression> expressions = new ArrayList<>();
+        for (FormItem formItem : getBoundFormItems()) {
+            if (formItem.isExpressionValue()) {
+                try {
+                    expressions.add(Expression.of(formItem.getExpressionValue()));
+                } catch (IllegalArgumentException e) {
+                    logger.debug("Skip invalid expression {}: {}", formItem.getExpressionValue(), e.getMessage());
+                }
+            }
+        }
+        if (expressions.size() > 1) {
+            Core.INSTANCE.expressionResolver().resolve(expressions).subscribe(
+                    values -> Core.INSTANCE.eventBus().fireEvent(event),
+                    error -> Core.INSTANCE.eventBus().fireEvent(event)); // the dialog shows the error
+        } else {
+            // resend as application event
+            Core.INSTANCE.eventBus().fireEvent(event);
+        }
+    }
+
 
     // ------------------------------------------------------ JS methods
 
@@ -408,6 +454,7 @@ public class ModelNodeForm<T extends ModelNode> extends AbstractForm<T> {
         PrepareReset<T> prepareReset;
         PrepareRemove<T> prepareRemove;
         boolean panelForOptionalAttributes;
+        FormLayout layout;
 
 
         // ------------------------------------------------------ configure required and optional settings
@@ -466,6 +513,19 @@ public class ModelNodeForm<T extends ModelNode> extends AbstractForm<T> {
             return this;
         }
 
+        /**
+         * Includes the attributes of the specified layout in the order of the layout. Used by generated MBUI views to
+         * avoid walking all attributes of the resource description. Call this method before including other
+         * attributes or adding custom form items.
+         */
+        @JsIgnore
+        public Builder<T> layout(FormLayout layout) {
+            this.layout = layout;
+            this.includes.addAll(layout.getAttributes());
+            this.unsorted = true;
+            return this;
+        }
+
         /**
          * Use this flag if you just want to use the form to add model nodes. The attributes will be taken from the
          * ATTRIBUTES child node.
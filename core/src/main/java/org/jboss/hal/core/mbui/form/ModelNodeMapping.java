@@ -201,6 +201,8 @@ class ModelNodeMapping<T extends ModelNode> extends DefaultMapping<T> {
                             id, name, attributeDescriptions);
                     continue;
                 }
+                boolean mapped = true;
+                ModelNode persisted = model.hasDefined(name) ? model.get(name).clone() : new ModelNode();
                 if (formItem instanceof ModelNodeItem) {
                     if (formItem.getValue() == null) {
                         failSafeRemove(model, name);
@@ -280,6 +282,8 @@ class ModelNodeMapping<T extends ModelNode> extends DefaultMapping<T> {
                                         }
                                         model.get(name).set(mapNode);
                                     }
+                                } else {
+                                    mapped = false;
                                 }
                                 break;
 
@@ -302,12 +306,19 @@ class ModelNodeMapping<T extends ModelNode> extends DefaultMapping<T> {
                             case UNDEFINED:
                                 logger.warn("{}: persisting form field '{}' to type '{}' not implemented", id,
                                         name, type);
+                                mapped = false;
                                 break;
                             default:
                                 break;
                         }
                     }
                 }
+
+                // don't report values as modified which are equal to the persisted value
+                ModelNode current = model.hasDefined(name) ? model.get(name) : new ModelNode();
+                if (mapped && current.equals(persisted)) {
+                    formItem.setModified(false);
+                }
             }
         }
     }
@@ -70,7 +70,7 @@ class PropertyFilter implements Predicate<Property> {
         return filter.test(property);
     }
 
-    private boolean emptyIncludes() {
+    boolean emptyIncludes() {
         if (builder.includes.isEmpty()) {
             return true;
         } else {
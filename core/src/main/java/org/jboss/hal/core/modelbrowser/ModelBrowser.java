@@ -394,6 +394,7 @@ public class ModelBrowser implements IsElement<HTMLElement> {
                 @Override
                 public void onMetadata(Metadata metadata) {
                     flattenDescription(metadata.getDescription().get(OPERATIONS).get(ADD).get(REQUEST_PROPERTIES));
+                    metadata.getDescription().invalidateIndexes();
                     String title = new LabelBuilder().label(parent.text);
                     NameItem nameItem = new NameItem();
                     String id = Ids.build(parent.id, "add");
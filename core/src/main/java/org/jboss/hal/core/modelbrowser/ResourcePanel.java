@@ -103,6 +103,7 @@ class ResourcePanel implements Iterable<HTMLElement> {
                     .build();
             dispatcher.execute(operation, result -> {
                 flattenDescription(metadata.getDescription().get(ATTRIBUTES));
+                metadata.getDescription().invalidateIndexes();
                 flattenModel(result);
                 ModelNodeForm<ModelNode> form = new ModelNodeForm.Builder<>(
                         Ids.build(Ids.MODEL_BROWSER, node.id, Ids.FORM), metadata)
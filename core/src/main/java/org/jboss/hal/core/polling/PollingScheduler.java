@@ -0,0 +1,341 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.core.polling;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import javax.inject.Inject;
+
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import rx.Completable;
+
+import static elemental2.dom.DomGlobal.clearTimeout;
+import static elemental2.dom.DomGlobal.document;
+import static elemental2.dom.DomGlobal.setTimeout;
+import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Collectors.toList;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SUCCESS;
+
+/**
+ * Central scheduler for everything the console polls periodically.
+ * <p>
+ * Instead of running one {@code setInterval()} per poll, the scheduler uses a single timer which fires when the next
+ * poll is due. Reads which are due within {@value #MERGE_WINDOW} ms are merged into one composite operation. Polls
+ * which can't be expressed as a single read (e.g. flows of dependent operations) are registered as tasks and executed
+ * on their own.
+ * <p>
+ * The scheduler pauses while the browser tab is hidden and resumes with the overdue polls once the tab becomes
+ * visible again. If a poll takes longer than half of its interval or fails, its interval is doubled up to {@value
+ * #MAX_BACKOFF} times the registered interval. The interval is reset as soon as the poll is fast again. Tasks which
+ * don't complete within {@value #TASK_TIMEOUT} ms or their current interval (whichever is longer) count as failed.
+ */
+public class PollingScheduler {
+
+    static final long MERGE_WINDOW = 250;
+    static final int MAX_BACKOFF = 8;
+    static final long TASK_TIMEOUT = 30_000;
+    private static final Logger logger = LoggerFactory.getLogger(PollingScheduler.class);
+
+    private final Dispatcher dispatcher;
+    private final List<Poll> polls;
+    private double handle;
+
+    @Inject
+    public PollingScheduler(Dispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+        this.polls = new ArrayList<>();
+        this.handle = -1;
+        document.addEventListener("visibilitychange", event -> schedule()); //NON-NLS
+    }
+
+    /**
+     * Registers a periodic read. The operation is created each time the read is due. If the supplier returns {@code
+     * null}, the read is skipped.
+     *
+     * @param name      a human readable name shown in the settings dialog
+     * @param interval  the interval in ms
+     * @param operation creates the operation
+     * @param success   called with the result of the operation
+     */
+    public Poll register(String name, long interval, Supplier<Operation> operation, Consumer<ModelNode> success) {
+        return register(name, interval, operation, success, failure -> logger.error("Poll {} failed: {}", name,
+                failure));
+    }
+
+    /**
+     * Registers a periodic read. The operation is created each time the read is due. If the supplier returns {@code
+     * null}, the read is skipped.
+     *
+     * @param name      a human readable name shown in the settings dialog
+     * @param interval  the interval in ms
+     * @param operation creates the operation
+     * @param success   called with the result of the operation
+     * @param failure   called with the failure description if the operation failed
+     */
+    public Poll register(String name, long interval, Supplier<Operation> operation, Consumer<ModelNode> success,
+            Consumer<String> failure) {
+        return add(new Poll(this, name, interval, operation, success, failure, null));
+    }
+
+    /**
+     * Registers a periodic task. Tasks are never merged with other polls.
+     *
+     * @param name     a human readable name shown in the settings dialog
+     * @param interval the interval in ms
+     * @param task     creates the task
+     */
+    public Poll register(String name, long interval, Supplier<Completable> task) {
+        return add(new Poll(this, name, interval, null, null, null, task));
+    }
+
+    /** @return the registered polls */
+    public List<Poll> getPolls() {
+        return unmodifiableList(polls);
+    }
+
+    private Poll add(Poll poll) {
+        polls.add(poll);
+        poll.due = System.currentTimeMillis() + poll.interval;
+        schedule();
+        return poll;
+    }
+
+    void cancel(Poll poll) {
+        polls.remove(poll);
+        schedule();
+    }
+
+
+    // ------------------------------------------------------ timer
+
+    private void schedule() {
+        if (handle != -1) {
+            clearTimeout(handle);
+            handle = -1;
+        }
+        if (!hidden()) {
+            long next = Long.MAX_VALUE;
+            for (Poll poll : polls) {
+                if (!poll.running) {
+                    next = Math.min(next, poll.due);
+                }
+            }
+            if (next != Long.MAX_VALUE) {
+                long delay = Math.max(0, next - System.currentTimeMillis());
+                handle = setTimeout(o -> tick(), delay);
+            }
+        }
+    }
+
+    private void tick() {
+        handle = -1;
+        long now = System.currentTimeMillis();
+        List<Poll> due = polls.stream()
+                .filter(poll -> !poll.running && poll.due <= now + MERGE_WINDOW)
+                .collect(toList());
+
+        List<Poll> reads = new ArrayList<>();
+        List<Operation> operations = new ArrayList<>();
+        for (Poll poll : due) {
+            if (poll.task != null) {
+                execute(poll);
+            } else {
+                Operation operation = poll.operation.get();
+                if (operation != null) {
+                    poll.start();
+                    reads.add(poll);
+                    operations.add(operation);
+                } else {
+                    poll.due = now + poll.interval;
+                }
+            }
+        }
+        if (reads.size() == 1) {
+            read(reads.get(0), operations.get(0));
+        } else if (reads.size() > 1) {
+            dispatcher.execute(new Composite(operations),
+                    result -> {
+                        for (int i = 0; i < reads.size(); i++) {
+                            Poll poll = reads.get(i);
+                            ModelNode step = result.step(i);
+                            if (SUCCESS.equals(step.get(OUTCOME).asString())) {
+                                if (poll.succeeded()) {
+                                    poll.success.accept(step.get(RESULT));
+                                }
+                            } else if (poll.failed()) {
+                                poll.failure.accept(step.get(FAILURE_DESCRIPTION).asString());
+                            }
+                        }
+                    },
+                    (operation, failure) -> {
+                        // execute the reads on their own to find out which one failed
+                        for (int i = 0; i < reads.size(); i++) {
+                            read(reads.get(i), operations.get(i));
+                        }
+                    },
+                    (operation, exception) -> reads.forEach(Poll::failed));
+        }
+        schedule();
+    }
+
+    private void execute(Poll poll) {
+        int run = poll.start();
+        // a task which never completes would block the poll forever
+        double timeout = setTimeout(o -> {
+            if (poll.running(run)) {
+                logger.warn("Poll {} did not complete within {} ms", poll.name, taskTimeout(poll));
+                poll.failed();
+            }
+        }, taskTimeout(poll));
+        poll.task.get().subscribe(
+                () -> {
+                    clearTimeout(timeout);
+                    if (poll.running(run)) {
+                        poll.succeeded();
+                    }
+                },
+                error -> {
+                    clearTimeout(timeout);
+                    if (poll.running(run)) {
+                        poll.failed();
+                    }
+                });
+    }
+
+    private long taskTimeout(Poll poll) {
+        return Math.max(TASK_TIMEOUT, poll.getInterval());
+    }
+
+    private void read(Poll poll, Operation operation) {
+        dispatcher.execute(operation,
+                result -> {
+                    if (poll.succeeded()) {
+                        poll.success.accept(result);
+                    }
+                },
+                (op, failure) -> {
+                    if (poll.failed()) {
+                        poll.failure.accept(failure);
+                    }
+                },
+                (op, exception) -> {
+                    if (poll.failed()) {
+                        poll.failure.accept(exception.getMessage());
+                    }
+                });
+    }
+
+    private boolean hidden() {
+        JsPropertyMap<Object> properties = Js.cast(document);
+        return Boolean.TRUE.equals(properties.get("hidden")); //NON-NLS
+    }
+
+
+    /** A registered poll. */
+    public static class Poll {
+
+        private final PollingScheduler scheduler;
+        private final String name;
+        private final long interval;
+        private final Supplier<Operation> operation;
+        private final Consumer<ModelNode> success;
+        private final Consumer<String> failure;
+        private final Supplier<Completable> task;
+        private int backoff;
+        private long due;
+        private long started;
+        private boolean running;
+        private int run;
+
+        private Poll(PollingScheduler scheduler, String name, long interval, Supplier<Operation> operation,
+                Consumer<ModelNode> success, Consumer<String> failure, Supplier<Completable> task) {
+            this.scheduler = scheduler;
+            this.name = name;
+            this.interval = interval;
+            this.operation = operation;
+            this.success = success;
+            this.failure = failure;
+            this.task = task;
+            this.backoff = 1;
+        }
+
+        /** @return the number of this run, used to ignore the outcome of a task which has already timed out */
+        private int start() {
+            running = true;
+            started = System.currentTimeMillis();
+            return ++run;
+        }
+
+        private boolean running(int run) {
+            return running && this.run == run;
+        }
+
+        /** @return whether this poll is still registered */
+        private boolean succeeded() {
+            long now = System.currentTimeMillis();
+            backoff = now - started > interval / 2 ? Math.min(backoff * 2, MAX_BACKOFF) : 1;
+            return finish(now);
+        }
+
+        /** @return whether this poll is still registered */
+        private boolean failed() {
+            backoff = Math.min(backoff * 2, MAX_BACKOFF);
+            return finish(System.currentTimeMillis());
+        }
+
+        private boolean finish(long now) {
+            running = false;
+            due = now + interval * backoff;
+            boolean registered = scheduler.polls.contains(this);
+            if (registered) {
+                scheduler.schedule();
+            }
+            return registered;
+        }
+
+        /** Removes this poll from the scheduler. A pending read or task is finished, but its result is ignored. */
+        public void cancel() {
+            scheduler.cancel(this);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /** @return the current interval in ms including the backoff */
+        public long getInterval() {
+            return interval * backoff;
+        }
+
+        /** @return whether the interval is currently increased because the poll was slow or failed */
+        public boolean isBackedOff() {
+            return backoff > 1;
+        }
+    }
+}
@@ -49,8 +49,6 @@ import org.jboss.hal.core.runtime.Result;
 import org.jboss.hal.core.runtime.RunningState;
 import org.jboss.hal.core.runtime.SuspendState;
 import org.jboss.hal.core.runtime.Timeouts;
-import org.jboss.hal.core.runtime.server.ServerUrlTasks.ReadSocketBinding;
-import org.jboss.hal.core.runtime.server.ServerUrlTasks.ReadSocketBindingGroup;
 import org.jboss.hal.dmr.Composite;
 import org.jboss.hal.dmr.CompositeResult;
 import org.jboss.hal.dmr.ModelNode;
@@ -60,8 +58,6 @@ import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.dmr.dispatch.Dispatcher.OnError;
 import org.jboss.hal.dmr.dispatch.Dispatcher.OnFail;
-import org.jboss.hal.flow.FlowContext;
-import org.jboss.hal.flow.Outcome;
 import org.jboss.hal.flow.Progress;
 import org.jboss.hal.meta.AddressTemplate;
 import org.jboss.hal.meta.ManagementModel;
@@ -91,13 +87,11 @@ import static org.jboss.hal.core.runtime.SuspendState.SUSPENDED;
 import static org.jboss.hal.core.runtime.server.ServerConfigStatus.DISABLED;
 import static org.jboss.hal.core.runtime.server.ServerConfigStatus.STARTED;
 import static org.jboss.hal.core.runtime.server.ServerConfigStatus.STOPPED;
-import static org.jboss.hal.core.runtime.server.ServerUrlTasks.URL_KEY;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
 import static org.jboss.hal.dmr.ModelNodeHelper.asEnumValue;
 import static org.jboss.hal.dmr.ModelNodeHelper.getOrDefault;
 import static org.jboss.hal.dmr.dispatch.TimeoutHandler.repeatOperationUntil;
 import static org.jboss.hal.dmr.dispatch.TimeoutHandler.repeatUntilTimeout;
-import static org.jboss.hal.flow.Flow.series;
 import static org.jboss.hal.resources.CSS.fontAwesome;
 import static org.jboss.hal.resources.CSS.marginLeft5;
 import static org.jboss.hal.resources.CSS.pfIcon;
@@ -121,12 +115,14 @@ public class ServerActions implements Timeouts {
     private final Resources resources;
     private final Map<String, Server> pendingServers;
     private final ServerUrlStorage serverUrlStorage;
+    private final ServerUrlResolver serverUrlResolver;
     private final StatementContext statementContext;
 
     @Inject
     public ServerActions(EventBus eventBus,
             Dispatcher dispatcher,
             ServerUrlStorage serverUrlStorage,
+            ServerUrlResolver serverUrlResolver,
             StatementContext statementContext,
             MetadataProcessor metadataProcessor,
             @Footer Provider<Progress> progress,
@@ -134,6 +130,7 @@ public class ServerActions implements Timeouts {
         this.eventBus = eventBus;
         this.dispatcher = dispatcher;
         this.serverUrlStorage = serverUrlStorage;
+        this.serverUrlResolver = serverUrlResolver;
         this.statementContext = statementContext;
         this.metadataProcessor = metadataProcessor;
         this.progress = progress;
@@ -596,27 +593,12 @@ public class ServerActions implements Timeouts {
     /** Reads the URL using the provided parameters */
     public void readUrl(boolean standalone, String host, String serverGroup, String server,
             AsyncCallback<ServerUrl> callback) {
-        if (serverUrlStorage.hasUrl(host, server)) {
-            ServerUrl serverUrl = new ServerUrl(serverUrlStorage.load(host, server), true);
-            callback.onSuccess(serverUrl);
+        serverUrlResolver.resolve(standalone, host, server, callback);
+    }
 
-        } else {
-            series(new FlowContext(),
-                    new ReadSocketBindingGroup(standalone, serverGroup, dispatcher),
-                    new ReadSocketBinding(standalone, host, server, dispatcher))
-                    .subscribe(new Outcome<FlowContext>() {
-                        @Override
-                        public void onError(FlowContext context, Throwable error) {
-                            logger.error(error.getMessage());
-                            callback.onFailure(error);
-                        }
-
-                        @Override
-                        public void onSuccess(FlowContext context) {
-                            callback.onSuccess(context.get(URL_KEY));
-                        }
-                    });
-        }
+    /** Reads the URLs of the specified servers in one go, so that subsequent calls to {@code readUrl()} are local */
+    public void readUrls(List<Server> servers) {
+        serverUrlResolver.resolve(servers);
     }
 
     /** Reads the URL using the information from the specified server instance */
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.core.runtime.server;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.inject.Inject;
+
+import com.google.gwt.user.client.rpc.AsyncCallback;
+import com.google.web.bindery.event.shared.EventBus;
+import org.jboss.hal.core.runtime.group.ServerGroupResultEvent;
+import org.jboss.hal.core.runtime.group.ServerGroupResultEvent.ServerGroupResultHandler;
+import org.jboss.hal.core.runtime.host.HostResultEvent;
+import org.jboss.hal.core.runtime.host.HostResultEvent.HostResultHandler;
+import org.jboss.hal.core.runtime.server.ServerResultEvent.ServerResultHandler;
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.resources.Ids;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toList;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
+
+/**
+ * Resolves the URLs of servers and keeps them in memory.
+ * <p>
+ * The URL of a server is taken from the first bound {@code http} or {@code https} socket binding. Instead of reading
+ * the socket binding group of the server group and the socket bindings of each server one after another, the resolver
+ * reads the socket bindings of all requested servers using one composite operation with one wildcard read per server.
+ * The runtime attributes {@code bound-address} and {@code bound-port} already include the port offset of the server,
+ * so the socket binding group and the port offset need not be read separately.
+ * <p>
+ * Resolved URLs are cached until the server, its server group or its host is reloaded, restarted, started or stopped.
+ * Code which modifies socket bindings should call {@link #invalidate()}. Custom URLs from {@link ServerUrlStorage}
+ * always take precedence and are never cached.
+ */
+public class ServerUrlResolver implements ServerResultHandler, ServerGroupResultHandler, HostResultHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServerUrlResolver.class);
+
+    private final Dispatcher dispatcher;
+    private final ServerUrlStorage serverUrlStorage;
+    private final Map<String, ServerUrl> urls;
+    private final Map<String, List<AsyncCallback<ServerUrl>>> pending;
+
+    @Inject
+    public ServerUrlResolver(EventBus eventBus, Dispatcher dispatcher, ServerUrlStorage serverUrlStorage) {
+        this.dispatcher = dispatcher;
+        this.serverUrlStorage = serverUrlStorage;
+        this.urls = new HashMap<>();
+        this.pending = new HashMap<>();
+
+        eventBus.addHandler(ServerResultEvent.getType(), this);
+        eventBus.addHandler(ServerGroupResultEvent.getType(), this);
+        eventBus.addHandler(HostResultEvent.getType(), this);
+    }
+
+
+    // ------------------------------------------------------ resolve
+
+    /**
+     * Resolves the URLs of the specified servers using one composite operation. Stopped servers and servers whose URL
+     * is already known or currently resolved are skipped.
+     */
+    public void resolve(List<Server> servers) {
+        List<Server> unresolved = servers.stream()
+                .filter(Server::isStarted)
+                .filter(server -> !known(server.getHost(), server.getName()))
+                .collect(toList());
+        if (!unresolved.isEmpty()) {
+            List<Target> targets = unresolved.stream()
+                    .map(server -> new Target(server.isStandalone(), server.getHost(), server.getName()))
+                    .collect(toList());
+            read(targets);
+        }
+    }
+
+    /** Resolves the URL of one server. Uses the custom URL, the cached URL or a pending read if possible. */
+    public void resolve(boolean standalone, String host, String server, AsyncCallback<ServerUrl> callback) {
+        if (serverUrlStorage.hasUrl(host, server)) {
+            callback.onSuccess(new ServerUrl(serverUrlStorage.load(host, server), true));
+            return;
+        }
+        String key = Ids.hostServer(host, server);
+        ServerUrl url = urls.get(key);
+        if (url != null) {
+            callback.onSuccess(url);
+        } else {
+            List<AsyncCallback<ServerUrl>> callbacks = pending.get(key);
+            if (callbacks != null) {
+                callbacks.add(callback);
+            } else {
+                Target target = new Target(standalone, host, server);
+                target.callbacks.add(callback);
+                List<Target> targets = new ArrayList<>();
+                targets.add(target);
+                read(targets);
+            }
+        }
+    }
+
+    private boolean known(String host, String server) {
+        String key = Ids.hostServer(host, server);
+        return serverUrlStorage.hasUrl(host, server) || urls.containsKey(key) || pending.containsKey(key);
+    }
+
+    private void read(List<Target> targets) {
+        List<Operation> operations = new ArrayList<>();
+        for (Target target : targets) {
+            pending.put(target.key, target.callbacks);
+            ResourceAddress address = new ResourceAddress();
+            if (!target.standalone) {
+                address.add(HOST, target.host).add(SERVER, target.server);
+            }
+            address.add(SOCKET_BINDING_GROUP, "*").add(SOCKET_BINDING, "*");
+            operations.add(new Operation.Builder(address, READ_RESOURCE_OPERATION)
+                    .param(INCLUDE_RUNTIME, true)
+                    .build());
+        }
+        dispatcher.execute(new Composite(operations),
+                (CompositeResult result) -> {
+                    for (int i = 0; i < targets.size(); i++) {
+                        Target target = targets.get(i);
+                        ModelNode step = result.step(i);
+                        if (step.isFailure()) {
+                            target.failed(step.getFailureDescription());
+                        } else {
+                            target.resolved(step.get(RESULT));
+                        }
+                    }
+                },
+                (operation, failure) -> targets.forEach(target -> target.failed(failure)),
+                (operation, exception) -> targets.forEach(target -> target.failed(exception.getMessage())));
+    }
+
+
+    // ------------------------------------------------------ invalidate
+
+    /** Removes all URLs from the cache. Pending reads are finished, but their results are not cached. */
+    public void invalidate() {
+        urls.clear();
+        pending.clear();
+    }
+
+    private void invalidate(Server server) {
+        String key = Ids.hostServer(server.getHost(), server.getName());
+        urls.remove(key);
+        pending.remove(key);
+    }
+
+    @Override
+    public void onServerResult(ServerResultEvent event) {
+        invalidate(event.getServer());
+    }
+
+    @Override
+    public void onServerGroupResult(ServerGroupResultEvent event) {
+        event.getServers().forEach(this::invalidate);
+    }
+
+    @Override
+    public void onHostResult(HostResultEvent event) {
+        event.getServers().forEach(this::invalidate);
+    }
+
+
+    /** A server whose URL is read. */
+    private class Target {
+
+        private final boolean standalone;
+        private final String host;
+        private final String server;
+        private final String key;
+        private final List<AsyncCallback<ServerUrl>> callbacks;
+
+        private Target(boolean standalone, String host, String server) {
+            this.standalone = standalone;
+            this.host = host;
+            this.server = server;
+            this.key = Ids.hostServer(host, server);
+            this.callbacks = new ArrayList<>();
+        }
+
+        private void resolved(ModelNode result) {
+            // the result of a wildcard read is a list of nodes with 'address' and 'result'
+            Optional<ModelNode> binding = result.asList().stream()
+                    .filter(node -> name(node).startsWith("http"))
+                    .filter(node -> node.get(RESULT).hasDefined(BOUND))
+                    .filter(node -> node.get(RESULT).get(BOUND).asBoolean())
+                    .sorted(comparing(this::name))
+                    .findFirst();
+            if (binding.isPresent()) {
+                ModelNode node = binding.get();
+                ModelNode socketBinding = node.get(RESULT);
+                if (socketBinding.hasDefined(BOUND_ADDRESS)) {
+                    StringBuilder url = new StringBuilder();
+                    url.append(name(node)).append("://").append(socketBinding.get(BOUND_ADDRESS).asString());
+                    if (socketBinding.hasDefined(BOUND_PORT)) {
+                        url.append(":").append(socketBinding.get(BOUND_PORT).asInt());
+                    }
+                    ServerUrl serverUrl = new ServerUrl(url.toString(), false);
+                    if (finish()) {
+                        urls.put(key, serverUrl);
+                    }
+                    callbacks.forEach(callback -> callback.onSuccess(serverUrl));
+                } else {
+                    failed("No address defined for " + key + " / " + name(node)); //NON-NLS
+                }
+            } else {
+                failed("No http(s) socket binding defined for " + key); //NON-NLS
+            }
+        }
+
+        private void failed(String failure) {
+            logger.error("Unable to resolve URL of {}: {}", key, failure);
+            finish();
+            RuntimeException exception = new RuntimeException(failure);
+            callbacks.forEach(callback -> callback.onFailure(exception));
+        }
+
+        /** @return whether the read is still valid, i.e. it was not invalidated in the meantime */
+        private boolean finish() {
+            if (pending.get(key) == callbacks) {
+                pending.remove(key);
+                return true;
+            }
+            return false;
+        }
+
+        private String name(ModelNode node) {
+            String name = new ResourceAddress(node.get(ADDRESS)).lastValue();
+            return name != null ? name : "";
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.core.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+import javax.inject.Inject;
+
+import com.google.web.bindery.event.shared.EventBus;
+import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
+import org.jboss.hal.ballroom.LabelBuilder;
+import org.jboss.hal.config.Environment;
+import org.jboss.hal.core.ApplicationReadyEvent;
+import org.jboss.hal.core.ApplicationReadyEvent.ApplicationReadyHandler;
+import org.jboss.hal.core.mvp.Places;
+import org.jboss.hal.dmr.Property;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.meta.AddressTemplate;
+import org.jboss.hal.meta.StatementContext;
+import org.jboss.hal.meta.description.ResourceDescription;
+import org.jboss.hal.meta.description.ResourceDescriptionRegistry;
+import org.jboss.hal.meta.search.InvertedIndex;
+import org.jboss.hal.meta.search.SearchIndex;
+import org.jboss.hal.meta.token.NameTokens;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static elemental2.dom.DomGlobal.setTimeout;
+import static java.util.Arrays.asList;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ATTRIBUTES;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.DESCRIPTION;
+
+/**
+ * Client side search for places and resources. The search uses an {@link InvertedIndex} built from the tokens,
+ * keywords and required resources of the {@link SearchIndex} and from the names and descriptions of the attributes
+ * found in the cached resource descriptions.
+ * <p>
+ * The index is built in small chunks after the application is ready, so it doesn't slow down the bootstrap process.
+ * Resource descriptions are usually read when a place is revealed for the first time. Resources without a cached
+ * description are remembered and their attributes are added as soon as the description is available.
+ */
+public class GlobalSearch implements ApplicationReadyHandler {
+
+    private static final int MAX_RESULTS = 10;
+    private static final int CHUNK_SIZE = 25;
+    private static final long DESCRIPTION_CHECK_INTERVAL = 5000;
+    private static final String OPTIONAL = "opt://";
+    private static final Logger logger = LoggerFactory.getLogger(GlobalSearch.class);
+
+    private final Environment environment;
+    private final SearchIndex searchIndex;
+    private final ResourceDescriptionRegistry descriptionRegistry;
+    private final StatementContext statementContext;
+    private final InvertedIndex<SearchResult> index;
+    private final Map<String, List<SearchResult>> undescribed;
+    private final LabelBuilder labelBuilder;
+    private long lastDescriptionCheck;
+
+    @Inject
+    public GlobalSearch(EventBus eventBus, Environment environment, SearchIndex searchIndex,
+            ResourceDescriptionRegistry descriptionRegistry, StatementContext statementContext) {
+        this.environment = environment;
+        this.searchIndex = searchIndex;
+        this.descriptionRegistry = descriptionRegistry;
+        this.statementContext = statementContext;
+        this.index = new InvertedIndex<>();
+        this.undescribed = new HashMap<>();
+        this.labelBuilder = new LabelBuilder();
+        eventBus.addHandler(ApplicationReadyEvent.getType(), this);
+    }
+
+    @Override
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        Queue<String> tokens = new LinkedList<>(searchIndex.getTokens(environment.isStandalone()));
+        logger.debug("Start indexing {} places", tokens.size());
+        indexChunk(tokens);
+    }
+
+    private void indexChunk(Queue<String> tokens) {
+        for (int i = 0; i < CHUNK_SIZE && !tokens.isEmpty(); i++) {
+            indexPlace(tokens.poll());
+        }
+        if (tokens.isEmpty()) {
+            logger.debug("Finished indexing: {} places and resources", index.size());
+        } else {
+            setTimeout(o -> indexChunk(tokens), 0);
+        }
+    }
+
+    private void indexPlace(String token) {
+        String title = labelBuilder.label(token);
+        SearchResult place = new SearchResult(SearchResult.Type.PLACE, token, title, token,
+                new PlaceRequest.Builder().nameToken(token).build());
+        List<String> texts = new ArrayList<>(searchIndex.getKeywords(token));
+        texts.add(token);
+        index.add(place, texts);
+
+        for (String resource : searchIndex.getResources(token)) {
+            String template = resource.startsWith(OPTIONAL) ? resource.substring(OPTIONAL.length()) : resource;
+            index.add(place, asList(template));
+            SearchResult resourceResult = resourceResult(template);
+            if (resourceResult != null) {
+                index.add(resourceResult, asList(template));
+                if (!indexDescription(template, place, resourceResult)) {
+                    List<SearchResult> results = undescribed.computeIfAbsent(template, t -> new ArrayList<>());
+                    results.add(place);
+                    results.add(resourceResult);
+                }
+            }
+        }
+    }
+
+    private SearchResult resourceResult(String template) {
+        try {
+            ResourceAddress address = AddressTemplate.of(template).resolve(statementContext);
+            // the model browser needs a concrete address
+            ResourceAddress concrete = new ResourceAddress();
+            if (!address.isEmpty()) {
+                for (Property segment : address.asPropertyList()) {
+                    if ("*".equals(segment.getValue().asString())) {
+                        break;
+                    }
+                    concrete.add(segment.getName(), segment.getValue().asString());
+                }
+            }
+            PlaceRequest.Builder builder = new PlaceRequest.Builder();
+            if (!concrete.isEmpty()) {
+                builder.nameToken(NameTokens.EXPERT_MODE).with(Places.ADDRESS_PARAM, concrete.toString());
+            } else {
+                builder.nameToken(NameTokens.MODEL_BROWSER);
+            }
+            String title = address.isEmpty() ? address.toString() : labelBuilder.label(address.lastName());
+            return new SearchResult(SearchResult.Type.RESOURCE, template, title, address.toString(),
+                    builder.build());
+        } catch (RuntimeException e) {
+            logger.debug("Unable to index resource {}: {}", template, e.getMessage());
+            return null;
+        }
+    }
+
+    /** Adds the attribute names and descriptions of the resource to the results. */
+    private boolean indexDescription(String template, SearchResult... results) {
+        AddressTemplate addressTemplate = AddressTemplate.of(template);
+        if (descriptionRegistry.contains(addressTemplate)) {
+            ResourceDescription description = descriptionRegistry.lookup(addressTemplate);
+            List<String> texts = new ArrayList<>();
+            texts.add(description.getDescription());
+            for (Property attribute : description.getAttributes(ATTRIBUTES)) {
+                texts.add(attribute.getName());
+                if (attribute.getValue().hasDefined(DESCRIPTION)) {
+                    texts.add(attribute.getValue().get(DESCRIPTION).asString());
+                }
+            }
+            for (SearchResult result : results) {
+                index.add(result, texts);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private void indexDescriptions() {
+        long now = System.currentTimeMillis();
+        if (!undescribed.isEmpty() && now - lastDescriptionCheck > DESCRIPTION_CHECK_INTERVAL) {
+            lastDescriptionCheck = now;
+            for (Iterator<Map.Entry<String, List<SearchResult>>> iterator = undescribed.entrySet().iterator();
+                    iterator.hasNext(); ) {
+                Map.Entry<String, List<SearchResult>> entry = iterator.next();
+                if (indexDescription(entry.getKey(), entry.getValue().toArray(new SearchResult[0]))) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the places and resources matching the query. Words of the query match words of the indexed texts
+     * starting with the word. If there are no such words, words with a small typo match as well.
+     */
+    public List<SearchResult> search(String query) {
+        indexDescriptions();
+        return index.search(query, MAX_RESULTS);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.core.search;
+
+import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
+
+/** A place or resource found by the {@link GlobalSearch}. */
+public class SearchResult {
+
+    public enum Type {
+        PLACE, RESOURCE
+    }
+
+
+    private final Type type;
+    private final String id;
+    private final String title;
+    private final String description;
+    private final PlaceRequest placeRequest;
+
+    SearchResult(Type type, String id, String title, String description, PlaceRequest placeRequest) {
+        this.type = type;
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.placeRequest = placeRequest;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SearchResult)) {
+            return false;
+        }
+        SearchResult that = (SearchResult) o;
+        return type == that.type && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * type.hashCode() + id.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return type + "(" + id + ")";
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /** @return the name token for places and the address template for resources */
+    public String getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /** @return the place request to reveal the place or the resource in the model browser */
+    public PlaceRequest getPlaceRequest() {
+        return placeRequest;
+    }
+}
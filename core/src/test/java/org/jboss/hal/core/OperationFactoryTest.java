@@ -173,6 +173,31 @@ public class OperationFactoryTest {
         assertWrite(composite, "security-domain", "foo");
     }
 
+    @Test
+    public void unchanged() {
+        ModelNode model = new ModelNode();
+        model.get("allocation-retry").set(23);
+        model.get("jndi-name").set("java:/foo");
+
+        Composite composite = operationFactory.fromChangeSet(address,
+                ImmutableMap.of("allocation-retry", 23L, "jndi-name", "java:/bar"), metadata, model);
+
+        assertEquals(1, composite.size());
+        assertWrite(composite, "jndi-name", "java:/bar");
+    }
+
+    @Test
+    public void unchangedUndefined() {
+        ModelNode model = new ModelNode();
+        model.get("jndi-name").set("java:/foo");
+
+        Composite composite = operationFactory.fromChangeSet(address,
+                ImmutableMap.of("class-name", "", "jndi-name", ""), metadata, model);
+
+        assertEquals(1, composite.size());
+        assertUndefine(composite, "jndi-name");
+    }
+
     @Test
     public void reset() {
         Composite composite = operationFactory.resetResource(address,
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.core;
+
+import java.util.List;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.NamedNode;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.jboss.hal.dmr.ModelNodeHelper.asNamedNodes;
+import static org.jboss.hal.dmr.ModelNodeHelper.failSafePropertyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({"HardCodedStringLiteral", "DuplicateStringLiteralInspection"})
+public class RecursiveResultTest {
+
+    private ResourceAddress root;
+    private RecursiveResult recursiveResult;
+
+    @Before
+    public void setUp() {
+        root = ResourceAddress.from("subsystem=undertow/server=default-server");
+        ModelNode model = new ModelNode();
+        model.get("default-host").set("default-host");
+        model.get("host").get("default-host").get("alias").set("localhost");
+        model.get("host").get("default-host").get("location").get("/").get("handler").set("welcome-content");
+        model.get("http-listener");
+
+        recursiveResult = new RecursiveResult(root);
+        recursiveResult.set(model);
+    }
+
+    @Test
+    public void root() {
+        ModelNode resource = new ModelNode();
+        resource.get("default-host").set("other-host");
+
+        assertNull(recursiveResult.patch(root, resource));
+        assertSame(resource, recursiveResult.get());
+    }
+
+    @Test
+    public void modify() {
+        ModelNode resource = new ModelNode();
+        resource.get("alias").set("127.0.0.1");
+
+        assertEquals("host", recursiveResult.patch(address("host=default-host"), resource));
+        assertEquals("127.0.0.1", recursiveResult.get().get("host").get("default-host").get("alias").asString());
+        assertFalse(recursiveResult.get().get("host").get("default-host").hasDefined("location"));
+    }
+
+    @Test
+    public void addToUndefinedType() {
+        ModelNode resource = new ModelNode();
+        resource.get("socket-binding").set("http");
+
+        assertEquals("http-listener", recursiveResult.patch(address("http-listener=default"), resource));
+        assertEquals("http", recursiveResult.get().get("http-listener").get("default").get("socket-binding")
+                .asString());
+    }
+
+    @Test
+    public void nested() {
+        ModelNode resource = new ModelNode();
+        resource.get("handler").set("other-content");
+
+        assertEquals("host", recursiveResult.patch(address("host=default-host").add("location", "/"), resource));
+        assertEquals("other-content",
+                recursiveResult.get().get("host").get("default-host").get("location").get("/").get("handler")
+                        .asString());
+        assertEquals("localhost", recursiveResult.get().get("host").get("default-host").get("alias").asString());
+    }
+
+    @Test
+    public void nestedAfterNamedNodes() {
+        // views turn parts of the cached result into named nodes
+        List<NamedNode> hosts = asNamedNodes(failSafePropertyList(recursiveResult.get(), "host"));
+        ModelNode resource = new ModelNode();
+        resource.get("priority").set(1);
+
+        assertEquals("host", recursiveResult.patch(address("host=default-host").add("location", "/")
+                .add("filter-ref", "gzip"), resource));
+        assertEquals(1, recursiveResult.get().get("host").get("default-host").get("location").get("/")
+                .get("filter-ref").get("gzip").get("priority").asInt());
+        assertFalse(hosts.get(0).get("location").get("/").hasDefined("filter-ref"));
+    }
+
+    @Test
+    public void remove() {
+        assertEquals("host", recursiveResult.patch(address("host=default-host").add("location", "/"), new ModelNode()));
+        assertTrue(recursiveResult.get().get("host").get("default-host").get("location").keys().isEmpty());
+    }
+
+    @Test
+    public void removeUnknown() {
+        assertEquals("host", recursiveResult.patch(address("host=unknown"), new ModelNode()));
+        assertEquals(1, recursiveResult.get().get("host").keys().size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void notBelow() {
+        recursiveResult.patch(ResourceAddress.from("subsystem=undertow/server=other-server/host=foo"),
+                new ModelNode());
+    }
+
+    private ResourceAddress address(String relative) {
+        return new ResourceAddress(root).add(ResourceAddress.from(relative));
+    }
+}
@@ -241,6 +241,63 @@ public class ModelNodeFormTest {
     }
 
 
+    // ------------------------------------------------------ layout
+
+    @Test
+    public void layoutAttributes() {
+        ModelNodeForm<ModelNode> form = builder("layoutAttributes", attributes)
+                .layout(new FormLayout("qux", "foo"))
+                .build();
+        Iterable<FormItem> formItems = form.getFormItems();
+        Iterator<FormItem> iterator = formItems.iterator();
+
+        assertEquals(2, Iterables.size(formItems));
+        assertEquals("qux", iterator.next().getName());
+        assertEquals("foo", iterator.next().getName());
+    }
+
+    @Test
+    public void layoutWithUnknownAttribute() {
+        ModelNodeForm<ModelNode> form = builder("layoutWithUnknownAttribute", attributes)
+                .layout(new FormLayout("qux", "unknown", "foo"))
+                .build();
+        Iterable<FormItem> formItems = form.getFormItems();
+        Iterator<FormItem> iterator = formItems.iterator();
+
+        assertEquals(2, Iterables.size(formItems));
+        assertEquals("qux", iterator.next().getName());
+        assertEquals("foo", iterator.next().getName());
+    }
+
+    @Test
+    public void layoutNoRuntime() {
+        ModelNodeForm<ModelNode> form = builder("layoutNoRuntime",
+                new ResourceDescriptionBuilder().storage(ImmutableMap.of("foo", CONFIGURATION, "bar", RUNTIME)))
+                .layout(new FormLayout("bar", "foo"))
+                .build();
+        Iterable<FormItem> formItems = form.getFormItems();
+        Iterator<FormItem> iterator = formItems.iterator();
+
+        assertEquals(1, Iterables.size(formItems));
+        assertEquals("foo", iterator.next().getName());
+    }
+
+    @Test
+    public void layoutWithExcludes() {
+        ModelNodeForm<ModelNode> form = builder("layoutWithExcludes", attributes)
+                .layout(new FormLayout("qux", "foo"))
+                .exclude("foo")
+                .build();
+        Iterable<FormItem> formItems = form.getFormItems();
+        Iterator<FormItem> iterator = formItems.iterator();
+
+        assertEquals(3, Iterables.size(formItems));
+        assertEquals("qux", iterator.next().getName());
+        assertEquals("bar", iterator.next().getName());
+        assertEquals("baz", iterator.next().getName());
+    }
+
+
     @Test
     public void noRuntime() throws Exception {
         ModelNodeForm<ModelNode> form = builder("noRuntime",
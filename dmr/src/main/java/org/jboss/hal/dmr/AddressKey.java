@@ -0,0 +1,157 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable representation of a {@link ResourceAddress} meant to be used as key in maps and caches.
+ * <p>
+ * Unlike {@link ResourceAddress} which is a {@link ModelNode} and computes its hash code and string representation
+ * from its list value each time, an address key precomputes both. Address keys are interned: Looking up a key by its
+ * string representation (e.g. a document ID from the database) returns the existing key without parsing the string
+ * again.
+ */
+public final class AddressKey {
+
+    static final int MAX_INTERNED = 1000;
+    private static final Map<String, AddressKey> keys = new HashMap<>();
+    private static final AddressKey UNDEFINED = new AddressKey(new String[0], "");
+
+    /**
+     * Returns the interned key for the specified address. An undefined address has no segments like the root address,
+     * but is a different key whose string representation is empty (see {@link ResourceAddress#toString()}).
+     */
+    public static AddressKey of(ResourceAddress address) {
+        if (!address.isDefined()) {
+            return UNDEFINED;
+        }
+        List<Property> properties = address.asPropertyList();
+        String[] segments = new String[properties.size() * 2];
+        int i = 0;
+        for (Property property : properties) {
+            segments[i++] = property.getName();
+            segments[i++] = property.getValue().asString();
+        }
+        return intern(segments);
+    }
+
+    /**
+     * Returns the interned key for the specified address string. The string is only parsed if there's no interned key
+     * for it yet. An empty string returns the key of an undefined address.
+     *
+     * @throws IllegalArgumentException if the address is {@code null}
+     */
+    public static AddressKey of(String address) {
+        if (address != null && address.isEmpty()) {
+            return UNDEFINED;
+        }
+        AddressKey key = keys.get(address);
+        if (key != null) {
+            return key;
+        }
+        return of(ResourceAddress.from(address));
+    }
+
+    private static AddressKey intern(String[] segments) {
+        String string = asString(segments);
+        AddressKey key = keys.get(string);
+        if (key == null) {
+            if (keys.size() >= MAX_INTERNED) {
+                // addresses are usually resolved from a limited set of templates, so this happens only if
+                // lots of different resources have been addressed
+                keys.clear();
+            }
+            key = new AddressKey(segments, string);
+            keys.put(string, key);
+        } else if (!Arrays.equals(key.segments, segments)) {
+            // segment values containing '/' or '=' might produce the same string for different addresses
+            key = new AddressKey(segments, string);
+        }
+        return key;
+    }
+
+    private static String asString(String[] segments) {
+        StringBuilder builder = new StringBuilder("/");
+        for (int i = 0; i < segments.length; i += 2) {
+            if (i > 0) {
+                builder.append("/");
+            }
+            builder.append(segments[i]).append("=").append(segments[i + 1]);
+        }
+        return builder.toString();
+    }
+
+    static int interned() {
+        return keys.size();
+    }
+
+
+    private final String[] segments;
+    private final String string;
+    private final boolean defined;
+    private final int hashCode;
+
+    private AddressKey(String[] segments, String string) {
+        this.segments = segments;
+        this.string = string;
+        this.defined = !string.isEmpty();
+        this.hashCode = 31 * Arrays.hashCode(segments) + (defined ? 1 : 0);
+    }
+
+    /** @return a new resource address for this key. */
+    public ResourceAddress toResourceAddress() {
+        if (!defined) {
+            return new ResourceAddress(new ModelNode());
+        }
+        ResourceAddress address = new ResourceAddress();
+        for (int i = 0; i < segments.length; i += 2) {
+            address.add(segments[i], segments[i + 1]);
+        }
+        return address;
+    }
+
+    /** @return the number of segments. */
+    public int size() {
+        return segments.length / 2;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof AddressKey)) {
+            return false;
+        }
+        AddressKey that = (AddressKey) o;
+        return hashCode == that.hashCode && defined == that.defined && Arrays.equals(segments, that.segments);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    /** @return the address as string using the same format as {@link ResourceAddress#toString()} */
+    @Override
+    public String toString() {
+        return string;
+    }
+}
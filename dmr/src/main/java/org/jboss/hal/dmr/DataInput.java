@@ -22,10 +22,33 @@ import elemental2.core.Int8Array;
 class DataInput {
 
     private final byte[] bytes;
-    private int pos = 0;
+    private final boolean lazy;
+    private int pos;
 
     DataInput(byte[] bytes) {
+        this(bytes, 0, false);
+    }
+
+    /**
+     * @param lazy whether objects and lists should only record their byte range and decode their children on first
+     *             access
+     */
+    DataInput(byte[] bytes, int pos, boolean lazy) {
         this.bytes = bytes;
+        this.pos = pos;
+        this.lazy = lazy;
+    }
+
+    byte[] bytes() {
+        return bytes;
+    }
+
+    int position() {
+        return pos;
+    }
+
+    boolean isLazy() {
+        return lazy;
     }
 
 
@@ -168,4 +191,81 @@ class DataInput {
             return 1;
         }
     }
+
+
+    // ------------------------------------------------------ skip
+
+    /** Skips a complete value including its type without decoding it. */
+    void skipValue() {
+        ModelType type;
+        try {
+            type = ModelType.forChar((char) (readByte() & 0xff));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException(e.getMessage(), e.getCause());
+        }
+        switch (type) {
+            case UNDEFINED:
+                break;
+            case BIG_DECIMAL:
+            case EXPRESSION:
+            case STRING:
+                skipUTF();
+                break;
+            case BIG_INTEGER:
+            case BYTES:
+                skip(readInt());
+                break;
+            case BOOLEAN:
+            case TYPE:
+                skip(1);
+                break;
+            case DOUBLE:
+            case LONG:
+                skip(8);
+                break;
+            case INT:
+                skip(4);
+                break;
+            case LIST:
+                skipList();
+                break;
+            case OBJECT:
+                skipObject();
+                break;
+            case PROPERTY:
+                skipUTF();
+                skipValue();
+                break;
+            default:
+                throw new IllegalStateException("Invalid type read: " + type);
+        }
+    }
+
+    /** Skips the entries of an object. The type has already been read. */
+    void skipObject() {
+        int count = readInt();
+        for (int i = 0; i < count; i++) {
+            skipUTF();
+            skipValue();
+        }
+    }
+
+    /** Skips the elements of a list. The type has already been read. */
+    void skipList() {
+        int count = readInt();
+        for (int i = 0; i < count; i++) {
+            skipValue();
+        }
+    }
+
+    private void skipUTF() {
+        skip(readUnsignedShort());
+    }
+
+    private void skip(int n) {
+        if (n < 0 || pos + n > bytes.length) {
+            throw new RuntimeException("EOF");
+        }
+        pos += n;
+    }
 }
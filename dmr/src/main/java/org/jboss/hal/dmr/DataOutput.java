@@ -15,56 +15,93 @@
  */
 package org.jboss.hal.dmr;
 
+import java.util.Arrays;
+
 import com.google.common.base.Charsets;
 import elemental2.core.ArrayBuffer;
 import elemental2.core.DataView;
 import elemental2.core.Int8Array;
-import elemental2.core.JsArray;
 
+/**
+ * Writes the binary DMR format into a growable byte array.
+ * <p>
+ * The buffer is reused across encodings: {@link #release()} hands the buffer back, so the next instance starts with
+ * the capacity of the previous one. Buffers larger than {@value #MAX_POOLED_CAPACITY} bytes are not kept. Strings are
+ * encoded directly into the buffer without intermediate arrays.
+ */
 class DataOutput {
 
-    private final JsArray<Byte> bytes;
+    static final int INITIAL_CAPACITY = 1024;
+    static final int MAX_POOLED_CAPACITY = 1024 * 1024;
+    private static byte[] pool;
+
+    private byte[] bytes;
+    private int size;
 
     DataOutput() {
-        bytes = new JsArray<>();
+        if (pool != null) {
+            bytes = pool;
+            pool = null;
+        } else {
+            bytes = new byte[INITIAL_CAPACITY];
+        }
+        size = 0;
     }
 
+    /** Returns the written bytes as a binary string with one char per byte. */
     @Override
     public String toString() {
-        int length = bytes.getLength();
-        byte[] array = new byte[length];
-        for (int i = 0; i < length; i++) {
-            array[i] = bytes.getAt(i);
+        return new String(bytes, 0, size, Charsets.ISO_8859_1);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return bytes.length;
+    }
+
+    /** Hands the buffer back for reuse. This instance must not be used afterwards. */
+    void release() {
+        if (bytes != null && bytes.length <= MAX_POOLED_CAPACITY) {
+            pool = bytes;
+        }
+        bytes = null;
+    }
+
+    private void ensureCapacity(int additional) {
+        int required = size + additional;
+        if (required > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(required, bytes.length * 2));
         }
-        return new String(array, Charsets.ISO_8859_1);
     }
 
 
     // ------------------------------------------------------ write a-z
 
     void write(byte[] bits) {
-        for (int i = 0; i < bits.length; i++) {
-            bytes.push(bits[i]);
-        }
+        write(bits, 0, bits.length);
     }
 
-    private void write(byte[] b, int off, int len) {
-        for (int i = 0; i < len; i++) {
-            bytes.push(b[off + i]);
-        }
+    void write(byte[] b, int off, int len) {
+        ensureCapacity(len);
+        System.arraycopy(b, off, bytes, size, len);
+        size += len;
     }
 
     void writeBoolean(boolean v) {
-        bytes.push(v ? (byte) 1 : (byte) 0);
+        ensureCapacity(1);
+        bytes[size++] = v ? (byte) 1 : (byte) 0;
     }
 
     void writeByte(int v) {
-        bytes.push((byte) v);
+        ensureCapacity(1);
+        bytes[size++] = (byte) v;
     }
 
     void writeChar(int v) {
-        bytes.push((byte) (v >>> 8));
-        bytes.push((byte) (v & 0xFF));
+        writeShort(v);
     }
 
     void writeDouble(double v) {
@@ -72,53 +109,52 @@ class DataOutput {
         Int8Array array = new Int8Array(buffer);
         DataView view = new DataView(buffer);
         view.setFloat64(0, v);
-        for (int i = 0; i < array.getLength(); i++) {
-            bytes.push(array.getAt(i).byteValue());
+        ensureCapacity(8);
+        for (int i = 0; i < 8; i++) {
+            bytes[size++] = array.getAt(i).byteValue();
         }
     }
 
     void writeInt(int v) {
-        bytes.push((byte) (v >>> 24));
-        bytes.push((byte) ((v >>> 16) & 0xFF));
-        bytes.push((byte) ((v >>> 8) & 0xFF));
-        bytes.push((byte) (v & 0xFF));
+        ensureCapacity(4);
+        bytes[size++] = (byte) (v >>> 24);
+        bytes[size++] = (byte) (v >>> 16);
+        bytes[size++] = (byte) (v >>> 8);
+        bytes[size++] = (byte) v;
     }
 
     void writeLong(long v) {
-        bytes.push((byte) (v >>> 56));
-        bytes.push((byte) ((v >>> 48) & 0xFF));
-        bytes.push((byte) ((v >>> 40) & 0xFF));
-        bytes.push((byte) ((v >>> 32) & 0xFF));
-        bytes.push((byte) ((v >>> 24) & 0xFF));
-        bytes.push((byte) ((v >>> 16) & 0xFF));
-        bytes.push((byte) ((v >>> 8) & 0xFF));
-        bytes.push((byte) (v & 0xFF));
+        writeInt((int) (v >>> 32));
+        writeInt((int) v);
     }
 
     private void writeShort(int v) {
-        bytes.push((byte) (v >>> 8));
-        bytes.push((byte) (v & 0xFF));
+        ensureCapacity(2);
+        bytes[size++] = (byte) (v >>> 8);
+        bytes[size++] = (byte) v;
     }
 
     void writeUTF(String s) {
         int length = s.length();
-        byte[] bytes = new byte[length * 3];
-        int bl = 0;
+        ensureCapacity(2 + length * 3);
+        int lengthPos = size;
+        size += 2;
         char c;
         for (int i = 0; i < length; i++) {
             c = s.charAt(i);
             if (c > 0 && c <= 0x7f) {
-                bytes[bl++] = (byte) c;
+                bytes[size++] = (byte) c;
             } else if (c <= 0x07ff) {
-                bytes[bl++] = (byte) (0xc0 | 0x1f & c >> 6);
-                bytes[bl++] = (byte) (0x80 | 0x3f & c);
+                bytes[size++] = (byte) (0xc0 | 0x1f & c >> 6);
+                bytes[size++] = (byte) (0x80 | 0x3f & c);
             } else {
-                bytes[bl++] = (byte) (0xe0 | 0x0f & c >> 12);
-                bytes[bl++] = (byte) (0x80 | 0x3f & c >> 6);
-                bytes[bl++] = (byte) (0x80 | 0x3f & c);
+                bytes[size++] = (byte) (0xe0 | 0x0f & c >> 12);
+                bytes[size++] = (byte) (0x80 | 0x3f & c >> 6);
+                bytes[size++] = (byte) (0x80 | 0x3f & c);
             }
         }
-        writeShort(bl);
-        write(bytes, 0, bl);
+        int bl = size - lengthPos - 2;
+        bytes[lengthPos] = (byte) (bl >>> 8);
+        bytes[lengthPos + 1] = (byte) bl;
     }
-}
\ No newline at end of file
+}
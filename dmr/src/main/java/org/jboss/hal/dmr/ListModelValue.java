@@ -16,6 +16,7 @@
 package org.jboss.hal.dmr;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -27,7 +28,13 @@ import java.util.NoSuchElementException;
 class ListModelValue extends ModelValue {
 
     public static final ModelNode[] NO_NODES = new ModelNode[0];
-    private final List<ModelNode> list;
+    private List<ModelNode> list;
+
+    // byte range of the encoded elements as long as the elements haven't been decoded (lazy decoding only)
+    private byte[] bytes;
+    private int start;
+    private int end;
+    private boolean protectOnDecode;
 
     ListModelValue() {
         super(ModelType.LIST);
@@ -36,7 +43,7 @@ class ListModelValue extends ModelValue {
 
     private ListModelValue(ListModelValue orig) {
         super(ModelType.LIST);
-        list = new ArrayList<>(orig.list);
+        list = new ArrayList<>(orig.list());
     }
 
     ListModelValue(List<ModelNode> list) {
@@ -44,8 +51,29 @@ class ListModelValue extends ModelValue {
         this.list = list;
     }
 
+    private ListModelValue(byte[] bytes, int start, int end, boolean protectOnDecode) {
+        super(ModelType.LIST);
+        this.bytes = bytes;
+        this.start = start;
+        this.end = end;
+        this.protectOnDecode = protectOnDecode;
+    }
+
     ListModelValue(DataInput in) {
         super(ModelType.LIST);
+        if (in.isLazy()) {
+            // copy the byte range, so that this value doesn't keep the whole response in memory
+            int from = in.position();
+            in.skipList();
+            bytes = Arrays.copyOfRange(in.bytes(), from, in.position());
+            start = 0;
+            end = bytes.length;
+        } else {
+            list = decode(in);
+        }
+    }
+
+    private static ArrayList<ModelNode> decode(DataInput in) {
         int count = in.readInt();
         ArrayList<ModelNode> list = new ArrayList<>();
         for (int i = 0; i < count; i++) {
@@ -53,11 +81,37 @@ class ListModelValue extends ModelValue {
             value.readExternal(in);
             list.add(value);
         }
-        this.list = list;
+        return list;
+    }
+
+    /** Returns the elements and decodes them on first access if this value was read lazily. */
+    private List<ModelNode> list() {
+        if (list == null) {
+            ArrayList<ModelNode> decoded = decode(new DataInput(bytes, start, true));
+            if (protectOnDecode) {
+                for (ModelNode node : decoded) {
+                    node.protect();
+                }
+                list = Collections.unmodifiableList(decoded);
+            } else {
+                list = decoded;
+            }
+            bytes = null;
+        }
+        return list;
+    }
+
+    private boolean decoded() {
+        return list != null;
     }
 
     @Override
     void writeExternal(DataOutput out) {
+        if (!decoded()) {
+            // the encoded elements are still valid, no need to decode them
+            out.write(bytes, start, end - start);
+            return;
+        }
         List<ModelNode> list = this.list;
         int size = list.size();
         out.writeInt(size);
@@ -68,11 +122,15 @@ class ListModelValue extends ModelValue {
 
     @Override
     ModelValue protect() {
+        if (!decoded()) {
+            // elements are protected as soon as they're decoded
+            return protectOnDecode ? this : new ListModelValue(bytes, start, end, true);
+        }
         List<ModelNode> list = this.list;
         for (ModelNode node : list) {
             node.protect();
         }
-        return list.getClass() == ArrayList.class ? new ListModelValue(Collections.unmodifiableList(list)) : this;
+        return list.getClass() == ArrayList.class ? new ListModelValue(Collections.unmodifiableList(list())) : this;
     }
 
     @Override
@@ -87,7 +145,7 @@ class ListModelValue extends ModelValue {
 
     @Override
     int asInt() {
-        return list.size();
+        return list().size();
     }
 
     @Override
@@ -97,7 +155,7 @@ class ListModelValue extends ModelValue {
 
     @Override
     boolean asBoolean() {
-        return !list.isEmpty();
+        return !list().isEmpty();
     }
 
     @Override
@@ -107,8 +165,8 @@ class ListModelValue extends ModelValue {
 
     @Override
     Property asProperty() {
-        if (list.size() == 2) {
-            return new Property(list.get(0).asString(), list.get(1));
+        if (list().size() == 2) {
+            return new Property(list().get(0).asString(), list().get(1));
         } else {
             return super.asProperty();
         }
@@ -117,7 +175,7 @@ class ListModelValue extends ModelValue {
     @Override
     List<Property> asPropertyList() {
         List<Property> propertyList = new ArrayList<>();
-        Iterator<ModelNode> i = list.iterator();
+        Iterator<ModelNode> i = list().iterator();
         while (i.hasNext()) {
             ModelNode node = i.next();
             if (node.getType() == ModelType.PROPERTY) {
@@ -133,7 +191,7 @@ class ListModelValue extends ModelValue {
     @Override
     ModelNode asObject() {
         ModelNode node = new ModelNode();
-        Iterator<ModelNode> i = list.iterator();
+        Iterator<ModelNode> i = list().iterator();
         while (i.hasNext()) {
             ModelNode name = i.next();
             if (name.getType() == ModelType.PROPERTY) {
@@ -149,7 +207,7 @@ class ListModelValue extends ModelValue {
 
     @Override
     ModelNode getChild(int index) {
-        List<ModelNode> list = this.list;
+        List<ModelNode> list = list();
         int size = list.size();
         if (size <= index) {
             for (int i = 0; i < index - size + 1; i++) {
@@ -162,24 +220,50 @@ class ListModelValue extends ModelValue {
     @Override
     ModelNode addChild() {
         ModelNode node = new ModelNode();
-        list.add(node);
+        list().add(node);
         return node;
     }
 
     @Override
     List<ModelNode> asList() {
-        return Collections.unmodifiableList(list);
+        return Collections.unmodifiableList(list());
     }
 
     @Override
     ModelValue copy() {
+        if (!decoded()) {
+            // the encoded elements are immutable and can be used by both values
+            return new ListModelValue(bytes, start, end, false);
+        }
         return new ListModelValue(this);
     }
 
+    @Override
+    ModelValue share() {
+        shared = true;
+        return this;
+    }
+
+    @Override
+    ModelValue unshare() {
+        if (!shared) {
+            return this;
+        }
+        if (!decoded()) {
+            return new ListModelValue(bytes, start, end, false);
+        }
+        // copy this level only, the values of the children are shared again
+        ArrayList<ModelNode> copy = new ArrayList<>(list().size());
+        for (ModelNode node : list()) {
+            copy.add(node.shareChild());
+        }
+        return new ListModelValue(copy);
+    }
+
     @Override
     ModelValue resolve() {
-        ArrayList<ModelNode> copy = new ArrayList<>(list.size());
-        for (ModelNode node : list) {
+        ArrayList<ModelNode> copy = new ArrayList<>(list().size());
+        for (ModelNode node : list()) {
             copy.add(node.resolve());
         }
         return new ListModelValue(copy);
@@ -194,8 +278,8 @@ class ListModelValue extends ModelValue {
 
     @Override
     void format(StringBuilder builder, int indent, boolean multiLineRequested) {
+        List<ModelNode> list = list();
         boolean multiLine = multiLineRequested && list.size() > 1;
-        List<ModelNode> list = asList();
         Iterator<ModelNode> iterator = list.iterator();
         builder.append('[');
         if (multiLine) {
@@ -220,8 +304,8 @@ class ListModelValue extends ModelValue {
 
     @Override
     void formatAsJSON(StringBuilder builder, int indent, boolean multiLineRequested) {
+        List<ModelNode> list = list();
         boolean multiLine = multiLineRequested && list.size() > 1;
-        List<ModelNode> list = asList();
         Iterator<ModelNode> iterator = list.iterator();
         builder.append('[');
         if (multiLine) {
@@ -264,23 +348,32 @@ class ListModelValue extends ModelValue {
      * @return {@code true} if they are equal, {@code false} otherwise
      */
     public boolean equals(ListModelValue other) {
-        return this == other || other != null && list.equals(other.list);
+        if (this == other) {
+            return true;
+        }
+        if (other == null) {
+            return false;
+        }
+        if (!decoded() && !other.decoded() && bytes == other.bytes && start == other.start) {
+            return true;
+        }
+        return list().equals(other.list());
     }
 
     @Override
     public int hashCode() {
-        return list.hashCode();
+        return list().hashCode();
     }
 
     @Override
     boolean has(int index) {
-        return 0 <= index && index < list.size();
+        return 0 <= index && index < list().size();
     }
 
     @Override
     ModelNode requireChild(int index) throws NoSuchElementException {
         try {
-            return list.get(index);
+            return list().get(index);
         } catch (IndexOutOfBoundsException ignored) {
             return super.requireChild(index);
         }
@@ -257,6 +257,7 @@ public interface ModelDescriptionConstants {
     String DEPLOYMENT_PERMISSIONS = "deployment-permissions";
     String DEPLOYMENT_SCANNER = "deployment-scanner";
     String DEPRECATED = "deprecated";
+    String DEPTH = "depth";
     String DESCRIPTION = "description";
     String DESTINATION = "destination";
     String DESTINATION_ADDRESS = "destination-address";
@@ -801,6 +802,7 @@ public interface ModelDescriptionConstants {
     String ROLE_MAP = "role-map";
     String ROLE_MAPPING = "role-mapping";
     String ROLES = "roles";
+    String ROLLBACK_ON_RUNTIME_FAILURE = "rollback-on-runtime-failure";
     String ROLLBACK_OPERATION = "rollback";
     String ROLLBACK_PREPARED_TRANSACTION = "rollback-prepared-transaction";
     String ROLLBACK_TO = "rollback-to";
@@ -52,11 +52,30 @@ public class ModelNode implements Cloneable {
      * @return the new model node
      */
     public static ModelNode fromBase64(String encoded) {
+        return fromBase64(encoded, false);
+    }
+
+    /**
+     * Creates a new node from a base64 encoded string.
+     * <p>
+     * In lazy mode, objects and lists only record the byte range of their children and decode them on first access.
+     * Unless a child is accessed, no model node is created for it. {@link #writeExternal(DataOutput)} writes the
+     * recorded bytes of undecoded values as they are. Copies share the recorded bytes and {@link #protect()} protects
+     * the children as soon as they're decoded. The structure of the payload is verified up front, so invalid payloads
+     * are still rejected by this method.
+     *
+     * @param encoded The base64 encoded string.
+     * @param lazy    whether to decode the children of objects and lists on first access
+     *
+     * @return the new model node
+     */
+    @JsIgnore
+    public static ModelNode fromBase64(String encoded, boolean lazy) {
         // Bloody IE can't cope with line breaks when decoding base64!
         String safeEncoded = CharMatcher.breakingWhitespace().removeFrom(encoded);
         ModelNode node = new ModelNode();
         String decoded = Base64.decode(safeEncoded);
-        node.readExternal(new DataInput(toBytes(decoded)));
+        node.readExternal(new DataInput(toBytes(decoded), 0, lazy));
         return node;
     }
 
@@ -89,8 +108,8 @@ public class ModelNode implements Cloneable {
     @JsIgnore
     public void protect() {
         if (!protect) {
+            value = writable().protect();
             protect = true;
-            value = value.protect();
         }
     }
 
@@ -269,7 +288,7 @@ public class ModelNode implements Cloneable {
      * @throws IllegalArgumentException if no conversion is possible
      */
     public Property asProperty() throws IllegalArgumentException {
-        return value.asProperty();
+        return writable().asProperty();
     }
 
     /**
@@ -283,7 +302,7 @@ public class ModelNode implements Cloneable {
      */
     @JsIgnore
     public List<Property> asPropertyList() throws IllegalArgumentException {
-        return value.asPropertyList();
+        return writable().asPropertyList();
     }
 
     /**
@@ -850,7 +869,7 @@ public class ModelNode implements Cloneable {
      * @throws IllegalArgumentException if this node does not support getting a child with the given name
      */
     public ModelNode get(String name) {
-        ModelValue value = this.value;
+        ModelValue value = writable();
         if (value == ModelValue.UNDEFINED) {
             checkProtect();
             this.value = new ObjectModelValue();
@@ -873,7 +892,25 @@ public class ModelNode implements Cloneable {
      */
     @JsIgnore
     public ModelNode require(String name) throws NoSuchElementException {
-        return value.requireChild(name);
+        return writable().requireChild(name);
+    }
+
+    /**
+     * Returns the defined child with the given name without creating a child if there's no such child. Used by {@link
+     * ModelNodePath}.
+     *
+     * @return the child or {@code null} if there's no defined child with the given name
+     */
+    ModelNode definedChild(String name) {
+        ModelNode child = value.findChild(name);
+        if (child == null || !child.isDefined()) {
+            return null;
+        }
+        if (value.shared && !protect) {
+            // hand out the child of the unshared value just like get(String)
+            child = writable().findChild(name);
+        }
+        return child;
     }
 
     /**
@@ -889,7 +926,7 @@ public class ModelNode implements Cloneable {
      */
     @JsIgnore
     public ModelNode remove(String name) throws NoSuchElementException {
-        return value.removeChild(name);
+        return writable().removeChild(name);
     }
 
     /**
@@ -906,7 +943,7 @@ public class ModelNode implements Cloneable {
      */
     @JsIgnore
     public ModelNode get(int index) {
-        ModelValue value = this.value;
+        ModelValue value = writable();
         if (value == ModelValue.UNDEFINED) {
             checkProtect();
             return (this.value = new ListModelValue()).getChild(index);
@@ -928,7 +965,7 @@ public class ModelNode implements Cloneable {
      */
     @JsIgnore
     public ModelNode require(int index) {
-        return value.requireChild(index);
+        return writable().requireChild(index);
     }
 
     /**
@@ -1214,7 +1251,7 @@ public class ModelNode implements Cloneable {
      */
     public ModelNode add() {
         checkProtect();
-        ModelValue value = this.value;
+        ModelValue value = writable();
         if (value == ModelValue.UNDEFINED) {
             this.value = new ListModelValue();
             return this.value.addChild();
@@ -1284,7 +1321,7 @@ public class ModelNode implements Cloneable {
      */
     @JsIgnore
     public boolean hasDefined(int index) {
-        return value.has(index) && get(index).isDefined();
+        return value.has(index) && value.requireChild(index).isDefined();
     }
 
     /**
@@ -1296,7 +1333,7 @@ public class ModelNode implements Cloneable {
      * @return true if there is a node at the given index and its type is not undefined
      */
     public boolean hasDefined(String key) {
-        return value.has(key) && get(key).isDefined();
+        return value.has(key) && value.requireChild(key).isDefined();
     }
 
     /**
@@ -1307,7 +1344,7 @@ public class ModelNode implements Cloneable {
      */
     @JsIgnore
     public Set<String> keys() {
-        return value.getKeys();
+        return writable().getKeys();
     }
 
     /**
@@ -1319,7 +1356,7 @@ public class ModelNode implements Cloneable {
      */
     @JsIgnore
     public List<ModelNode> asList() {
-        return value.asList();
+        return writable().asList();
     }
 
     /**
@@ -1371,8 +1408,12 @@ public class ModelNode implements Cloneable {
 
     public String toBase64String() {
         DataOutput out = new DataOutput();
-        writeExternal(out);
-        return Base64.encode(out.toString());
+        try {
+            writeExternal(out);
+            return Base64.encode(out.toString());
+        } finally {
+            out.release();
+        }
     }
 
     /**
@@ -1437,6 +1478,48 @@ public class ModelNode implements Cloneable {
         return clone;
     }
 
+    /**
+     * Returns a copy of this node which shares the value tree with this node instead of copying it. Both nodes copy the
+     * shared value level by level as soon as they access its children (copy-on-write). Unmodified subtrees stay shared
+     * and modifications made through one node are not visible in the other node.
+     * <p>
+     * The shared value tree is protected: Nodes obtained from this node <em>before</em> calling this method are part of
+     * the shared tree and become read-only. Modifying them throws an {@link UnsupportedOperationException} instead of
+     * silently modifying the copy.
+     *
+     * @return a copy-on-write copy of this node
+     */
+    @JsIgnore
+    public ModelNode share() {
+        return new ModelNode().setShared(this);
+    }
+
+    /** Like {@link #set(ModelNode)}, but shares the value of the specified node as described in {@link #share()}. */
+    ModelNode setShared(ModelNode newValue) {
+        checkProtect();
+        if (!newValue.protect) {
+            newValue.value = newValue.writable().protect();
+        }
+        value = newValue.value.share();
+        return this;
+    }
+
+    /** Returns a new node which shares the value of this child node when a shared value is copied. */
+    ModelNode shareChild() {
+        return new ModelNode(value.share());
+    }
+
+    /**
+     * Makes sure the value of this node is not shared with other nodes before its children are handed out. Values of
+     * protected nodes are never modified and can remain shared.
+     */
+    private ModelValue writable() {
+        if (value.shared && !protect) {
+            value = value.unshare();
+        }
+        return value;
+    }
+
     protected void format(StringBuilder builder, int indent, boolean multiLine) {
         value.format(builder, indent, multiLine);
     }
@@ -25,7 +25,6 @@ import java.util.function.Supplier;
 
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
-import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.gwt.core.client.GWT;
 import com.google.gwt.i18n.shared.DateTimeFormat;
@@ -70,26 +69,7 @@ public class ModelNodeHelper {
      * @return The nested node or an empty / undefined model node
      */
     public static ModelNode failSafeGet(ModelNode modelNode, String path) {
-        ModelNode undefined = new ModelNode();
-
-        if (Strings.emptyToNull(path) != null) {
-            Iterable<String> keys = Splitter.on('/').omitEmptyStrings().trimResults().split(path);
-            if (!Iterables.isEmpty(keys)) {
-                ModelNode context = modelNode;
-                for (String key : keys) {
-                    String safeKey = decodeValue(key);
-                    if (context.hasDefined(safeKey)) {
-                        context = context.get(safeKey);
-                    } else {
-                        context = undefined;
-                        break;
-                    }
-                }
-                return context;
-            }
-        }
-
-        return undefined;
+        return ModelNodePath.of(path).get(modelNode);
     }
 
     /**
@@ -102,8 +82,8 @@ public class ModelNodeHelper {
      * @return the boolean value or false.
      */
     public static boolean failSafeBoolean(ModelNode modelNode, String path) {
-        ModelNode attribute = failSafeGet(modelNode, path);
-        return attribute.isDefined() && attribute.asBoolean();
+        ModelNode attribute = ModelNodePath.of(path).getOrNull(modelNode);
+        return attribute != null && attribute.asBoolean();
     }
 
     @JsIgnore
@@ -127,14 +107,14 @@ public class ModelNodeHelper {
 
     @JsIgnore
     public static List<ModelNode> failSafeList(ModelNode modelNode, String path) {
-        ModelNode result = failSafeGet(modelNode, path);
-        return result.isDefined() ? result.asList() : Collections.emptyList();
+        ModelNode result = ModelNodePath.of(path).getOrNull(modelNode);
+        return result != null ? result.asList() : Collections.emptyList();
     }
 
     @JsIgnore
     public static List<Property> failSafePropertyList(ModelNode modelNode, String path) {
-        ModelNode result = failSafeGet(modelNode, path);
-        return result.isDefined() ? result.asPropertyList() : Collections.emptyList();
+        ModelNode result = ModelNodePath.of(path).getOrNull(modelNode);
+        return result != null ? result.asPropertyList() : Collections.emptyList();
     }
 
     @JsIgnore
@@ -168,6 +148,22 @@ public class ModelNodeHelper {
         return properties.stream().map(NamedNode::new).collect(toList());
     }
 
+    /**
+     * Like {@link #asNamedNodes(List)}, but the named nodes don't copy the values of the properties. Instead they share
+     * them as described in {@link ModelNode#share()}. This saves copying large results like {@code
+     * read-children-resources(recursive)}.
+     * <p>
+     * Sharing protects the values of the properties: Neither the values nor the nodes returned by {@link
+     * NamedNode#asModelNode()} can be modified afterwards. Use this method only for results which are not used
+     * otherwise.
+     */
+    @JsIgnore
+    public static List<NamedNode> asSharedNamedNodes(List<Property> properties) {
+        return properties.stream()
+                .map(property -> new NamedNode(property.getName(), property.getValue(), true))
+                .collect(toList());
+    }
+
     /**
      * Looks for the specified attribute and tries to convert it to an enum constant using
      * {@code LOWER_HYPHEN.to(UPPER_UNDERSCORE, modelNode.get(attribute).asString())}.
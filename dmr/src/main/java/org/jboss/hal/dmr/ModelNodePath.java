@@ -0,0 +1,161 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * A path to a nested model node which is parsed only once. The path is given as a string separated by "/". Empty
+ * segments are ignored and encoded slashes are decoded (see {@link ModelNodeHelper#decodeValue(String)}).
+ * <p>
+ * Paths created by {@link #of(String)} are interned, so using the same string over and over again doesn't parse the
+ * path again.
+ * <p>
+ * Unlike {@link ModelNode#get(String)} the traversal methods of this class never create intermediate nodes.
+ */
+public final class ModelNodePath {
+
+    static final int MAX_INTERNED = 1000;
+    private static final Map<String, ModelNodePath> interned = new HashMap<>();
+
+    /** Returns the interned path for the specified string. Returns an empty path for {@code null}. */
+    public static ModelNodePath of(String path) {
+        if (path == null) {
+            path = "";
+        }
+        ModelNodePath modelNodePath = interned.get(path);
+        if (modelNodePath == null) {
+            if (interned.size() >= MAX_INTERNED) {
+                // paths are usually constants, so this happens only if paths are built on the fly
+                interned.clear();
+            }
+            modelNodePath = new ModelNodePath(parse(path));
+            interned.put(path, modelNodePath);
+        }
+        return modelNodePath;
+    }
+
+    private static String[] parse(String path) {
+        List<String> keys = new ArrayList<>();
+        int start = 0;
+        while (start <= path.length()) {
+            int end = path.indexOf('/', start);
+            if (end == -1) {
+                end = path.length();
+            }
+            String key = path.substring(start, end).trim();
+            if (!key.isEmpty()) {
+                keys.add(ModelNodeHelper.decodeValue(key));
+            }
+            start = end + 1;
+        }
+        return keys.toArray(new String[keys.size()]);
+    }
+
+
+    private final String[] keys;
+
+    private ModelNodePath(String[] keys) {
+        this.keys = keys;
+    }
+
+    /**
+     * Returns the nested node. Same as {@link ModelNodeHelper#failSafeGet(ModelNode, String)}, but without parsing the
+     * path.
+     *
+     * @return the nested node or a new undefined model node if this path is empty or if any node along the path is
+     * undefined
+     */
+    public ModelNode get(ModelNode modelNode) {
+        ModelNode nested = getOrNull(modelNode);
+        return nested != null ? nested : new ModelNode();
+    }
+
+    /**
+     * Returns the nested node.
+     *
+     * @return the nested node or {@code null} if this path is empty or if any node along the path is undefined
+     */
+    public ModelNode getOrNull(ModelNode modelNode) {
+        if (modelNode == null || keys.length == 0) {
+            return null;
+        }
+        ModelNode context = modelNode;
+        for (String key : keys) {
+            context = context.definedChild(key);
+            if (context == null) {
+                return null;
+            }
+        }
+        return context;
+    }
+
+    /**
+     * Passes the nested node to the specified consumer if the nested node is defined.
+     *
+     * @return {@code true} if the nested node is defined, {@code false} otherwise
+     */
+    public boolean getIfDefined(ModelNode modelNode, Consumer<ModelNode> consumer) {
+        ModelNode nested = getOrNull(modelNode);
+        if (nested != null) {
+            consumer.accept(nested);
+            return true;
+        }
+        return false;
+    }
+
+    /** @return whether the nested node is defined */
+    public boolean isDefined(ModelNode modelNode) {
+        return getOrNull(modelNode) != null;
+    }
+
+    /** @return the (decoded) keys of this path */
+    public List<String> getKeys() {
+        return unmodifiableList(Arrays.asList(keys));
+    }
+
+    public boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ModelNodePath)) {
+            return false;
+        }
+        return Arrays.equals(keys, ((ModelNodePath) o).keys);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(keys);
+    }
+
+    @Override
+    public String toString() {
+        return String.join("/", keys);
+    }
+}
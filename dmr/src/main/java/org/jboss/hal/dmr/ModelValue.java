@@ -28,6 +28,9 @@ abstract class ModelValue implements Cloneable {
 
     private static final String TAB_SIZE = "  ";
 
+    /** Whether this value is referenced by more than one node. See {@link ModelNode#share()}. */
+    boolean shared;
+
     static final ModelValue UNDEFINED = new ModelValue(ModelType.UNDEFINED) {
 
         @Override
@@ -225,6 +228,11 @@ abstract class ModelValue implements Cloneable {
         throw new IllegalArgumentException();
     }
 
+    /** @return the child with the specified name or {@code null} if there's no such child. Never creates a child. */
+    ModelNode findChild(String name) {
+        return null;
+    }
+
     ModelNode getChild(int index) {
         throw new IllegalArgumentException();
     }
@@ -262,6 +270,20 @@ abstract class ModelValue implements Cloneable {
         return this;
     }
 
+    /**
+     * Returns a value which can be shared with another node by {@link ModelNode#share()}. Simple values return a
+     * copy. Collection values mark themselves as shared and are copied by {@link #unshare()} before they
+     * are modified.
+     */
+    ModelValue share() {
+        return copy();
+    }
+
+    /** Returns a private, modifiable copy of this value if the value is shared, otherwise this value. */
+    ModelValue unshare() {
+        return this;
+    }
+
     @Override
     public abstract boolean equals(Object other);
 
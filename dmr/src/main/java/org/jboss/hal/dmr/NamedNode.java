@@ -43,9 +43,18 @@ public class NamedNode extends ModelNode implements NamedObject {
 
     @JsIgnore
     public NamedNode(String name, ModelNode node) {
+        this(name, node, false);
+    }
+
+    /** Creates a named node which shares the value of the specified node as described in {@link ModelNode#share()}. */
+    NamedNode(String name, ModelNode node, boolean share) {
         this.name = name;
         this.node = node;
-        set(node);
+        if (share) {
+            setShared(node);
+        } else {
+            set(node);
+        }
         setName(name);
     }
 
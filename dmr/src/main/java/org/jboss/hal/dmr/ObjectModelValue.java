@@ -16,6 +16,7 @@
 package org.jboss.hal.dmr;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -29,7 +30,13 @@ import java.util.Set;
  */
 class ObjectModelValue extends ModelValue {
 
-    private final Map<String, ModelNode> map;
+    private Map<String, ModelNode> map;
+
+    // byte range of the encoded entries as long as the entries haven't been decoded (lazy decoding only)
+    private byte[] bytes;
+    private int start;
+    private int end;
+    private boolean protectOnDecode;
 
     ObjectModelValue() {
         super(ModelType.OBJECT);
@@ -41,8 +48,29 @@ class ObjectModelValue extends ModelValue {
         this.map = map;
     }
 
+    private ObjectModelValue(byte[] bytes, int start, int end, boolean protectOnDecode) {
+        super(ModelType.OBJECT);
+        this.bytes = bytes;
+        this.start = start;
+        this.end = end;
+        this.protectOnDecode = protectOnDecode;
+    }
+
     ObjectModelValue(DataInput in) {
         super(ModelType.OBJECT);
+        if (in.isLazy()) {
+            // copy the byte range, so that this value doesn't keep the whole response in memory
+            int from = in.position();
+            in.skipObject();
+            bytes = Arrays.copyOfRange(in.bytes(), from, in.position());
+            start = 0;
+            end = bytes.length;
+        } else {
+            map = decode(in);
+        }
+    }
+
+    private static LinkedHashMap<String, ModelNode> decode(DataInput in) {
         int count = in.readInt();
         LinkedHashMap<String, ModelNode> map = new LinkedHashMap<>();
         for (int i = 0; i < count; i++) {
@@ -51,11 +79,37 @@ class ObjectModelValue extends ModelValue {
             value.readExternal(in);
             map.put(key, value);
         }
-        this.map = map;
+        return map;
+    }
+
+    /** Returns the entries and decodes them on first access if this value was read lazily. */
+    private Map<String, ModelNode> map() {
+        if (map == null) {
+            LinkedHashMap<String, ModelNode> decoded = decode(new DataInput(bytes, start, true));
+            if (protectOnDecode) {
+                for (ModelNode node : decoded.values()) {
+                    node.protect();
+                }
+                map = Collections.unmodifiableMap(decoded);
+            } else {
+                map = decoded;
+            }
+            bytes = null;
+        }
+        return map;
+    }
+
+    private boolean decoded() {
+        return map != null;
     }
 
     @Override
     void writeExternal(DataOutput out) {
+        if (!decoded()) {
+            // the encoded entries are still valid, no need to decode them
+            out.write(bytes, start, end - start);
+            return;
+        }
         Map<String, ModelNode> map = this.map;
         int size = map.size();
         out.writeInt(size);
@@ -67,6 +121,10 @@ class ObjectModelValue extends ModelValue {
 
     @Override
     ModelValue protect() {
+        if (!decoded()) {
+            // children are protected as soon as they're decoded
+            return protectOnDecode ? this : new ObjectModelValue(bytes, start, end, true);
+        }
         Map<String, ModelNode> map = this.map;
         for (ModelNode node : map.values()) {
             node.protect();
@@ -84,26 +142,31 @@ class ObjectModelValue extends ModelValue {
         if (name == null) {
             return null;
         }
-        ModelNode node = map.get(name);
+        ModelNode node = map().get(name);
         if (node != null) {
             return node;
         }
         ModelNode newNode = new ModelNode();
-        map.put(name, newNode);
+        map().put(name, newNode);
         return newNode;
     }
 
+    @Override
+    ModelNode findChild(String name) {
+        return name != null ? map().get(name) : null;
+    }
+
     @Override
     ModelNode removeChild(String name) {
         if (name == null) {
             return null;
         }
-        return map.remove(name);
+        return map().remove(name);
     }
 
     @Override
     int asInt() {
-        return map.size();
+        return map().size();
     }
 
     @Override
@@ -123,18 +186,18 @@ class ObjectModelValue extends ModelValue {
 
     @Override
     boolean asBoolean() {
-        return !map.isEmpty();
+        return !map().isEmpty();
     }
 
     @Override
     boolean asBoolean(boolean defVal) {
-        return !map.isEmpty();
+        return !map().isEmpty();
     }
 
     @Override
     Property asProperty() {
-        if (map.size() == 1) {
-            Map.Entry<String, ModelNode> entry = map.entrySet().iterator().next();
+        if (map().size() == 1) {
+            Map.Entry<String, ModelNode> entry = map().entrySet().iterator().next();
             return new Property(entry.getKey(), entry.getValue());
         }
         return super.asProperty();
@@ -143,7 +206,7 @@ class ObjectModelValue extends ModelValue {
     @Override
     List<Property> asPropertyList() {
         List<Property> propertyList = new ArrayList<>();
-        for (Map.Entry<String, ModelNode> entry : map.entrySet()) {
+        for (Map.Entry<String, ModelNode> entry : map().entrySet()) {
             propertyList.add(new Property(entry.getKey(), entry.getValue()));
         }
         return propertyList;
@@ -151,6 +214,10 @@ class ObjectModelValue extends ModelValue {
 
     @Override
     ModelValue copy() {
+        if (!decoded()) {
+            // the encoded entries are immutable and can be used by both values
+            return new ObjectModelValue(bytes, start, end, false);
+        }
         return copy(false);
     }
 
@@ -159,9 +226,31 @@ class ObjectModelValue extends ModelValue {
         return copy(true);
     }
 
+    @Override
+    ModelValue share() {
+        shared = true;
+        return this;
+    }
+
+    @Override
+    ModelValue unshare() {
+        if (!shared) {
+            return this;
+        }
+        if (!decoded()) {
+            return new ObjectModelValue(bytes, start, end, false);
+        }
+        // copy this level only, the values of the children are shared again
+        LinkedHashMap<String, ModelNode> newMap = new LinkedHashMap<>();
+        for (Map.Entry<String, ModelNode> entry : map().entrySet()) {
+            newMap.put(entry.getKey(), entry.getValue().shareChild());
+        }
+        return new ObjectModelValue(newMap);
+    }
+
     ModelValue copy(boolean resolve) {
         LinkedHashMap<String, ModelNode> newMap = new LinkedHashMap<>();
-        for (Map.Entry<String, ModelNode> entry : map.entrySet()) {
+        for (Map.Entry<String, ModelNode> entry : map().entrySet()) {
             newMap.put(entry.getKey(), resolve ? entry.getValue().resolve() : entry.getValue().clone());
         }
         return new ObjectModelValue(newMap);
@@ -170,7 +259,7 @@ class ObjectModelValue extends ModelValue {
     @Override
     List<ModelNode> asList() {
         ArrayList<ModelNode> nodes = new ArrayList<>();
-        for (Map.Entry<String, ModelNode> entry : map.entrySet()) {
+        for (Map.Entry<String, ModelNode> entry : map().entrySet()) {
             ModelNode node = new ModelNode();
             node.set(entry.getKey(), entry.getValue());
             nodes.add(node);
@@ -180,7 +269,7 @@ class ObjectModelValue extends ModelValue {
 
     @Override
     Set<String> getKeys() {
-        return map.keySet();
+        return map().keySet();
     }
 
     @Override
@@ -193,11 +282,11 @@ class ObjectModelValue extends ModelValue {
     @Override
     void format(StringBuilder builder, int indent, boolean multiLineRequested) {
         builder.append('{');
-        boolean multiLine = multiLineRequested && map.size() > 1;
+        boolean multiLine = multiLineRequested && map().size() > 1;
         if (multiLine) {
             indent(builder.append('\n'), indent + 1);
         }
-        Iterator<Map.Entry<String, ModelNode>> iterator = map.entrySet().iterator();
+        Iterator<Map.Entry<String, ModelNode>> iterator = map().entrySet().iterator();
         while (iterator.hasNext()) {
             Map.Entry<String, ModelNode> entry = iterator.next();
             builder.append(quote(entry.getKey()));
@@ -221,11 +310,11 @@ class ObjectModelValue extends ModelValue {
     @Override
     void formatAsJSON(StringBuilder builder, int indent, boolean multiLineRequested) {
         builder.append('{');
-        boolean multiLine = multiLineRequested && map.size() > 1;
+        boolean multiLine = multiLineRequested && map().size() > 1;
         if (multiLine) {
             indent(builder.append('\n'), indent + 1);
         }
-        Iterator<Map.Entry<String, ModelNode>> iterator = map.entrySet().iterator();
+        Iterator<Map.Entry<String, ModelNode>> iterator = map().entrySet().iterator();
         while (iterator.hasNext()) {
             Map.Entry<String, ModelNode> entry = iterator.next();
             builder.append(quote(entry.getKey()));
@@ -266,22 +355,31 @@ class ObjectModelValue extends ModelValue {
      * @return {@code true} if they are equal, {@code false} otherwise
      */
     public boolean equals(ObjectModelValue other) {
-        return this == other || other != null && other.map.equals(map);
+        if (this == other) {
+            return true;
+        }
+        if (other == null) {
+            return false;
+        }
+        if (!decoded() && !other.decoded() && bytes == other.bytes && start == other.start) {
+            return true;
+        }
+        return other.map().equals(map());
     }
 
     @Override
     public int hashCode() {
-        return map.hashCode();
+        return map().hashCode();
     }
 
     @Override
     boolean has(String key) {
-        return map.containsKey(key);
+        return map().containsKey(key);
     }
 
     @Override
     ModelNode requireChild(String name) throws NoSuchElementException {
-        ModelNode node = map.get(name);
+        ModelNode node = map().get(name);
         if (node != null) {
             return node;
         }
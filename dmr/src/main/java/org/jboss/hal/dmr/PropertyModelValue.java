@@ -98,6 +98,11 @@ class PropertyModelValue extends ModelValue {
         return property.getName().equals(name) ? property.getValue() : super.getChild(name);
     }
 
+    @Override
+    ModelNode findChild(String name) {
+        return property.getName().equals(name) ? property.getValue() : null;
+    }
+
     @Override
     ModelNode getChild(int index) {
         return index == 0 ? property.getValue() : super.getChild(index);
@@ -86,6 +86,7 @@ public class Dispatcher implements RecordingHandler {
     private static final Logger logger = LoggerFactory.getLogger(Dispatcher.class);
 
     private static boolean pendingLifecycleAction = false;
+    private static int pendingRequests = 0;
 
     @JsIgnore
     public static void setPendingLifecycleAction(boolean value) {
@@ -93,6 +94,12 @@ public class Dispatcher implements RecordingHandler {
         logger.debug("Dispatcher.pendingLifecycleAction = {}", pendingLifecycleAction);
     }
 
+    /** @return {@code true} if there are no requests in flight */
+    @JsIgnore
+    public static boolean isIdle() {
+        return pendingRequests == 0;
+    }
+
 
     private final Environment environment;
     private final Endpoints endpoints;
@@ -208,7 +215,8 @@ public class Dispatcher implements RecordingHandler {
             // in general, code inside the RX type should be able to be executed multiple times and always returns
             // the same result, so we need to be careful to not mutate anything (like the operation). This is useful
             // for example if we want to use the retry operator which will try again (subscribe again) if it fails.
-            XMLHttpRequest xhr = newDmrXhr(url, dmrOperation, new DmrPayloadProcessor(), emitter::onSuccess,
+            XMLHttpRequest xhr = newDmrXhr(url, dmrOperation, new DmrPayloadProcessor(lazy(operation)),
+                    emitter::onSuccess,
                     (op, fail) -> emitter.onError(new DispatchFailure(fail, operation)),
                     (op, error) -> emitter.onError(error));
             xhr.setRequestHeader(ACCEPT.header(), APPLICATION_DMR_ENCODED);
@@ -383,6 +391,9 @@ public class Dispatcher implements RecordingHandler {
                             }
                         }
                     }
+                    if (modifiesResources(operation)) {
+                        eventBus.fireEvent(new ResourcesChangedEvent(operation));
+                    }
                     success.accept(payload);
                 } else {
                     fail.onFailed(operation, payload.getFailureDescription());
@@ -399,6 +410,8 @@ public class Dispatcher implements RecordingHandler {
         XMLHttpRequest xhr = new XMLHttpRequest();
 
         // The order of the XHR methods is important! Do not rearrange the code unless you know what you're doing!
+        xhr.addEventListener("loadstart", event -> pendingRequests++, false); //NON-NLS
+        xhr.addEventListener("loadend", event -> pendingRequests--, false); //NON-NLS
         xhr.onload = event -> onLoad.onLoad(xhr);
         xhr.addEventListener("error",  //NON-NLS
                 event -> handleErrorCodes(url, xhr.status, operation, error), false);
@@ -502,6 +515,34 @@ public class Dispatcher implements RecordingHandler {
         }
     }
 
+    /**
+     * Most callers read only a few attributes of (potentially large) results, so responses are decoded lazily. Resource
+     * descriptions are cached and read completely over time, so they're decoded eagerly.
+     */
+    private boolean lazy(Operation operation) {
+        if (operation instanceof Composite) {
+            for (Operation op : (Composite) operation) {
+                if (!lazy(op)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return !READ_RESOURCE_DESCRIPTION_OPERATION.equals(operation.getName());
+    }
+
+    private boolean modifiesResources(Operation operation) {
+        if (operation instanceof Composite) {
+            for (Operation op : (Composite) operation) {
+                if (modifiesResources(op)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return ADD.equals(operation.getName()) || REMOVE.equals(operation.getName());
+    }
+
     private boolean readOnlyOperation(Operation operation) {
         if (operation instanceof Composite) {
             Composite composite = (Composite) operation;
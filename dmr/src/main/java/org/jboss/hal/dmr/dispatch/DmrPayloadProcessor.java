@@ -23,12 +23,27 @@ import static org.jboss.hal.dmr.dispatch.Dispatcher.HttpMethod.GET;
 
 public class DmrPayloadProcessor implements PayloadProcessor {
 
+    private final boolean lazy;
+
+    public DmrPayloadProcessor() {
+        this(true);
+    }
+
+    /**
+     * @param lazy whether to decode the payload lazily. Lazy decoding pays off for transient results of which only a
+     *             few attributes are read. Results which are kept and eventually read completely (like resource
+     *             descriptions) should be decoded eagerly.
+     */
+    public DmrPayloadProcessor(boolean lazy) {
+        this.lazy = lazy;
+    }
+
     @Override
     public ModelNode processPayload(final HttpMethod method, final String contentType, final String payload) {
         ModelNode node;
         if (contentType.startsWith(Dispatcher.APPLICATION_DMR_ENCODED)) {
             try {
-                node = ModelNode.fromBase64(payload);
+                node = ModelNode.fromBase64(payload, lazy);
                 if (method == GET && !node.isFailure()) {
                     // For GET request the response is purely the model nodes result. The outcome
                     // is not send as part of the response but expressed with the HTTP status code.
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import com.google.gwt.event.shared.EventHandler;
+import com.google.gwt.event.shared.GwtEvent;
+import org.jboss.hal.dmr.Operation;
+
+/**
+ * Fired by the {@link Dispatcher} after an operation which adds or removes resources was executed successfully. The
+ * operation is either an {@code add} or {@code remove} operation or a composite which contains such an operation.
+ */
+// No @GenEvent here due to naming conflicts
+public class ResourcesChangedEvent extends GwtEvent<ResourcesChangedEvent.ResourcesChangedHandler> {
+
+    private static final Type<ResourcesChangedHandler> TYPE = new Type<>();
+
+    public static Type<ResourcesChangedHandler> getType() {
+        return TYPE;
+    }
+
+    private final Operation operation;
+
+    ResourcesChangedEvent(final Operation operation) {
+        this.operation = operation;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    @Override
+    protected void dispatch(ResourcesChangedHandler handler) {
+        handler.onResourcesChanged(this);
+    }
+
+    @Override
+    public Type<ResourcesChangedHandler> getAssociatedType() {
+        return TYPE;
+    }
+
+
+    public interface ResourcesChangedHandler extends EventHandler {
+
+        void onResourcesChanged(ResourcesChangedEvent event);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class AddressKeyTest {
+
+    @Test
+    public void root() {
+        AddressKey key = AddressKey.of(ResourceAddress.root());
+        assertEquals(0, key.size());
+        assertEquals("/", key.toString());
+        assertEquals(ResourceAddress.root(), key.toResourceAddress());
+        assertSame(key, AddressKey.of("/"));
+    }
+
+    @Test
+    public void undefined() {
+        ResourceAddress address = new ResourceAddress(new ModelNode());
+        AddressKey key = AddressKey.of(address);
+        assertEquals(0, key.size());
+        assertEquals(address.toString(), key.toString());
+        assertEquals(address, key.toResourceAddress());
+        assertSame(key, AddressKey.of(""));
+        assertNotEquals(AddressKey.of(ResourceAddress.root()), key);
+    }
+
+    @Test
+    public void interned() {
+        ResourceAddress address = new ResourceAddress().add("subsystem", "mail").add("mail-session", "*");
+        AddressKey key = AddressKey.of(address);
+        assertSame(key, AddressKey.of(address));
+        assertSame(key, AddressKey.of("/subsystem=mail/mail-session=*"));
+        assertSame(key, AddressKey.of("subsystem=mail/mail-session=*"));
+    }
+
+    @Test
+    public void roundtrip() {
+        ResourceAddress address = new ResourceAddress().add("host", "master").add("server", "server-one");
+        AddressKey key = AddressKey.of(address);
+        assertEquals(2, key.size());
+        assertEquals(address.toString(), key.toString());
+        assertEquals(address, key.toResourceAddress());
+    }
+
+    @Test
+    public void ambiguousString() {
+        AddressKey key1 = AddressKey.of(new ResourceAddress().add("a", "b").add("c", "d"));
+        AddressKey key2 = AddressKey.of(new ResourceAddress().add("a", "b/c=d"));
+        assertEquals(key1.toString(), key2.toString());
+        assertNotEquals(key1, key2);
+    }
+
+    @Test
+    public void bounded() {
+        for (int i = 0; i < 2 * AddressKey.MAX_INTERNED; i++) {
+            AddressKey.of(new ResourceAddress().add("subsystem", "test").add("resource", "r" + i));
+        }
+        assertTrue(AddressKey.interned() <= AddressKey.MAX_INTERNED);
+    }
+}
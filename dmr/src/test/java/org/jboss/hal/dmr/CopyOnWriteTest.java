@@ -0,0 +1,148 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CopyOnWriteTest {
+
+    private ModelNode modelNode;
+
+    /**
+     * Creates the model node
+     * <pre>
+     *     ("foo" => ("bar" => 42), "list" => ["a", "b"])
+     * </pre>
+     */
+    @Before
+    public void setUp() {
+        modelNode = new ModelNode();
+        modelNode.get("foo").get("bar").set(42);
+        modelNode.get("list").add("a").add("b");
+    }
+
+    @Test
+    public void copyEquals() {
+        assertEquals(modelNode, modelNode.share());
+        assertEquals(modelNode, modelNode.share().share());
+    }
+
+    @Test
+    public void modifyCopy() {
+        ModelNode copy = modelNode.share();
+        copy.get("foo").get("bar").set(23);
+        copy.get("list").add("c");
+        copy.remove("foo");
+
+        assertEquals(42, modelNode.get("foo").get("bar").asInt());
+        assertEquals(2, modelNode.get("list").asList().size());
+        assertFalse(copy.has("foo"));
+    }
+
+    @Test
+    public void modifyOriginal() {
+        ModelNode copy = modelNode.share();
+        modelNode.get("foo").get("bar").set(23);
+        modelNode.get("list").add("c");
+        modelNode.get("baz").set(true);
+
+        assertEquals(42, copy.get("foo").get("bar").asInt());
+        assertEquals(2, copy.get("list").asList().size());
+        assertFalse(copy.has("baz"));
+    }
+
+    @Test
+    public void modifyProperties() {
+        ModelNode copy = modelNode.share();
+        for (Property property : copy.asPropertyList()) {
+            property.getValue().clear();
+        }
+
+        assertTrue(modelNode.get("foo").isDefined());
+        assertTrue(modelNode.get("list").isDefined());
+    }
+
+    @Test
+    public void copyOfProtected() {
+        modelNode.protect();
+        ModelNode copy = modelNode.share();
+        copy.get("foo").get("bar").set(23);
+
+        assertEquals(42, modelNode.get("foo").get("bar").asInt());
+        assertEquals(23, copy.get("foo").get("bar").asInt());
+    }
+
+    @Test
+    public void protectCopy() {
+        ModelNode copy = modelNode.share();
+        copy.protect();
+        modelNode.get("foo").get("bar").set(23);
+
+        assertEquals(42, copy.get("foo").get("bar").asInt());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void childObtainedBeforeShare() {
+        ModelNode foo = modelNode.get("foo");
+        ModelNode copy = modelNode.share();
+        try {
+            foo.get("bar").set(23);
+        } finally {
+            assertEquals(42, copy.get("foo").get("bar").asInt());
+        }
+    }
+
+    @Test
+    public void childObtainedAfterShare() {
+        modelNode.share();
+        modelNode.get("foo").get("bar").set(23);
+
+        assertEquals(23, modelNode.get("foo").get("bar").asInt());
+    }
+
+    @Test
+    public void modifyOriginalOfNamedNodes() {
+        modelNode.remove("list");
+        List<Property> properties = modelNode.asPropertyList();
+        List<NamedNode> namedNodes = ModelNodeHelper.asNamedNodes(properties);
+        properties.get(0).getValue().get("bar").set(23);
+        namedNodes.get(0).asModelNode().get("baz").set(true);
+
+        assertEquals(23, properties.get(0).getValue().get("bar").asInt());
+        assertTrue(properties.get(0).getValue().get("baz").asBoolean());
+        assertEquals(42, namedNodes.get(0).get("bar").asInt());
+        assertFalse(namedNodes.get(0).has("baz"));
+    }
+
+    @Test
+    public void sharedNamedNodes() {
+        modelNode.remove("list");
+        List<NamedNode> namedNodes = ModelNodeHelper.asSharedNamedNodes(modelNode.asPropertyList());
+        namedNodes.get(0).get("bar").set(23);
+
+        assertEquals("foo", namedNodes.get(0).getName());
+        assertEquals(23, namedNodes.get(0).get("bar").asInt());
+        assertEquals(42, modelNode.get("foo").get("bar").asInt());
+        assertFalse(modelNode.get("foo").has(ModelDescriptionConstants.NAME));
+    }
+}
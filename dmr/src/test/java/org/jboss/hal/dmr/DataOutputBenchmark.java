@@ -0,0 +1,194 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.common.base.Charsets;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Compares the encode throughput of {@link DataOutput} with the previous implementation which pushed each byte into a
+ * JS array, allocated a temporary array per string and copied all bytes again when creating the binary string. The
+ * JS array is emulated by a list of boxed bytes.
+ * <p>
+ * The benchmark is opt-in: It runs only if the system property {@value #BENCHMARK} is {@code true}. It prints the
+ * numbers, but doesn't assert anything about them. The payload is a composite with {@code read-resource} operations
+ * similar to the ones sent by {@code RrdTask}.
+ */
+public class DataOutputBenchmark {
+
+    private static final String BENCHMARK = "hal.benchmark";
+
+    private static final int WARM_UP = 200;
+    private static final int ROUNDS = 1000;
+    private static final int STEPS = 100;
+
+    @Before
+    public void setUp() {
+        assumeTrue(Boolean.getBoolean(BENCHMARK));
+    }
+
+    @Test
+    public void encode() {
+        ModelNode composite = composite();
+        String current = current(composite);
+        assertEquals(legacy(composite), current);
+
+        for (int i = 0; i < WARM_UP; i++) {
+            legacy(composite);
+            current(composite);
+        }
+        long legacyNanos = measure(() -> legacy(composite));
+        long currentNanos = measure(() -> current(composite));
+
+        System.out.printf("Payload: %d bytes, %d rounds%n", current.length(), ROUNDS);
+        System.out.printf("Legacy:  %.1f MB/s%n", throughput(current.length(), legacyNanos));
+        System.out.printf("Current: %.1f MB/s%n", throughput(current.length(), currentNanos));
+    }
+
+    private static ModelNode composite() {
+        ModelNode composite = new ModelNode();
+        composite.get("operation").set("composite");
+        composite.get("address").setEmptyList();
+        for (int i = 0; i < STEPS; i++) {
+            ModelNode step = new ModelNode();
+            step.get("address").add("subsystem", "undertow").add("server", "server-" + i);
+            step.get("operation").set("read-resource-description");
+            step.get("operations").set(true);
+            step.get("recursive-depth").set(2);
+            step.get("locale").set("de");
+            composite.get("steps").add(step);
+        }
+        return composite;
+    }
+
+    private static long measure(Runnable encode) {
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            encode.run();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static double throughput(int bytes, long nanos) {
+        return (double) bytes * ROUNDS / (1024 * 1024) / (nanos / 1e9);
+    }
+
+    private static String current(ModelNode node) {
+        DataOutput out = new DataOutput();
+        try {
+            node.writeExternal(out);
+            return out.toString();
+        } finally {
+            out.release();
+        }
+    }
+
+    private static String legacy(ModelNode node) {
+        LegacyDataOutput out = new LegacyDataOutput();
+        out.write(node);
+        return out.toString();
+    }
+
+
+    /** The previous implementation of {@link DataOutput} including the writes of {@link ModelNode#writeExternal}. */
+    private static class LegacyDataOutput {
+
+        private final List<Byte> bytes = new ArrayList<>();
+
+        private void write(ModelNode node) {
+            ModelType type = node.getType();
+            bytes.add((byte) type.getTypeChar());
+            switch (type) {
+                case BOOLEAN:
+                    bytes.add(node.asBoolean() ? (byte) 1 : (byte) 0);
+                    break;
+                case INT:
+                    writeInt(node.asInt());
+                    break;
+                case STRING:
+                    writeUTF(node.asString());
+                    break;
+                case LIST:
+                    List<ModelNode> list = node.asList();
+                    writeInt(list.size());
+                    list.forEach(this::write);
+                    break;
+                case OBJECT:
+                    writeInt(node.keys().size());
+                    for (String key : node.keys()) {
+                        writeUTF(key);
+                        write(node.get(key));
+                    }
+                    break;
+                case PROPERTY:
+                    Property property = node.asProperty();
+                    writeUTF(property.getName());
+                    write(property.getValue());
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private void writeInt(int v) {
+            bytes.add((byte) (v >>> 24));
+            bytes.add((byte) ((v >>> 16) & 0xFF));
+            bytes.add((byte) ((v >>> 8) & 0xFF));
+            bytes.add((byte) (v & 0xFF));
+        }
+
+        private void writeUTF(String s) {
+            int length = s.length();
+            byte[] utf = new byte[length * 3];
+            int bl = 0;
+            char c;
+            for (int i = 0; i < length; i++) {
+                c = s.charAt(i);
+                if (c > 0 && c <= 0x7f) {
+                    utf[bl++] = (byte) c;
+                } else if (c <= 0x07ff) {
+                    utf[bl++] = (byte) (0xc0 | 0x1f & c >> 6);
+                    utf[bl++] = (byte) (0x80 | 0x3f & c);
+                } else {
+                    utf[bl++] = (byte) (0xe0 | 0x0f & c >> 12);
+                    utf[bl++] = (byte) (0x80 | 0x3f & c >> 6);
+                    utf[bl++] = (byte) (0x80 | 0x3f & c);
+                }
+            }
+            bytes.add((byte) (bl >>> 8));
+            bytes.add((byte) (bl & 0xFF));
+            for (int i = 0; i < bl; i++) {
+                bytes.add(utf[i]);
+            }
+        }
+
+        @Override
+        public String toString() {
+            byte[] array = new byte[bytes.size()];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = bytes.get(i);
+            }
+            return new String(array, Charsets.ISO_8859_1);
+        }
+    }
+}
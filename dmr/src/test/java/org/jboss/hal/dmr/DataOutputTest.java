@@ -0,0 +1,184 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class DataOutputTest {
+
+    @Before
+    public void setUp() {
+        // take the pooled buffer (if any), so that each test starts with a fresh one
+        new DataOutput();
+    }
+
+    @Test
+    public void primitives() throws IOException {
+        DataOutput out = new DataOutput();
+        out.writeBoolean(true);
+        out.writeByte('o');
+        out.writeChar('x');
+        out.writeInt(-42);
+        out.writeLong(Long.MIN_VALUE + 42);
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        java.io.DataOutputStream reference = new java.io.DataOutputStream(baos);
+        reference.writeBoolean(true);
+        reference.writeByte('o');
+        reference.writeChar('x');
+        reference.writeInt(-42);
+        reference.writeLong(Long.MIN_VALUE + 42);
+
+        assertEquals(new String(baos.toByteArray(), ISO_8859_1), out.toString());
+        out.release();
+    }
+
+    @Test
+    public void utf() throws IOException {
+        String[] values = {"", "foo", "f\u00f6\u00f6", "\u0000", "\u20ac 42", "\u07ff\u0800"};
+        DataOutput out = new DataOutput();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        java.io.DataOutputStream reference = new java.io.DataOutputStream(baos);
+        for (String value : values) {
+            out.writeUTF(value);
+            reference.writeUTF(value);
+        }
+
+        assertEquals(new String(baos.toByteArray(), ISO_8859_1), out.toString());
+        out.release();
+    }
+
+    @Test
+    public void grow() {
+        DataOutput out = new DataOutput();
+        for (int i = 0; i < DataOutput.INITIAL_CAPACITY; i++) {
+            out.writeInt(i);
+        }
+        assertEquals(DataOutput.INITIAL_CAPACITY * 4, out.size());
+
+        String encoded = out.toString();
+        assertEquals(0, encoded.charAt(0));
+        assertEquals(DataOutput.INITIAL_CAPACITY - 1, encoded.charAt(encoded.length() - 1) + (encoded.charAt(
+                encoded.length() - 2) << 8));
+        out.release();
+    }
+
+    @Test
+    public void reuse() {
+        DataOutput out = new DataOutput();
+        out.writeUTF("foo");
+        out.release();
+
+        DataOutput next = new DataOutput();
+        assertEquals(0, next.size());
+        next.writeInt(42);
+        assertEquals(4, next.size());
+        next.release();
+    }
+
+    @Test
+    public void growDoubles() {
+        DataOutput out = new DataOutput();
+        assertEquals(DataOutput.INITIAL_CAPACITY, out.capacity());
+
+        out.write(new byte[DataOutput.INITIAL_CAPACITY + 1]);
+        assertEquals(DataOutput.INITIAL_CAPACITY * 2, out.capacity());
+
+        out.write(new byte[DataOutput.INITIAL_CAPACITY * 4]);
+        assertEquals(DataOutput.INITIAL_CAPACITY * 5 + 1, out.capacity());
+        out.release();
+    }
+
+    @Test
+    public void pooledBufferKeepsCapacity() {
+        DataOutput out = new DataOutput();
+        out.write(new byte[DataOutput.INITIAL_CAPACITY * 3]);
+        int capacity = out.capacity();
+        assertTrue(capacity > DataOutput.INITIAL_CAPACITY);
+        out.release();
+
+        DataOutput next = new DataOutput();
+        assertEquals(capacity, next.capacity());
+        assertEquals(0, next.size());
+
+        // the buffer is handed out only once
+        DataOutput other = new DataOutput();
+        assertEquals(DataOutput.INITIAL_CAPACITY, other.capacity());
+        other.release();
+        next.release();
+    }
+
+    @Test
+    public void largeBufferNotPooled() {
+        DataOutput out = new DataOutput();
+        out.write(new byte[DataOutput.MAX_POOLED_CAPACITY + 1]);
+        assertTrue(out.capacity() > DataOutput.MAX_POOLED_CAPACITY);
+        out.release();
+
+        DataOutput next = new DataOutput();
+        assertEquals(DataOutput.INITIAL_CAPACITY, next.capacity());
+        next.release();
+    }
+
+    @Test
+    public void reusedBufferEncodesSameBytes() {
+        ModelNode node = new ModelNode();
+        node.get("operation").set("read-resource");
+        node.get("text").set("f\u00f6\u00f6 \u20ac");
+
+        DataOutput first = new DataOutput();
+        first.write(new byte[DataOutput.INITIAL_CAPACITY * 2]);
+        first.release();
+
+        DataOutput reused = new DataOutput();
+        node.writeExternal(reused);
+        String encoded = reused.toString();
+        reused.release();
+
+        new DataOutput(); // drain the pool
+        DataOutput fresh = new DataOutput();
+        node.writeExternal(fresh);
+        assertEquals(fresh.toString(), encoded);
+        fresh.release();
+    }
+
+    @Test
+    public void roundTrip() {
+        ModelNode node = new ModelNode();
+        node.get("address").add("subsystem", "undertow");
+        node.get("operation").set("read-resource");
+        node.get("recursive-depth").set(2);
+        node.get("long").set(Long.MAX_VALUE);
+        node.get("flag").set(true);
+        node.get("text").set("f\u00f6\u00f6 \u20ac");
+
+        DataOutput out = new DataOutput();
+        node.writeExternal(out);
+        ModelNode read = new ModelNode();
+        read.readExternal(new DataInput(out.toString().getBytes(ISO_8859_1)));
+        out.release();
+
+        assertEquals(node, read);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LazyDecodingTest {
+
+    private ModelNode modelNode;
+    private byte[] bytes;
+
+    /**
+     * Creates and encodes the model node
+     * <pre>
+     *     ("foo" => ("bar" => 42), "list" => ["a", ("b" => true)], "prop" => ("p" => [1, 2]))
+     * </pre>
+     */
+    @Before
+    public void setUp() {
+        modelNode = new ModelNode();
+        modelNode.get("foo").get("bar").set(42);
+        modelNode.get("list").add("a");
+        modelNode.get("list").add().get("b").set(true);
+        ModelNode p = new ModelNode();
+        p.add(1).add(2);
+        modelNode.get("prop").set("p", p);
+        bytes = encode(modelNode);
+    }
+
+    @Test
+    public void decodeOnAccess() {
+        ModelNode lazy = lazy(bytes);
+
+        assertEquals(42, lazy.get("foo").get("bar").asInt());
+        assertEquals("a", lazy.get("list").get(0).asString());
+        assertTrue(lazy.get("list").get(1).get("b").asBoolean());
+        assertEquals(2, lazy.get("prop").asProperty().getValue().get(1).asInt());
+        assertEquals(modelNode, lazy);
+    }
+
+    @Test
+    public void writeUndecoded() {
+        assertEquals(new String(bytes, ISO_8859_1), new String(encode(lazy(bytes)), ISO_8859_1));
+    }
+
+    @Test
+    public void writePartiallyDecoded() {
+        ModelNode lazy = lazy(bytes);
+        lazy.get("foo").get("baz").set("qux");
+        modelNode.get("foo").get("baz").set("qux");
+
+        assertEquals(new String(encode(modelNode), ISO_8859_1), new String(encode(lazy), ISO_8859_1));
+    }
+
+    @Test
+    public void modifyCopy() {
+        ModelNode lazy = lazy(bytes);
+        ModelNode copy = lazy.clone();
+        copy.get("foo").get("bar").set(23);
+        copy.get("list").add("c");
+
+        assertEquals(42, lazy.get("foo").get("bar").asInt());
+        assertEquals(2, lazy.get("list").asList().size());
+        assertEquals(modelNode, lazy);
+    }
+
+    @Test
+    public void share() {
+        ModelNode lazy = lazy(bytes);
+        ModelNode copy = lazy.share();
+        lazy.get("foo").get("bar").set(23);
+
+        assertEquals(42, copy.get("foo").get("bar").asInt());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void protectUndecoded() {
+        ModelNode lazy = lazy(bytes);
+        lazy.protect();
+        lazy.get("foo").get("bar").set(23);
+    }
+
+    @Test
+    public void copyOfProtected() {
+        ModelNode lazy = lazy(bytes);
+        lazy.protect();
+        ModelNode copy = lazy.clone();
+        copy.get("foo").get("bar").set(23);
+
+        assertEquals(42, lazy.get("foo").get("bar").asInt());
+        assertEquals(23, copy.get("foo").get("bar").asInt());
+    }
+
+    @Test
+    public void equalsUndecoded() {
+        ModelNode lazy = lazy(bytes);
+        ModelNode copy = lazy.clone();
+
+        assertEquals(lazy, copy);
+        assertFalse(lazy.equals(new ModelNode().set("foo", "bar")));
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void truncated() {
+        byte[] truncated = new byte[bytes.length - 1];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+        lazy(truncated);
+    }
+
+    private byte[] encode(ModelNode node) {
+        DataOutput out = new DataOutput();
+        node.writeExternal(out);
+        return out.toString().getBytes(ISO_8859_1);
+    }
+
+    private ModelNode lazy(byte[] bytes) {
+        ModelNode node = new ModelNode();
+        node.readExternal(new DataInput(bytes, 0, true));
+        return node;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ModelNodePathTest {
+
+    private ModelNode modelNode;
+    private ModelNode bar;
+
+    /**
+     * Creates the model node
+     * <pre>
+     *     ("foo" => ("bar" => 42, "baz" => undefined), "a/b" => "c")
+     * </pre>
+     */
+    @Before
+    public void setUp() {
+        modelNode = new ModelNode();
+        bar = new ModelNode().set(42);
+        modelNode.get("foo").get("bar").set(bar);
+        modelNode.get("foo").get("baz");
+        modelNode.get("a/b").set("c");
+    }
+
+    @Test
+    public void parse() {
+        assertTrue(ModelNodePath.of(null).isEmpty());
+        assertTrue(ModelNodePath.of("").isEmpty());
+        assertTrue(ModelNodePath.of("/ /").isEmpty());
+        assertEquals(asList("foo", "bar"), ModelNodePath.of("/foo/ bar /").getKeys());
+        assertEquals(asList("a/b"), ModelNodePath.of("a%2Fb").getKeys());
+        assertEquals(ModelNodePath.of("foo/bar"), ModelNodePath.of("foo//bar"));
+    }
+
+    @Test
+    public void interned() {
+        assertSame(ModelNodePath.of("foo/bar"), ModelNodePath.of("foo/bar"));
+    }
+
+    @Test
+    public void getOrNull() {
+        assertEquals(bar, ModelNodePath.of("foo/bar").getOrNull(modelNode));
+        assertEquals("c", ModelNodePath.of("a%2Fb").getOrNull(modelNode).asString());
+        assertNull(ModelNodePath.of("").getOrNull(modelNode));
+        assertNull(ModelNodePath.of("foo/baz").getOrNull(modelNode));
+        assertNull(ModelNodePath.of("foo/bar/qux").getOrNull(modelNode));
+        assertNull(ModelNodePath.of("qux/bar").getOrNull(modelNode));
+        assertNull(ModelNodePath.of("foo").getOrNull(null));
+    }
+
+    @Test
+    public void noIntermediateNodes() {
+        ModelNodePath.of("qux/quux").getOrNull(modelNode);
+        ModelNodePath.of("foo/qux").getOrNull(modelNode);
+        assertFalse(modelNode.has("qux"));
+        assertFalse(modelNode.get("foo").has("qux"));
+    }
+
+    @Test
+    public void getIfDefined() {
+        List<ModelNode> nodes = new ArrayList<>();
+        assertTrue(ModelNodePath.of("foo/bar").getIfDefined(modelNode, nodes::add));
+        assertFalse(ModelNodePath.of("foo/baz").getIfDefined(modelNode, nodes::add));
+        assertEquals(1, nodes.size());
+        assertEquals(42, nodes.get(0).asInt());
+    }
+
+    @Test
+    public void property() {
+        ModelNode property = new ModelNode().set("foo", new ModelNode().set("bar", 42));
+        assertEquals(42, ModelNodePath.of("foo/bar").getOrNull(property).asInt());
+        assertNull(ModelNodePath.of("bar").getOrNull(property));
+    }
+
+    @Test
+    public void copyOnWrite() {
+        ModelNode copy = modelNode.clone();
+        ModelNode nested = ModelNodePath.of("foo/bar").getOrNull(copy);
+        nested.set(23);
+        assertEquals(42, modelNode.get("foo").get("bar").asInt());
+        assertEquals(23, copy.get("foo").get("bar").asInt());
+    }
+}
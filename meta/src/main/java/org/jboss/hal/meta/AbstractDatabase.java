@@ -19,7 +19,7 @@ import java.util.Map;
 import java.util.Set;
 
 import org.jboss.hal.db.PouchDB;
-import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.AddressKey;
 import rx.Single;
 
 import static java.util.function.Function.identity;
@@ -38,25 +38,25 @@ public abstract class AbstractDatabase<T> implements Database<T> {
     }
 
     @Override
-    public ResourceAddress resolveTemplate(AddressTemplate template) {
-        return template.resolve(statementContext);
+    public AddressKey resolveTemplate(AddressTemplate template) {
+        return AddressKey.of(template.resolve(statementContext));
     }
 
     @Override
-    public Map<ResourceAddress, AddressTemplate> resolveTemplates(Set<AddressTemplate> templates) {
-        return templates.stream().collect(toMap(template -> template.resolve(statementContext), identity()));
+    public Map<AddressKey, AddressTemplate> resolveTemplates(Set<AddressTemplate> templates) {
+        return templates.stream().collect(toMap(this::resolveTemplate, identity()));
     }
 
     @Override
-    public Single<Map<ResourceAddress, T>> getAll(Set<AddressTemplate> templates) {
+    public Single<Map<AddressKey, T>> getAll(Set<AddressTemplate> templates) {
         Set<String> ids = templates.stream()
-                .map(template -> template.resolve(statementContext).toString())
+                .map(template -> resolveTemplate(template).toString())
                 .collect(toSet());
 
         return Single.create(em -> database().getAll(ids)
                 .then(documents -> {
-                    Map<ResourceAddress, T> metadata = documents.stream().collect(toMap(
-                            document -> ResourceAddress.from(document.getId()),
+                    Map<AddressKey, T> metadata = documents.stream().collect(toMap(
+                            document -> AddressKey.of(document.getId()),
                             this::asMetadata));
                     em.onSuccess(metadata);
                     return null;
@@ -68,12 +68,12 @@ public abstract class AbstractDatabase<T> implements Database<T> {
     }
 
     @Override
-    public Single<Map<ResourceAddress, T>> getRecursive(AddressTemplate template) {
-        String id = template.resolve(statementContext).toString();
+    public Single<Map<AddressKey, T>> getRecursive(AddressTemplate template) {
+        String id = resolveTemplate(template).toString();
         return Single.create(em -> database().prefixSearch(id)
                 .then(documents -> {
-                    Map<ResourceAddress, T> metadata = documents.stream().collect(toMap(
-                            document -> ResourceAddress.from(document.getId()),
+                    Map<AddressKey, T> metadata = documents.stream().collect(toMap(
+                            document -> AddressKey.of(document.getId()),
                             this::asMetadata));
                     em.onSuccess(metadata);
                     return null;
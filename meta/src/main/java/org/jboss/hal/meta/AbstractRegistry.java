@@ -15,38 +15,64 @@
  */
 package org.jboss.hal.meta;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.hal.dmr.AddressKey;
 import org.jboss.hal.dmr.ResourceAddress;
 
-/** Abstract registry which uses the specified statement context to resolve the address template. */
+/**
+ * Abstract registry which uses the specified statement context to resolve the address template.
+ * <p>
+ * The keys of templates without placeholders don't depend on the statement context. They're resolved once and cached
+ * by template.
+ */
 public abstract class AbstractRegistry<T> implements Registry<T> {
 
+    private static final int MAX_KEYS = 1000;
+
     private final StatementContext statementContext;
+    private final Map<AddressTemplate, AddressKey> keys;
     protected final String type;
 
     protected AbstractRegistry(StatementContext statementContext, String type) {
         this.statementContext = statementContext;
+        this.keys = new HashMap<>();
         this.type = type;
     }
 
     @Override
     public boolean contains(AddressTemplate template) {
-        ResourceAddress address = resolveTemplate(template);
-        return lookupAddress(address) != null;
+        return lookupAddress(key(template)) != null;
     }
 
     @Override
     public T lookup(AddressTemplate template) throws MissingMetadataException {
-        ResourceAddress address = resolveTemplate(template);
-        T metadata = lookupAddress(address);
+        AddressKey key = key(template);
+        T metadata = lookupAddress(key);
         if (metadata == null) {
             throw new MissingMetadataException(type, template);
         }
         return metadata;
     }
 
+    private AddressKey key(AddressTemplate template) {
+        AddressKey key = keys.get(template);
+        if (key == null) {
+            key = AddressKey.of(resolveTemplate(template));
+            if (!template.getTemplate().contains("{")) {
+                if (keys.size() >= MAX_KEYS) {
+                    keys.clear();
+                }
+                keys.put(template, key);
+            }
+        }
+        return key;
+    }
+
     protected ResourceAddress resolveTemplate(AddressTemplate template) {
         return template.resolve(statementContext);
     }
 
-    protected abstract T lookupAddress(ResourceAddress address);
+    protected abstract T lookupAddress(AddressKey key);
 }
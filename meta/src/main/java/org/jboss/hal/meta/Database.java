@@ -19,30 +19,30 @@ import java.util.Map;
 import java.util.Set;
 
 import org.jboss.hal.db.Document;
-import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.AddressKey;
 import rx.Single;
 
 public interface Database<T> {
 
     String PAYLOAD = "payload";
 
-    /** Turns a template into a resource addresses for later lookup. */
-    ResourceAddress resolveTemplate(AddressTemplate template);
+    /** Turns a template into an address key for later lookup. */
+    AddressKey resolveTemplate(AddressTemplate template);
 
-    /** Turns the templates into resource addresses and returns a map for later lookup. */
-    Map<ResourceAddress, AddressTemplate> resolveTemplates(Set<AddressTemplate> templates);
+    /** Turns the templates into address keys and returns a map for later lookup. */
+    Map<AddressKey, AddressTemplate> resolveTemplates(Set<AddressTemplate> templates);
 
     /** Returns a map with metadata for the specified templates. */
-    Single<Map<ResourceAddress, T>> getAll(Set<AddressTemplate> templates);
+    Single<Map<AddressKey, T>> getAll(Set<AddressTemplate> templates);
 
     /** Returns a map with metadata whose address starts with the specified template */
-    Single<Map<ResourceAddress, T>> getRecursive(AddressTemplate template);
+    Single<Map<AddressKey, T>> getRecursive(AddressTemplate template);
 
     /** Returns metadata for a given document */
     T asMetadata(Document document);
 
     /** Returns a document for a given metadata */
-    Document asDocument(ResourceAddress address, T metadata);
+    Document asDocument(AddressKey key, T metadata);
 
     /** The type of this database. */
     String type();
@@ -90,6 +90,7 @@ public class Metadata {
         Property p = getDescription().findAttribute(ATTRIBUTES, attribute);
         if (p != null) {
             destination.getDescription().get(ATTRIBUTES).get(attribute).set(p.getValue());
+            destination.getDescription().invalidateIndexes();
         }
     }
 
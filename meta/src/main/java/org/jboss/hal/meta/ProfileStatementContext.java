@@ -0,0 +1,47 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.meta;
+
+import static org.jboss.hal.meta.StatementContext.Expression.SELECTED_PROFILE;
+
+/** A filtering statement context which resolves the tuple {@code selected.profile} to the specified profile. */
+public class ProfileStatementContext extends FilteringStatementContext implements StatementContext {
+
+    private final String profile;
+
+    public ProfileStatementContext(StatementContext delegate, String profile) {
+        super(delegate, new Filter() {
+            @Override
+            public String filter(String placeholder, AddressTemplate template) {
+                return null;
+            }
+
+            @Override
+            public String[] filterTuple(String placeholder, AddressTemplate template) {
+                if (Expression.from(placeholder) == SELECTED_PROFILE) {
+                    return new String[]{SELECTED_PROFILE.resource(), profile};
+                }
+                return null;
+            }
+        });
+        this.profile = profile;
+    }
+
+    @Override
+    public String selectedProfile() {
+        return profile;
+    }
+}
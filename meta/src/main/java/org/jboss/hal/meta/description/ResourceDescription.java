@@ -15,7 +15,11 @@
  */
 package org.jboss.hal.meta.description;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import jsinterop.annotations.JsIgnore;
 import jsinterop.annotations.JsMethod;
@@ -31,7 +35,14 @@ import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
 
-/** Contains the resource and attribute descriptions from the read-resource-description operation. */
+/**
+ * Contains the resource and attribute descriptions from the read-resource-description operation.
+ * <p>
+ * The lookup methods use an index which is built on first access for each path and cached afterwards. The index maps
+ * names to attributes / operations and contains the reverse {@code requires} graph and the typed default values.
+ * Modifications of the attributes or operations after the index has been built are not reflected by the lookup
+ * methods. Code which modifies a description must call {@link #invalidateIndexes()} afterwards.
+ */
 /* TODO Refactor methods which use the 'path' parameter (too error prone). Instead use a fluent API:
  *
  * ResourceDescription description = ...;
@@ -49,9 +60,27 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
 @JsType(namespace = "hal.meta")
 public class ResourceDescription extends ModelNode {
 
+    private final Map<String, Index> indexes;
+
     @JsIgnore
     public ResourceDescription(ModelNode payload) {
         set(payload);
+        indexes = new HashMap<>();
+    }
+
+    /** Drops the lookup indexes. Must be called after the attributes or operations have been modified. */
+    @JsIgnore
+    public void invalidateIndexes() {
+        indexes.clear();
+    }
+
+    private Index index(String path) {
+        Index index = indexes.get(path);
+        if (index == null) {
+            index = new Index(ModelNodeHelper.failSafeGet(this, path));
+            indexes.put(path, index);
+        }
+        return index;
     }
 
     /** @return the resource description */
@@ -62,11 +91,7 @@ public class ResourceDescription extends ModelNode {
 
     @JsIgnore
     public List<Property> getAttributes(String path) {
-        ModelNode attributes = ModelNodeHelper.failSafeGet(this, path);
-        if (attributes.isDefined()) {
-            return attributes.asPropertyList();
-        }
-        return emptyList();
+        return new ArrayList<>(index(path).properties.values());
     }
 
     @JsIgnore
@@ -98,29 +123,17 @@ public class ResourceDescription extends ModelNode {
 
     @JsIgnore
     public List<Property> getOperations() {
-        return hasDefined(OPERATIONS) ? get(OPERATIONS).asPropertyList() : emptyList();
+        return getAttributes(OPERATIONS);
     }
 
     @JsIgnore
     public Property findOperation(String name) {
-        if (hasDefined(OPERATIONS)) {
-            for (Property property : get(OPERATIONS).asPropertyList()) {
-                if (name.equals(property.getName())) {
-                    return property;
-                }
-            }
-        }
-        return null;
+        return index(OPERATIONS).properties.get(name);
     }
 
     @JsIgnore
     public Property findAttribute(String path, String name) {
-        for (Property property : getAttributes(path)) {
-            if (name.equals(property.getName())) {
-                return property;
-            }
-        }
-        return null;
+        return index(path).properties.get(name);
     }
 
     /**
@@ -137,9 +150,7 @@ public class ResourceDescription extends ModelNode {
         Property attribute = findAttribute(path, name);
         if (attribute != null) {
             if (attribute.getValue().hasDefined(ALTERNATIVES)) {
-                return attribute.getValue().get(ALTERNATIVES).asList().stream()
-                        .map(ModelNode::asString)
-                        .collect(toList());
+                return strings(attribute.getValue().get(ALTERNATIVES));
             }
         }
         return emptyList();
@@ -156,34 +167,27 @@ public class ResourceDescription extends ModelNode {
      */
     @JsIgnore
     public List<String> findRequires(String path, String name) {
-        return getAttributes(path).stream()
-                .filter(attribute -> {
-                    if (attribute.getValue().hasDefined(REQUIRES)) {
-                        List<String> requires = attribute.getValue().get(REQUIRES).asList().stream()
-                                .map(ModelNode::asString)
-                                .collect(toList());
-                        return requires.contains(name);
-                    }
-                    return false;
-                })
-                .map(Property::getName)
-                .collect(toList());
+        List<String> requiredBy = index(path).requiredBy.get(name);
+        return requiredBy != null ? new ArrayList<>(requiredBy) : new ArrayList<>();
     }
 
     @JsIgnore
     public boolean isDefaultValue(String path, String name, Object value) {
-        Property property = findAttribute(path, name);
+        Index index = index(path);
+        Property property = index.properties.get(name);
         if (property != null) {
             ModelNode attribute = property.getValue();
             if (attribute.hasDefined(DEFAULT)) {
                 if (value == null) {
                     return true;
                 } else {
-                    ModelType type = attribute.get(TYPE).asType();
-                    if (type.equals(ModelType.INT)) {
-                        type = ModelType.LONG;
-                    }
-                    Object defaultValue = attribute.get(DEFAULT).as(type);
+                    Object defaultValue = index.defaultValues.computeIfAbsent(name, n -> {
+                        ModelType type = attribute.get(TYPE).asType();
+                        if (type.equals(ModelType.INT)) {
+                            type = ModelType.LONG;
+                        }
+                        return attribute.get(DEFAULT).as(type);
+                    });
                     return value.equals(defaultValue);
                 }
             }
@@ -201,6 +205,10 @@ public class ResourceDescription extends ModelNode {
         return false;
     }
 
+    private static List<String> strings(ModelNode list) {
+        return list.asList().stream().map(ModelNode::asString).collect(toList());
+    }
+
 
     // ------------------------------------------------------ JS methods
 
@@ -227,4 +235,33 @@ public class ResourceDescription extends ModelNode {
         List<Property> operations = getOperations();
         return operations.toArray(new Property[operations.size()]);
     }
+
+
+    /** The attributes or operations found under one path. */
+    private static class Index {
+
+        private final Map<String, Property> properties;
+        private final Map<String, List<String>> requiredBy;
+        private final Map<String, Object> defaultValues;
+
+        private Index(ModelNode node) {
+            properties = new LinkedHashMap<>();
+            requiredBy = new HashMap<>();
+            defaultValues = new HashMap<>();
+            if (node.isDefined()) {
+                for (Property property : node.asPropertyList()) {
+                    String name = property.getName();
+                    properties.putIfAbsent(name, property);
+                    if (property.getValue().hasDefined(REQUIRES)) {
+                        for (String required : strings(property.getValue().get(REQUIRES))) {
+                            List<String> names = requiredBy.computeIfAbsent(required, r -> new ArrayList<>());
+                            if (!names.contains(name)) {
+                                names.add(name);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
 }
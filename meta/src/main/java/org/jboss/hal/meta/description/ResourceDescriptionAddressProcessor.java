@@ -24,8 +24,8 @@ import static java.util.stream.Collectors.toList;
 
 /**
  * Function which takes a resource address and replaces specific values with "*". Applied to addresses from
- * the r-r-d result before they are {@linkplain ResourceDescriptionRegistry#add(ResourceAddress, ResourceDescription,
- * boolean)} added} to the resource description registry.
+ * the r-r-d result before they are {@linkplain ResourceDescriptionRegistry#add(org.jboss.hal.dmr.AddressKey,
+ * ResourceDescription, boolean)} added} to the resource description registry.
  * <p>
  * The following parts of a resource address are modified by this function:
  * <ul>
@@ -22,7 +22,7 @@ import org.jboss.hal.config.Settings;
 import org.jboss.hal.db.Document;
 import org.jboss.hal.db.PouchDB;
 import org.jboss.hal.dmr.ModelNode;
-import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.AddressKey;
 import org.jboss.hal.meta.AbstractDatabase;
 import org.jboss.hal.meta.StatementContext;
 import org.jboss.hal.resources.Ids;
@@ -56,8 +56,8 @@ public class ResourceDescriptionDatabase extends AbstractDatabase<ResourceDescri
     }
 
     @Override
-    public Document asDocument(ResourceAddress address, ResourceDescription resourceDescription) {
-        Document document = Document.of(address.toString());
+    public Document asDocument(AddressKey key, ResourceDescription resourceDescription) {
+        Document document = Document.of(key.toString());
         document.set(PAYLOAD, resourceDescription.toBase64String());
         return document;
     }
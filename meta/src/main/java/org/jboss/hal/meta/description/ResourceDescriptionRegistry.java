@@ -20,6 +20,7 @@ import javax.inject.Inject;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import org.jboss.hal.config.Environment;
+import org.jboss.hal.dmr.AddressKey;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.meta.AbstractRegistry;
 import org.jboss.hal.meta.AddressTemplate;
@@ -36,7 +37,7 @@ public class ResourceDescriptionRegistry extends AbstractRegistry<ResourceDescri
     private static final String RESOURCE_DESCRIPTION_TYPE = "resource description";
     private static final Logger logger = LoggerFactory.getLogger(ResourceDescriptionRegistry.class);
 
-    private final Cache<ResourceAddress, ResourceDescription> cache;
+    private final Cache<AddressKey, ResourceDescription> cache;
     private final ResourceDescriptionTemplateProcessor templateProcessor;
 
     @Inject
@@ -52,15 +53,15 @@ public class ResourceDescriptionRegistry extends AbstractRegistry<ResourceDescri
         this.templateProcessor = new ResourceDescriptionTemplateProcessor();
     }
 
-    public void add(ResourceAddress address, ResourceDescription resourceDescription, boolean recursive) {
+    public void add(AddressKey key, ResourceDescription resourceDescription, boolean recursive) {
         resourceDescription.get(HAL_RECURSIVE).set(recursive);
-        cache.put(address, resourceDescription);
-        logger.debug("Added {} to {} ({})", address.toString(), type, recursive ? "recursive" : "none-recursive");
+        cache.put(key, resourceDescription);
+        logger.debug("Added {} to {} ({})", key, type, recursive ? "recursive" : "none-recursive");
     }
 
     @Override
-    protected ResourceDescription lookupAddress(ResourceAddress address) {
-        return cache.getIfPresent(address);
+    protected ResourceDescription lookupAddress(AddressKey key) {
+        return cache.getIfPresent(key);
     }
 
     @Override
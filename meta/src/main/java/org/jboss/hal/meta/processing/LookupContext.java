@@ -19,7 +19,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
-import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.AddressKey;
 import org.jboss.hal.flow.FlowContext;
 import org.jboss.hal.flow.Progress;
 import org.jboss.hal.meta.AddressTemplate;
@@ -30,10 +30,10 @@ class LookupContext extends FlowContext {
 
     final boolean recursive;
     final LookupResult lookupResult;
-    final Map<ResourceAddress, ResourceDescription> toResourceDescriptionRegistry;
-    final Map<ResourceAddress, ResourceDescription> toResourceDescriptionDatabase;
-    final Map<ResourceAddress, SecurityContext> toSecurityContextRegistry;
-    final Map<ResourceAddress, SecurityContext> toSecurityContextDatabase;
+    final Map<AddressKey, ResourceDescription> toResourceDescriptionRegistry;
+    final Map<AddressKey, ResourceDescription> toResourceDescriptionDatabase;
+    final Map<AddressKey, SecurityContext> toSecurityContextRegistry;
+    final Map<AddressKey, SecurityContext> toSecurityContextDatabase;
 
     // for unit testing only!
     LookupContext(LookupResult lookupResult) {
@@ -22,7 +22,7 @@ import java.util.Map;
 import java.util.Set;
 
 import org.jboss.hal.dmr.ModelNode;
-import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.AddressKey;
 import org.jboss.hal.flow.Task;
 import org.jboss.hal.meta.AddressTemplate;
 import org.jboss.hal.meta.description.ResourceDescription;
@@ -83,8 +83,8 @@ class LookupDatabaseTask implements Task<LookupContext> {
         return resourceDescriptionDatabase.getRecursive(template)
                 .doOnSuccess(resourceDescriptions -> {
                     if (!resourceDescriptions.isEmpty()) {
-                        ResourceAddress address = resourceDescriptionDatabase.resolveTemplate(template);
-                        if (resourceDescriptions.containsKey(address) && allRecursive(resourceDescriptions.values())) {
+                        AddressKey key = resourceDescriptionDatabase.resolveTemplate(template);
+                        if (resourceDescriptions.containsKey(key) && allRecursive(resourceDescriptions.values())) {
                             context.toResourceDescriptionRegistry.putAll(resourceDescriptions);
                             context.lookupResult.markMetadataPresent(template, RESOURCE_DESCRIPTION_PRESENT);
                         }
@@ -98,8 +98,8 @@ class LookupDatabaseTask implements Task<LookupContext> {
         return securityContextDatabase.getRecursive(template)
                 .doOnSuccess(securityContexts -> {
                     if (!securityContexts.isEmpty()) {
-                        ResourceAddress address = securityContextDatabase.resolveTemplate(template);
-                        if (securityContexts.containsKey(address) && allRecursive(securityContexts.values())) {
+                        AddressKey key = securityContextDatabase.resolveTemplate(template);
+                        if (securityContexts.containsKey(key) && allRecursive(securityContexts.values())) {
                             context.toSecurityContextRegistry.putAll(securityContexts);
                             context.lookupResult.markMetadataPresent(template, SECURITY_CONTEXT_PRESENT);
                         }
@@ -136,32 +136,32 @@ class LookupDatabaseTask implements Task<LookupContext> {
             }
         }
 
-        Map<ResourceAddress, AddressTemplate> rdLookup = resourceDescriptionDatabase.resolveTemplates(rdTemplates);
+        Map<AddressKey, AddressTemplate> rdLookup = resourceDescriptionDatabase.resolveTemplates(rdTemplates);
         Completable rdCompletable = resourceDescriptionDatabase.getAll(rdTemplates)
                 .flatMapCompletable(resourceDescriptions -> {
-                    for (Map.Entry<ResourceAddress, ResourceDescription> entry : resourceDescriptions.entrySet()) {
-                        ResourceAddress address = entry.getKey();
+                    for (Map.Entry<AddressKey, ResourceDescription> entry : resourceDescriptions.entrySet()) {
+                        AddressKey key = entry.getKey();
                         ResourceDescription resourceDescription = entry.getValue();
-                        AddressTemplate template = rdLookup.get(address);
+                        AddressTemplate template = rdLookup.get(key);
                         if (template != null) {
                             lookupResult.markMetadataPresent(template, RESOURCE_DESCRIPTION_PRESENT);
-                            context.toResourceDescriptionRegistry.put(address, resourceDescription);
+                            context.toResourceDescriptionRegistry.put(key, resourceDescription);
                         }
                     }
                     return Completable.complete();
                 });
 
-        Map<ResourceAddress, AddressTemplate> scLookup = securityContextDatabase.resolveTemplates(scTemplates);
+        Map<AddressKey, AddressTemplate> scLookup = securityContextDatabase.resolveTemplates(scTemplates);
         Completable scCompletable = securityContextDatabase.getAll(scTemplates)
                 .flatMapCompletable(securityContexts -> {
-                    for (Map.Entry<ResourceAddress, SecurityContext> entry : securityContexts.entrySet()) {
-                        ResourceAddress address = entry.getKey();
+                    for (Map.Entry<AddressKey, SecurityContext> entry : securityContexts.entrySet()) {
+                        AddressKey key = entry.getKey();
                         SecurityContext securityContext = entry.getValue();
                         if (securityContext != null) {
-                            AddressTemplate template = scLookup.get(address);
+                            AddressTemplate template = scLookup.get(key);
                             if (template != null) {
                                 lookupResult.markMetadataPresent(template, SECURITY_CONTEXT_PRESENT);
-                                context.toSecurityContextRegistry.put(address, securityContext);
+                                context.toSecurityContextRegistry.put(key, securityContext);
                             }
                         }
                     }
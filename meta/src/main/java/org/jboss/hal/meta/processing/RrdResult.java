@@ -18,14 +18,15 @@ package org.jboss.hal.meta.processing;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.jboss.hal.dmr.AddressKey;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.meta.description.ResourceDescription;
 import org.jboss.hal.meta.security.SecurityContext;
 
 class RrdResult {
 
-    final Map<ResourceAddress, ResourceDescription> resourceDescriptions;
-    final Map<ResourceAddress, SecurityContext> securityContexts;
+    final Map<AddressKey, ResourceDescription> resourceDescriptions;
+    final Map<AddressKey, SecurityContext> securityContexts;
 
     RrdResult() {
         resourceDescriptions = new HashMap<>();
@@ -33,22 +34,24 @@ class RrdResult {
     }
 
     boolean containsResourceDescription(ResourceAddress address) {
-        return resourceDescriptions.containsKey(address);
+        return resourceDescriptions.containsKey(AddressKey.of(address));
     }
 
     void addResourceDescription(ResourceAddress address, ResourceDescription resourceDescription) {
-        if (!containsResourceDescription(address)) {
-            resourceDescriptions.put(address, resourceDescription);
+        AddressKey key = AddressKey.of(address);
+        if (!resourceDescriptions.containsKey(key)) {
+            resourceDescriptions.put(key, resourceDescription);
         }
     }
 
     boolean containsSecurityContext(ResourceAddress address) {
-        return securityContexts.containsKey(address);
+        return securityContexts.containsKey(AddressKey.of(address));
     }
 
     void addSecurityContext(ResourceAddress address, SecurityContext securityContext) {
-        if (!containsSecurityContext(address)) {
-            securityContexts.put(address, securityContext);
+        AddressKey key = AddressKey.of(address);
+        if (!securityContexts.containsKey(key)) {
+            securityContexts.put(key, securityContext);
         }
     }
 }
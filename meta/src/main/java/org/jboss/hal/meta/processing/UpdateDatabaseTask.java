@@ -18,7 +18,7 @@ package org.jboss.hal.meta.processing;
 import java.util.Map;
 
 import com.google.common.base.Stopwatch;
-import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.AddressKey;
 import org.jboss.hal.flow.Task;
 import org.jboss.hal.meta.description.ResourceDescription;
 import org.jboss.hal.meta.security.SecurityContext;
@@ -42,18 +42,18 @@ class UpdateDatabaseTask implements Task<LookupContext> {
     public Completable call(LookupContext context) {
         if (context.updateDatabase()) {
             Stopwatch watch = Stopwatch.createStarted();
-            for (Map.Entry<ResourceAddress, ResourceDescription> entry : context.toResourceDescriptionDatabase
+            for (Map.Entry<AddressKey, ResourceDescription> entry : context.toResourceDescriptionDatabase
                     .entrySet()) {
-                ResourceAddress address = entry.getKey();
+                AddressKey key = entry.getKey();
                 ResourceDescription resourceDescription = entry.getValue();
-                workerChannel.postResourceDescription(address, resourceDescription,
+                workerChannel.postResourceDescription(key, resourceDescription,
                         context.recursive);
             }
-            for (Map.Entry<ResourceAddress, SecurityContext> entry : context.toSecurityContextDatabase
+            for (Map.Entry<AddressKey, SecurityContext> entry : context.toSecurityContextDatabase
                     .entrySet()) {
-                ResourceAddress address = entry.getKey();
+                AddressKey key = entry.getKey();
                 SecurityContext securityContext = entry.getValue();
-                workerChannel.postSecurityContext(address, securityContext, context.recursive);
+                workerChannel.postSecurityContext(key, securityContext, context.recursive);
             }
             logger.debug(
                     "Posted {} resource descriptions and {} security contexts to the databases in {} ms",
@@ -17,7 +17,7 @@ package org.jboss.hal.meta.processing;
 
 import java.util.Map;
 
-import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.AddressKey;
 import org.jboss.hal.flow.Task;
 import org.jboss.hal.meta.description.ResourceDescription;
 import org.jboss.hal.meta.description.ResourceDescriptionRegistry;
@@ -43,15 +43,15 @@ class UpdateRegistryTask implements Task<LookupContext> {
     @Override
     public Completable call(LookupContext context) {
         if (context.updateRegistry()) {
-            for (Map.Entry<ResourceAddress, ResourceDescription> entry : context.toResourceDescriptionRegistry.entrySet()) {
-                ResourceAddress address = entry.getKey();
+            for (Map.Entry<AddressKey, ResourceDescription> entry : context.toResourceDescriptionRegistry.entrySet()) {
+                AddressKey key = entry.getKey();
                 ResourceDescription resourceDescription = entry.getValue();
-                resourceDescriptionRegistry.add(address, resourceDescription, context.recursive);
+                resourceDescriptionRegistry.add(key, resourceDescription, context.recursive);
             }
-            for (Map.Entry<ResourceAddress, SecurityContext> entry : context.toSecurityContextRegistry.entrySet()) {
-                ResourceAddress address = entry.getKey();
+            for (Map.Entry<AddressKey, SecurityContext> entry : context.toSecurityContextRegistry.entrySet()) {
+                AddressKey key = entry.getKey();
                 SecurityContext securityContext = entry.getValue();
-                securityContextRegistry.add(address, securityContext, context.recursive);
+                securityContextRegistry.add(key, securityContext, context.recursive);
             }
             logger.debug("Added {} resource descriptions and {} security contexts to the registries",
                     context.toResourceDescriptionRegistry.size(), context.toSecurityContextRegistry.size());
@@ -20,7 +20,7 @@ import javax.inject.Inject;
 import elemental2.dom.Worker;
 import jsinterop.annotations.JsType;
 import org.jboss.hal.db.Document;
-import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.AddressKey;
 import org.jboss.hal.js.Browser;
 import org.jboss.hal.meta.description.ResourceDescription;
 import org.jboss.hal.meta.description.ResourceDescriptionDatabase;
@@ -47,22 +47,22 @@ public class WorkerChannel {
         this.worker = Browser.isIE() ? null : new Worker(WORKER_JS);
     }
 
-    void postResourceDescription(ResourceAddress address, ResourceDescription resourceDescription, boolean recursive) {
+    void postResourceDescription(AddressKey key, ResourceDescription resourceDescription, boolean recursive) {
         if (worker != null) {
             resourceDescription.get(HAL_RECURSIVE).set(recursive);
             UpdateMessage message = new UpdateMessage();
             message.database = resourceDescriptionDatabase.name();
-            message.document = resourceDescriptionDatabase.asDocument(address, resourceDescription);
+            message.document = resourceDescriptionDatabase.asDocument(key, resourceDescription);
             worker.postMessage(message);
         }
     }
 
-    void postSecurityContext(ResourceAddress address, SecurityContext securityContext, boolean recursive) {
+    void postSecurityContext(AddressKey key, SecurityContext securityContext, boolean recursive) {
         if (worker != null) {
             securityContext.get(HAL_RECURSIVE).set(recursive);
             UpdateMessage message = new UpdateMessage();
             message.database = securityContextDatabase.name();
-            message.document = securityContextDatabase.asDocument(address, securityContext);
+            message.document = securityContextDatabase.asDocument(key, securityContext);
             worker.postMessage(message);
         }
     }
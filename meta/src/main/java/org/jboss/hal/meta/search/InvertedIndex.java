@@ -0,0 +1,193 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.meta.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import com.google.common.base.Strings;
+
+/**
+ * Inverted index which maps the words of the indexed texts to the documents containing them. Documents can be added
+ * one after another, so the index can be built incrementally.
+ * <p>
+ * A query consists of one or more words. A document matches if it matches all words. A word matches a term of the
+ * index if the term is equal to the word, starts with the word or - if there's neither an exact nor a prefix match -
+ * has an edit distance of one to the word (fuzzy match). Fuzzy matching is only used for words with at least
+ * {@value #MIN_FUZZY_LENGTH} characters. Exact matches rank before prefix matches which rank before fuzzy matches.
+ *
+ * @param <T> the document type
+ */
+public class InvertedIndex<T> {
+
+    static final int MIN_FUZZY_LENGTH = 4;
+    private static final int EXACT = 4;
+    private static final int PREFIX = 2;
+    private static final int FUZZY = 1;
+
+    private final List<T> documents;
+    private final Map<T, Integer> ids;
+    private final TreeMap<String, Set<Integer>> terms;
+
+    public InvertedIndex() {
+        documents = new ArrayList<>();
+        ids = new HashMap<>();
+        terms = new TreeMap<>();
+    }
+
+    /** Adds the document and indexes the specified texts. Adding an existing document adds the texts to it. */
+    public void add(T document, Iterable<String> texts) {
+        Integer id = ids.get(document);
+        if (id == null) {
+            id = documents.size();
+            documents.add(document);
+            ids.put(document, id);
+        }
+        for (String text : texts) {
+            if (text != null) {
+                for (String word : words(text)) {
+                    terms.computeIfAbsent(word, w -> new HashSet<>()).add(id);
+                }
+            }
+        }
+    }
+
+    public boolean contains(T document) {
+        return ids.containsKey(document);
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    /** @return the best matching documents for the query, at most {@code limit} */
+    public List<T> search(String query, int limit) {
+        if (Strings.isNullOrEmpty(query)) {
+            return Collections.emptyList();
+        }
+
+        Map<Integer, Integer> scores = null;
+        for (String word : words(query)) {
+            Map<Integer, Integer> wordScores = match(word);
+            if (scores == null) {
+                scores = wordScores;
+            } else {
+                Map<Integer, Integer> intersection = new HashMap<>();
+                for (Map.Entry<Integer, Integer> entry : scores.entrySet()) {
+                    Integer score = wordScores.get(entry.getKey());
+                    if (score != null) {
+                        intersection.put(entry.getKey(), entry.getValue() + score);
+                    }
+                }
+                scores = intersection;
+            }
+            if (scores.isEmpty()) {
+                break;
+            }
+        }
+        if (scores == null) {
+            return Collections.emptyList();
+        }
+
+        Map<Integer, Integer> s = scores;
+        List<Integer> matches = new ArrayList<>(s.keySet());
+        matches.sort((id1, id2) -> {
+            int result = Integer.compare(s.get(id2), s.get(id1));
+            return result != 0 ? result : Integer.compare(id1, id2);
+        });
+        List<T> result = new ArrayList<>();
+        for (int i = 0; i < matches.size() && i < limit; i++) {
+            result.add(documents.get(matches.get(i)));
+        }
+        return result;
+    }
+
+    /** @return the best score of each document matching the word */
+    private Map<Integer, Integer> match(String word) {
+        Map<Integer, Integer> scores = new HashMap<>();
+        SortedMap<String, Set<Integer>> prefixed = terms.subMap(word, word + Character.MAX_VALUE);
+        for (Map.Entry<String, Set<Integer>> entry : prefixed.entrySet()) {
+            int score = entry.getKey().equals(word) ? EXACT : PREFIX;
+            for (Integer id : entry.getValue()) {
+                scores.merge(id, score, Math::max);
+            }
+        }
+        if (scores.isEmpty() && word.length() >= MIN_FUZZY_LENGTH) {
+            for (Map.Entry<String, Set<Integer>> entry : terms.entrySet()) {
+                if (oneEditAway(word, entry.getKey())) {
+                    for (Integer id : entry.getValue()) {
+                        scores.put(id, FUZZY);
+                    }
+                }
+            }
+        }
+        return scores;
+    }
+
+    /** Splits the text into lowercase words consisting of letters and digits. */
+    static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        for (char c : text.toLowerCase().toCharArray()) {
+            if (Character.isLetterOrDigit(c)) {
+                word.append(c);
+            } else if (word.length() != 0) {
+                words.add(word.toString());
+                word.setLength(0);
+            }
+        }
+        if (word.length() != 0) {
+            words.add(word.toString());
+        }
+        return words;
+    }
+
+    /** Returns whether the strings differ by at most one insertion, deletion or substitution. */
+    static boolean oneEditAway(String s1, String s2) {
+        int l1 = s1.length();
+        int l2 = s2.length();
+        if (Math.abs(l1 - l2) > 1) {
+            return false;
+        }
+        String shorter = l1 <= l2 ? s1 : s2;
+        String longer = l1 <= l2 ? s2 : s1;
+        int i = 0;
+        int j = 0;
+        boolean edited = false;
+        while (i < shorter.length() && j < longer.length()) {
+            if (shorter.charAt(i) != longer.charAt(j)) {
+                if (edited) {
+                    return false;
+                }
+                edited = true;
+                if (shorter.length() == longer.length()) {
+                    i++;
+                }
+            } else {
+                i++;
+            }
+            j++;
+        }
+        return true;
+    }
+}
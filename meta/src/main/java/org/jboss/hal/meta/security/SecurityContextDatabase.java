@@ -27,7 +27,7 @@ import org.jboss.hal.config.User;
 import org.jboss.hal.db.Document;
 import org.jboss.hal.db.PouchDB;
 import org.jboss.hal.dmr.ModelNode;
-import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.AddressKey;
 import org.jboss.hal.meta.AbstractDatabase;
 import org.jboss.hal.meta.StatementContext;
 import org.jboss.hal.resources.Ids;
@@ -81,8 +81,8 @@ public class SecurityContextDatabase extends AbstractDatabase<SecurityContext> {
     }
 
     @Override
-    public Document asDocument(ResourceAddress address, SecurityContext securityContext) {
-        Document document = Document.of(address.toString());
+    public Document asDocument(AddressKey key, SecurityContext securityContext) {
+        Document document = Document.of(key.toString());
         document.set(PAYLOAD, securityContext.toBase64String());
         return document;
 
@@ -20,7 +20,7 @@ import javax.inject.Inject;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import org.jboss.hal.config.Environment;
-import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.AddressKey;
 import org.jboss.hal.meta.AbstractRegistry;
 import org.jboss.hal.meta.StatementContext;
 import org.slf4j.Logger;
@@ -34,7 +34,7 @@ public class SecurityContextRegistry extends AbstractRegistry<SecurityContext> {
     private static final String SECURITY_CONTEXT_TYPE = "security context";
     private static final Logger logger = LoggerFactory.getLogger(SecurityContextRegistry.class);
 
-    private final Cache<ResourceAddress, SecurityContext> cache;
+    private final Cache<AddressKey, SecurityContext> cache;
 
     @Inject
     public SecurityContextRegistry(StatementContext statementContext, Environment environment) {
@@ -48,14 +48,14 @@ public class SecurityContextRegistry extends AbstractRegistry<SecurityContext> {
                 .build();
     }
 
-    public void add(ResourceAddress address, SecurityContext securityContext, boolean recursive) {
+    public void add(AddressKey key, SecurityContext securityContext, boolean recursive) {
         securityContext.get(HAL_RECURSIVE).set(recursive);
-        cache.put(address, securityContext);
-        logger.debug("Added {} to {} ({})", address.toString(), type, recursive ? "recursive" : "none-recursive");
+        cache.put(key, securityContext);
+        logger.debug("Added {} to {} ({})", key, type, recursive ? "recursive" : "none-recursive");
     }
 
     @Override
-    protected SecurityContext lookupAddress(ResourceAddress address) {
-        return cache.getIfPresent(address);
+    protected SecurityContext lookupAddress(AddressKey key) {
+        return cache.getIfPresent(key);
     }
 }
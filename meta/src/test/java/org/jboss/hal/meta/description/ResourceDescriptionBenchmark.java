@@ -0,0 +1,169 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.meta.description;
+
+import java.util.List;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.ModelNodeHelper;
+import org.jboss.hal.dmr.ModelType;
+import org.jboss.hal.dmr.Property;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.stream.Collectors.toList;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Compares the attribute lookups of {@link ResourceDescription} with the previous implementation which scanned the
+ * attribute list for each lookup.
+ * <p>
+ * The benchmark is opt-in: It runs only if the system property {@value #BENCHMARK} is {@code true}. It prints the
+ * numbers, but doesn't assert anything about them. Each round creates a new description with {@value #SIZE}
+ * attributes and looks up every attribute the way {@code ModelNodeForm} does. So the numbers include building the
+ * index.
+ */
+public class ResourceDescriptionBenchmark {
+
+    private static final String BENCHMARK = "hal.benchmark";
+
+    private static final int SIZE = 200;
+    private static final int WARM_UP = 20;
+    private static final int ROUNDS = 50;
+
+    @Before
+    public void setUp() {
+        assumeTrue(Boolean.getBoolean(BENCHMARK));
+    }
+
+    @Test
+    public void lookup() {
+        ModelNode payload = payload();
+        for (int i = 0; i < WARM_UP; i++) {
+            legacy(payload);
+            current(payload);
+        }
+        long legacyNanos = measure(() -> legacy(payload));
+        long currentNanos = measure(() -> current(payload));
+
+        System.out.printf("Attributes: %d, %d rounds%n", SIZE, ROUNDS);
+        System.out.printf("Legacy:  %.2f ms / form%n", legacyNanos / 1e6 / ROUNDS);
+        System.out.printf("Current: %.2f ms / form%n", currentNanos / 1e6 / ROUNDS);
+    }
+
+    private static ModelNode payload() {
+        ModelNode payload = new ModelNode();
+        for (int i = 0; i < SIZE; i++) {
+            ModelNode attribute = payload.get(ATTRIBUTES).get("attribute-" + i);
+            attribute.get(TYPE).set(ModelType.INT);
+            attribute.get(DEFAULT).set(i);
+            if (i % 3 == 0) {
+                attribute.get(REQUIRES).add("attribute-" + (i + 1)).add("attribute-" + (i + 2));
+            }
+            if (i % 5 == 0) {
+                attribute.get(ALTERNATIVES).add("attribute-" + (i + 1));
+            }
+        }
+        return payload;
+    }
+
+    private static long measure(Runnable form) {
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            form.run();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static void current(ModelNode payload) {
+        ResourceDescription description = new ResourceDescription(payload);
+        for (Property attribute : description.getAttributes(ATTRIBUTES)) {
+            String name = attribute.getName();
+            description.findAttribute(ATTRIBUTES, name);
+            description.findAlternatives(ATTRIBUTES, name);
+            description.findRequires(ATTRIBUTES, name);
+            description.isDefaultValue(ATTRIBUTES, name, 42L);
+            description.isDeprecated(ATTRIBUTES, name);
+        }
+    }
+
+    private static void legacy(ModelNode payload) {
+        ModelNode description = new ModelNode().set(payload);
+        for (Property attribute : legacyAttributes(description)) {
+            String name = attribute.getName();
+            legacyFindAttribute(description, name);
+            legacyFindAlternatives(description, name);
+            legacyFindRequires(description, name);
+            legacyIsDefaultValue(description, name, 42L);
+            legacyIsDeprecated(description, name);
+        }
+    }
+
+
+    // ------------------------------------------------------ previous implementation
+
+    private static List<Property> legacyAttributes(ModelNode description) {
+        return ModelNodeHelper.failSafeGet(description, ATTRIBUTES).asPropertyList();
+    }
+
+    private static Property legacyFindAttribute(ModelNode description, String name) {
+        for (Property property : legacyAttributes(description)) {
+            if (name.equals(property.getName())) {
+                return property;
+            }
+        }
+        return null;
+    }
+
+    private static List<String> legacyFindAlternatives(ModelNode description, String name) {
+        Property attribute = legacyFindAttribute(description, name);
+        if (attribute != null && attribute.getValue().hasDefined(ALTERNATIVES)) {
+            return attribute.getValue().get(ALTERNATIVES).asList().stream()
+                    .map(ModelNode::asString)
+                    .collect(toList());
+        }
+        return null;
+    }
+
+    private static List<String> legacyFindRequires(ModelNode description, String name) {
+        return legacyAttributes(description).stream()
+                .filter(attribute -> attribute.getValue().hasDefined(REQUIRES) &&
+                        attribute.getValue().get(REQUIRES).asList().stream()
+                                .map(ModelNode::asString)
+                                .collect(toList())
+                                .contains(name))
+                .map(Property::getName)
+                .collect(toList());
+    }
+
+    private static boolean legacyIsDefaultValue(ModelNode description, String name, Object value) {
+        Property property = legacyFindAttribute(description, name);
+        if (property != null && property.getValue().hasDefined(DEFAULT)) {
+            ModelType type = property.getValue().get(TYPE).asType();
+            if (type.equals(ModelType.INT)) {
+                type = ModelType.LONG;
+            }
+            return value.equals(property.getValue().get(DEFAULT).as(type));
+        }
+        return false;
+    }
+
+    private static boolean legacyIsDeprecated(ModelNode description, String name) {
+        Property property = legacyFindAttribute(description, name);
+        return property != null && ModelNodeHelper.failSafeBoolean(property.getValue(), DEPRECATED);
+    }
+}
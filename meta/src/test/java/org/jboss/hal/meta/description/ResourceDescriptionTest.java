@@ -0,0 +1,185 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.meta.description;
+
+import java.util.List;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.ModelType;
+import org.jboss.hal.dmr.Property;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ResourceDescriptionTest {
+
+    private ResourceDescription description;
+
+    /**
+     * Creates a description with the attributes
+     * <pre>
+     *     a (int, default 1)
+     *     b (string, requires a)
+     *     c (string, requires a and b, alternatives d)
+     *     d (boolean, deprecated, alternatives c)
+     * </pre>
+     * and the operations {@code add} and {@code remove}.
+     */
+    @Before
+    public void setUp() {
+        ModelNode payload = new ModelNode();
+        ModelNode attributes = payload.get(ATTRIBUTES);
+        attributes.get("a").get(TYPE).set(ModelType.INT);
+        attributes.get("a").get(DEFAULT).set(1);
+        attributes.get("b").get(TYPE).set(ModelType.STRING);
+        attributes.get("b").get(REQUIRES).add("a");
+        attributes.get("c").get(TYPE).set(ModelType.STRING);
+        attributes.get("c").get(REQUIRES).add("a").add("b");
+        attributes.get("c").get(ALTERNATIVES).add("d");
+        attributes.get("d").get(TYPE).set(ModelType.BOOLEAN);
+        attributes.get("d").get(DEPRECATED).get(SINCE).set("1.0");
+        attributes.get("d").get(ALTERNATIVES).add("c");
+        payload.get(OPERATIONS).get(ADD).get(REQUEST_PROPERTIES).set(attributes);
+        payload.get(OPERATIONS).get(REMOVE).get(DESCRIPTION).set("remove");
+        description = new ResourceDescription(payload);
+    }
+
+    @Test
+    public void attributes() {
+        assertEquals(asList("a", "b", "c", "d"), names(description.getAttributes(ATTRIBUTES)));
+        assertEquals(asList("a", "b", "c", "d"),
+                names(description.getAttributes(OPERATIONS + "/" + ADD + "/" + REQUEST_PROPERTIES)));
+        assertEquals(emptyList(), description.getAttributes("foo/bar"));
+    }
+
+    @Test
+    public void findAttribute() {
+        assertEquals("b", description.findAttribute(ATTRIBUTES, "b").getName());
+        assertNull(description.findAttribute(ATTRIBUTES, "foo"));
+        assertNull(description.findAttribute("foo", "a"));
+    }
+
+    @Test
+    public void findOperation() {
+        assertEquals(asList(ADD, REMOVE), names(description.getOperations()));
+        assertEquals(REMOVE, description.findOperation(REMOVE).getName());
+        assertNull(description.findOperation("foo"));
+    }
+
+    @Test
+    public void findAlternatives() {
+        assertEquals(asList("d"), description.findAlternatives(ATTRIBUTES, "c"));
+        assertEquals(asList("c"), description.findAlternatives(ATTRIBUTES, "d"));
+        assertEquals(emptyList(), description.findAlternatives(ATTRIBUTES, "a"));
+        assertEquals(emptyList(), description.findAlternatives(ATTRIBUTES, "foo"));
+    }
+
+    @Test
+    public void findRequires() {
+        assertEquals(asList("b", "c"), description.findRequires(ATTRIBUTES, "a"));
+        assertEquals(asList("c"), description.findRequires(ATTRIBUTES, "b"));
+        assertEquals(emptyList(), description.findRequires(ATTRIBUTES, "c"));
+        assertEquals(emptyList(), description.findRequires(ATTRIBUTES, "foo"));
+    }
+
+    @Test
+    public void findRequiresIsolated() {
+        description.findRequires(ATTRIBUTES, "a").clear();
+        assertEquals(asList("b", "c"), description.findRequires(ATTRIBUTES, "a"));
+    }
+
+    @Test
+    public void defaultValue() {
+        assertTrue(description.isDefaultValue(ATTRIBUTES, "a", null));
+        assertTrue(description.isDefaultValue(ATTRIBUTES, "a", 1L));
+        assertFalse(description.isDefaultValue(ATTRIBUTES, "a", 2L));
+        assertFalse(description.isDefaultValue(ATTRIBUTES, "b", null));
+        assertFalse(description.isDefaultValue(ATTRIBUTES, "foo", null));
+    }
+
+    @Test
+    public void deprecated() {
+        assertTrue(description.isDeprecated(ATTRIBUTES, "d"));
+        assertFalse(description.isDeprecated(ATTRIBUTES, "a"));
+        assertFalse(description.isDeprecated(ATTRIBUTES, "foo"));
+    }
+
+    @Test
+    public void invalidateIndexes() {
+        assertNull(description.findAttribute(ATTRIBUTES, "e"));
+        description.get(ATTRIBUTES).get("e").get(TYPE).set(ModelType.STRING);
+        description.get(ATTRIBUTES).get("e").get(REQUIRES).add("a");
+        description.invalidateIndexes();
+
+        assertEquals("e", description.findAttribute(ATTRIBUTES, "e").getName());
+        assertEquals(asList("b", "c", "e"), description.findRequires(ATTRIBUTES, "a"));
+    }
+
+    @Test
+    public void lookupsMatchLinearScan() {
+        ModelNode payload = new ModelNode();
+        for (int i = 0; i < 50; i++) {
+            ModelNode attribute = payload.get(ATTRIBUTES).get("attribute-" + i);
+            attribute.get(TYPE).set(ModelType.INT);
+            attribute.get(DEFAULT).set(i);
+            if (i % 3 == 0) {
+                attribute.get(REQUIRES).add("attribute-" + (i + 1)).add("attribute-" + (i + 2));
+            }
+            if (i % 5 == 0) {
+                attribute.get(ALTERNATIVES).add("attribute-" + (i + 1));
+            }
+            if (i % 7 == 0) {
+                attribute.get(DEPRECATED).get(SINCE).set("1.0");
+            }
+        }
+        ResourceDescription indexed = new ResourceDescription(payload);
+        List<Property> attributes = payload.get(ATTRIBUTES).asPropertyList();
+
+        for (Property attribute : attributes) {
+            String name = attribute.getName();
+            ModelNode value = attribute.getValue();
+
+            assertEquals(value, indexed.findAttribute(ATTRIBUTES, name).getValue());
+            assertEquals(value.hasDefined(ALTERNATIVES) ? strings(value.get(ALTERNATIVES)) : emptyList(),
+                    indexed.findAlternatives(ATTRIBUTES, name));
+            assertEquals(attributes.stream()
+                            .filter(p -> p.getValue().hasDefined(REQUIRES) &&
+                                    strings(p.getValue().get(REQUIRES)).contains(name))
+                            .map(Property::getName)
+                            .collect(toList()),
+                    indexed.findRequires(ATTRIBUTES, name));
+            assertTrue(indexed.isDefaultValue(ATTRIBUTES, name, value.get(DEFAULT).asLong()));
+            assertFalse(indexed.isDefaultValue(ATTRIBUTES, name, value.get(DEFAULT).asLong() + 1));
+            assertEquals(value.hasDefined(DEPRECATED), indexed.isDeprecated(ATTRIBUTES, name));
+        }
+    }
+
+    private List<String> strings(ModelNode list) {
+        return list.asList().stream().map(ModelNode::asString).collect(toList());
+    }
+
+    private List<String> names(List<Property> properties) {
+        return properties.stream().map(Property::getName).collect(toList());
+    }
+}
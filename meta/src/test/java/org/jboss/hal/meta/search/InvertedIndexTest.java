@@ -0,0 +1,94 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.meta.search;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class InvertedIndexTest {
+
+    private InvertedIndex<String> index;
+
+    @Before
+    public void setUp() {
+        index = new InvertedIndex<>();
+        index.add("datasources", asList("datasources", "jdbc-driver", "Data source connection pool"));
+        index.add("elytron", asList("elytron-runtime-stores", "key-store", "credential-store"));
+        index.add("keys", singletonList("Keys management"));
+    }
+
+    @Test
+    public void empty() {
+        assertTrue(index.search(null, 10).isEmpty());
+        assertTrue(index.search("", 10).isEmpty());
+        assertTrue(index.search(" - ", 10).isEmpty());
+    }
+
+    @Test
+    public void exact() {
+        assertEquals(singletonList("datasources"), index.search("jdbc", 10));
+        assertEquals(singletonList("datasources"), index.search("Connection Pool", 10));
+    }
+
+    @Test
+    public void exactBeforePrefix() {
+        assertEquals(asList("elytron", "keys"), index.search("key", 10));
+        assertEquals(singletonList("keys"), index.search("keys", 10));
+    }
+
+    @Test
+    public void allWordsMustMatch() {
+        assertEquals(singletonList("elytron"), index.search("key cred", 10));
+        assertTrue(index.search("key jdbc", 10).isEmpty());
+    }
+
+    @Test
+    public void fuzzy() {
+        assertEquals(singletonList("elytron"), index.search("elitron", 10));
+        assertEquals(singletonList("datasources"), index.search("driwer", 10));
+        assertTrue(index.search("kay", 10).isEmpty());
+    }
+
+    @Test
+    public void limit() {
+        assertEquals(1, index.search("k", 1).size());
+    }
+
+    @Test
+    public void incremental() {
+        assertFalse(index.contains("undertow"));
+        index.add("undertow", singletonList("undertow"));
+        index.add("undertow", singletonList("servlet-container"));
+        assertEquals(4, index.size());
+        assertEquals(singletonList("undertow"), index.search("servlet", 10));
+    }
+
+    @Test
+    public void oneEditAway() {
+        assertTrue(InvertedIndex.oneEditAway("store", "store"));
+        assertTrue(InvertedIndex.oneEditAway("store", "stores"));
+        assertTrue(InvertedIndex.oneEditAway("stores", "store"));
+        assertTrue(InvertedIndex.oneEditAway("store", "stare"));
+        assertFalse(InvertedIndex.oneEditAway("store", "stair"));
+        assertFalse(InvertedIndex.oneEditAway("store", "st"));
+    }
+}
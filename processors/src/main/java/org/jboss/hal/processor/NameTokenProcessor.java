@@ -33,6 +33,7 @@ import com.google.common.collect.ImmutableList;
 import com.gwtplatform.mvp.client.annotations.NameToken;
 import org.jboss.auto.AbstractProcessor;
 import org.jboss.hal.spi.Keywords;
+import org.jboss.hal.spi.Requires;
 import org.jboss.hal.spi.Scope;
 
 import static java.util.Arrays.asList;
@@ -87,6 +88,12 @@ public class NameTokenProcessor extends AbstractProcessor {
                     tokenInfo.setStandaloneOnly(scope.value() == Scope.Mode.STANDALONE);
                 }
             }
+
+            Requires requires = tokenElement.getAnnotation(Requires.class);
+            if (requires != null) {
+                tokenInfo.addResources(requires.value());
+                tokenInfo.setRecursive(requires.recursive());
+            }
         }
 
         if (!tokenInfos.isEmpty()) {
@@ -208,6 +215,10 @@ public class NameTokenProcessor extends AbstractProcessor {
             return resources;
         }
 
+        void addResources(String[] resources) {
+            this.resources.addAll(asList(resources));
+        }
+
         public String getToken() {
             return token;
         }
@@ -24,6 +24,19 @@ import static java.util.stream.Collectors.toList;
 
 public class FormInfo extends MbuiElementInfo {
 
+    /**
+     * Returns the names of the attributes which are included by name (i.e. which are not unbound form items). If there
+     * are attributes with providers, unbound form items are included by name as well.
+     */
+    private static List<String> layoutAttributes(List<Attribute> attributes) {
+        boolean providers = attributes.stream().anyMatch(attribute -> attribute.getProvider() != null);
+        return attributes.stream()
+                .filter(attribute -> providers || attribute.getFormItem() == null)
+                .map(Attribute::getName)
+                .collect(toList());
+    }
+
+
     private final TypeParameter typeParameter;
     private final MetadataInfo metadata;
     private final String title;
@@ -128,6 +141,19 @@ public class FormInfo extends MbuiElementInfo {
         return false;
     }
 
+    /** @return the attribute names of the {@code FormLayout} emitted for this form */
+    public List<String> getLayoutAttributes() {
+        return layoutAttributes(attributes);
+    }
+
+    /** @return whether a {@code FormLayout} is emitted for this form or one of its groups */
+    public boolean isHasLayout() {
+        if (groups.isEmpty()) {
+            return !getLayoutAttributes().isEmpty();
+        }
+        return groups.stream().anyMatch(group -> !group.getLayoutAttributes().isEmpty());
+    }
+
     public List<Attribute> getValidationHandlerAttributes() {
         if (groups.isEmpty()) {
             return attributes.stream()
@@ -215,6 +241,11 @@ public class FormInfo extends MbuiElementInfo {
             return excludes;
         }
 
+        /** @return the attribute names of the {@code FormLayout} emitted for this group */
+        public List<String> getLayoutAttributes() {
+            return layoutAttributes(attributes);
+        }
+
         public boolean isHasAttributesWithProvider() {
             for (Attribute attribute : attributes) {
                 if (attribute.getProvider() != null) {
@@ -146,6 +146,10 @@ public class MbuiViewContext {
         return forms;
     }
 
+    public boolean isHasFormLayouts() {
+        return forms.stream().anyMatch(FormInfo::isHasLayout);
+    }
+
     void addFormInfo(FormInfo formInfo) {
         forms.add(formInfo);
         attachables.add(formInfo);
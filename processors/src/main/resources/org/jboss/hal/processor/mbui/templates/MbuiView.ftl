@@ -20,6 +20,9 @@ import org.jboss.hal.ballroom.autocomplete.ReadChildrenAutoComplete;
 import org.jboss.hal.ballroom.VerticalNavigation;
 </#if>
 import org.jboss.hal.core.mbui.dialog.AddResourceDialog;
+<#if context.hasFormLayouts>
+import org.jboss.hal.core.mbui.form.FormLayout;
+</#if>
 import org.jboss.hal.core.mbui.form.GroupedForm;
 import org.jboss.hal.core.mbui.form.ModelNodeForm;
 import org.jboss.hal.core.mbui.table.ModelNodeTable;
@@ -46,6 +49,17 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATIO
 @Generated("org.jboss.hal.processor.mbui.MbuiViewProcessor")
 public final class ${context.subclass} extends ${context.base} {
 
+    <#list context.forms as form>
+        <#if form.groups?has_content>
+            <#list form.groups as group>
+                <#if group.layoutAttributes?has_content>
+    private static final FormLayout ${form.name}Layout${group_index} = new FormLayout(<#list group.layoutAttributes as attribute>"${attribute}"<#if attribute_has_next>, </#if></#list>);
+                </#if>
+            </#list>
+        <#elseif form.layoutAttributes?has_content>
+    private static final FormLayout ${form.name}Layout = new FormLayout(<#list form.layoutAttributes as attribute>"${attribute}"<#if attribute_has_next>, </#if></#list>);
+        </#if>
+    </#list>
     <#list context.abstractProperties as abstractProperty>
     private final ${abstractProperty.type} ${abstractProperty.field};
     </#list>
@@ -74,24 +88,21 @@ public final class ${context.subclass} extends ${context.base} {
                 <#list form.groups as group>
                     <#if group.attributes?has_content || group.excludes?has_content>
             .customGroup("${group.id}", ${group.title})
+                        <#if group.layoutAttributes?has_content>
+                .layout(${form.name}Layout${group_index})
+                        </#if>
                         <#if group.hasAttributesWithProvider>
                             <#list group.attributes as attribute>
                                 <#if attribute.provider??>
                 .customFormItem("${attribute.name}", attributeDescription -> ${attribute.provider})
-                                <#else>
-                .include("${attribute.name}")
                                 </#if>
                             </#list>
                         <#elseif group.hasUnboundAttributes>
                             <#list group.attributes as attribute>
                                 <#if attribute.formItem??>
                 .unboundFormItem(${attribute.formItem}, ${attribute_index})
-                                <#else>
-                .include("${attribute.name}")
                                 </#if>
                             </#list>
-                        <#else>
-                .include(<#list group.attributes as attribute>"${attribute.name}"<#if attribute_has_next>, </#if></#list>)
                         </#if>
                         <#if group.excludes?has_content>
                 .exclude(<#list group.excludes as exclude>"${exclude}"<#if exclude_has_next>, </#if></#list>)
@@ -121,24 +132,21 @@ public final class ${context.subclass} extends ${context.base} {
             .includeRuntime()
                 </#if>
                 <#if form.attributes?has_content>
+                    <#if form.layoutAttributes?has_content>
+            .layout(${form.name}Layout)
+                    </#if>
                     <#if form.hasAttributesWithProvider>
                         <#list form.attributes as attribute>
                             <#if attribute.provider??>
             .customFormItem("${attribute.name}", attributeDescription -> ${attribute.provider})
-                            <#else>
-            .include("${attribute.name}")
                             </#if>
                         </#list>
                     <#elseif form.hasUnboundAttributes>
                         <#list form.attributes as attribute>
                             <#if attribute.formItem??>
             .unboundFormItem(${attribute.formItem}, ${attribute_index})
-                            <#else>
-            .include("${attribute.name}")
                             </#if>
                         </#list>
-                    <#else>
-            .include(<#list form.attributes as attribute>"${attribute.name}"<#if attribute_has_next>, </#if></#list>)
                     </#if>
             .unsorted()
                 </#if>
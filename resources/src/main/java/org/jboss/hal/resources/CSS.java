@@ -188,6 +188,7 @@ public interface CSS {
     String halFormLabel = "hal-form-label";
     String halFormInput = "hal-form-input";
     String halFormOffset = "hal-form-offset";
+    String halGlobalSearch = "hal-global-search";
     String halHeaderCollapse = "hal-header-collapse";
     String halSearch = "hal-search";
     String halTableButtons = "hal-table-buttons";
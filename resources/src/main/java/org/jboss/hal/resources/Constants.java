@@ -26,6 +26,7 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
     String active();
     String activeFilters();
     String activeLower();
+    String activePolls();
     String activeSessions();
     String add();
     String addAlias();
@@ -205,6 +206,7 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
     String generateKeyPair();
     String getMetadata();
     String getRoles();
+    String globalSearch();
     String globalSettings();
     String gotoDeployment();
     String group();
@@ -424,6 +426,7 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
     String ping();
     String platform();
     String play();
+    String playAsBatch();
     String policy();
     String pool();
     String preparedStatementCache();
@@ -490,6 +493,7 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
     String rollback();
     String rollbackError();
     String rollbackInProgress();
+    String rollbackOnFailure();
     String rollbackSuccessful();
     String runAs();
     String runAsRoleTitle();
@@ -316,6 +316,8 @@ public interface Ids {
     String HEADER_CONNECTED_TO = "header-connected-to";
     String HEADER_EXTENSIONS = "header-extensions";
     String HEADER_EXTENSIONS_DROPDOWN = "header-extensions-dropdown";
+    String HEADER_SEARCH = "header-search";
+    String HEADER_SEARCH_RESULTS = "header-search-results";
     String HEADER_USERNAME = "header-username";
     String HOMEPAGE = "homepage";
     String HOMEPAGE_ACCESS_CONTROL_MODULE = "homepage-access-control-module";
@@ -473,6 +475,7 @@ public interface Ids {
     String MACRO_EMPTY = "macro-empty";
     String MACRO_LIST = "macro-list";
     String MACRO_OPTIONS = "macro-options";
+    String MACRO_ROLLBACK = "macro-rollback";
     String MACRO_STORAGE = "hal-local-storage-macro";
     String MAIL_SERVER = "mail-server";
     String MAIL_SERVER_DIALOG = "mail-server-add-form";
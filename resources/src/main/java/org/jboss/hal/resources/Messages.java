@@ -221,6 +221,9 @@ public interface Messages extends com.google.gwt.i18n.client.Messages {
     SafeHtml loadProviderDynamicWarning();
     SafeHtml logFileError(String name);
     SafeHtml longRunningManagementOperations();
+    SafeHtml macroBatchPlaybackFailedSteps(int failed, int operations);
+    SafeHtml macroBatchPlaybackQuestion(String name);
+    SafeHtml macroBatchPlaybackSuccessful(int operations, int batches, long millis);
     SafeHtml macroPlaybackError();
     SafeHtml macroPlaybackSuccessful();
     SafeHtml managementOperationsFindNoResult();
@@ -508,6 +511,7 @@ public interface Messages extends com.google.gwt.i18n.client.Messages {
     // ------------------------------------------------------ strings
 
     String accessControlSsoDescription();
+    String activePoll(String name, long seconds);
     String activeRoles(String roles);
     String addResourceTitle(String type);
     String addServerTitle();